@@ -0,0 +1,52 @@
+package com.teambind.springproject.adapter.in.actuator;
+
+import com.teambind.springproject.application.dto.response.PartitionStatusResponse;
+import com.teambind.springproject.application.port.in.ManagePartitionsUseCase;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파티션 테이블 상태 Health Indicator (/actuator/health/partition).
+ *
+ * 관리 대상 테이블 중 하나라도 다음 달 파티션이 준비되지 않았으면 DOWN을 보고합니다.
+ * 테이블별 관리 주체, 파티션 수, 준비된 범위를 details로 노출합니다.
+ */
+@Component
+public class PartitionHealthIndicator extends AbstractHealthIndicator {
+
+	private final ManagePartitionsUseCase managePartitionsUseCase;
+
+	public PartitionHealthIndicator(final ManagePartitionsUseCase managePartitionsUseCase) {
+		super("Partition health check failed");
+		this.managePartitionsUseCase = managePartitionsUseCase;
+	}
+
+	@Override
+	protected void doHealthCheck(final Health.Builder builder) {
+		final List<PartitionStatusResponse> statuses = managePartitionsUseCase.getPartitionStatuses();
+
+		boolean healthy = true;
+		for (final PartitionStatusResponse status : statuses) {
+			final Map<String, Object> details = new LinkedHashMap<>();
+			details.put("managedBy", status.managedBy());
+			details.put("partitions", status.partitionCount());
+			details.put("oldestPartition", status.oldestPartition());
+			details.put("coveredUntil", status.coveredUntil());
+			details.put("monthsAhead", status.monthsAhead());
+			builder.withDetail(status.table(), details);
+
+			healthy &= status.healthy();
+		}
+
+		if (healthy) {
+			builder.up();
+		} else {
+			builder.down();
+		}
+	}
+}
@@ -6,6 +6,7 @@ import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
 import com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException;
 import com.teambind.springproject.domain.reservationpricing.exception.ReservationPricingNotFoundException;
 import com.teambind.springproject.domain.shared.ReservationId;
+import com.teambind.springproject.domain.shared.ReservationStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -36,18 +37,22 @@ public class PaymentCompletedEventHandler implements EventHandler<PaymentComplet
 		try {
 			final ReservationId reservationId = ReservationId.of(event.getReservationId());
 
-			// 1. 예약 조회
-			final ReservationPricing reservation = reservationPricingRepository.findById(reservationId)
+			// 1. 예약 상태만 조회 (시간대 가격/상품 내역은 로딩하지 않음)
+			final ReservationStatus currentStatus = reservationPricingRepository.findStatusById(reservationId)
 					.orElseThrow(() -> new ReservationPricingNotFoundException(event.getReservationId()));
 
 			// 2. 상태 변경 (PENDING → CONFIRMED)
-			reservation.confirm();
+			final ReservationStatus confirmedStatus = ReservationPricing.confirmedFrom(currentStatus);
 
-			// 3. 저장
-			reservationPricingRepository.save(reservation);
+			// 3. 조건부 상태 전환 (중복 이벤트가 동시에 처리되면 하나만 성공하고 나머지는 즉시 실패)
+			if (!reservationPricingRepository.transitionStatus(reservationId, currentStatus, confirmedStatus)) {
+				throw new InvalidReservationStatusException(
+						"Reservation status changed concurrently: reservationId=" + event.getReservationId()
+								+ ", expected=" + currentStatus + ", attemptedAction=confirm");
+			}
 
 			logger.info("Successfully confirmed reservation: paymentId={}, reservationId={}, status={}",
-					event.getPaymentId(), event.getReservationId(), reservation.getStatus());
+					event.getPaymentId(), event.getReservationId(), confirmedStatus);
 
 		} catch (final ReservationPricingNotFoundException e) {
 			logger.error("Reservation not found: reservationId={}", event.getReservationId(), e);
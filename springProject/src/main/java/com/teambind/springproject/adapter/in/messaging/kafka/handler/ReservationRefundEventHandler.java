@@ -2,6 +2,7 @@ package com.teambind.springproject.adapter.in.messaging.kafka.handler;
 
 import com.teambind.springproject.adapter.in.messaging.kafka.event.ReservationRefundEvent;
 import com.teambind.springproject.application.service.reservationpricing.ReservationPricingService;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
 import com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException;
 import com.teambind.springproject.domain.reservationpricing.exception.ReservationPricingNotFoundException;
 import org.slf4j.Logger;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Component
 @Transactional
+@RetryOnConcurrencyFailure
 public class ReservationRefundEventHandler implements EventHandler<ReservationRefundEvent> {
 
 	private static final Logger logger = LoggerFactory.getLogger(ReservationRefundEventHandler.class);
@@ -0,0 +1,61 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.port.in.PublishAvailabilitySnapshotUseCase;
+import com.teambind.springproject.application.service.product.AvailabilityChangeEventService;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가용성 변경 Kafka 이벤트 스케줄러.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>flush: 인스턴스마다 모아 둔 변경을 발행하므로 ShedLock 없이 모든 인스턴스에서 실행</li>
+ *   <li>snapshot: 전체 상태 발행은 한 인스턴스만 실행하도록 ShedLock 적용 (기본값은 cron 비활성화)</li>
+ * </ul>
+ */
+@Component
+public class AvailabilityEventScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(AvailabilityEventScheduler.class);
+
+	private final AvailabilityChangeEventService availabilityChangeEventService;
+	private final PublishAvailabilitySnapshotUseCase publishAvailabilitySnapshotUseCase;
+	private final InventoryConfiguration.AvailabilityEvents availabilityEventsConfiguration;
+
+	public AvailabilityEventScheduler(
+			final AvailabilityChangeEventService availabilityChangeEventService,
+			final PublishAvailabilitySnapshotUseCase publishAvailabilitySnapshotUseCase,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.availabilityChangeEventService = availabilityChangeEventService;
+		this.publishAvailabilitySnapshotUseCase = publishAvailabilitySnapshotUseCase;
+		this.availabilityEventsConfiguration = inventoryConfiguration.getAvailabilityEvents();
+	}
+
+	@Scheduled(fixedDelayString = "${inventory.availability-events.flush-interval-millis:500}")
+	public void flushAvailabilityEvents() {
+		try {
+			availabilityChangeEventService.flush();
+		} catch (final Exception e) {
+			logger.error("Failed to publish availability change events", e);
+		}
+	}
+
+	@Scheduled(cron = "${inventory.availability-events.snapshot-cron:-}")
+	@SchedulerLock(name = "availabilitySnapshot", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	public void publishAvailabilitySnapshot() {
+		if (!availabilityEventsConfiguration.isEnabled()) {
+			return;
+		}
+
+		try {
+			publishAvailabilitySnapshotUseCase.publishSnapshot();
+		} catch (final Exception e) {
+			logger.error("Availability snapshot job failed", e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.service.product.AvailabilityChangeBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모아 둔 가용성 변경을 SSE 구독자에게 전달하는 스케줄러.
+ * 구독자 연결은 인스턴스마다 따로 유지되므로 ShedLock 없이 모든 인스턴스에서 실행합니다.
+ */
+@Component
+public class AvailabilityStreamFlushScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(AvailabilityStreamFlushScheduler.class);
+
+	private final AvailabilityChangeBroadcaster availabilityChangeBroadcaster;
+
+	public AvailabilityStreamFlushScheduler(final AvailabilityChangeBroadcaster availabilityChangeBroadcaster) {
+		this.availabilityChangeBroadcaster = availabilityChangeBroadcaster;
+	}
+
+	@Scheduled(fixedDelayString = "${inventory.availability-stream.coalesce-window-millis:500}")
+	public void flushAvailabilityChanges() {
+		try {
+			availabilityChangeBroadcaster.flush();
+		} catch (final Exception e) {
+			logger.error("Failed to flush availability changes", e);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.service.reservationpricing.InventoryHoldService;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 홀드를 일괄 정리하는 스케줄러.
+ * 배치 단위로 홀드를 삭제하고 재고를 해제하며, 만료 홀드가 남아 있으면 같은 실행에서 계속 정리합니다.
+ * ShedLock을 사용하여 분산 환경에서 중복 실행을 방지합니다.
+ */
+@Component
+public class InventoryHoldSweepScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryHoldSweepScheduler.class);
+
+	private final InventoryHoldService inventoryHoldService;
+
+	public InventoryHoldSweepScheduler(final InventoryHoldService inventoryHoldService) {
+		this.inventoryHoldService = inventoryHoldService;
+	}
+
+	@Scheduled(fixedDelayString = "${inventory.hold.sweep-interval-millis:30000}")
+	@SchedulerLock(name = "sweepExpiredInventoryHolds", lockAtMostFor = "5m", lockAtLeastFor = "5s")
+	public void sweepExpiredHolds() {
+		try {
+			int total = 0;
+			int swept;
+			do {
+				swept = inventoryHoldService.sweepExpired();
+				total += swept;
+			} while (swept > 0);
+
+			if (total > 0) {
+				logger.info("Inventory hold sweep completed: swept={}", total);
+			}
+		} catch (final Exception e) {
+			logger.error("Failed to execute inventory hold sweep", e);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.shared.ProductId;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 원장 Compaction 스케줄러.
+ * 원장 모드 상품의 미반영 이동분(inventory_movements)을 주기적으로 잔액에 합산합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>미반영 이동분이 있는 상품을 오래 전에 Compaction된 순서로 조회하여 상품별 트랜잭션으로 합산</li>
+ *   <li>한 상품의 Compaction 실패는 로그만 남기고 다음 상품을 계속 처리</li>
+ *   <li>보존 기간이 지난 반영 완료 이동분은 하루 한 번 삭제</li>
+ *   <li>ShedLock으로 다중 인스턴스 환경에서 중복 실행 방지</li>
+ * </ul>
+ */
+@Component
+public class InventoryLedgerCompactionScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryLedgerCompactionScheduler.class);
+
+	private final ProductRepository productRepository;
+	private final InventoryConfiguration.Ledger ledgerConfiguration;
+
+	public InventoryLedgerCompactionScheduler(
+			final ProductRepository productRepository,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.productRepository = productRepository;
+		this.ledgerConfiguration = inventoryConfiguration.getLedger();
+	}
+
+	/**
+	 * 미반영 이동분 Compaction.
+	 */
+	@Scheduled(fixedDelayString = "${inventory.ledger.compaction-interval-millis:5000}")
+	@SchedulerLock(name = "inventoryLedgerCompaction", lockAtMostFor = "5m", lockAtLeastFor = "1s")
+	public void compactLedgers() {
+		final List<ProductId> productIds = productRepository.findProductIdsWithPendingMovements(
+				ledgerConfiguration.getCompactionBatchSize());
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		int compactedMovements = 0;
+		for (final ProductId productId : productIds) {
+			try {
+				compactedMovements += productRepository.compactInventoryLedger(productId);
+			} catch (final Exception e) {
+				logger.error("Failed to compact inventory ledger: productId={}", productId.getValue(), e);
+			}
+		}
+
+		logger.debug("Inventory ledger compaction completed: products={}, movements={}",
+				productIds.size(), compactedMovements);
+	}
+
+	/**
+	 * 보존 기간이 지난 이동 이력 삭제.
+	 * 매일 오전 4시에 실행됩니다.
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	@SchedulerLock(name = "inventoryLedgerRetention", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	public void purgeExpiredMovements() {
+		final LocalDateTime cutoff = LocalDateTime.now().minusDays(ledgerConfiguration.getRetentionDays());
+		final int deleted = productRepository.deleteCompactedMovementsBefore(cutoff);
+
+		logger.info("Purged compacted inventory movements: cutoff={}, deleted={}", cutoff, deleted);
+	}
+}
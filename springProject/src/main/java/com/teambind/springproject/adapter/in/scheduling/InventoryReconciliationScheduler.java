@@ -0,0 +1,53 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.port.in.ReconcileInventoryUseCase;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 카운터 정합성 점검(Reconciliation) 스케줄러.
+ * 수동 DB 수정이나 재고 확보/해제 누락 등으로 어긋난 예약 수량을 활성 예약 기준으로 찾아 보정합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>매일 새벽(기본 03:30)에 lookback 기간 이후의 파티션을 병렬로 점검</li>
+ *   <li>dry-run(기본값)에서는 차이만 로그/메트릭으로 내보내고 보정하지 않음</li>
+ *   <li>ShedLock으로 다중 인스턴스 환경에서 중복 실행 방지</li>
+ * </ul>
+ */
+@Component
+public class InventoryReconciliationScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryReconciliationScheduler.class);
+
+	private final ReconcileInventoryUseCase reconcileInventoryUseCase;
+	private final InventoryConfiguration.Reconciliation reconciliationConfiguration;
+
+	public InventoryReconciliationScheduler(
+			final ReconcileInventoryUseCase reconcileInventoryUseCase,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.reconcileInventoryUseCase = reconcileInventoryUseCase;
+		this.reconciliationConfiguration = inventoryConfiguration.getReconciliation();
+	}
+
+	/**
+	 * 재고 정합성 점검 실행.
+	 */
+	@Scheduled(cron = "${inventory.reconciliation.cron:0 30 3 * * *}")
+	@SchedulerLock(name = "inventoryReconciliation", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	public void reconcileInventory() {
+		if (!reconciliationConfiguration.isEnabled()) {
+			return;
+		}
+
+		try {
+			reconcileInventoryUseCase.reconcile(reconciliationConfiguration.isDryRun());
+		} catch (final Exception e) {
+			logger.error("Inventory reconciliation job failed", e);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.port.in.ProvisionPlaceTimeSlotsUseCase;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성 스케줄러.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>매일 새벽(기본 02:00)에 전체 플레이스의 재고 행을 horizon-days 앞까지 생성 (Rolling Horizon)</li>
+ *   <li>이미 있는 행은 건너뛰므로 매일 새로 포함된 날짜의 행만 추가됨</li>
+ *   <li>ShedLock으로 다중 인스턴스 환경에서 중복 실행 방지</li>
+ * </ul>
+ */
+@Component
+public class PlaceTimeSlotProvisioningScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(PlaceTimeSlotProvisioningScheduler.class);
+
+	private final ProvisionPlaceTimeSlotsUseCase provisionPlaceTimeSlotsUseCase;
+	private final InventoryConfiguration.Provisioning provisioningConfiguration;
+
+	public PlaceTimeSlotProvisioningScheduler(
+			final ProvisionPlaceTimeSlotsUseCase provisionPlaceTimeSlotsUseCase,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.provisionPlaceTimeSlotsUseCase = provisionPlaceTimeSlotsUseCase;
+		this.provisioningConfiguration = inventoryConfiguration.getProvisioning();
+	}
+
+	/**
+	 * 시간대별 재고 행 사전 생성 실행.
+	 */
+	@Scheduled(cron = "${inventory.provisioning.cron:0 0 2 * * *}")
+	@SchedulerLock(name = "placeTimeSlotProvisioning", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	public void provisionPlaceTimeSlots() {
+		if (!provisioningConfiguration.isEnabled()) {
+			return;
+		}
+
+		try {
+			provisionPlaceTimeSlotsUseCase.provision(null, provisioningConfiguration.getHorizonDays());
+		} catch (final Exception e) {
+			logger.error("Place time slot provisioning job failed", e);
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.service.product.SlotAvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 가용성 인덱스를 DB 체크섬과 비교하는 스케줄러.
+ * 인덱스는 인스턴스마다 따로 유지되므로 ShedLock 없이 모든 인스턴스에서 실행합니다.
+ */
+@Component
+public class SlotAvailabilityIndexChecksumScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(SlotAvailabilityIndexChecksumScheduler.class);
+
+	private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+	public SlotAvailabilityIndexChecksumScheduler(final SlotAvailabilityIndex slotAvailabilityIndex) {
+		this.slotAvailabilityIndex = slotAvailabilityIndex;
+	}
+
+	@Scheduled(fixedDelayString = "${inventory.availability-index.checksum-interval-millis:60000}")
+	public void verifyAvailabilityIndex() {
+		if (!slotAvailabilityIndex.isEnabled()) {
+			return;
+		}
+		try {
+			if (slotAvailabilityIndex.verify()) {
+				logger.info("Slot availability index reloaded after checksum verification");
+			}
+		} catch (final Exception e) {
+			logger.error("Failed to verify slot availability index", e);
+		}
+	}
+}
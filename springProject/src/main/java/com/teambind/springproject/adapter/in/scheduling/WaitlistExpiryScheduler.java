@@ -0,0 +1,48 @@
+package com.teambind.springproject.adapter.in.scheduling;
+
+import com.teambind.springproject.application.port.in.ManageWaitlistUseCase;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 대기 요청을 정리하는 스케줄러.
+ * 대기 만료 요청은 EXPIRED로 변경하고, 할당 만료 요청은 재고를 반환한 뒤 다음 대기 요청에 할당합니다.
+ * ShedLock을 사용하여 분산 환경에서 중복 실행을 방지합니다.
+ */
+@Component
+public class WaitlistExpiryScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(WaitlistExpiryScheduler.class);
+
+	private final ManageWaitlistUseCase manageWaitlistUseCase;
+
+	public WaitlistExpiryScheduler(final ManageWaitlistUseCase manageWaitlistUseCase) {
+		this.manageWaitlistUseCase = manageWaitlistUseCase;
+	}
+
+	/**
+	 * 만료된 대기 요청을 배치 단위로 정리합니다.
+	 * 매 1분마다 실행되며 (예약 만료 스케줄러와 30초 간격), 최대 5분간 락을 유지합니다.
+	 */
+	@Scheduled(cron = "30 * * * * *")
+	@SchedulerLock(name = "expireWaitlistClaims", lockAtMostFor = "5m", lockAtLeastFor = "10s")
+	public void expireWaitlistClaims() {
+		try {
+			int total = 0;
+			int expired;
+			do {
+				expired = manageWaitlistUseCase.expireClaims();
+				total += expired;
+			} while (expired > 0);
+
+			if (total > 0) {
+				logger.info("Waitlist expiry job completed: expired={}", total);
+			}
+		} catch (final Exception e) {
+			logger.error("Failed to execute waitlist expiry job", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.teambind.springproject.adapter.in.web.admin;
+
+import com.teambind.springproject.application.dto.response.AvailabilitySnapshotResponse;
+import com.teambind.springproject.application.port.in.PublishAvailabilitySnapshotUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 가용성 스냅샷 이벤트 Admin REST Controller.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/inventory/availability-events")
+public class AvailabilitySnapshotController {
+	
+	private final PublishAvailabilitySnapshotUseCase publishAvailabilitySnapshotUseCase;
+	
+	public AvailabilitySnapshotController(final PublishAvailabilitySnapshotUseCase publishAvailabilitySnapshotUseCase) {
+		this.publishAvailabilitySnapshotUseCase = publishAvailabilitySnapshotUseCase;
+	}
+	
+	/**
+	 * 시간 기반 Scope 상품 전체의 가용성 상태를 즉시 발행합니다.
+	 * 하위 서비스의 초기 적재나 토픽 재구성에 사용합니다.
+	 *
+	 * @return HTTP 200 OK with 발행 결과
+	 */
+	@PostMapping("/snapshot")
+	public ResponseEntity<AvailabilitySnapshotResponse> publishSnapshot() {
+		
+		return ResponseEntity.ok(publishAvailabilitySnapshotUseCase.publishSnapshot());
+	}
+}
@@ -0,0 +1,47 @@
+package com.teambind.springproject.adapter.in.web.admin;
+
+import com.teambind.springproject.application.dto.request.ConfigureInventoryLedgerRequest;
+import com.teambind.springproject.application.port.in.ConfigureInventoryLedgerUseCase;
+import com.teambind.springproject.domain.shared.ProductId;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * RESERVATION Scope 상품 재고 원장 모드 관리 Admin REST Controller.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/products/{productId}/inventory-ledger")
+@Validated
+public class InventoryLedgerController {
+	
+	private final ConfigureInventoryLedgerUseCase configureInventoryLedgerUseCase;
+	
+	public InventoryLedgerController(
+			final ConfigureInventoryLedgerUseCase configureInventoryLedgerUseCase) {
+		this.configureInventoryLedgerUseCase = configureInventoryLedgerUseCase;
+	}
+	
+	/**
+	 * 상품 재고 원장 모드를 설정합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param request   원장 모드 설정 요청
+	 * @return HTTP 204 No Content
+	 */
+	@PutMapping
+	public ResponseEntity<Void> configureLedger(
+			@PathVariable @Positive final Long productId,
+			@RequestBody @Valid final ConfigureInventoryLedgerRequest request) {
+		
+		configureInventoryLedgerUseCase.configureLedger(ProductId.of(productId), request.enabled());
+		
+		return ResponseEntity.noContent().build();
+	}
+}
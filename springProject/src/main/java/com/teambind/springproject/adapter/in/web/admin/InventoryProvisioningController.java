@@ -0,0 +1,51 @@
+package com.teambind.springproject.adapter.in.web.admin;
+
+import com.teambind.springproject.application.dto.response.PlaceTimeSlotProvisioningResponse;
+import com.teambind.springproject.application.port.in.ProvisionPlaceTimeSlotsUseCase;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.shared.PlaceId;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성 Admin REST Controller.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/inventory/place-time-slots")
+@Validated
+public class InventoryProvisioningController {
+	
+	private final ProvisionPlaceTimeSlotsUseCase provisionPlaceTimeSlotsUseCase;
+	private final InventoryConfiguration.Provisioning provisioningConfiguration;
+	
+	public InventoryProvisioningController(
+			final ProvisionPlaceTimeSlotsUseCase provisionPlaceTimeSlotsUseCase,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.provisionPlaceTimeSlotsUseCase = provisionPlaceTimeSlotsUseCase;
+		this.provisioningConfiguration = inventoryConfiguration.getProvisioning();
+	}
+	
+	/**
+	 * 시간대별 재고 행을 즉시 생성합니다.
+	 *
+	 * @param placeId     플레이스 ID (생략 시 전체 플레이스)
+	 * @param horizonDays 생성 기간 (생략 시 inventory.provisioning.horizon-days)
+	 * @return HTTP 200 OK with 생성 결과
+	 */
+	@PostMapping("/provision")
+	public ResponseEntity<PlaceTimeSlotProvisioningResponse> provision(
+			@RequestParam(required = false) @Positive final Long placeId,
+			@RequestParam(required = false) @Positive final Integer horizonDays) {
+		
+		final PlaceTimeSlotProvisioningResponse response = provisionPlaceTimeSlotsUseCase.provision(
+				placeId != null ? PlaceId.of(placeId) : null,
+				horizonDays != null ? horizonDays : provisioningConfiguration.getHorizonDays());
+		
+		return ResponseEntity.ok(response);
+	}
+}
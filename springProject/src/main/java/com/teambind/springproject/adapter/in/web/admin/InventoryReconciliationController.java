@@ -0,0 +1,36 @@
+package com.teambind.springproject.adapter.in.web.admin;
+
+import com.teambind.springproject.application.dto.response.InventoryReconciliationResponse;
+import com.teambind.springproject.application.port.in.ReconcileInventoryUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 재고 정합성 점검(Reconciliation) Admin REST Controller.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/inventory/reconciliation")
+public class InventoryReconciliationController {
+	
+	private final ReconcileInventoryUseCase reconcileInventoryUseCase;
+	
+	public InventoryReconciliationController(final ReconcileInventoryUseCase reconcileInventoryUseCase) {
+		this.reconcileInventoryUseCase = reconcileInventoryUseCase;
+	}
+	
+	/**
+	 * 재고 정합성 점검을 즉시 실행합니다.
+	 *
+	 * @param dryRun true(기본값)이면 차이만 보고하고 보정하지 않음
+	 * @return HTTP 200 OK with 점검 결과
+	 */
+	@PostMapping
+	public ResponseEntity<InventoryReconciliationResponse> reconcile(
+			@RequestParam(defaultValue = "true") final boolean dryRun) {
+		
+		return ResponseEntity.ok(reconcileInventoryUseCase.reconcile(dryRun));
+	}
+}
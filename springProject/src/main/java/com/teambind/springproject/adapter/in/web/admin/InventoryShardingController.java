@@ -0,0 +1,48 @@
+package com.teambind.springproject.adapter.in.web.admin;
+
+import com.teambind.springproject.application.dto.request.ConfigureInventoryShardsRequest;
+import com.teambind.springproject.application.port.in.ConfigureInventoryShardingUseCase;
+import com.teambind.springproject.domain.shared.ProductId;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * RESERVATION Scope 상품 재고 샤딩 관리 Admin REST Controller.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/products/{productId}/inventory-shards")
+@Validated
+public class InventoryShardingController {
+	
+	private final ConfigureInventoryShardingUseCase configureInventoryShardingUseCase;
+	
+	public InventoryShardingController(
+			final ConfigureInventoryShardingUseCase configureInventoryShardingUseCase) {
+		this.configureInventoryShardingUseCase = configureInventoryShardingUseCase;
+	}
+	
+	/**
+	 * 상품 재고 샤드 수를 설정합니다.
+	 * shardCount가 1이면 샤딩을 해제합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param request   샤딩 설정 요청
+	 * @return HTTP 204 No Content
+	 */
+	@PutMapping
+	public ResponseEntity<Void> configureShards(
+			@PathVariable @Positive final Long productId,
+			@RequestBody @Valid final ConfigureInventoryShardsRequest request) {
+		
+		configureInventoryShardingUseCase.configureShards(ProductId.of(productId), request.shardCount());
+		
+		return ResponseEntity.noContent().build();
+	}
+}
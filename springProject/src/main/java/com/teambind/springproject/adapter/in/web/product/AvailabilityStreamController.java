@@ -0,0 +1,78 @@
+package com.teambind.springproject.adapter.in.web.product;
+
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase;
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase.Subscription;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * 재고 가용성 변경 SSE(Server-Sent Events) Controller.
+ * 예약 페이지는 가용성 조회 API를 주기적으로 폴링하는 대신 이 스트림으로 변경분만 받습니다.
+ */
+@RestController
+@RequestMapping("/api/v1/products/availability")
+@Validated
+public class AvailabilityStreamController {
+
+	private static final String EVENT_NAME = "availability";
+
+	private final SubscribeAvailabilityChangesUseCase subscribeAvailabilityChangesUseCase;
+	private final long emitterTimeoutMillis;
+
+	public AvailabilityStreamController(
+			final SubscribeAvailabilityChangesUseCase subscribeAvailabilityChangesUseCase,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.subscribeAvailabilityChangesUseCase = subscribeAvailabilityChangesUseCase;
+		this.emitterTimeoutMillis = inventoryConfiguration.getAvailabilityStream().getEmitterTimeoutMillis();
+	}
+
+	/**
+	 * 플레이스(또는 룸)의 가용성 변경 스트림.
+	 * 각 이벤트(availability)는 (productId, roomId, timeSlot, availableQuantity) 목록입니다.
+	 * 구독자 수 한도를 넘으면 409를 반환하며, 클라이언트는 가용성 조회 API 폴링으로 대체합니다.
+	 * 이벤트를 제때 받지 못해 구독자 대기열이 넘치면 스트림이 종료되므로, 클라이언트는 다시 연결합니다.
+	 *
+	 * @param placeId 플레이스 ID
+	 * @param roomId  룸 ID (선택)
+	 * @return SSE 스트림
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> stream(
+			@RequestParam @Positive(message = "Place ID must be positive") final Long placeId,
+			@RequestParam(required = false) @Positive(message = "Room ID must be positive") final Long roomId) {
+
+		final SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+		final Optional<Subscription> subscription = subscribeAvailabilityChangesUseCase.subscribe(
+				placeId,
+				roomId,
+				deltas -> {
+					try {
+						emitter.send(SseEmitter.event().name(EVENT_NAME).data(deltas, MediaType.APPLICATION_JSON));
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				},
+				emitter::complete);
+		if (subscription.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		}
+
+		emitter.onCompletion(subscription.get()::cancel);
+		emitter.onTimeout(subscription.get()::cancel);
+		emitter.onError(error -> subscription.get().cancel());
+		return ResponseEntity.ok(emitter);
+	}
+}
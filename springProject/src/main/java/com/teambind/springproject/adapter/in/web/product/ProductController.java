@@ -1,8 +1,10 @@
 package com.teambind.springproject.adapter.in.web.product;
 
+import com.teambind.springproject.application.dto.request.AvailabilityHeatmapRequest;
 import com.teambind.springproject.application.dto.request.ProductAvailabilityRequest;
 import com.teambind.springproject.application.dto.request.RegisterProductRequest;
 import com.teambind.springproject.application.dto.request.UpdateProductRequest;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse;
 import com.teambind.springproject.application.dto.response.ProductAvailabilityResponse;
 import com.teambind.springproject.application.dto.response.ProductResponse;
 import com.teambind.springproject.application.port.in.*;
@@ -18,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -34,18 +37,21 @@ public class ProductController {
 	private final UpdateProductUseCase updateProductUseCase;
 	private final DeleteProductUseCase deleteProductUseCase;
 	private final QueryProductAvailabilityUseCase queryProductAvailabilityUseCase;
+	private final QueryAvailabilityHeatmapUseCase queryAvailabilityHeatmapUseCase;
 	
 	public ProductController(
 			final RegisterProductUseCase registerProductUseCase,
 			final GetProductUseCase getProductUseCase,
 			final UpdateProductUseCase updateProductUseCase,
 			final DeleteProductUseCase deleteProductUseCase,
-			final QueryProductAvailabilityUseCase queryProductAvailabilityUseCase) {
+			final QueryProductAvailabilityUseCase queryProductAvailabilityUseCase,
+			final QueryAvailabilityHeatmapUseCase queryAvailabilityHeatmapUseCase) {
 		this.registerProductUseCase = registerProductUseCase;
 		this.getProductUseCase = getProductUseCase;
 		this.updateProductUseCase = updateProductUseCase;
 		this.deleteProductUseCase = deleteProductUseCase;
 		this.queryProductAvailabilityUseCase = queryProductAvailabilityUseCase;
+		this.queryAvailabilityHeatmapUseCase = queryAvailabilityHeatmapUseCase;
 	}
 	
 	/**
@@ -170,4 +176,34 @@ public class ProductController {
 		
 		return ResponseEntity.ok(response);
 	}
+	
+	/**
+	 * 룸 x 날짜 x 시간 버킷 재고 가용성 히트맵 조회.
+	 * 룸/날짜마다 가용성 조회를 반복하지 않고 기간 전체를 한 번에 조회합니다.
+	 *
+	 * @param placeId       플레이스 ID
+	 * @param productIds    조회할 상품 ID 목록 (ROOM, PLACE Scope)
+	 * @param startDate     시작 날짜 (포함)
+	 * @param endDate       종료 날짜 (포함)
+	 * @param bucketMinutes 시간 버킷 크기 (분, 기본 60)
+	 * @return 상품별 (날짜, 버킷) 최소 가용 수량
+	 */
+	@GetMapping("/availability/heatmap")
+	public ResponseEntity<AvailabilityHeatmapResponse> queryAvailabilityHeatmap(
+			@RequestParam @Positive(message = "Place ID must be positive") final Long placeId,
+			@RequestParam @NotEmpty(message = "Product IDs must not be empty") final List<Long> productIds,
+			@RequestParam final LocalDate startDate,
+			@RequestParam final LocalDate endDate,
+			@RequestParam(defaultValue = "60") @Positive(message = "Bucket minutes must be positive") final Integer bucketMinutes) {
+		
+		final AvailabilityHeatmapRequest request = new AvailabilityHeatmapRequest(
+				placeId,
+				productIds,
+				startDate,
+				endDate,
+				bucketMinutes
+		);
+		
+		return ResponseEntity.ok(queryAvailabilityHeatmapUseCase.queryHeatmap(request));
+	}
 }
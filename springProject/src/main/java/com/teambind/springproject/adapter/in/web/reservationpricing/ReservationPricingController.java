@@ -7,6 +7,7 @@ import com.teambind.springproject.application.dto.response.ReservationPricingRes
 import com.teambind.springproject.application.port.in.CalculateReservationPriceUseCase;
 import com.teambind.springproject.application.port.in.CreateReservationUseCase;
 import com.teambind.springproject.application.port.in.UpdateReservationProductsUseCase;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,10 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class ReservationPricingController {
 	
+	/** 프록시(nginx)가 설정하는 클라이언트 IP 헤더 */
+	private static final String REAL_IP_HEADER = "X-Real-IP";
+	private static final int MAX_HOLDER_KEY_LENGTH = 64;
+	
 	private final CreateReservationUseCase createReservationUseCase;
 	private final CalculateReservationPriceUseCase calculateReservationPriceUseCase;
 	private final UpdateReservationProductsUseCase updateReservationProductsUseCase;
@@ -85,19 +90,37 @@ public class ReservationPricingController {
 	/**
 	 * 예약 가격 미리보기.
 	 * 예약을 생성하지 않고 가격만 계산하여 반환합니다.
+	 * hold=true이면 요청 수량을 짧은 시간 동안 홀드하고, 예약 생성 시 holdId로 전환합니다.
+	 * 홀드는 클라이언트 IP별, 룸별 활성 홀드 수가 한도에 도달하면 429를 반환합니다.
 	 *
-	 * @param request 예약 요청 정보
+	 * @param request        예약 요청 정보
+	 * @param hold           재고 홀드 여부
+	 * @param servletRequest HTTP 요청 (홀드 요청자 식별)
 	 * @return 가격 미리보기 (시간대 가격 + 상품별 가격 + 총 합계)
 	 */
 	@PostMapping("/preview")
 	public ResponseEntity<PricePreviewResponse> previewPrice(
-			@RequestBody @Valid final CreateReservationRequest request) {
+			@RequestBody @Valid final CreateReservationRequest request,
+			@RequestParam(defaultValue = "false") final boolean hold,
+			final HttpServletRequest servletRequest) {
 		
-		final PricePreviewResponse response = calculateReservationPriceUseCase.calculatePrice(request);
+		final PricePreviewResponse response = hold
+				? calculateReservationPriceUseCase.calculatePriceWithHold(request, resolveHolderKey(servletRequest))
+				: calculateReservationPriceUseCase.calculatePrice(request);
 		
 		return ResponseEntity.ok(response);
 	}
 	
+	private static String resolveHolderKey(final HttpServletRequest servletRequest) {
+		final String realIp = servletRequest.getHeader(REAL_IP_HEADER);
+		final String holderKey = realIp == null || realIp.isBlank()
+				? servletRequest.getRemoteAddr()
+				: realIp.trim();
+		return holderKey.length() > MAX_HOLDER_KEY_LENGTH
+				? holderKey.substring(0, MAX_HOLDER_KEY_LENGTH)
+				: holderKey;
+	}
+	
 	/**
 	 * 예약 상품 업데이트 및 가격 재계산.
 	 * PENDING 상태의 예약에서만 상품 업데이트가 가능합니다.
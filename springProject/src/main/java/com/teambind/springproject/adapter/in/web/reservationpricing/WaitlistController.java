@@ -0,0 +1,68 @@
+package com.teambind.springproject.adapter.in.web.reservationpricing;
+
+import com.teambind.springproject.application.dto.request.EnqueueWaitlistRequest;
+import com.teambind.springproject.application.dto.response.WaitlistClaimResponse;
+import com.teambind.springproject.application.port.in.ManageWaitlistUseCase;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 품절 상품 대기열 REST Controller.
+ * 재고가 할당되면 WaitlistClaimAllocatedEvent가 발행되므로 클라이언트는 예약을 반복 시도할 필요가 없습니다.
+ */
+@RestController
+@RequestMapping("/api/v1/reservations/waitlist")
+@Validated
+public class WaitlistController {
+
+	private final ManageWaitlistUseCase manageWaitlistUseCase;
+
+	public WaitlistController(final ManageWaitlistUseCase manageWaitlistUseCase) {
+		this.manageWaitlistUseCase = manageWaitlistUseCase;
+	}
+
+	/**
+	 * 대기 요청 등록. 남은 재고가 있으면 바로 할당됩니다.
+	 *
+	 * @param request 대기 요청 등록 요청
+	 * @return 등록된 대기 요청 (대기 순번 포함)
+	 */
+	@PostMapping
+	public ResponseEntity<WaitlistClaimResponse> enqueue(
+			@RequestBody @Valid final EnqueueWaitlistRequest request) {
+
+		final WaitlistClaimResponse response = manageWaitlistUseCase.enqueue(request);
+
+		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+	}
+
+	/**
+	 * 대기 요청 조회.
+	 *
+	 * @param claimId 대기 요청 ID
+	 * @return 대기 요청 정보
+	 */
+	@GetMapping("/{claimId}")
+	public ResponseEntity<WaitlistClaimResponse> getClaim(
+			@PathVariable @Positive(message = "Claim ID must be positive") final Long claimId) {
+
+		return ResponseEntity.ok(manageWaitlistUseCase.getClaim(claimId));
+	}
+
+	/**
+	 * 대기 요청 취소. 할당된 재고는 반환되어 다음 대기 요청에 할당됩니다.
+	 *
+	 * @param claimId 대기 요청 ID
+	 * @return 취소된 대기 요청 정보
+	 */
+	@PutMapping("/{claimId}/cancel")
+	public ResponseEntity<WaitlistClaimResponse> cancel(
+			@PathVariable @Positive(message = "Claim ID must be positive") final Long claimId) {
+
+		return ResponseEntity.ok(manageWaitlistUseCase.cancel(claimId));
+	}
+}
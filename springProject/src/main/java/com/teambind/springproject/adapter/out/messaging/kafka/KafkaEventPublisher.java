@@ -38,19 +38,19 @@ public class KafkaEventPublisher  implements EventPublisher {
 					new TransactionSynchronization() {
 						@Override
 						public void afterCommit() {
-							publishToKafka(event.getTopic(), json, event);
+							publishToKafka(event.getTopic(), event.getKey(), json, event);
 						}
 					}
 			);
 			logger.debug("Event publishing scheduled after transaction commit: {}", event.getEventTypeName());
 		} else {
-			publishToKafka(event.getTopic(), json, event);
+			publishToKafka(event.getTopic(), event.getKey(), json, event);
 		}
 	}
 	
-	private void publishToKafka(final String topic, final String json, final Event originalEvent) {
+	private void publishToKafka(final String topic, final String key, final String json, final Event originalEvent) {
 		try{
-			kafkaTemplate.send(topic, json).get(5, TimeUnit.SECONDS);
+			kafkaTemplate.send(topic, key, json).get(5, TimeUnit.SECONDS);
 			logger.info("Published event {} to kafka", originalEvent.getEventTypeName());
 		}catch (Exception e )
 		{
@@ -31,4 +31,14 @@ public abstract class Event {
 	public String getEventType() {
 		return eventType;
 	}
+	
+	/**
+	 * Kafka 메시지 키를 반환합니다.
+	 * 같은 키의 이벤트는 같은 파티션에 순서대로 저장되며, Compaction 토픽에서는 키별 마지막 이벤트만 남습니다.
+	 *
+	 * @return 메시지 키 (null이면 키 없이 발행)
+	 */
+	public String getKey() {
+		return null;
+	}
 }
@@ -0,0 +1,98 @@
+package com.teambind.springproject.adapter.out.messaging.kafka.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 가용성 변경 이벤트.
+ * (상품, 룸, 날짜) 단위의 하루 가용성 상태 전체를 담는 발신(outbound) 이벤트입니다.
+ *
+ * 메시지 키가 (상품, 룸, 날짜)이므로 Compaction 토픽에서는 키별 최신 상태만 남습니다.
+ * 검색 서비스는 이 토픽을 처음부터 읽어 가용성을 구성하고, 이후 변경만 반영합니다.
+ * slots에 없는 시간대는 totalQuantity만큼 가용합니다.
+ */
+@Getter
+public class InventoryAvailabilityChangedEvent extends Event {
+
+	private static final String EVENT_TYPE_NAME = "InventoryAvailabilityChanged";
+	private static final String DEFAULT_TOPIC = "inventory-availability-changed";
+	private static final String PLACE_KEY = "PLACE";
+
+	private final Long productId;
+	private final Long placeId;
+	private final Long roomId;
+	private final LocalDate date;
+	private final Integer totalQuantity;
+	private final List<SlotAvailability> slots;
+	private final Boolean snapshot;
+	private final LocalDateTime occurredAt;
+
+	/**
+	 * 사용 중인 시간대의 가용 수량.
+	 *
+	 * @param timeSlot          시간대
+	 * @param availableQuantity 가용 수량
+	 */
+	public record SlotAvailability(
+			@JsonProperty("timeSlot") LocalDateTime timeSlot,
+			@JsonProperty("availableQuantity") int availableQuantity
+	) {
+	}
+
+	@JsonCreator
+	public InventoryAvailabilityChangedEvent(
+			@JsonProperty("topic") final String topic,
+			@JsonProperty("eventType") final String eventType,
+			@JsonProperty("productId") final Long productId,
+			@JsonProperty("placeId") final Long placeId,
+			@JsonProperty("roomId") final Long roomId,
+			@JsonProperty("date") final LocalDate date,
+			@JsonProperty("totalQuantity") final Integer totalQuantity,
+			@JsonProperty("slots") final List<SlotAvailability> slots,
+			@JsonProperty("snapshot") final Boolean snapshot,
+			@JsonProperty("occurredAt") final LocalDateTime occurredAt) {
+		super(topic != null ? topic : DEFAULT_TOPIC, eventType != null ? eventType : EVENT_TYPE_NAME);
+		this.productId = productId;
+		this.placeId = placeId;
+		this.roomId = roomId;
+		this.date = date;
+		this.totalQuantity = totalQuantity;
+		this.slots = slots;
+		this.snapshot = snapshot;
+		this.occurredAt = occurredAt;
+	}
+
+	@Override
+	public String getEventTypeName() {
+		return EVENT_TYPE_NAME;
+	}
+
+	/**
+	 * (상품, 룸, 날짜) 키. PLACE Scope 상품은 플레이스 전체에 적용되므로 룸 자리에 PLACE를 사용합니다.
+	 */
+	@Override
+	public String getKey() {
+		return productId + ":" + (roomId != null ? roomId : PLACE_KEY) + ":" + date;
+	}
+
+	@Override
+	public String toString() {
+		return "InventoryAvailabilityChangedEvent{"
+				+ "productId=" + productId
+				+ ", placeId=" + placeId
+				+ ", roomId=" + roomId
+				+ ", date=" + date
+				+ ", totalQuantity=" + totalQuantity
+				+ ", slots=" + slots
+				+ ", snapshot=" + snapshot
+				+ ", occurredAt=" + occurredAt
+				+ ", topic='" + getTopic() + '\''
+				+ ", eventType='" + getEventType() + '\''
+				+ '}';
+	}
+}
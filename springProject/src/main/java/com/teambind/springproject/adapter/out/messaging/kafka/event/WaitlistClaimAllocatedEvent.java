@@ -0,0 +1,71 @@
+package com.teambind.springproject.adapter.out.messaging.kafka.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대기 요청 재고 할당 이벤트.
+ * 품절 상품 대기 요청에 해제된 재고가 할당되었을 때 발행되는 발신(outbound) 이벤트입니다.
+ *
+ * 클라이언트는 재고 조회를 반복하는 대신 이 이벤트를 받아
+ * 할당 만료 시각(allocationExpiresAt) 전에 대기 요청 ID로 예약을 생성합니다.
+ */
+@Getter
+public class WaitlistClaimAllocatedEvent extends Event {
+
+	private static final String EVENT_TYPE_NAME = "WaitlistClaimAllocated";
+	private static final String DEFAULT_TOPIC = "waitlist-claim-allocated";
+
+	private final Long claimId;
+	private final Long productId;
+	private final Long roomId;
+	private final List<LocalDateTime> timeSlots;
+	private final Integer quantity;
+	private final LocalDateTime allocationExpiresAt;
+	private final LocalDateTime occurredAt;
+
+	@JsonCreator
+	public WaitlistClaimAllocatedEvent(
+			@JsonProperty("topic") final String topic,
+			@JsonProperty("eventType") final String eventType,
+			@JsonProperty("claimId") final Long claimId,
+			@JsonProperty("productId") final Long productId,
+			@JsonProperty("roomId") final Long roomId,
+			@JsonProperty("timeSlots") final List<LocalDateTime> timeSlots,
+			@JsonProperty("quantity") final Integer quantity,
+			@JsonProperty("allocationExpiresAt") final LocalDateTime allocationExpiresAt,
+			@JsonProperty("occurredAt") final LocalDateTime occurredAt) {
+		super(topic != null ? topic : DEFAULT_TOPIC, eventType != null ? eventType : EVENT_TYPE_NAME);
+		this.claimId = claimId;
+		this.productId = productId;
+		this.roomId = roomId;
+		this.timeSlots = timeSlots;
+		this.quantity = quantity;
+		this.allocationExpiresAt = allocationExpiresAt;
+		this.occurredAt = occurredAt;
+	}
+
+	@Override
+	public String getEventTypeName() {
+		return EVENT_TYPE_NAME;
+	}
+
+	@Override
+	public String toString() {
+		return "WaitlistClaimAllocatedEvent{"
+				+ "claimId=" + claimId
+				+ ", productId=" + productId
+				+ ", roomId=" + roomId
+				+ ", timeSlots=" + timeSlots
+				+ ", quantity=" + quantity
+				+ ", allocationExpiresAt=" + allocationExpiresAt
+				+ ", occurredAt=" + occurredAt
+				+ ", topic='" + getTopic() + '\''
+				+ ", eventType='" + getEventType() + '\''
+				+ '}';
+	}
+}
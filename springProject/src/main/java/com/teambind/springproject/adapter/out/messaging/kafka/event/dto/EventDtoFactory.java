@@ -1,8 +1,10 @@
 package com.teambind.springproject.adapter.out.messaging.kafka.event.dto;
 
 import com.teambind.springproject.adapter.out.messaging.kafka.event.Event;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent;
 import com.teambind.springproject.adapter.out.messaging.kafka.event.ReservationCancelledEvent;
 import com.teambind.springproject.adapter.out.messaging.kafka.event.ReservationPendingPaymentEvent;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.WaitlistClaimAllocatedEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +29,12 @@ public final class EventDtoFactory {
 
 		registerConverter(ReservationCancelledEvent.class,
 				event -> ReservationCancelledEventDto.from((ReservationCancelledEvent) event));
+
+		registerConverter(WaitlistClaimAllocatedEvent.class,
+				event -> WaitlistClaimAllocatedEventDto.from((WaitlistClaimAllocatedEvent) event));
+
+		registerConverter(InventoryAvailabilityChangedEvent.class,
+				event -> InventoryAvailabilityChangedEventDto.from((InventoryAvailabilityChangedEvent) event));
 	}
 
 	private EventDtoFactory() {
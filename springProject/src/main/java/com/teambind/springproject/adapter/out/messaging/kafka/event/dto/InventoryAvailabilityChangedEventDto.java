@@ -0,0 +1,94 @@
+package com.teambind.springproject.adapter.out.messaging.kafka.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent.SlotAvailability;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 가용성 변경 이벤트 DTO.
+ * Kafka 메시지로 발행될 때 사용되는 외부 계약 표현입니다.
+ *
+ * ID 필드들은 외부 시스템 호환성을 위해 String으로 직렬화됩니다.
+ */
+@Getter
+public class InventoryAvailabilityChangedEventDto {
+
+	@JsonProperty("topic")
+	private final String topic;
+
+	@JsonProperty("eventType")
+	private final String eventType;
+
+	@JsonProperty("productId")
+	private final String productId;
+
+	@JsonProperty("placeId")
+	private final String placeId;
+
+	@JsonProperty("roomId")
+	private final String roomId;
+
+	@JsonProperty("date")
+	private final LocalDate date;
+
+	@JsonProperty("totalQuantity")
+	private final Integer totalQuantity;
+
+	@JsonProperty("slots")
+	private final List<SlotAvailability> slots;
+
+	@JsonProperty("snapshot")
+	private final Boolean snapshot;
+
+	@JsonProperty("occurredAt")
+	private final LocalDateTime occurredAt;
+
+	private InventoryAvailabilityChangedEventDto(
+			final String topic,
+			final String eventType,
+			final String productId,
+			final String placeId,
+			final String roomId,
+			final LocalDate date,
+			final Integer totalQuantity,
+			final List<SlotAvailability> slots,
+			final Boolean snapshot,
+			final LocalDateTime occurredAt) {
+		this.topic = topic;
+		this.eventType = eventType;
+		this.productId = productId;
+		this.placeId = placeId;
+		this.roomId = roomId;
+		this.date = date;
+		this.totalQuantity = totalQuantity;
+		this.slots = slots;
+		this.snapshot = snapshot;
+		this.occurredAt = occurredAt;
+	}
+
+	/**
+	 * 도메인 이벤트로부터 DTO를 생성합니다.
+	 *
+	 * @param event 도메인 이벤트
+	 * @return Kafka 발행용 DTO
+	 */
+	public static InventoryAvailabilityChangedEventDto from(final InventoryAvailabilityChangedEvent event) {
+		return new InventoryAvailabilityChangedEventDto(
+				event.getTopic(),
+				event.getEventType(),
+				String.valueOf(event.getProductId()),
+				String.valueOf(event.getPlaceId()),
+				event.getRoomId() != null ? String.valueOf(event.getRoomId()) : null,
+				event.getDate(),
+				event.getTotalQuantity(),
+				event.getSlots(),
+				event.getSnapshot(),
+				event.getOccurredAt()
+		);
+	}
+}
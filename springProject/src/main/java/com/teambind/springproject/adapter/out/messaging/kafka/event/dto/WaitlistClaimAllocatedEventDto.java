@@ -0,0 +1,86 @@
+package com.teambind.springproject.adapter.out.messaging.kafka.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.WaitlistClaimAllocatedEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대기 요청 재고 할당 이벤트 DTO.
+ * Kafka 메시지로 발행될 때 사용되는 외부 계약 표현입니다.
+ *
+ * ID 필드들은 외부 시스템 호환성을 위해 String으로 직렬화됩니다.
+ */
+@Getter
+public class WaitlistClaimAllocatedEventDto {
+
+	@JsonProperty("topic")
+	private final String topic;
+
+	@JsonProperty("eventType")
+	private final String eventType;
+
+	@JsonProperty("claimId")
+	private final String claimId;
+
+	@JsonProperty("productId")
+	private final String productId;
+
+	@JsonProperty("roomId")
+	private final String roomId;
+
+	@JsonProperty("timeSlots")
+	private final List<LocalDateTime> timeSlots;
+
+	@JsonProperty("quantity")
+	private final Integer quantity;
+
+	@JsonProperty("allocationExpiresAt")
+	private final LocalDateTime allocationExpiresAt;
+
+	@JsonProperty("occurredAt")
+	private final LocalDateTime occurredAt;
+
+	private WaitlistClaimAllocatedEventDto(
+			final String topic,
+			final String eventType,
+			final String claimId,
+			final String productId,
+			final String roomId,
+			final List<LocalDateTime> timeSlots,
+			final Integer quantity,
+			final LocalDateTime allocationExpiresAt,
+			final LocalDateTime occurredAt) {
+		this.topic = topic;
+		this.eventType = eventType;
+		this.claimId = claimId;
+		this.productId = productId;
+		this.roomId = roomId;
+		this.timeSlots = timeSlots;
+		this.quantity = quantity;
+		this.allocationExpiresAt = allocationExpiresAt;
+		this.occurredAt = occurredAt;
+	}
+
+	/**
+	 * 도메인 이벤트로부터 DTO를 생성합니다.
+	 *
+	 * @param event 도메인 이벤트
+	 * @return Kafka 발행용 DTO
+	 */
+	public static WaitlistClaimAllocatedEventDto from(final WaitlistClaimAllocatedEvent event) {
+		return new WaitlistClaimAllocatedEventDto(
+				event.getTopic(),
+				event.getEventType(),
+				String.valueOf(event.getClaimId()),
+				String.valueOf(event.getProductId()),
+				String.valueOf(event.getRoomId()),
+				event.getTimeSlots(),
+				event.getQuantity(),
+				event.getAllocationExpiresAt(),
+				event.getOccurredAt()
+		);
+	}
+}
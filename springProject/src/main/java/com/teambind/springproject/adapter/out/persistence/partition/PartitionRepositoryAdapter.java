@@ -0,0 +1,239 @@
+package com.teambind.springproject.adapter.out.persistence.partition;
+
+import com.teambind.springproject.application.port.out.PartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PartitionRepository Port의 JDBC Adapter 구현.
+ *
+ * DDL은 식별자를 바인딩할 수 없으므로 테이블/스키마 이름을 소문자 식별자 형식으로 검증한 뒤 SQL에 포함합니다.
+ * 파티션 분리와 이동/삭제는 한 트랜잭션으로 실행되어 중간 상태(분리만 된 테이블)가 남지 않습니다.
+ * 외래 키 없이 파티션 행을 참조하는 행도 같은 트랜잭션에서 삭제되어 고아 행이 남지 않습니다.
+ * DEFAULT 파티션이 있는 테이블은 새 파티션 범위의 행을 DEFAULT 파티션에서 새 파티션으로 옮깁니다.
+ */
+@Repository
+public class PartitionRepositoryAdapter implements PartitionRepository {
+
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+	private static final Pattern RANGE_BOUND_PATTERN =
+			Pattern.compile("FROM \\('([^']+)'\\) TO \\('([^']+)'\\)");
+	private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private static final Logger logger = LoggerFactory.getLogger(PartitionRepositoryAdapter.class);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public PartitionRepositoryAdapter(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public boolean isManagedByPgPartman(final String parentTable) {
+		final Boolean installed = jdbcTemplate.queryForObject(
+				"SELECT to_regclass('partman.part_config') IS NOT NULL",
+				Boolean.class
+		);
+		if (!Boolean.TRUE.equals(installed)) {
+			return false;
+		}
+
+		final Integer configured = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM partman.part_config WHERE parent_table = ?",
+				Integer.class,
+				"public." + identifier(parentTable)
+		);
+		return configured != null && configured > 0;
+	}
+
+	@Override
+	public void runPgPartmanMaintenance(final String parentTable) {
+		jdbcTemplate.queryForList(
+				"SELECT partman.run_maintenance(?)",
+				"public." + identifier(parentTable)
+		);
+	}
+
+	@Override
+	public List<TablePartition> findPartitions(final String parentTable) {
+		final String sql = """
+				SELECT c.relname AS partition_name,
+				       pg_get_expr(c.relpartbound, c.oid) AS partition_bound
+				FROM pg_inherits inh
+				JOIN pg_class c ON c.oid = inh.inhrelid
+				JOIN pg_class parent ON parent.oid = inh.inhparent
+				JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+				WHERE parent.relname = ?
+				  AND ns.nspname = 'public'
+				""";
+
+		final List<TablePartition> partitions = new ArrayList<>();
+		jdbcTemplate.query(sql, rs -> {
+			final Matcher matcher = RANGE_BOUND_PATTERN.matcher(rs.getString("partition_bound"));
+			if (!matcher.find()) {
+				return;  // DEFAULT 파티션
+			}
+			partitions.add(new TablePartition(
+					rs.getString("partition_name"),
+					Timestamp.valueOf(matcher.group(1)).toLocalDateTime(),
+					Timestamp.valueOf(matcher.group(2)).toLocalDateTime()
+			));
+		}, identifier(parentTable));
+
+		partitions.sort(Comparator.comparing(TablePartition::rangeStart));
+		return partitions;
+	}
+
+	@Override
+	@Transactional
+	public void createPartition(
+			final String parentTable,
+			final String partitionName,
+			final LocalDateTime rangeStart,
+			final LocalDateTime rangeEnd) {
+		final String createSql = String.format(
+				"CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+				identifier(partitionName),
+				identifier(parentTable),
+				BOUND_FORMAT.format(rangeStart),
+				BOUND_FORMAT.format(rangeEnd)
+		);
+
+		final String defaultPartition = findDefaultPartition(parentTable);
+		if (defaultPartition == null) {
+			jdbcTemplate.execute(createSql);
+			return;
+		}
+
+		// DEFAULT 파티션에 새 범위의 행이 있으면 파티션 생성이 실패하므로, 분리 → 생성 → 행 이동 → 다시 연결
+		final String partitionKey = findPartitionKeyColumn(parentTable);
+		final String rangeCondition = String.format("%s >= '%s' AND %s < '%s'",
+				partitionKey, BOUND_FORMAT.format(rangeStart), partitionKey, BOUND_FORMAT.format(rangeEnd));
+		final Boolean hasRowsInRange = jdbcTemplate.queryForObject(String.format(
+				"SELECT EXISTS (SELECT 1 FROM %s WHERE %s)", defaultPartition, rangeCondition), Boolean.class);
+		if (!Boolean.TRUE.equals(hasRowsInRange)) {
+			jdbcTemplate.execute(createSql);
+			return;
+		}
+
+		final String columns = String.join(", ", findInsertableColumns(parentTable));
+		jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s",
+				identifier(parentTable), defaultPartition));
+		jdbcTemplate.execute(createSql);
+		jdbcTemplate.execute(String.format(
+				"WITH moved AS (DELETE FROM %s WHERE %s RETURNING %s) INSERT INTO %s (%s) SELECT %s FROM moved",
+				defaultPartition, rangeCondition, columns, identifier(parentTable), columns, columns));
+		jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s DEFAULT",
+				identifier(parentTable), defaultPartition));
+	}
+
+	@Override
+	@Transactional
+	public void dropPartition(
+			final String parentTable,
+			final String partitionName,
+			final PartitionReferences references) {
+		deleteReferencingRows(partitionName, references);
+		jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s",
+				identifier(parentTable), identifier(partitionName)));
+		jdbcTemplate.execute(String.format("DROP TABLE %s", identifier(partitionName)));
+	}
+
+	@Override
+	@Transactional
+	public void archivePartition(
+			final String parentTable,
+			final String partitionName,
+			final String archiveSchema,
+			final PartitionReferences references) {
+		deleteReferencingRows(partitionName, references);
+		jdbcTemplate.execute(String.format("CREATE SCHEMA IF NOT EXISTS %s", identifier(archiveSchema)));
+		jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s",
+				identifier(parentTable), identifier(partitionName)));
+		jdbcTemplate.execute(String.format("ALTER TABLE %s SET SCHEMA %s",
+				identifier(partitionName), identifier(archiveSchema)));
+	}
+
+	/**
+	 * 파티션 행과 키가 같은 참조 테이블 행을 삭제합니다.
+	 */
+	private void deleteReferencingRows(final String partitionName, final PartitionReferences references) {
+		for (final String referencingTable : references.referencingTables()) {
+			final int deleted = jdbcTemplate.update(String.format(
+					"DELETE FROM %s r USING %s p WHERE r.%s = p.%s",
+					identifier(referencingTable),
+					identifier(partitionName),
+					identifier(references.referenceKey()),
+					identifier(references.referenceKey())));
+			logger.info("Deleted rows referencing expired partition: partition={}, table={}, rows={}",
+					partitionName, referencingTable, deleted);
+		}
+	}
+
+	/**
+	 * 부모 테이블의 DEFAULT 파티션 이름을 조회합니다 (없으면 null).
+	 */
+	private String findDefaultPartition(final String parentTable) {
+		final List<String> names = jdbcTemplate.queryForList("""
+				SELECT c.relname
+				FROM pg_inherits inh
+				JOIN pg_class c ON c.oid = inh.inhrelid
+				JOIN pg_class parent ON parent.oid = inh.inhparent
+				JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+				WHERE parent.relname = ?
+				  AND ns.nspname = 'public'
+				  AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'
+				""", String.class, identifier(parentTable));
+		return names.isEmpty() ? null : identifier(names.get(0));
+	}
+
+	/**
+	 * 부모 테이블의 RANGE 파티션 키 컬럼 이름을 조회합니다 (단일 컬럼 파티션 키).
+	 */
+	private String findPartitionKeyColumn(final String parentTable) {
+		return identifier(jdbcTemplate.queryForObject("""
+				SELECT a.attname
+				FROM pg_partitioned_table pt
+				JOIN pg_class c ON c.oid = pt.partrelid
+				JOIN pg_namespace ns ON ns.oid = c.relnamespace
+				JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+				WHERE c.relname = ?
+				  AND ns.nspname = 'public'
+				""", String.class, identifier(parentTable)));
+	}
+
+	/**
+	 * 행 이동 시 INSERT할 컬럼 목록 (생성 컬럼 제외).
+	 */
+	private List<String> findInsertableColumns(final String parentTable) {
+		return jdbcTemplate.queryForList("""
+				SELECT column_name
+				FROM information_schema.columns
+				WHERE table_schema = 'public'
+				  AND table_name = ?
+				  AND is_generated = 'NEVER'
+				ORDER BY ordinal_position
+				""", String.class, identifier(parentTable)).stream()
+				.map(PartitionRepositoryAdapter::identifier)
+				.toList();
+	}
+
+	private static String identifier(final String name) {
+		if (name == null || !IDENTIFIER_PATTERN.matcher(name).matches()) {
+			throw new IllegalArgumentException("Invalid identifier: " + name);
+		}
+		return name;
+	}
+}
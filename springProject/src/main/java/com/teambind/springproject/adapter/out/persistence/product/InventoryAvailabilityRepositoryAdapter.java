@@ -0,0 +1,221 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * InventoryAvailabilityRepository Port의 JDBC Adapter 구현.
+ *
+ * 시간대별 합계를 구한 뒤 상품별(또는 상품, 날짜, 버킷별) 최댓값을 구하는 2단계 GROUP BY 한 번으로
+ * 모든 상품을 계산합니다. time_slot 조건으로 파티션 프루닝이 적용됩니다.
+ */
+@Repository
+public class InventoryAvailabilityRepositoryAdapter implements InventoryAvailabilityRepository {
+
+	private static final String MAX_RESERVED_SQL = """
+			SELECT per_slot.product_id, MAX(per_slot.reserved) AS max_reserved
+			FROM (
+			    SELECT i.product_id, i.time_slot, SUM(i.reserved_quantity) AS reserved
+			    FROM product_time_slot_inventory i
+			    JOIN products p ON p.product_id = i.product_id
+			    WHERE i.product_id = ANY (?)
+			      AND i.time_slot = ANY (?)
+			      AND (p.scope = 'PLACE' OR i.room_id = p.room_id)
+			    GROUP BY i.product_id, i.time_slot
+			) per_slot
+			GROUP BY per_slot.product_id
+			""";
+
+	private static final String RESERVED_BY_SLOT_SQL = """
+			SELECT i.product_id, i.time_slot, SUM(i.reserved_quantity) AS reserved
+			FROM product_time_slot_inventory i
+			JOIN products p ON p.product_id = i.product_id
+			WHERE i.product_id = ANY (?)
+			  AND i.time_slot = ANY (?)
+			  AND (p.scope = 'PLACE' OR i.room_id = p.room_id)
+			GROUP BY i.product_id, i.time_slot
+			""";
+
+	private static final String MAX_RESERVED_BY_BUCKET_SQL = """
+			SELECT per_slot.product_id, per_slot.slot_day, per_slot.bucket, MAX(per_slot.reserved) AS max_reserved
+			FROM (
+			    SELECT i.product_id,
+			           CAST(i.time_slot AS DATE) AS slot_day,
+			           CAST(FLOOR((EXTRACT(HOUR FROM i.time_slot) * 60 + EXTRACT(MINUTE FROM i.time_slot)) / ?) AS INTEGER) AS bucket,
+			           SUM(i.reserved_quantity) AS reserved
+			    FROM product_time_slot_inventory i
+			    JOIN products p ON p.product_id = i.product_id
+			    WHERE i.product_id = ANY (?)
+			      AND i.time_slot >= ?
+			      AND i.time_slot < ?
+			      AND (p.scope = 'PLACE' OR i.room_id = p.room_id)
+			    GROUP BY i.product_id, i.time_slot
+			) per_slot
+			WHERE per_slot.reserved > 0
+			GROUP BY per_slot.product_id, per_slot.slot_day, per_slot.bucket
+			""";
+
+	private static final String ACCESSIBLE_ROOMS_SQL = """
+			SELECT p.product_id, r.room_id
+			FROM products p
+			JOIN pricing_policies r ON r.place_id = ?
+			WHERE p.product_id = ANY (?)
+			  AND ((p.scope = 'ROOM' AND p.room_id = r.room_id)
+			    OR (p.scope = 'PLACE' AND p.place_id = r.place_id
+			        AND EXISTS (SELECT 1 FROM room_allowed_products a
+			                    WHERE a.room_id = r.room_id AND a.product_id = p.product_id)))
+			ORDER BY p.product_id, r.room_id
+			""";
+
+	private static final String RESERVED_SLOTS_SQL = """
+			SELECT product_id, room_id, time_slot, reserved_quantity
+			FROM product_time_slot_inventory
+			WHERE time_slot >= ?
+			  AND time_slot < ?
+			  AND reserved_quantity > 0
+			""";
+
+	// ReservedSlotChecksum.weight와 같은 식이어야 합니다.
+	private static final String CHECKSUM_SQL = """
+			SELECT CAST(COALESCE(SUM(reserved_quantity), 0) AS BIGINT) AS total_reserved,
+			       CAST(COALESCE(SUM(reserved_quantity * (1
+			           + MOD(product_id, ?) * 31
+			           + MOD(room_id, ?) * 17
+			           + MOD(CAST(EXTRACT(EPOCH FROM time_slot) AS BIGINT) / 60, ?))), 0) AS BIGINT) AS weighted_sum
+			FROM product_time_slot_inventory
+			WHERE time_slot >= ?
+			  AND time_slot < ?
+			  AND reserved_quantity > 0
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public InventoryAvailabilityRepositoryAdapter(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public Map<ProductId, Integer> findMaxReservedQuantities(
+			final List<ProductId> productIds,
+			final List<LocalDateTime> timeSlots) {
+		final Map<ProductId, Integer> maxReserved = new HashMap<>();
+		if (productIds.isEmpty() || timeSlots.isEmpty()) {
+			return maxReserved;
+		}
+
+		jdbcTemplate.query(MAX_RESERVED_SQL, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf(
+					"bigint", productIds.stream().map(ProductId::getValue).toArray()));
+			ps.setArray(2, ps.getConnection().createArrayOf(
+					"timestamp", timeSlots.stream().map(Timestamp::valueOf).toArray()));
+		}, rs -> {
+			maxReserved.put(ProductId.of(rs.getLong("product_id")), rs.getInt("max_reserved"));
+		});
+		return maxReserved;
+	}
+
+	@Override
+	public Map<ProductId, Map<LocalDateTime, Integer>> findReservedQuantitiesBySlot(
+			final List<ProductId> productIds,
+			final List<LocalDateTime> timeSlots) {
+		final Map<ProductId, Map<LocalDateTime, Integer>> reserved = new HashMap<>();
+		if (productIds.isEmpty() || timeSlots.isEmpty()) {
+			return reserved;
+		}
+
+		jdbcTemplate.query(RESERVED_BY_SLOT_SQL, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf(
+					"bigint", productIds.stream().map(ProductId::getValue).toArray()));
+			ps.setArray(2, ps.getConnection().createArrayOf(
+					"timestamp", timeSlots.stream().map(Timestamp::valueOf).toArray()));
+		}, rs -> {
+			reserved.computeIfAbsent(ProductId.of(rs.getLong("product_id")), productId -> new HashMap<>())
+					.put(rs.getTimestamp("time_slot").toLocalDateTime(), rs.getInt("reserved"));
+		});
+		return reserved;
+	}
+
+	@Override
+	public List<BucketUsage> findMaxReservedByBucket(
+			final List<ProductId> productIds,
+			final LocalDateTime from,
+			final LocalDateTime to,
+			final int bucketMinutes) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.query(MAX_RESERVED_BY_BUCKET_SQL, ps -> {
+			ps.setInt(1, bucketMinutes);
+			ps.setArray(2, ps.getConnection().createArrayOf(
+					"bigint", productIds.stream().map(ProductId::getValue).toArray()));
+			ps.setTimestamp(3, Timestamp.valueOf(from));
+			ps.setTimestamp(4, Timestamp.valueOf(to));
+		}, (rs, rowNum) -> new BucketUsage(
+				ProductId.of(rs.getLong("product_id")),
+				rs.getDate("slot_day").toLocalDate(),
+				rs.getInt("bucket"),
+				rs.getInt("max_reserved")
+		));
+	}
+
+	@Override
+	public Map<ProductId, List<Long>> findAccessibleRoomIds(
+			final PlaceId placeId,
+			final List<ProductId> productIds) {
+		final Map<ProductId, List<Long>> roomIds = new LinkedHashMap<>();
+		if (productIds.isEmpty()) {
+			return roomIds;
+		}
+
+		jdbcTemplate.query(ACCESSIBLE_ROOMS_SQL, ps -> {
+			ps.setLong(1, placeId.getValue());
+			ps.setArray(2, ps.getConnection().createArrayOf(
+					"bigint", productIds.stream().map(ProductId::getValue).toArray()));
+		}, rs -> {
+			roomIds.computeIfAbsent(ProductId.of(rs.getLong("product_id")), productId -> new ArrayList<>())
+					.add(rs.getLong("room_id"));
+		});
+		return roomIds;
+	}
+
+	@Override
+	public void streamReservedSlots(
+			final LocalDateTime from,
+			final LocalDateTime to,
+			final Consumer<ReservedSlot> consumer) {
+		jdbcTemplate.query(RESERVED_SLOTS_SQL, rs -> {
+			consumer.accept(new ReservedSlot(
+					rs.getLong("product_id"),
+					rs.getLong("room_id"),
+					rs.getTimestamp("time_slot").toLocalDateTime(),
+					rs.getInt("reserved_quantity")
+			));
+		}, Timestamp.valueOf(from), Timestamp.valueOf(to));
+	}
+
+	@Override
+	public ReservedSlotChecksum checksumReservedSlots(final LocalDateTime from, final LocalDateTime to) {
+		return jdbcTemplate.queryForObject(CHECKSUM_SQL, (rs, rowNum) -> new ReservedSlotChecksum(
+						rs.getLong("total_reserved"),
+						rs.getLong("weighted_sum")
+				),
+				ReservedSlotChecksum.MODULUS,
+				ReservedSlotChecksum.MODULUS,
+				ReservedSlotChecksum.MODULUS,
+				Timestamp.valueOf(from),
+				Timestamp.valueOf(to));
+	}
+}
@@ -0,0 +1,13 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+/**
+ * RESERVATION Scope 상품의 재고 카운터 방식 (products.inventory_counter_mode).
+ */
+public enum InventoryCounterMode {
+	/** products.reserved_quantity 단일 행 */
+	ROW,
+	/** product_inventory_shards 샤드 행 */
+	SHARDED,
+	/** inventory_movements 원장 + inventory_ledger_balances 잔액 */
+	LEDGER
+}
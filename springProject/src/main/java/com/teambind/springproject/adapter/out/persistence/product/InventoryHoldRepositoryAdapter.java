@@ -0,0 +1,172 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+import com.teambind.springproject.application.port.out.InventoryHoldRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * InventoryHoldRepository Port의 JDBC Adapter 구현.
+ * 홀드와 홀드 상품은 한 번의 조회로 함께 읽습니다 (상품 수량은 배열로 집계).
+ */
+@Repository
+public class InventoryHoldRepositoryAdapter implements InventoryHoldRepository {
+
+	private static final String SELECT_HOLDS = """
+			SELECT h.hold_id, h.room_id, h.time_slots, h.expires_at,
+			       ARRAY(SELECT i.product_id FROM inventory_hold_items i WHERE i.hold_id = h.hold_id ORDER BY i.product_id) AS product_ids,
+			       ARRAY(SELECT i.quantity FROM inventory_hold_items i WHERE i.hold_id = h.hold_id ORDER BY i.product_id) AS quantities
+			FROM inventory_holds h
+			""";
+
+	private static final String HOLDER_LOCK_PREFIX = "inventory_hold:holder:";
+	private static final String ROOM_LOCK_PREFIX = "inventory_hold:room:";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public InventoryHoldRepositoryAdapter(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public InventoryHold insert(
+			final String holderKey,
+			final Long roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<Long, Integer> quantities,
+			final LocalDateTime expiresAt) {
+		final Long holdId = jdbcTemplate.query(
+				"""
+						INSERT INTO inventory_holds (holder_key, room_id, time_slots, expires_at)
+						VALUES (?, ?, ?, ?)
+						RETURNING hold_id
+						""",
+				ps -> {
+					ps.setString(1, holderKey);
+					ps.setLong(2, roomId);
+					ps.setArray(3, toTimestampArray(ps.getConnection(), timeSlots));
+					ps.setTimestamp(4, Timestamp.valueOf(expiresAt));
+				},
+				(rs, rowNum) -> rs.getLong("hold_id")
+		).get(0);
+
+		final List<Map.Entry<Long, Integer>> items = List.copyOf(quantities.entrySet());
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO inventory_hold_items (hold_id, product_id, quantity) VALUES (?, ?, ?)",
+				items,
+				items.size(),
+				(ps, item) -> {
+					ps.setLong(1, holdId);
+					ps.setLong(2, item.getKey());
+					ps.setInt(3, item.getValue());
+				});
+
+		return new InventoryHold(holdId, roomId, timeSlots, Map.copyOf(quantities), expiresAt);
+	}
+
+	@Override
+	public void lockHoldQuota(final String holderKey, final Long roomId) {
+		// 항상 요청자 → 룸 순서로 잠가 교착 상태를 피함
+		if (holderKey != null) {
+			advisoryLock(HOLDER_LOCK_PREFIX + holderKey);
+		}
+		advisoryLock(ROOM_LOCK_PREFIX + roomId);
+	}
+
+	@Override
+	public ActiveHoldCounts countActive(final String holderKey, final Long roomId, final LocalDateTime now) {
+		return jdbcTemplate.queryForObject(
+				"""
+						SELECT COUNT(*) FILTER (WHERE holder_key = ?) AS by_holder,
+						       COUNT(*) FILTER (WHERE room_id = ?) AS by_room
+						FROM inventory_holds
+						WHERE expires_at >= ?
+						  AND (holder_key = ? OR room_id = ?)
+						""",
+				(rs, rowNum) -> new ActiveHoldCounts(rs.getInt("by_holder"), rs.getInt("by_room")),
+				holderKey,
+				roomId,
+				Timestamp.valueOf(now),
+				holderKey,
+				roomId
+		);
+	}
+
+	@Override
+	public Optional<InventoryHold> findByIdForUpdate(final Long holdId) {
+		return jdbcTemplate.query(
+				SELECT_HOLDS + " WHERE h.hold_id = ? FOR UPDATE OF h",
+				(rs, rowNum) -> mapHold(rs),
+				holdId
+		).stream().findFirst();
+	}
+
+	@Override
+	public List<InventoryHold> lockExpired(final LocalDateTime now, final int limit) {
+		return jdbcTemplate.query(
+				SELECT_HOLDS + """
+						 WHERE h.expires_at < ?
+						ORDER BY h.expires_at
+						LIMIT ?
+						FOR UPDATE OF h SKIP LOCKED
+						""",
+				(rs, rowNum) -> mapHold(rs),
+				Timestamp.valueOf(now),
+				limit
+		);
+	}
+
+	@Override
+	public int deleteAllById(final List<Long> holdIds) {
+		if (holdIds.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(
+				"DELETE FROM inventory_holds WHERE hold_id = ANY(?)",
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", holdIds.toArray())));
+	}
+
+	private void advisoryLock(final String key) {
+		jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtextextended(?, 0))", rs -> null, key);
+	}
+
+	private static InventoryHold mapHold(final ResultSet rs) throws SQLException {
+		final Long[] productIds = (Long[]) rs.getArray("product_ids").getArray();
+		final Integer[] quantities = (Integer[]) rs.getArray("quantities").getArray();
+
+		final Map<Long, Integer> items = new LinkedHashMap<>();
+		for (int i = 0; i < productIds.length; i++) {
+			items.put(productIds[i], quantities[i]);
+		}
+
+		return new InventoryHold(
+				rs.getLong("hold_id"),
+				rs.getLong("room_id"),
+				Arrays.stream((Timestamp[]) rs.getArray("time_slots").getArray())
+						.map(Timestamp::toLocalDateTime)
+						.toList(),
+				items,
+				rs.getTimestamp("expires_at").toLocalDateTime()
+		);
+	}
+
+	private static Array toTimestampArray(
+			final Connection connection,
+			final List<LocalDateTime> timeSlots) throws SQLException {
+		final Timestamp[] values = timeSlots.stream()
+				.map(Timestamp::valueOf)
+				.toArray(Timestamp[]::new);
+		return connection.createArrayOf("timestamp", values);
+	}
+}
@@ -0,0 +1,132 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+import com.teambind.springproject.application.port.out.InventoryProvisioningRepository;
+import com.teambind.springproject.domain.shared.PlaceId;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * InventoryProvisioningRepository Port의 JDBC Adapter 구현.
+ *
+ * 생성할 행은 PostgreSQL COPY 프로토콜(CopyIn)로 상품 단위로 나누어 임시 테이블에 스트리밍합니다.
+ * 전체 행을 메모리에 올리거나 행마다 INSERT를 실행하지 않습니다.
+ * 임시 테이블은 트랜잭션 종료 시 비워지며(ON COMMIT DELETE ROWS), 병합은 단일 INSERT ... SELECT로 수행합니다.
+ */
+@Repository
+public class InventoryProvisioningRepositoryAdapter implements InventoryProvisioningRepository {
+
+	private static final DateTimeFormatter COPY_TIMESTAMP_FORMAT =
+			DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public InventoryProvisioningRepositoryAdapter(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public List<PlaceProvisioningTarget> findPlaceProvisioningTargets(final PlaceId placeId) {
+		final String sql = """
+				SELECT p.product_id,
+				       p.total_quantity,
+				       CASE WHEN EXISTS (
+				           SELECT 1
+				           FROM pricing_policies pp
+				           WHERE pp.place_id = p.place_id
+				             AND pp.time_slot = 'HALFHOUR'
+				       ) THEN 30 ELSE 60 END AS slot_minutes
+				FROM products p
+				WHERE p.scope = 'PLACE'
+				  AND (CAST(? AS BIGINT) IS NULL OR p.place_id = ?)
+				ORDER BY p.product_id
+				""";
+
+		final Long placeIdValue = placeId != null ? placeId.getValue() : null;
+		return jdbcTemplate.query(
+				sql,
+				(rs, rowNum) -> new PlaceProvisioningTarget(
+						rs.getLong("product_id"),
+						rs.getInt("total_quantity"),
+						rs.getInt("slot_minutes")
+				),
+				placeIdValue,
+				placeIdValue
+		);
+	}
+
+	@Override
+	@Transactional
+	public int provisionPlaceTimeSlots(
+			final List<PlaceProvisioningTarget> targets,
+			final LocalDateTime from,
+			final LocalDateTime to) {
+		if (targets.isEmpty() || !from.isBefore(to)) {
+			return 0;
+		}
+
+		return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("""
+						CREATE TEMP TABLE IF NOT EXISTS place_time_slot_provisioning (
+						    product_id BIGINT NOT NULL,
+						    time_slot TIMESTAMP NOT NULL,
+						    total_quantity INTEGER NOT NULL
+						) ON COMMIT DELETE ROWS
+						""");
+			}
+
+			final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+					"COPY place_time_slot_provisioning (product_id, time_slot, total_quantity) FROM STDIN");
+			try {
+				for (final PlaceProvisioningTarget target : targets) {
+					final byte[] rows = encodeRows(target, from, to);
+					copyIn.writeToCopy(rows, 0, rows.length);
+				}
+				copyIn.endCopy();
+			} finally {
+				if (copyIn.isActive()) {
+					copyIn.cancelCopy();
+				}
+			}
+
+			try (Statement statement = connection.createStatement()) {
+				return statement.executeUpdate("""
+						INSERT INTO place_time_slot_inventory
+						    (product_id, time_slot, total_quantity, reserved_quantity)
+						SELECT product_id, time_slot, total_quantity, 0
+						FROM place_time_slot_provisioning
+						ON CONFLICT (product_id, time_slot) DO NOTHING
+						""");
+			}
+		});
+	}
+
+	/**
+	 * 한 상품의 [from, to) 시간대 행을 COPY text 형식(탭 구분, 줄바꿈 종료)으로 인코딩합니다.
+	 */
+	private static byte[] encodeRows(
+			final PlaceProvisioningTarget target,
+			final LocalDateTime from,
+			final LocalDateTime to) {
+		final StringBuilder rows = new StringBuilder();
+		for (LocalDateTime slot = from; slot.isBefore(to); slot = slot.plusMinutes(target.slotMinutes())) {
+			rows.append(target.productId())
+					.append('\t')
+					.append(COPY_TIMESTAMP_FORMAT.format(slot))
+					.append('\t')
+					.append(target.totalQuantity())
+					.append('\n');
+		}
+		return rows.toString().getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,474 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+import com.teambind.springproject.application.port.out.InventoryReconciliationRepository;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * InventoryReconciliationRepository Port의 JDBC Adapter 구현.
+ *
+ * 기대 수량은 활성 예약(PENDING/CONFIRMED)에 예약 행 없이 카운터를 점유하는 미리보기 홀드와
+ * 대기열 할당(ALLOCATED)을 더한 값입니다.
+ * 점검 쿼리는 저장된 카운터와 기대 수량을 하나의 쿼리(같은 스냅샷)에서 FULL OUTER JOIN으로 비교하고,
+ * 차이가 있는 행만 읽기 전용 트랜잭션의 서버 측 커서(fetchSize)로 스트리밍합니다.
+ * 시간대 범위 조건으로 파티션 Pruning이 적용되어 한 번에 하나의 파티션만 읽습니다.
+ *
+ * 보정은 행 단위 자동 커밋 UPDATE로 수행하며, FOR UPDATE SKIP LOCKED로
+ * 예약 트랜잭션이 잠근 행은 기다리지 않고 건너뜁니다.
+ */
+@Repository
+public class InventoryReconciliationRepositoryAdapter implements InventoryReconciliationRepository {
+
+	private static final Pattern RANGE_BOUND_PATTERN =
+			Pattern.compile("FROM \\('([^']+)'\\) TO \\('([^']+)'\\)");
+
+	/**
+	 * 예약별 시간대 (압축 형식 + 기존 형식).
+	 * 압축 형식 행은 가격 배열을 펼쳐 시간대를 계산하고, slot_prices가 없는 기존 행만 reservation_pricing_slots에서 읽습니다.
+	 * 파라미터: 가장 이른 예약 시작 시각, 범위 끝, 범위 시작 (압축 형식 행의 슬롯 기간 사전 필터)
+	 * 예약 시작 시각(파티션 키)의 양쪽 범위를 지정하여 겹칠 수 있는 월 파티션만 읽습니다.
+	 */
+	private static final String RESERVATION_SLOTS_CTE = """
+			reservation_slots AS (
+			    SELECT s.reservation_id, s.slot_time
+			    FROM reservation_pricing_slots s
+			    JOIN reservation_pricings rp ON rp.reservation_id = s.reservation_id
+			    WHERE rp.slot_prices IS NULL
+			    UNION ALL
+			    SELECT rp.reservation_id,
+			           rp.slot_start_at + (i.idx - 1)
+			               * (CASE rp.time_slot WHEN 'HALFHOUR' THEN 30 ELSE 60 END) * INTERVAL '1 minute' AS slot_time
+			    FROM reservation_pricings rp
+			    CROSS JOIN LATERAL UNNEST(rp.slot_prices) WITH ORDINALITY AS i(price, idx)
+			    WHERE rp.slot_start_at >= ? AND rp.slot_start_at < ?
+			      AND rp.slot_end_at >= ?
+			      AND i.price IS NOT NULL
+			)
+			""";
+
+	/**
+	 * 예약별 상품 수량 (압축 형식 + 기존 형식).
+	 */
+	private static final String RESERVATION_PRODUCTS_CTE = """
+			reservation_products AS (
+			    SELECT rpp.reservation_id, rpp.product_id, rpp.quantity
+			    FROM reservation_pricing_products rpp
+			    JOIN reservation_pricings rp ON rp.reservation_id = rpp.reservation_id
+			    WHERE rp.product_breakdowns IS NULL
+			    UNION ALL
+			    SELECT rp.reservation_id,
+			           (b.item ->> 'productId')::BIGINT AS product_id,
+			           (b.item ->> 'quantity')::INT AS quantity
+			    FROM reservation_pricings rp
+			    CROSS JOIN LATERAL JSONB_ARRAY_ELEMENTS(rp.product_breakdowns) AS b(item)
+			    WHERE rp.product_breakdowns IS NOT NULL
+			)
+			""";
+
+	/**
+	 * 예약 행 없이 카운터를 올려 둔 시간대별 수량 (미리보기 홀드 + 대기열 할당).
+	 * 홀드는 예약 전환 또는 만료 정리로 삭제될 때까지, 할당은 FULFILLED/EXPIRED/CANCELLED로 바뀔 때까지
+	 * 재고를 점유하므로 만료 시각과 무관하게 행이 남아 있는 동안 기대 수량에 포함합니다.
+	 */
+	private static final String HELD_SLOTS_CTE = """
+			held_slots AS (
+			    SELECT i.product_id, h.room_id, t.slot_time, i.quantity
+			    FROM inventory_holds h
+			    JOIN inventory_hold_items i ON i.hold_id = h.hold_id
+			    CROSS JOIN LATERAL UNNEST(h.time_slots) AS t(slot_time)
+			    UNION ALL
+			    SELECT c.product_id, c.room_id, t.slot_time, c.quantity
+			    FROM inventory_waitlist_claims c
+			    CROSS JOIN LATERAL UNNEST(c.time_slots) AS t(slot_time)
+			    WHERE c.status = 'ALLOCATED'
+			)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcTemplate streamingJdbcTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	/**
+	 * 예약 하나의 최대 기간 (일, 예약 생성 시 강제). 점검 범위보다 이만큼 앞서 시작한 예약까지 읽습니다.
+	 */
+	@Value("${reservation.storage.max-span-days:7}")
+	private long maxSpanDays;
+
+	public InventoryReconciliationRepositoryAdapter(
+			final JdbcTemplate jdbcTemplate,
+			final PlatformTransactionManager transactionManager,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.jdbcTemplate = jdbcTemplate;
+
+		// PostgreSQL JDBC는 자동 커밋이 꺼진 상태에서 fetchSize가 지정되어야 서버 측 커서를 사용합니다.
+		this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+		this.streamingJdbcTemplate.setFetchSize(inventoryConfiguration.getReconciliation().getFetchSize());
+
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	@Override
+	public List<InventoryPartition> findTimeSlotPartitions(final LocalDateTime from) {
+		final String sql = """
+				SELECT c.relname AS partition_name,
+				       pg_get_expr(c.relpartbound, c.oid) AS partition_bound
+				FROM pg_inherits inh
+				JOIN pg_class c ON c.oid = inh.inhrelid
+				JOIN pg_class parent ON parent.oid = inh.inhparent
+				WHERE parent.relname = 'product_time_slot_inventory'
+				""";
+
+		final List<InventoryPartition> partitions = new ArrayList<>();
+		jdbcTemplate.query(sql, rs -> {
+			final Matcher matcher = RANGE_BOUND_PATTERN.matcher(rs.getString("partition_bound"));
+			if (!matcher.find()) {
+				return;  // DEFAULT 파티션
+			}
+			final LocalDateTime rangeStart = Timestamp.valueOf(matcher.group(1)).toLocalDateTime();
+			final LocalDateTime rangeEnd = Timestamp.valueOf(matcher.group(2)).toLocalDateTime();
+			if (rangeEnd.isAfter(from)) {
+				partitions.add(new InventoryPartition(rs.getString("partition_name"), rangeStart, rangeEnd));
+			}
+		});
+
+		partitions.sort(Comparator.comparing(InventoryPartition::rangeStart));
+		return partitions;
+	}
+
+	@Override
+	public void streamTimeSlotDrifts(
+			final InventoryPartition partition,
+			final Consumer<InventoryDrift> consumer) {
+		// ROOM Scope는 상품의 룸, PLACE Scope는 예약한 룸의 귀속 행에 수량이 기록됩니다.
+		final String sql = "WITH " + RESERVATION_SLOTS_CTE + ",\n" + RESERVATION_PRODUCTS_CTE + ",\n"
+				+ HELD_SLOTS_CTE + ",\n" + """
+				expected AS (
+				    SELECT c.product_id,
+				           CASE WHEN p.scope = 'ROOM' THEN p.room_id ELSE c.room_id END AS room_id,
+				           c.slot_time AS time_slot,
+				           SUM(c.quantity) AS expected_quantity
+				    FROM (
+				        SELECT rpp.product_id, rp.room_id, s.slot_time, rpp.quantity
+				        FROM reservation_slots s
+				        JOIN reservation_pricings rp ON rp.reservation_id = s.reservation_id
+				        JOIN reservation_products rpp ON rpp.reservation_id = s.reservation_id
+				        WHERE rp.status IN ('PENDING', 'CONFIRMED')
+				        UNION ALL
+				        SELECT product_id, room_id, slot_time, quantity
+				        FROM held_slots
+				    ) c
+				    JOIN products p ON p.product_id = c.product_id
+				    WHERE c.slot_time >= ? AND c.slot_time < ?
+				      AND p.scope IN ('ROOM', 'PLACE')
+				    GROUP BY 1, 2, 3
+				),
+				stored AS (
+				    SELECT product_id, room_id, time_slot, reserved_quantity
+				    FROM product_time_slot_inventory
+				    WHERE time_slot >= ? AND time_slot < ?
+				)
+				SELECT COALESCE(st.product_id, e.product_id) AS product_id,
+				       COALESCE(st.room_id, e.room_id) AS room_id,
+				       COALESCE(st.time_slot, e.time_slot) AS time_slot,
+				       COALESCE(st.reserved_quantity, 0) AS stored_quantity,
+				       COALESCE(e.expected_quantity, 0) AS expected_quantity,
+				       st.product_id IS NOT NULL AS row_exists
+				FROM stored st
+				FULL OUTER JOIN expected e
+				    ON e.product_id = st.product_id
+				   AND e.room_id = st.room_id
+				   AND e.time_slot = st.time_slot
+				WHERE COALESCE(st.reserved_quantity, 0) <> COALESCE(e.expected_quantity, 0)
+				""";
+
+		final Timestamp rangeStart = Timestamp.valueOf(partition.rangeStart());
+		final Timestamp rangeEnd = Timestamp.valueOf(partition.rangeEnd());
+		final Timestamp earliestStart = Timestamp.valueOf(partition.rangeStart().minusDays(maxSpanDays));
+		stream(sql, rs -> consumer.accept(new InventoryDrift(
+				CounterTarget.TIME_SLOT,
+				rs.getLong("product_id"),
+				rs.getLong("room_id"),
+				toLocalDateTime(rs, "time_slot"),
+				rs.getInt("stored_quantity"),
+				rs.getInt("expected_quantity"),
+				rs.getBoolean("row_exists"),
+				true
+		)), earliestStart, rangeEnd, rangeStart, rangeStart, rangeEnd, rangeStart, rangeEnd);
+	}
+
+	@Override
+	public void streamPlaceAggregateDrifts(
+			final InventoryPartition partition,
+			final Consumer<InventoryDrift> consumer) {
+		final String sql = "WITH " + RESERVATION_SLOTS_CTE + ",\n" + RESERVATION_PRODUCTS_CTE + ",\n"
+				+ HELD_SLOTS_CTE + ",\n" + """
+				expected AS (
+				    SELECT c.product_id,
+				           c.slot_time AS time_slot,
+				           SUM(c.quantity) AS expected_quantity
+				    FROM (
+				        SELECT rpp.product_id, s.slot_time, rpp.quantity
+				        FROM reservation_slots s
+				        JOIN reservation_pricings rp ON rp.reservation_id = s.reservation_id
+				        JOIN reservation_products rpp ON rpp.reservation_id = s.reservation_id
+				        WHERE rp.status IN ('PENDING', 'CONFIRMED')
+				        UNION ALL
+				        SELECT product_id, slot_time, quantity
+				        FROM held_slots
+				    ) c
+				    JOIN products p ON p.product_id = c.product_id
+				    WHERE c.slot_time >= ? AND c.slot_time < ?
+				      AND p.scope = 'PLACE'
+				    GROUP BY 1, 2
+				),
+				stored AS (
+				    SELECT product_id, time_slot, reserved_quantity
+				    FROM place_time_slot_inventory
+				    WHERE time_slot >= ? AND time_slot < ?
+				)
+				SELECT COALESCE(st.product_id, e.product_id) AS product_id,
+				       COALESCE(st.time_slot, e.time_slot) AS time_slot,
+				       COALESCE(st.reserved_quantity, 0) AS stored_quantity,
+				       COALESCE(e.expected_quantity, 0) AS expected_quantity,
+				       st.product_id IS NOT NULL AS row_exists
+				FROM stored st
+				FULL OUTER JOIN expected e
+				    ON e.product_id = st.product_id
+				   AND e.time_slot = st.time_slot
+				WHERE COALESCE(st.reserved_quantity, 0) <> COALESCE(e.expected_quantity, 0)
+				""";
+
+		final Timestamp rangeStart = Timestamp.valueOf(partition.rangeStart());
+		final Timestamp rangeEnd = Timestamp.valueOf(partition.rangeEnd());
+		final Timestamp earliestStart = Timestamp.valueOf(partition.rangeStart().minusDays(maxSpanDays));
+		stream(sql, rs -> consumer.accept(new InventoryDrift(
+				CounterTarget.PLACE_AGGREGATE,
+				rs.getLong("product_id"),
+				null,
+				toLocalDateTime(rs, "time_slot"),
+				rs.getInt("stored_quantity"),
+				rs.getInt("expected_quantity"),
+				rs.getBoolean("row_exists"),
+				true
+		)), earliestStart, rangeEnd, rangeStart, rangeStart, rangeEnd, rangeStart, rangeEnd);
+	}
+
+	@Override
+	public void streamReservationScopeDrifts(final Consumer<InventoryDrift> consumer) {
+		// 샤드/원장 모드 상품은 조회 시와 같은 방식(샤드 합계, 잔액 + 미반영 이동분)으로 유효 수량을 계산합니다.
+		// 홀드/대기열 할당은 시간대와 무관하게 상품 단위로 한 번씩 반영합니다.
+		final String sql = "WITH " + RESERVATION_PRODUCTS_CTE + ",\n" + """
+				expected AS (
+				    SELECT c.product_id, SUM(c.quantity) AS expected_quantity
+				    FROM (
+				        SELECT rpp.product_id, rpp.quantity
+				        FROM reservation_products rpp
+				        JOIN reservation_pricings rp ON rp.reservation_id = rpp.reservation_id
+				        WHERE rp.status IN ('PENDING', 'CONFIRMED')
+				        UNION ALL
+				        SELECT product_id, quantity
+				        FROM inventory_hold_items
+				        UNION ALL
+				        SELECT product_id, quantity
+				        FROM inventory_waitlist_claims
+				        WHERE status = 'ALLOCATED'
+				    ) c
+				    JOIN products p ON p.product_id = c.product_id
+				    WHERE p.scope = 'RESERVATION'
+				    GROUP BY c.product_id
+				),
+				shards AS (
+				    SELECT product_id, SUM(reserved_quantity) AS reserved_quantity
+				    FROM product_inventory_shards
+				    GROUP BY product_id
+				),
+				stored AS (
+				    SELECT p.product_id,
+				           CASE
+				               WHEN b.product_id IS NOT NULL THEN b.reserved_quantity + COALESCE((
+				                   SELECT SUM(m.quantity_delta)
+				                   FROM inventory_movements m
+				                   WHERE m.product_id = b.product_id
+				                     AND m.movement_id > b.last_movement_id
+				               ), 0)
+				               WHEN sh.product_id IS NOT NULL THEN sh.reserved_quantity
+				               ELSE p.reserved_quantity
+				           END AS stored_quantity,
+				           (b.product_id IS NULL AND sh.product_id IS NULL) AS correctable
+				    FROM products p
+				    LEFT JOIN inventory_ledger_balances b ON b.product_id = p.product_id
+				    LEFT JOIN shards sh ON sh.product_id = p.product_id
+				    WHERE p.scope = 'RESERVATION'
+				)
+				SELECT st.product_id,
+				       st.stored_quantity,
+				       COALESCE(e.expected_quantity, 0) AS expected_quantity,
+				       st.correctable
+				FROM stored st
+				LEFT JOIN expected e ON e.product_id = st.product_id
+				WHERE st.stored_quantity <> COALESCE(e.expected_quantity, 0)
+				""";
+
+		stream(sql, rs -> consumer.accept(new InventoryDrift(
+				CounterTarget.PRODUCT,
+				rs.getLong("product_id"),
+				null,
+				null,
+				rs.getInt("stored_quantity"),
+				rs.getInt("expected_quantity"),
+				true,
+				rs.getBoolean("correctable")
+		)));
+	}
+
+	@Override
+	public boolean applyCorrection(final InventoryDrift drift) {
+		if (!drift.correctable()) {
+			return false;
+		}
+
+		return switch (drift.target()) {
+			case TIME_SLOT -> drift.rowExists()
+					? correctTimeSlot(drift)
+					: insertTimeSlot(drift);
+			case PLACE_AGGREGATE -> drift.rowExists()
+					? correctPlaceAggregate(drift)
+					: insertPlaceAggregate(drift);
+			case PRODUCT -> correctProduct(drift);
+		};
+	}
+
+	private boolean correctTimeSlot(final InventoryDrift drift) {
+		final String sql = """
+				UPDATE product_time_slot_inventory
+				SET reserved_quantity = ?,
+				    updated_at = NOW()
+				WHERE (product_id, room_id, time_slot) IN (
+				    SELECT product_id, room_id, time_slot
+				    FROM product_time_slot_inventory
+				    WHERE product_id = ?
+				      AND room_id = ?
+				      AND time_slot = ?
+				      AND reserved_quantity = ?
+				    FOR UPDATE SKIP LOCKED
+				)
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				drift.expectedQuantity(),
+				drift.productId(),
+				drift.roomId(),
+				Timestamp.valueOf(drift.timeSlot()),
+				drift.storedQuantity()
+		) > 0;
+	}
+
+	private boolean insertTimeSlot(final InventoryDrift drift) {
+		final String sql = """
+				INSERT INTO product_time_slot_inventory
+				    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+				SELECT product_id, ?, ?, total_quantity, ?
+				FROM products
+				WHERE product_id = ?
+				ON CONFLICT (product_id, room_id, time_slot) DO NOTHING
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				drift.roomId(),
+				Timestamp.valueOf(drift.timeSlot()),
+				drift.expectedQuantity(),
+				drift.productId()
+		) > 0;
+	}
+
+	private boolean correctPlaceAggregate(final InventoryDrift drift) {
+		final String sql = """
+				UPDATE place_time_slot_inventory
+				SET reserved_quantity = ?,
+				    updated_at = NOW()
+				WHERE (product_id, time_slot) IN (
+				    SELECT product_id, time_slot
+				    FROM place_time_slot_inventory
+				    WHERE product_id = ?
+				      AND time_slot = ?
+				      AND reserved_quantity = ?
+				    FOR UPDATE SKIP LOCKED
+				)
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				drift.expectedQuantity(),
+				drift.productId(),
+				Timestamp.valueOf(drift.timeSlot()),
+				drift.storedQuantity()
+		) > 0;
+	}
+
+	private boolean insertPlaceAggregate(final InventoryDrift drift) {
+		final String sql = """
+				INSERT INTO place_time_slot_inventory
+				    (product_id, time_slot, total_quantity, reserved_quantity)
+				SELECT product_id, ?, total_quantity, ?
+				FROM products
+				WHERE product_id = ?
+				ON CONFLICT (product_id, time_slot) DO NOTHING
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				Timestamp.valueOf(drift.timeSlot()),
+				drift.expectedQuantity(),
+				drift.productId()
+		) > 0;
+	}
+
+	private boolean correctProduct(final InventoryDrift drift) {
+		final String sql = """
+				UPDATE products
+				SET reserved_quantity = ?
+				WHERE product_id IN (
+				    SELECT product_id
+				    FROM products
+				    WHERE product_id = ?
+				      AND reserved_quantity = ?
+				    FOR UPDATE SKIP LOCKED
+				)
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				drift.expectedQuantity(),
+				drift.productId(),
+				drift.storedQuantity()
+		) > 0;
+	}
+
+	private void stream(final String sql, final RowCallbackHandler handler, final Object... args) {
+		readOnlyTransactionTemplate.executeWithoutResult(
+				status -> streamingJdbcTemplate.query(sql, handler, args));
+	}
+
+	private static LocalDateTime toLocalDateTime(final ResultSet rs, final String column) throws SQLException {
+		return rs.getTimestamp(column).toLocalDateTime();
+	}
+}
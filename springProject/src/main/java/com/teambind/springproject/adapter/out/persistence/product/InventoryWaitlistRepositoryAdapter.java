@@ -0,0 +1,174 @@
+package com.teambind.springproject.adapter.out.persistence.product;
+
+import com.teambind.springproject.application.port.out.InventoryWaitlistRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * InventoryWaitlistRepository Port의 JDBC Adapter 구현.
+ */
+@Repository
+public class InventoryWaitlistRepositoryAdapter implements InventoryWaitlistRepository {
+
+	private static final String COLUMNS =
+			"claim_id, product_id, room_id, time_slots, quantity, status, created_at, expires_at";
+
+	private static final RowMapper<WaitlistClaim> CLAIM_ROW_MAPPER = (rs, rowNum) -> new WaitlistClaim(
+			rs.getLong("claim_id"),
+			rs.getLong("product_id"),
+			rs.getLong("room_id"),
+			Arrays.stream((Timestamp[]) rs.getArray("time_slots").getArray())
+					.map(Timestamp::toLocalDateTime)
+					.toList(),
+			rs.getInt("quantity"),
+			ClaimStatus.valueOf(rs.getString("status")),
+			rs.getTimestamp("created_at").toLocalDateTime(),
+			rs.getTimestamp("expires_at").toLocalDateTime()
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public InventoryWaitlistRepositoryAdapter(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public WaitlistClaim insert(
+			final Long productId,
+			final Long roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity,
+			final LocalDateTime expiresAt) {
+		final String sql = "INSERT INTO inventory_waitlist_claims "
+				+ "(product_id, room_id, time_slots, quantity, status, expires_at) "
+				+ "VALUES (?, ?, ?, ?, 'WAITING', ?) "
+				+ "RETURNING " + COLUMNS;
+
+		return jdbcTemplate.query(sql, ps -> {
+			ps.setLong(1, productId);
+			ps.setLong(2, roomId);
+			ps.setArray(3, toTimestampArray(ps.getConnection(), timeSlots));
+			ps.setInt(4, quantity);
+			ps.setTimestamp(5, Timestamp.valueOf(expiresAt));
+		}, CLAIM_ROW_MAPPER).get(0);
+	}
+
+	@Override
+	public Optional<WaitlistClaim> findById(final Long claimId) {
+		return jdbcTemplate.query(
+				"SELECT " + COLUMNS + " FROM inventory_waitlist_claims WHERE claim_id = ?",
+				CLAIM_ROW_MAPPER,
+				claimId
+		).stream().findFirst();
+	}
+
+	@Override
+	public Optional<WaitlistClaim> findByIdForUpdate(final Long claimId) {
+		return jdbcTemplate.query(
+				"SELECT " + COLUMNS + " FROM inventory_waitlist_claims WHERE claim_id = ? FOR UPDATE",
+				CLAIM_ROW_MAPPER,
+				claimId
+		).stream().findFirst();
+	}
+
+	@Override
+	public List<WaitlistClaim> lockWaitingClaims(
+			final Long productId,
+			final List<LocalDateTime> timeSlots,
+			final int limit) {
+		final String sql = "SELECT " + COLUMNS + """
+				 FROM inventory_waitlist_claims
+				WHERE product_id = ?
+				  AND status = 'WAITING'
+				  AND (cardinality(CAST(? AS timestamp[])) = 0 OR time_slots && CAST(? AS timestamp[]))
+				ORDER BY created_at, claim_id
+				LIMIT ?
+				FOR UPDATE SKIP LOCKED
+				""";
+
+		return jdbcTemplate.query(sql, ps -> {
+			final Array slotArray = toTimestampArray(ps.getConnection(), timeSlots);
+			ps.setLong(1, productId);
+			ps.setArray(2, slotArray);
+			ps.setArray(3, slotArray);
+			ps.setInt(4, limit);
+		}, CLAIM_ROW_MAPPER);
+	}
+
+	@Override
+	public List<WaitlistClaim> lockExpiredClaims(final LocalDateTime now, final int limit) {
+		final String sql = "SELECT " + COLUMNS + """
+				 FROM inventory_waitlist_claims
+				WHERE status IN ('WAITING', 'ALLOCATED')
+				  AND expires_at < ?
+				ORDER BY expires_at, claim_id
+				LIMIT ?
+				FOR UPDATE SKIP LOCKED
+				""";
+
+		return jdbcTemplate.query(sql, CLAIM_ROW_MAPPER, Timestamp.valueOf(now), limit);
+	}
+
+	@Override
+	public long countWaitingAhead(final WaitlistClaim claim) {
+		final Long count = jdbcTemplate.queryForObject("""
+				SELECT COUNT(*)
+				FROM inventory_waitlist_claims
+				WHERE product_id = ?
+				  AND status = 'WAITING'
+				  AND (created_at, claim_id) < (?, ?)
+				""",
+				Long.class,
+				claim.productId(),
+				Timestamp.valueOf(claim.createdAt()),
+				claim.claimId());
+		return count != null ? count : 0L;
+	}
+
+	@Override
+	public boolean updateStatus(
+			final Long claimId,
+			final ClaimStatus expected,
+			final ClaimStatus status,
+			final LocalDateTime expiresAt,
+			final Long reservationId) {
+		final String sql = """
+				UPDATE inventory_waitlist_claims
+				SET status = ?,
+				    expires_at = COALESCE(?, expires_at),
+				    reservation_id = COALESCE(?, reservation_id),
+				    allocated_at = CASE WHEN ? = 'ALLOCATED' THEN NOW() ELSE allocated_at END
+				WHERE claim_id = ?
+				  AND status = ?
+				""";
+
+		return jdbcTemplate.update(
+				sql,
+				status.name(),
+				expiresAt != null ? Timestamp.valueOf(expiresAt) : null,
+				reservationId,
+				status.name(),
+				claimId,
+				expected.name()
+		) > 0;
+	}
+
+	private static Array toTimestampArray(
+			final Connection connection,
+			final List<LocalDateTime> timeSlots) throws SQLException {
+		final Timestamp[] values = timeSlots.stream()
+				.map(Timestamp::valueOf)
+				.toArray(Timestamp[]::new);
+		return connection.createArrayOf("timestamp", values);
+	}
+}
@@ -44,9 +44,20 @@ public class ProductEntity {
 	@Column(name = "total_quantity", nullable = false)
 	private Integer totalQuantity;
 
-	@Column(name = "reserved_quantity", nullable = false)
+	/**
+	 * 예약 수량은 재고 카운터 SQL(예약/해제/샤드/원장)만 갱신합니다.
+	 * 조회 시 샤드 합계나 원장 잔액으로 덮어쓴 값이 상품 저장 시 products 행에 기록되지 않도록 UPDATE에서 제외합니다.
+	 */
+	@Column(name = "reserved_quantity", nullable = false, updatable = false)
 	private Integer reservedQuantity = 0;
 
+	/**
+	 * 재고 카운터 방식은 샤딩/원장 설정 SQL만 변경합니다 (없으면 ROW).
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "inventory_counter_mode", length = 10, insertable = false, updatable = false)
+	private InventoryCounterMode inventoryCounterMode;
+
 	protected ProductEntity() {
 		// JPA용 기본 생성자
 	}
@@ -120,6 +131,16 @@ public class ProductEntity {
 	 * Entity를 Domain Product로 변환합니다.
 	 */
 	public Product toDomain() {
+		return toDomain(reservedQuantity != null ? reservedQuantity : 0);
+	}
+	
+	/**
+	 * 예약 수량을 지정하여 Entity를 Domain Product로 변환합니다.
+	 * 샤딩/원장 재고를 사용하는 상품은 샤드 합계나 원장 잔액을 예약 수량으로 사용합니다.
+	 *
+	 * @param effectiveReservedQuantity 실제 예약 수량
+	 */
+	public Product toDomain(final int effectiveReservedQuantity) {
 		final ProductId productId = ProductId.of(id);
 		final PlaceId domainPlaceId = placeId != null ? PlaceId.of(placeId) : null;
 		final RoomId domainRoomId = roomId != null ? RoomId.of(roomId) : null;
@@ -132,7 +153,7 @@ public class ProductEntity {
 				name,
 				pricingStrategy.toDomain(),
 				totalQuantity,
-				reservedQuantity != null ? reservedQuantity : 0
+				effectiveReservedQuantity
 		);
 	}
 	
@@ -172,6 +193,10 @@ public class ProductEntity {
 		return reservedQuantity;
 	}
 
+	public InventoryCounterMode getInventoryCounterMode() {
+		return inventoryCounterMode != null ? inventoryCounterMode : InventoryCounterMode.ROW;
+	}
+
 	@Override
 	public boolean equals(final Object o) {
 		if (this == o) {
@@ -12,8 +12,17 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,7 +49,7 @@ public class ProductRepositoryAdapter implements ProductRepository {
 	@Override
 	public Optional<Product> findById(final ProductId productId) {
 		return jpaRepository.findById(productId.getValue())
-				.map(ProductEntity::toDomain);
+				.map(entity -> toDomainProducts(List.of(entity)).get(0));
 	}
 	
 	@Override
@@ -49,37 +58,25 @@ public class ProductRepositoryAdapter implements ProductRepository {
 				.map(ProductId::getValue)
 				.collect(Collectors.toList());
 		
-		return jpaRepository.findAllById(ids)
-				.stream()
-				.map(ProductEntity::toDomain)
-				.collect(Collectors.toList());
+		return toDomainProducts(jpaRepository.findAllById(ids));
 	}
 	
 	@Override
 	public List<Product> findByPlaceId(final PlaceId placeId) {
-		return jpaRepository.findByPlaceId(placeId.getValue())
-				.stream()
-				.map(ProductEntity::toDomain)
-				.collect(Collectors.toList());
+		return toDomainProducts(jpaRepository.findByPlaceId(placeId.getValue()));
 	}
 	
 	@Override
 	public List<Product> findByRoomId(final RoomId roomId) {
-		return jpaRepository.findByRoomId(roomId.getValue())
-				.stream()
-				.map(ProductEntity::toDomain)
-				.collect(Collectors.toList());
+		return toDomainProducts(jpaRepository.findByRoomId(roomId.getValue()));
 	}
 	
 	@Override
 	public List<Product> findAccessibleProducts(final PlaceId placeId, final RoomId roomId) {
 		// 1. DB에서 전체 접근 가능한 상품 조회 (PLACE, ROOM, RESERVATION)
-		final List<Product> allProducts = jpaRepository.findAccessibleProducts(
-						placeId.getValue(),
-						roomId.getValue())
-				.stream()
-				.map(ProductEntity::toDomain)
-				.collect(Collectors.toList());
+		final List<Product> allProducts = toDomainProducts(jpaRepository.findAccessibleProducts(
+				placeId.getValue(),
+				roomId.getValue()));
 		
 		// 2. 룸별 허용 상품 ID 목록 조회
 		final List<ProductId> allowedProductIds = roomAllowedProductRepository
@@ -102,17 +99,37 @@ public class ProductRepositoryAdapter implements ProductRepository {
 	
 	@Override
 	public List<Product> findByScope(final ProductScope scope) {
-		return jpaRepository.findByScope(scope)
-				.stream()
-				.map(ProductEntity::toDomain)
-				.collect(Collectors.toList());
+		return toDomainProducts(jpaRepository.findByScope(scope));
 	}
 	
 	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
 	public Product save(final Product product) {
+		// 기존 상품은 행을 잠가 총 재고 변경과 시간대별 재고 동기화를 예약/해제와 직렬화
+		final LockedProduct previous = product.getProductId().getValue() == null
+				? null
+				: jdbcTemplate.query(
+						"SELECT total_quantity, inventory_counter_mode FROM products WHERE product_id = ? FOR UPDATE",
+						rs -> rs.next()
+								? new LockedProduct(rs.getInt("total_quantity"), toCounterMode(rs.getString("inventory_counter_mode")))
+								: null,
+						product.getProductId().getValue());
+		final boolean totalQuantityChanged = previous != null
+				&& previous.totalQuantity() != product.getTotalQuantity();
+
+		// 원장 모드 상품은 에스크로 슬롯을 모두 잡아, 이전 총 재고로 판단한 원장 쓰기가 진행 중이지 않도록 함
+		if (totalQuantityChanged && previous.counterMode() == InventoryCounterMode.LEDGER) {
+			jdbcTemplate.queryForObject(
+					"SELECT lock_inventory_ledger(?)", Boolean.class, product.getProductId().getValue());
+		}
+
 		final ProductEntity entity = ProductEntity.fromDomain(product);
 		final ProductEntity savedEntity = jpaRepository.save(entity);
-		return savedEntity.toDomain();
+
+		if (totalQuantityChanged) {
+			applyTotalQuantityChange(product.getProductId(), product.getTotalQuantity(), previous.counterMode());
+		}
+		return toDomainProducts(List.of(savedEntity)).get(0);
 	}
 	
 	@Override
@@ -131,6 +148,25 @@ public class ProductRepositoryAdapter implements ProductRepository {
 			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
 
+		// 원장 모드 상품은 이동분 INSERT, 샤딩된 상품은 샤드 행에서 차감 (shard key가 없으므로 0번 샤드부터 탐색)
+		final InventoryCounterMode counterMode = resolveCounterMode(productId);
+		if (counterMode == InventoryCounterMode.LEDGER) {
+			return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+					"SELECT reserve_inventory_ledger(?, ?)",
+					Boolean.class,
+					productId.getValue(),
+					quantity
+			));
+		}
+		if (counterMode == InventoryCounterMode.SHARDED) {
+			return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+					"SELECT reserve_inventory_shard(?, ?, 0)",
+					Boolean.class,
+					productId.getValue(),
+					quantity
+			));
+		}
+
 		final String sql = """
 				UPDATE products
 				SET reserved_quantity = reserved_quantity + ?
@@ -154,6 +190,24 @@ public class ProductRepositoryAdapter implements ProductRepository {
 			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
 
+		final InventoryCounterMode counterMode = resolveCounterMode(productId);
+		if (counterMode == InventoryCounterMode.LEDGER) {
+			return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+					"SELECT release_inventory_ledger(?, ?)",
+					Boolean.class,
+					productId.getValue(),
+					quantity
+			));
+		}
+		if (counterMode == InventoryCounterMode.SHARDED) {
+			return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+					"SELECT release_inventory_shard(?, ?, 0)",
+					Boolean.class,
+					productId.getValue(),
+					quantity
+			));
+		}
+
 		final String sql = """
 				UPDATE products
 				SET reserved_quantity = reserved_quantity - ?
@@ -173,169 +227,838 @@ public class ProductRepositoryAdapter implements ProductRepository {
 
 	@Override
 	@Transactional(propagation = Propagation.REQUIRED)
-	public boolean reserveRoomTimeSlotQuantity(
+	public boolean releaseQuantity(
 			final ProductId productId,
 			final RoomId roomId,
-			final LocalDateTime timeSlot,
+			final List<LocalDateTime> timeSlots,
 			final int quantity) {
 		if (quantity <= 0) {
 			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
 
-		// CRITICAL FIX: INSERT에도 재고 검증 추가
-		// ON CONFLICT DO UPDATE의 WHERE는 UPDATE에만 적용되므로,
-		// INSERT 시에도 재고 검증이 필요합니다.
-		final String sql = """
-				INSERT INTO product_time_slot_inventory
-				    (product_id, room_id, time_slot, reserved_quantity)
-				SELECT ?, ?, ?, ?
-				WHERE EXISTS (
-				    SELECT 1
-				    FROM products p
-				    WHERE p.product_id = ?
-				      AND p.total_quantity >= ?
-				)
-				ON CONFLICT (product_id, room_id, time_slot)
-				DO UPDATE SET
-				    reserved_quantity = product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity,
-				    updated_at = NOW()
-				WHERE (
-				    SELECT p.total_quantity
-				    FROM products p
-				    WHERE p.product_id = EXCLUDED.product_id
-				) >= (product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity)
-				""";
+		if (resolveCounterMode(productId) != InventoryCounterMode.SHARDED) {
+			return releaseQuantity(productId, quantity);
+		}
 
-		final int updatedRows = jdbcTemplate.update(
-				sql,
+		// 샤딩된 상품은 예약 시와 같은 shard key로 동일한 샤드부터 되돌림 (잠금 대기 중 샤딩이 해제되었으면 NULL)
+		final Boolean released = jdbcTemplate.queryForObject(
+				"SELECT release_inventory_shard(?, ?, ?)",
+				Boolean.class,
 				productId.getValue(),
-				roomId.getValue(),
-				timeSlot,
 				quantity,
-				productId.getValue(),  // WHERE EXISTS - product_id
-				quantity               // WHERE EXISTS - quantity check
+				shardKey(roomId, timeSlots.stream().distinct().sorted().toList())
 		);
 
-		return updatedRows > 0;
+		if (released == null) {
+			return releaseQuantity(productId, quantity);
+		}
+		return released;
 	}
 
 	@Override
 	@Transactional(propagation = Propagation.REQUIRED)
-	public boolean reservePlaceTimeSlotQuantity(
-			final ProductId productId,
-			final RoomId roomId,
-			final LocalDateTime timeSlot,
-			final int quantity) {
-		if (quantity <= 0) {
-			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+	public boolean configureInventoryShards(final ProductId productId, final int shardCount) {
+		if (shardCount <= 0) {
+			throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
 		}
 
-		// PLACE Scope: Use product_time_slot_inventory.total_quantity (per time slot)
-		// V13 migration added this to enforce time-slot-specific inventory limits
-		// NO FALLBACK - if no inventory record exists for this time slot, reservation should fail
-
-		// Step 1: Lock all rows for this product and time slot
-		// Note: Cannot use FOR UPDATE with aggregate functions, so we lock rows first then aggregate in code
-		final String lockSql = """
-				SELECT total_quantity, reserved_quantity
-				FROM product_time_slot_inventory
+		// Step 1: 상품 행을 잠가 동시 재설정을 막고, 현재 예약 수량(샤드 합계 우선)을 구함
+		final List<Integer> totals = jdbcTemplate.query("""
+				SELECT total_quantity
+				FROM products
 				WHERE product_id = ?
-				  AND time_slot = ?
+				  AND scope = 'RESERVATION'
 				FOR UPDATE
-				""";
+				""", (rs, rowNum) -> rs.getInt("total_quantity"), productId.getValue());
 
-		final java.util.List<java.util.Map<String, Object>> rows = jdbcTemplate.queryForList(
-				lockSql,
-				productId.getValue(),
-				timeSlot
-		);
+		if (totals.isEmpty()) {
+			return false;
+		}
+		if (resolveCounterMode(productId) == InventoryCounterMode.LEDGER) {
+			throw new IllegalArgumentException(
+					"Inventory sharding cannot be combined with ledger mode: productId=" + productId.getValue());
+		}
+		final int totalQuantity = totals.get(0);
+
+		final Integer shardedReserved = jdbcTemplate.queryForObject("""
+				SELECT SUM(reserved_quantity)
+				FROM (
+				    SELECT reserved_quantity
+				    FROM product_inventory_shards
+				    WHERE product_id = ?
+				    ORDER BY shard_no
+				    FOR UPDATE
+				) locked
+				""", Integer.class, productId.getValue());
+
+		final int reservedQuantity = shardedReserved != null
+				? shardedReserved
+				: jdbcTemplate.queryForObject(
+						"SELECT reserved_quantity FROM products WHERE product_id = ?",
+						Integer.class,
+						productId.getValue());
 
-		// If no inventory record exists for this time slot, reservation fails
-		if (rows.isEmpty()) {
-			return false;  // No time slot inventory configured
+		if (shardCount > Math.max(totalQuantity, 1)) {
+			throw new IllegalArgumentException(
+					"Shard count cannot exceed total quantity: shardCount=" + shardCount
+							+ ", totalQuantity=" + totalQuantity);
 		}
 
-		// Step 2: Aggregate total_quantity and reserved_quantity across all rooms
-		Integer totalQuantity = null;
-		int currentReserved = 0;
+		// Step 2: 기존 샤드 제거 후 재구성
+		rebuildInventoryShards(productId, shardCount, totalQuantity, reservedQuantity);
+		return true;
+	}
 
-		for (java.util.Map<String, Object> row : rows) {
-			final Integer rowTotalQty = (Integer) row.get("total_quantity");
-			final Integer rowReservedQty = (Integer) row.get("reserved_quantity");
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean configureInventoryLedger(final ProductId productId, final boolean enabled) {
+		// Step 1: 상품 행을 잠가 동시 재설정을 막고, 에스크로 슬롯을 모두 잡아 진행 중인 원장 쓰기가 끝나기를 기다림
+		final List<Integer> reservedQuantities = jdbcTemplate.query("""
+				SELECT reserved_quantity
+				FROM products
+				WHERE product_id = ?
+				  AND scope = 'RESERVATION'
+				FOR UPDATE
+				""", (rs, rowNum) -> rs.getInt("reserved_quantity"), productId.getValue());
+
+		if (reservedQuantities.isEmpty()) {
+			return false;
+		}
+		jdbcTemplate.queryForObject("SELECT lock_inventory_ledger(?)", Boolean.class, productId.getValue());
+
+		final InventoryCounterMode counterMode = resolveCounterMode(productId);
 
-			// total_quantity should be same across all rooms (shared inventory)
-			if (totalQuantity == null) {
-				totalQuantity = rowTotalQty;
+		if (enabled) {
+			if (counterMode == InventoryCounterMode.SHARDED) {
+				throw new IllegalArgumentException(
+						"Inventory ledger cannot be combined with sharding: productId=" + productId.getValue());
 			}
+			if (counterMode == InventoryCounterMode.LEDGER) {
+				return true;
+			}
+
+			// Step 2: 현재 예약 수량을 잔액으로, 기존 이동분 이후부터 반영하도록 잔액 행 생성
+			jdbcTemplate.update("""
+					INSERT INTO inventory_ledger_balances (product_id, reserved_quantity, last_movement_id)
+					SELECT ?, ?, COALESCE(MAX(movement_id), 0)
+					FROM inventory_movements
+					WHERE product_id = ?
+					""",
+					productId.getValue(),
+					reservedQuantities.get(0),
+					productId.getValue());
+			jdbcTemplate.update(
+					"UPDATE products SET inventory_counter_mode = 'LEDGER' WHERE product_id = ?",
+					productId.getValue());
+			return true;
+		}
 
-			// Sum reserved quantities across all rooms
-			if (rowReservedQty != null) {
-				currentReserved += rowReservedQty;
+		if (counterMode != InventoryCounterMode.LEDGER) {
+			return true;
+		}
+
+		// Step 2: 미반영 이동분을 모두 합산한 뒤 products 행으로 되돌리고 잔액 행 제거 (이동 이력은 보존)
+		jdbcTemplate.queryForObject("SELECT compact_inventory_ledger(?)", Integer.class, productId.getValue());
+		jdbcTemplate.update("""
+				UPDATE products
+				SET reserved_quantity = (
+				        SELECT reserved_quantity FROM inventory_ledger_balances WHERE product_id = ?
+				    ),
+				    inventory_counter_mode = 'ROW'
+				WHERE product_id = ?
+				""", productId.getValue(), productId.getValue());
+		jdbcTemplate.update("DELETE FROM inventory_ledger_balances WHERE product_id = ?", productId.getValue());
+		return true;
+	}
+
+	/**
+	 * RESERVATION Scope 상품의 예약 수량을 절대값으로 저장합니다 (Redis 재고 엔진의 Write-behind 전용).
+	 * 상품 조회는 카운터 방식별 저장소(샤드 합계, 원장 잔액)를 읽으므로 같은 저장소에 씁니다.
+	 *
+	 * - ROW: products.reserved_quantity
+	 * - SHARDED: 앞쪽 샤드부터 채워 다시 분배 (샤드 총 재고 합계를 넘는 수량은 담지 못함)
+	 * - LEDGER: 현재 원장 잔액과의 차이를 이동분으로 추가
+	 *
+	 * @param productId        상품 ID
+	 * @param reservedQuantity 저장할 예약 수량
+	 */
+	@Transactional(propagation = Propagation.REQUIRED)
+	public void storeReservedQuantity(final ProductId productId, final int reservedQuantity) {
+		// 상품 행을 잠가 샤딩/원장 재설정과 직렬화
+		final List<String> modes = jdbcTemplate.queryForList("""
+				SELECT inventory_counter_mode
+				FROM products
+				WHERE product_id = ?
+				FOR UPDATE
+				""", String.class, productId.getValue());
+		if (modes.isEmpty()) {
+			return;
+		}
+
+		switch (toCounterMode(modes.get(0))) {
+			case ROW -> jdbcTemplate.update(
+					"UPDATE products SET reserved_quantity = ? WHERE product_id = ?",
+					reservedQuantity,
+					productId.getValue());
+			case SHARDED -> {
+				jdbcTemplate.query("""
+						SELECT shard_no
+						FROM product_inventory_shards
+						WHERE product_id = ?
+						ORDER BY shard_no
+						FOR UPDATE
+						""", rs -> null, productId.getValue());
+				jdbcTemplate.update("""
+						UPDATE product_inventory_shards s
+						SET reserved_quantity = f.reserved_quantity,
+						    updated_at = NOW()
+						FROM (
+						    SELECT shard_no,
+						           LEAST(total_quantity,
+						                 GREATEST(? - (SUM(total_quantity) OVER (ORDER BY shard_no) - total_quantity), 0))
+						               AS reserved_quantity
+						    FROM product_inventory_shards
+						    WHERE product_id = ?
+						) f
+						WHERE s.product_id = ?
+						  AND s.shard_no = f.shard_no
+						  AND s.reserved_quantity <> f.reserved_quantity
+						""",
+						reservedQuantity,
+						productId.getValue(),
+						productId.getValue());
+				jdbcTemplate.update(
+						"UPDATE products SET reserved_quantity = ? WHERE product_id = ?",
+						reservedQuantity,
+						productId.getValue());
+			}
+			case LEDGER -> {
+				jdbcTemplate.queryForObject("SELECT lock_inventory_ledger(?)", Boolean.class, productId.getValue());
+				jdbcTemplate.update("""
+						INSERT INTO inventory_movements (product_id, quantity_delta, movement_type)
+						SELECT b.product_id,
+						       d.delta,
+						       CASE WHEN d.delta > 0 THEN 'RESERVE' ELSE 'RELEASE' END
+						FROM inventory_ledger_balances b
+						CROSS JOIN LATERAL (
+						    SELECT CAST(? AS INTEGER) - inventory_ledger_reserved(b.product_id) AS delta
+						) d
+						WHERE b.product_id = ?
+						  AND d.delta <> 0
+						""",
+						reservedQuantity,
+						productId.getValue());
 			}
 		}
+	}
 
-		// Validate total_quantity
-		if (totalQuantity == null || totalQuantity == 0) {
-			return false;  // Invalid inventory configuration
+	@Override
+	public List<ProductId> findProductIdsWithPendingMovements(final int limit) {
+		return jdbcTemplate.query("""
+				SELECT b.product_id
+				FROM inventory_ledger_balances b
+				WHERE EXISTS (
+				    SELECT 1
+				    FROM inventory_movements m
+				    WHERE m.product_id = b.product_id
+				      AND m.movement_id > b.last_movement_id
+				)
+				ORDER BY b.compacted_at
+				LIMIT ?
+				""", (rs, rowNum) -> ProductId.of(rs.getLong("product_id")), limit);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public int compactInventoryLedger(final ProductId productId) {
+		final Integer compacted = jdbcTemplate.queryForObject(
+				"SELECT compact_inventory_ledger(?)",
+				Integer.class,
+				productId.getValue());
+		return compacted != null ? compacted : 0;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public int deleteCompactedMovementsBefore(final LocalDateTime cutoff) {
+		// 아직 잔액에 반영되지 않은 이동분은 보존 기간과 무관하게 남김
+		return jdbcTemplate.update("""
+				DELETE FROM inventory_movements m
+				WHERE m.created_at < ?
+				  AND NOT EXISTS (
+				      SELECT 1
+				      FROM inventory_ledger_balances b
+				      WHERE b.product_id = m.product_id
+				        AND b.last_movement_id < m.movement_id
+				  )
+				""", Timestamp.valueOf(cutoff));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public String applyLockTimeout(final String lockTimeout) {
+		// 이전 값을 먼저 읽은 뒤 SET LOCAL과 같은 트랜잭션 범위로 변경
+		return jdbcTemplate.queryForObject("""
+				WITH previous AS MATERIALIZED (
+				    SELECT current_setting('lock_timeout') AS value
+				)
+				SELECT p.value
+				FROM previous p
+				CROSS JOIN LATERAL set_config('lock_timeout', ?, true)
+				""", String.class, lockTimeout);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean reserveRoomTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return reserveRoomTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean reservePlaceTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return reservePlaceTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean releaseTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return releaseTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean reserveRoomTimeSlotQuantities(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		if (quantity <= 0) {
+			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
+
+		// Step 1: 최초 예약 시 행이 없는 시간대만 상품 총 재고로 초기화
+		// 이후의 재고 검증은 product_time_slot_inventory.total_quantity만 사용합니다.
+		final String seedSql = """
+				INSERT INTO product_time_slot_inventory
+				    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+				SELECT p.product_id, ?, slots.time_slot, p.total_quantity, 0
+				FROM products p
+				CROSS JOIN unnest(CAST(? AS timestamp[])) AS slots(time_slot)
+				WHERE p.product_id = ?
+				ON CONFLICT (product_id, room_id, time_slot) DO NOTHING
+				""";
+
+		jdbcTemplate.update(seedSql, ps -> {
+			ps.setLong(1, roomId.getValue());
+			ps.setArray(2, toTimestampArray(ps.getConnection(), slots));
+			ps.setLong(3, productId.getValue());
+		});
+
+		// Step 2: 대상 행을 time_slot 순서로 잠근 뒤, 모든 시간대가 가용한 경우에만 일괄 차감
+		final String reserveSql = """
+				WITH locked AS MATERIALIZED (
+				    SELECT time_slot, total_quantity, reserved_quantity
+				    FROM product_time_slot_inventory
+				    WHERE product_id = ?
+				      AND room_id = ?
+				      AND time_slot = ANY (CAST(? AS timestamp[]))
+				    ORDER BY time_slot
+				    FOR UPDATE
+				),
+				feasibility AS (
+				    SELECT COUNT(*) = ?
+				           AND COALESCE(BOOL_AND(total_quantity - reserved_quantity >= ?), FALSE) AS all_available
+				    FROM locked
+				)
+				UPDATE product_time_slot_inventory i
+				SET reserved_quantity = i.reserved_quantity + ?,
+				    updated_at = NOW()
+				FROM feasibility f
+				WHERE f.all_available
+				  AND i.product_id = ?
+				  AND i.room_id = ?
+				  AND i.time_slot = ANY (CAST(? AS timestamp[]))
+				""";
 
-		// Step 3: Check if reservation is possible
-		if (totalQuantity < currentReserved + quantity) {
-			return false;  // Not enough inventory
+		final int updatedRows = jdbcTemplate.update(reserveSql, ps -> {
+			final Array slotArray = toTimestampArray(ps.getConnection(), slots);
+			ps.setLong(1, productId.getValue());
+			ps.setLong(2, roomId.getValue());
+			ps.setArray(3, slotArray);
+			ps.setInt(4, slots.size());
+			ps.setInt(5, quantity);
+			ps.setInt(6, quantity);
+			ps.setLong(7, productId.getValue());
+			ps.setLong(8, roomId.getValue());
+			ps.setArray(9, slotArray);
+		});
+
+		return updatedRows == slots.size();
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean reservePlaceTimeSlotQuantities(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		if (quantity <= 0) {
+			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
 
-		// Step 3: Insert or update the inventory record
-		final String upsertSql = """
+		// Step 1: 집계 행이 없는 시간대만 룸별 재고 행으로부터 초기화
+		// 룸별 재고 행이 하나도 없는 시간대는 집계 행이 생성되지 않아 예약이 실패합니다 (NO FALLBACK).
+		final String seedSql = """
+				INSERT INTO place_time_slot_inventory
+				    (product_id, time_slot, total_quantity, reserved_quantity)
+				SELECT product_id, time_slot, MAX(total_quantity), SUM(reserved_quantity)
+				FROM product_time_slot_inventory
+				WHERE product_id = ?
+				  AND time_slot = ANY (CAST(? AS timestamp[]))
+				GROUP BY product_id, time_slot
+				ON CONFLICT (product_id, time_slot) DO NOTHING
+				""";
+
+		jdbcTemplate.update(seedSql, ps -> {
+			ps.setLong(1, productId.getValue());
+			ps.setArray(2, toTimestampArray(ps.getConnection(), slots));
+		});
+
+		// Step 2: 시간대별 집계 행만 잠그고(룸 수와 무관하게 시간대당 1개) 조건부 UPDATE
+		// 차감된 시간대에 대해서만 현재 룸의 행을 귀속(attribution) 기록으로 UPSERT합니다.
+		final String reserveSql = """
+				WITH locked AS MATERIALIZED (
+				    SELECT time_slot, total_quantity, reserved_quantity
+				    FROM place_time_slot_inventory
+				    WHERE product_id = ?
+				      AND time_slot = ANY (CAST(? AS timestamp[]))
+				    ORDER BY time_slot
+				    FOR UPDATE
+				),
+				feasibility AS (
+				    SELECT COUNT(*) = ?
+				           AND COALESCE(BOOL_AND(total_quantity - reserved_quantity >= ?), FALSE) AS all_available
+				    FROM locked
+				),
+				reserved AS (
+				    UPDATE place_time_slot_inventory a
+				    SET reserved_quantity = a.reserved_quantity + ?,
+				        updated_at = NOW()
+				    FROM feasibility f
+				    WHERE f.all_available
+				      AND a.product_id = ?
+				      AND a.time_slot = ANY (CAST(? AS timestamp[]))
+				      AND a.total_quantity - a.reserved_quantity >= ?
+				    RETURNING a.time_slot, a.total_quantity
+				)
 				INSERT INTO product_time_slot_inventory
 				    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
-				VALUES (?, ?, ?, ?, ?)
+				SELECT ?, ?, r.time_slot, r.total_quantity, ?
+				FROM reserved r
 				ON CONFLICT (product_id, room_id, time_slot)
 				DO UPDATE SET
 				    reserved_quantity = product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity,
 				    updated_at = NOW()
 				""";
 
-		final int updatedRows = jdbcTemplate.update(
-				upsertSql,
-				productId.getValue(),
-				roomId.getValue(),
-				timeSlot,
-				totalQuantity,
-				quantity
-		);
+		final int updatedRows = jdbcTemplate.update(reserveSql, ps -> {
+			final Array slotArray = toTimestampArray(ps.getConnection(), slots);
+			ps.setLong(1, productId.getValue());
+			ps.setArray(2, slotArray);
+			ps.setInt(3, slots.size());
+			ps.setInt(4, quantity);
+			ps.setInt(5, quantity);
+			ps.setLong(6, productId.getValue());
+			ps.setArray(7, slotArray);
+			ps.setInt(8, quantity);
+			ps.setLong(9, productId.getValue());
+			ps.setLong(10, roomId.getValue());
+			ps.setInt(11, quantity);
+		});
 
-		return updatedRows > 0;
+		return updatedRows == slots.size();
 	}
 
 	@Override
-	public boolean releaseTimeSlotQuantity(
+	@Transactional(propagation = Propagation.REQUIRED)
+	public boolean releaseTimeSlotQuantities(
 			final ProductId productId,
 			final RoomId roomId,
-			final LocalDateTime timeSlot,
+			final List<LocalDateTime> timeSlots,
 			final int quantity) {
 		if (quantity <= 0) {
 			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
 		}
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
+
+		// Step 1: PLACE Scope 상품은 집계 행을 먼저 잠가 예약과 동일한 잠금 순서(집계 행 -> 룸 행)를 유지
+		// ROOM Scope 상품은 집계 행이 없으므로 아무 행도 잠그지 않습니다.
+		final String lockAggregatesSql = """
+				SELECT time_slot
+				FROM place_time_slot_inventory
+				WHERE product_id = ?
+				  AND time_slot = ANY (CAST(? AS timestamp[]))
+				ORDER BY time_slot
+				FOR UPDATE
+				""";
+
+		jdbcTemplate.query(lockAggregatesSql, ps -> {
+			ps.setLong(1, productId.getValue());
+			ps.setArray(2, toTimestampArray(ps.getConnection(), slots));
+		}, rs -> {
+		});
+
+		// Step 2: 룸 행을 잠그고 모든 시간대가 해제 가능한 경우에만 룸 행과 집계 행을 함께 감소
+		final String sql = """
+				WITH locked AS MATERIALIZED (
+				    SELECT time_slot, reserved_quantity
+				    FROM product_time_slot_inventory
+				    WHERE product_id = ?
+				      AND room_id = ?
+				      AND time_slot = ANY (CAST(? AS timestamp[]))
+				    ORDER BY time_slot
+				    FOR UPDATE
+				),
+				feasibility AS (
+				    SELECT COUNT(*) = ?
+				           AND COALESCE(BOOL_AND(reserved_quantity >= ?), FALSE) AS all_releasable
+				    FROM locked
+				),
+				released AS (
+				    UPDATE product_time_slot_inventory i
+				    SET reserved_quantity = i.reserved_quantity - ?,
+				        updated_at = NOW()
+				    FROM feasibility f
+				    WHERE f.all_releasable
+				      AND i.product_id = ?
+				      AND i.room_id = ?
+				      AND i.time_slot = ANY (CAST(? AS timestamp[]))
+				    RETURNING i.time_slot
+				),
+				released_aggregates AS (
+				    UPDATE place_time_slot_inventory a
+				    SET reserved_quantity = a.reserved_quantity - ?,
+				        updated_at = NOW()
+				    FROM released r
+				    WHERE a.product_id = ?
+				      AND a.time_slot = r.time_slot
+				)
+				SELECT COUNT(*) FROM released
+				""";
+
+		final Integer updatedRows = jdbcTemplate.query(sql, ps -> {
+			final Array slotArray = toTimestampArray(ps.getConnection(), slots);
+			ps.setLong(1, productId.getValue());
+			ps.setLong(2, roomId.getValue());
+			ps.setArray(3, slotArray);
+			ps.setInt(4, slots.size());
+			ps.setInt(5, quantity);
+			ps.setInt(6, quantity);
+			ps.setLong(7, productId.getValue());
+			ps.setLong(8, roomId.getValue());
+			ps.setArray(9, slotArray);
+			ps.setInt(10, quantity);
+			ps.setLong(11, productId.getValue());
+		}, rs -> rs.next() ? rs.getInt(1) : 0);
+
+		return updatedRows != null && updatedRows == slots.size();
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRED)
+	public Map<ProductId, Boolean> reserveCartQuantities(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		final Map<ProductId, Boolean> results = new LinkedHashMap<>();
+		if (quantities.isEmpty()) {
+			return results;
+		}
+
+		final Long[] productIds = new Long[quantities.size()];
+		final Integer[] productQuantities = new Integer[quantities.size()];
+		int index = 0;
+		for (final Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+			if (entry.getValue() <= 0) {
+				throw new IllegalArgumentException("Quantity must be positive: " + entry.getValue());
+			}
+			productIds[index] = entry.getKey().getValue();
+			productQuantities[index] = entry.getValue();
+			results.put(entry.getKey(), false);
+			index++;
+		}
+
+		final List<LocalDateTime> slots = timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
 
 		final String sql = """
+				SELECT result_product_id, result_reserved
+				FROM reserve_inventory_cart(
+				    ?,
+				    CAST(? AS timestamp[]),
+				    CAST(? AS bigint[]),
+				    CAST(? AS integer[]),
+				    ?
+				)
+				""";
+
+		jdbcTemplate.query(sql, ps -> {
+			final Connection connection = ps.getConnection();
+			ps.setLong(1, roomId.getValue());
+			ps.setArray(2, toTimestampArray(connection, slots));
+			ps.setArray(3, connection.createArrayOf("bigint", productIds));
+			ps.setArray(4, connection.createArrayOf("integer", productQuantities));
+			ps.setInt(5, shardKey(roomId, slots));
+		}, rs -> {
+			results.put(
+					ProductId.of(rs.getLong("result_product_id")),
+					rs.getBoolean("result_reserved")
+			);
+		});
+
+		return results;
+	}
+
+	/**
+	 * 상품 총 재고 변경 시 샤드별 총 재고를 새 총 재고로 다시 분할합니다.
+	 * 현재 샤드 예약 합계는 유지하며, 새 총 재고가 샤드 수보다 작으면 샤드 수를 줄입니다 (1이면 products 행 카운터로 복귀).
+	 *
+	 * @throws IllegalArgumentException 새 총 재고가 현재 예약 수량보다 작은 경우
+	 */
+	private void resplitInventoryShards(final ProductId productId, final int totalQuantity) {
+		final List<Integer> shardReserved = jdbcTemplate.query("""
+				SELECT reserved_quantity
+				FROM product_inventory_shards
+				WHERE product_id = ?
+				ORDER BY shard_no
+				FOR UPDATE
+				""", (rs, rowNum) -> rs.getInt("reserved_quantity"), productId.getValue());
+
+		if (shardReserved.isEmpty()) {
+			return;
+		}
+		final int reservedQuantity = shardReserved.stream().mapToInt(Integer::intValue).sum();
+		if (reservedQuantity > totalQuantity) {
+			throw new IllegalArgumentException(
+					"Total quantity cannot be less than reserved quantity: totalQuantity=" + totalQuantity
+							+ ", reservedQuantity=" + reservedQuantity);
+		}
+
+		final int shardCount = Math.min(shardReserved.size(), Math.max(totalQuantity, 1));
+		rebuildInventoryShards(productId, shardCount, totalQuantity, reservedQuantity);
+	}
+
+	/**
+	 * 샤드 행을 제거한 뒤 총 재고를 shardCount개로 균등 분할하여 다시 생성합니다.
+	 * 호출자는 상품 행과 기존 샤드 행을 잠근 상태여야 합니다.
+	 */
+	private void rebuildInventoryShards(
+			final ProductId productId,
+			final int shardCount,
+			final int totalQuantity,
+			final int reservedQuantity) {
+		// products.reserved_quantity는 현재 합계로 동기화
+		jdbcTemplate.update("DELETE FROM product_inventory_shards WHERE product_id = ?", productId.getValue());
+		jdbcTemplate.update(
+				"UPDATE products SET reserved_quantity = ?, inventory_counter_mode = ? WHERE product_id = ?",
+				reservedQuantity,
+				(shardCount == 1 ? InventoryCounterMode.ROW : InventoryCounterMode.SHARDED).name(),
+				productId.getValue());
+
+		if (shardCount == 1) {
+			return;
+		}
+
+		// 총 재고를 균등 분할하고, 기존 예약 수량은 앞쪽 샤드부터 채움
+		jdbcTemplate.update("""
+				INSERT INTO product_inventory_shards
+				    (product_id, shard_no, total_quantity, reserved_quantity)
+				SELECT ?,
+				       g.shard_no,
+				       g.total_quantity,
+				       LEAST(g.total_quantity,
+				             GREATEST(? - (SUM(g.total_quantity) OVER (ORDER BY g.shard_no) - g.total_quantity), 0))
+				FROM (
+				    SELECT s AS shard_no,
+				           ? / ? + CASE WHEN s < ? % ? THEN 1 ELSE 0 END AS total_quantity
+				    FROM generate_series(0, ? - 1) AS s
+				) g
+				""",
+				productId.getValue(),
+				reservedQuantity,
+				totalQuantity,
+				shardCount,
+				totalQuantity,
+				shardCount,
+				shardCount
+		);
+	}
+
+	/**
+	 * 상품 총 재고 변경을 시간대별 재고 행에 반영합니다.
+	 * 시간대별 total_quantity는 행 생성 시 상품 총 재고로 채워지므로, 아직 지나지 않은 시간대 행을 새 총 재고로 맞춥니다.
+	 * PLACE Scope 상품은 예약 검증에 사용하는 Place 집계 행(place_time_slot_inventory)도 함께 갱신합니다.
+	 * 샤딩된 RESERVATION 상품은 샤드별 총 재고를 새 총 재고로 다시 분할합니다.
+	 * 이미 새 총 재고를 넘게 예약된 시간대는 초과분이 해제될 때까지 추가 예약이 거절됩니다.
+	 */
+	private void applyTotalQuantityChange(
+			final ProductId productId,
+			final int totalQuantity,
+			final InventoryCounterMode counterMode) {
+		jdbcTemplate.update("""
+				UPDATE place_time_slot_inventory
+				SET total_quantity = ?,
+				    updated_at = NOW()
+				WHERE product_id = ?
+				  AND time_slot >= LOCALTIMESTAMP
+				""", totalQuantity, productId.getValue());
+
+		jdbcTemplate.update("""
 				UPDATE product_time_slot_inventory
-				SET reserved_quantity = reserved_quantity - ?,
+				SET total_quantity = ?,
 				    updated_at = NOW()
 				WHERE product_id = ?
-				  AND room_id = ?
-				  AND time_slot = ?
-				  AND reserved_quantity >= ?
-				""";
+				  AND time_slot >= LOCALTIMESTAMP
+				""", totalQuantity, productId.getValue());
 
-		final int updatedRows = jdbcTemplate.update(
-				sql,
-				quantity,
-				productId.getValue(),
-				roomId.getValue(),
-				timeSlot,
-				quantity
+		if (counterMode == InventoryCounterMode.SHARDED) {
+			resplitInventoryShards(productId, totalQuantity);
+		}
+	}
+
+	/**
+	 * Entity 목록을 Domain Product로 변환합니다.
+	 * 카운터 방식이 SHARDED인 상품은 샤드 합계를, LEDGER인 상품은 원장 잔액을 예약 수량으로 덮어씁니다.
+	 * ROW 상품만 있으면 추가 조회 없이 products 행 그대로 변환합니다.
+	 */
+	private List<Product> toDomainProducts(final List<ProductEntity> entities) {
+		final List<Long> shardedIds = productIdsWithCounterMode(entities, InventoryCounterMode.SHARDED);
+		final List<Long> ledgerIds = productIdsWithCounterMode(entities, InventoryCounterMode.LEDGER);
+
+		final Map<Long, Integer> counterReserved = new HashMap<>();
+		if (!shardedIds.isEmpty()) {
+			jdbcTemplate.query(
+					"SELECT product_id, SUM(reserved_quantity) AS reserved_quantity "
+							+ "FROM product_inventory_shards WHERE product_id IN (" + placeholders(shardedIds) + ") "
+							+ "GROUP BY product_id",
+					rs -> {
+						counterReserved.put(rs.getLong("product_id"), rs.getInt("reserved_quantity"));
+					},
+					shardedIds.toArray()
+			);
+		}
+
+		// 원장 모드 상품은 Compaction된 잔액 + 미반영 이동분 합계
+		if (!ledgerIds.isEmpty()) {
+			jdbcTemplate.query(
+					"SELECT product_id, inventory_ledger_reserved(product_id) AS reserved_quantity "
+							+ "FROM inventory_ledger_balances WHERE product_id IN (" + placeholders(ledgerIds) + ")",
+					rs -> {
+						counterReserved.put(rs.getLong("product_id"), rs.getInt("reserved_quantity"));
+					},
+					ledgerIds.toArray()
+			);
+		}
+
+		return entities.stream()
+				.map(entity -> counterReserved.containsKey(entity.getId())
+						? entity.toDomain(counterReserved.get(entity.getId()))
+						: entity.toDomain())
+				.collect(Collectors.toList());
+	}
+
+	private static List<Long> productIdsWithCounterMode(
+			final List<ProductEntity> entities,
+			final InventoryCounterMode counterMode) {
+		return entities.stream()
+				.filter(entity -> entity.getScope() == ProductScope.RESERVATION)
+				.filter(entity -> entity.getInventoryCounterMode() == counterMode)
+				.map(ProductEntity::getId)
+				.toList();
+	}
+
+	private static String placeholders(final List<Long> ids) {
+		return String.join(",", Collections.nCopies(ids.size(), "?"));
+	}
+
+	/**
+	 * 샤딩된 RESERVATION 상품의 샤드 선택 키를 계산합니다.
+	 * 예약과 해제가 같은 (룸, 첫 시간대)로 계산하므로 동일한 샤드를 우선 사용합니다.
+	 */
+	private static int shardKey(final RoomId roomId, final List<LocalDateTime> sortedTimeSlots) {
+		return Objects.hash(
+				roomId != null ? roomId.getValue() : null,
+				sortedTimeSlots.isEmpty() ? null : sortedTimeSlots.get(0)
 		);
+	}
 
-		return updatedRows > 0;
+	/**
+	 * RESERVATION Scope 상품의 재고 카운터 방식을 조회합니다.
+	 * 상품이 없으면 ROW로 간주하여 단일 행 UPDATE가 0건으로 실패하도록 합니다.
+	 */
+	private InventoryCounterMode resolveCounterMode(final ProductId productId) {
+		final List<String> modes = jdbcTemplate.queryForList(
+				"SELECT inventory_counter_mode FROM products WHERE product_id = ?",
+				String.class,
+				productId.getValue());
+		return modes.isEmpty() ? InventoryCounterMode.ROW : toCounterMode(modes.get(0));
+	}
+
+	private static InventoryCounterMode toCounterMode(final String value) {
+		return value == null ? InventoryCounterMode.ROW : InventoryCounterMode.valueOf(value);
+	}
+
+	/**
+	 * 저장 전에 잠근 상품 행의 총 재고와 재고 카운터 방식.
+	 */
+	private record LockedProduct(int totalQuantity, InventoryCounterMode counterMode) {
+	}
+
+	/**
+	 * 시간대 목록을 중복 제거 후 오름차순으로 정렬합니다.
+	 * 정렬된 순서는 행 잠금 순서와 일치하여 교착 상태 가능성을 줄입니다.
+	 *
+	 * @param timeSlots 시간대 목록
+	 * @return 정렬된 고유 시간대 목록
+	 * @throws IllegalArgumentException 시간대 목록이 비어있는 경우
+	 */
+	private static List<LocalDateTime> normalizeTimeSlots(final List<LocalDateTime> timeSlots) {
+		if (timeSlots == null || timeSlots.isEmpty()) {
+			throw new IllegalArgumentException("Time slots must not be empty");
+		}
+		return timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+	}
+
+	/**
+	 * 시간대 목록을 PostgreSQL timestamp[] 파라미터로 변환합니다.
+	 */
+	private static Array toTimestampArray(
+			final Connection connection,
+			final List<LocalDateTime> timeSlots) throws SQLException {
+		final Timestamp[] values = timeSlots.stream()
+				.map(Timestamp::valueOf)
+				.toArray(Timestamp[]::new);
+		return connection.createArrayOf("timestamp", values);
 	}
 }
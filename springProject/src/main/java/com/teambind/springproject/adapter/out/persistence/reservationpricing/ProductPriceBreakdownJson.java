@@ -0,0 +1,47 @@
+package com.teambind.springproject.adapter.out.persistence.reservationpricing;
+
+import com.teambind.springproject.domain.product.vo.PricingType;
+
+import java.math.BigDecimal;
+
+/**
+ * reservation_pricings.product_breakdowns (jsonb) 배열의 요소.
+ *
+ * @param productId   상품 ID (스냅샷)
+ * @param productName 상품명 (스냅샷)
+ * @param quantity    수량
+ * @param unitPrice   단가 (스냅샷)
+ * @param totalPrice  총 가격
+ * @param pricingType 가격 책정 방식 (스냅샷)
+ */
+public record ProductPriceBreakdownJson(
+		Long productId,
+		String productName,
+		Integer quantity,
+		BigDecimal unitPrice,
+		BigDecimal totalPrice,
+		PricingType pricingType
+) {
+	
+	public static ProductPriceBreakdownJson fromEmbeddable(final ProductPriceBreakdownEmbeddable embeddable) {
+		return new ProductPriceBreakdownJson(
+				embeddable.getProductId(),
+				embeddable.getProductName(),
+				embeddable.getQuantity(),
+				embeddable.getUnitPrice(),
+				embeddable.getTotalPrice(),
+				embeddable.getPricingType()
+		);
+	}
+	
+	public ProductPriceBreakdownEmbeddable toEmbeddable() {
+		return new ProductPriceBreakdownEmbeddable(
+				productId,
+				productName,
+				quantity,
+				unitPrice,
+				totalPrice,
+				pricingType
+		);
+	}
+}
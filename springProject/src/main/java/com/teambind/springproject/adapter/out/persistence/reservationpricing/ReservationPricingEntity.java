@@ -5,8 +5,13 @@ import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
 import com.teambind.springproject.domain.reservationpricing.TimeSlotPriceBreakdown;
 import com.teambind.springproject.domain.shared.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,6 +21,13 @@ import java.util.stream.Collectors;
 
 /**
  * ReservationPricing Aggregate의 JPA Entity.
+ *
+ * 시간대 가격과 상품 내역은 reservation_pricings 한 행에 압축 형식으로 저장합니다.
+ * - 시간대 가격: 첫 슬롯 시각(slot_start_at) + 슬롯 단위 간격의 가격 배열(slot_prices, 빈 슬롯은 null)
+ * - 상품 내역: jsonb 배열(product_breakdowns)
+ *
+ * 슬롯이 슬롯 단위 간격에 맞지 않으면 slot_prices 없이 reservation_pricing_slots 테이블에 저장하고 읽습니다 (Dual-read).
+ * slot_start_at(파티션 키)과 slot_end_at은 저장 형식과 관계없이 항상 채웁니다.
  */
 @Entity
 @Table(name = "reservation_pricings")
@@ -39,7 +51,30 @@ public class ReservationPricingEntity {
 	@Column(name = "time_slot", nullable = false, length = 10)
 	private TimeSlot timeSlot;
 	
-	@ElementCollection(fetch = FetchType.EAGER)
+	/**
+	 * 첫 슬롯 시각 (월별 파티션 키). 예약의 슬롯은 바뀌지 않으므로 생성 후 변경되지 않습니다.
+	 * UPDATE/DELETE 조건에 함께 포함되어 해당 월 파티션만 변경합니다.
+	 */
+	@PartitionKey
+	@Column(name = "slot_start_at", nullable = false)
+	private LocalDateTime slotStartAt;
+	
+	@Column(name = "slot_end_at", nullable = false)
+	private LocalDateTime slotEndAt;
+	
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "slot_prices")
+	private BigDecimal[] compactSlotPrices;
+	
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "product_breakdowns")
+	private List<ProductPriceBreakdownJson> compactProductBreakdowns;
+	
+	/**
+	 * 기존 형식의 시간대 가격 (slot_prices가 없는 행에서만 읽음).
+	 */
+	@ElementCollection(fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	@CollectionTable(
 			name = "reservation_pricing_slots",
 			joinColumns = @JoinColumn(name = "reservation_id")
@@ -48,7 +83,11 @@ public class ReservationPricingEntity {
 	@Column(name = "slot_price", precision = 12, scale = 2)
 	private Map<LocalDateTime, BigDecimal> slotPrices = new HashMap<>();
 	
-	@ElementCollection(fetch = FetchType.EAGER)
+	/**
+	 * 기존 형식의 상품 내역 (product_breakdowns가 없는 행에서만 읽음).
+	 */
+	@ElementCollection(fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	@CollectionTable(
 			name = "reservation_pricing_products",
 			joinColumns = @JoinColumn(name = "reservation_id")
@@ -64,6 +103,13 @@ public class ReservationPricingEntity {
 	@Column(name = "expires_at", nullable = false)
 	private LocalDateTime expiresAt;
 	
+	/**
+	 * 낙관적 잠금 버전. 조건부 상태 전환(transitionStatus)도 함께 올립니다.
+	 */
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+	
 	protected ReservationPricingEntity() {
 		// JPA용 기본 생성자
 	}
@@ -84,8 +130,14 @@ public class ReservationPricingEntity {
 		this.placeId = placeId;
 		this.status = status;
 		this.timeSlot = timeSlot;
-		this.slotPrices = new HashMap<>(slotPrices);
-		this.productBreakdowns = new ArrayList<>(productBreakdowns);
+		this.slotStartAt = slotPrices.keySet().stream().min(LocalDateTime::compareTo).orElse(calculatedAt);
+		this.slotEndAt = slotPrices.keySet().stream().max(LocalDateTime::compareTo).orElse(calculatedAt);
+		if (!compactSlots(slotPrices, timeSlot)) {
+			this.slotPrices = new HashMap<>(slotPrices);
+		}
+		this.compactProductBreakdowns = productBreakdowns.stream()
+				.map(ProductPriceBreakdownJson::fromEmbeddable)
+				.collect(Collectors.toCollection(ArrayList::new));
 		this.totalPrice = totalPrice;
 		this.calculatedAt = calculatedAt;
 		this.expiresAt = expiresAt;
@@ -135,7 +187,7 @@ public class ReservationPricingEntity {
 	 */
 	public ReservationPricing toDomain() {
 		// Map<LocalDateTime, BigDecimal> -> Map<LocalDateTime, Money>
-		final Map<LocalDateTime, Money> domainSlotPrices = slotPrices.entrySet().stream()
+		final Map<LocalDateTime, Money> domainSlotPrices = getSlotPrices().entrySet().stream()
 				.collect(Collectors.toMap(
 						Map.Entry::getKey,
 						entry -> Money.of(entry.getValue())
@@ -148,7 +200,7 @@ public class ReservationPricingEntity {
 		);
 		
 		// ProductPriceBreakdown 리스트 재구성
-		final List<ProductPriceBreakdown> domainProductBreakdowns = productBreakdowns.stream()
+		final List<ProductPriceBreakdown> domainProductBreakdowns = getProductBreakdowns().stream()
 				.map(ProductPriceBreakdownEmbeddable::toDomain)
 				.toList();
 		
@@ -165,6 +217,94 @@ public class ReservationPricingEntity {
 		);
 	}
 	
+	/**
+	 * 영속 상태의 엔티티에 Domain 변경 사항을 반영합니다.
+	 * merge와 달리 기존 형식 컬렉션을 로딩하지 않으므로, 압축 형식 행은 한 번의 UPDATE로 저장됩니다.
+	 * 기존 형식 행이 압축 가능해지면 기존 테이블의 행은 컬렉션 교체로 삭제됩니다.
+	 * 슬롯 기간(slot_start_at, 파티션 키)은 바꾸지 않으므로 행이 다른 파티션으로 이동하지 않습니다.
+	 *
+	 * @param pricing 변경된 ReservationPricing Domain 객체
+	 */
+	public void apply(final ReservationPricing pricing) {
+		final ReservationPricingEntity source = fromDomain(pricing, placeId);
+		final boolean wasCompact = isCompact();
+		final boolean hadLegacyProducts = compactProductBreakdowns == null;
+		
+		this.status = source.status;
+		this.timeSlot = source.timeSlot;
+		this.compactSlotPrices = source.compactSlotPrices;
+		this.compactProductBreakdowns = source.compactProductBreakdowns;
+		if (!source.isCompact()) {
+			this.slotPrices = source.slotPrices;
+		} else if (!wasCompact) {
+			this.slotPrices = new HashMap<>();
+		}
+		if (hadLegacyProducts) {
+			this.productBreakdowns = new ArrayList<>();
+		}
+		this.totalPrice = source.totalPrice;
+		this.calculatedAt = source.calculatedAt;
+		this.expiresAt = source.expiresAt;
+	}
+	
+	/**
+	 * [start, end] 범위에 슬롯이 있는지 확인합니다.
+	 * 압축 형식의 기간 조건(slot_start_at ~ slot_end_at)은 빈 슬롯까지 포함하므로, 조회 결과를 정확히 거를 때 사용합니다.
+	 *
+	 * @param start 시작 시간 (inclusive)
+	 * @param end   종료 시간 (inclusive)
+	 * @return 범위 안에 슬롯이 하나라도 있으면 true
+	 */
+	public boolean hasSlotBetween(final LocalDateTime start, final LocalDateTime end) {
+		return getSlotPrices().keySet().stream()
+				.anyMatch(slot -> !slot.isBefore(start) && !slot.isAfter(end));
+	}
+	
+	/**
+	 * 압축 형식과 함께 기존 테이블에도 같은 내용을 기록합니다.
+	 * 기존 테이블만 읽는 이전 버전 인스턴스와 함께 운영하는 배포 기간에 사용합니다.
+	 */
+	public void writeLegacyCopy() {
+		if (isCompact()) {
+			this.slotPrices = getSlotPrices();
+		}
+		if (compactProductBreakdowns != null) {
+			this.productBreakdowns = getProductBreakdowns();
+		}
+	}
+	
+	/**
+	 * 시간대 가격이 압축 형식(slot_prices)으로 저장된 행인지 여부.
+	 */
+	public boolean isCompact() {
+		return compactSlotPrices != null;
+	}
+	
+	/**
+	 * 슬롯 가격을 슬롯 단위 간격 가격 배열(첫 슬롯 시각 = slot_start_at)로 압축합니다.
+	 * 슬롯이 없거나 슬롯 단위 간격에 맞지 않으면 압축하지 않습니다.
+	 *
+	 * @return 압축했으면 true
+	 */
+	private boolean compactSlots(final Map<LocalDateTime, BigDecimal> slotPrices, final TimeSlot timeSlot) {
+		if (slotPrices.isEmpty() || timeSlot == null) {
+			return false;
+		}
+		final LocalDateTime start = slotStartAt;
+		final LocalDateTime end = slotEndAt;
+		final long unitMinutes = timeSlot.getMinutes();
+		if (slotPrices.keySet().stream()
+				.anyMatch(slot -> Duration.between(start, slot).toSeconds() % (unitMinutes * 60) != 0)) {
+			return false;
+		}
+		
+		final BigDecimal[] prices = new BigDecimal[(int) (Duration.between(start, end).toMinutes() / unitMinutes) + 1];
+		slotPrices.forEach((slot, price) ->
+				prices[(int) (Duration.between(start, slot).toMinutes() / unitMinutes)] = price);
+		this.compactSlotPrices = prices;
+		return true;
+	}
+	
 	// Getters
 	
 	public Long getId() {
@@ -192,11 +332,33 @@ public class ReservationPricingEntity {
 	}
 	
 	public Map<LocalDateTime, BigDecimal> getSlotPrices() {
-		return new HashMap<>(slotPrices);
+		if (!isCompact()) {
+			return new HashMap<>(slotPrices);
+		}
+		final Map<LocalDateTime, BigDecimal> prices = new HashMap<>();
+		for (int i = 0; i < compactSlotPrices.length; i++) {
+			if (compactSlotPrices[i] != null) {
+				prices.put(slotStartAt.plusMinutes((long) i * timeSlot.getMinutes()), compactSlotPrices[i]);
+			}
+		}
+		return prices;
 	}
 	
 	public List<ProductPriceBreakdownEmbeddable> getProductBreakdowns() {
-		return new ArrayList<>(productBreakdowns);
+		if (compactProductBreakdowns == null) {
+			return new ArrayList<>(productBreakdowns);
+		}
+		return compactProductBreakdowns.stream()
+				.map(ProductPriceBreakdownJson::toEmbeddable)
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+	
+	public LocalDateTime getSlotStartAt() {
+		return slotStartAt;
+	}
+	
+	public LocalDateTime getSlotEndAt() {
+		return slotEndAt;
 	}
 	
 	public BigDecimal getTotalPrice() {
@@ -210,4 +372,8 @@ public class ReservationPricingEntity {
 	public LocalDateTime getExpiresAt() {
 		return expiresAt;
 	}
+	
+	public Long getVersion() {
+		return version;
+	}
 }
@@ -2,11 +2,13 @@ package com.teambind.springproject.adapter.out.persistence.reservationpricing;
 
 import com.teambind.springproject.domain.shared.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ReservationPricing Entity를 위한 Spring Data JPA Repository.
@@ -15,113 +17,174 @@ public interface ReservationPricingJpaRepository extends
 		JpaRepository<ReservationPricingEntity, Long> {
 	
 	/**
-	 * PlaceId와 시간 범위, 상태로 예약 가격을 조회합니다 (slotPrices Fetch Join 최적화).
+	 * PlaceId와 시간 범위, 상태로 예약 가격을 조회합니다.
+	 * 범위 타입을 지원하지 않는 DB(H2 테스트 등)용이며, PostgreSQL에서는 findByPlaceIdAndSlotRangeOverlap을 사용합니다.
 	 * <p>
-	 * N+1 문제 해결을 위해 slotPrices를 Fetch Join으로 로딩합니다.
-	 * 시간 범위 체크는 slotPrices의 키(LocalDateTime)를 기준으로 합니다.
-	 * <p>
-	 * 주의: 서브쿼리를 사용하여 필터링과 페칭을 분리합니다.
-	 * WHERE 절에서 컬렉션을 필터링하면 해당 조건에 맞는 요소만 로드되므로,
-	 * 예약의 전체 slotPrices를 로드하기 위해 서브쿼리로 ID를 먼저 조회합니다.
+	 * 슬롯 기간(slot_start_at ~ slot_end_at)으로 조인 없이 거르고, 파티션 키(slot_start_at)의 양쪽 범위를 함께 지정하여
+	 * 조회 구간과 겹칠 수 있는 월 파티션만 읽습니다.
+	 * 슬롯 기간에는 빈 슬롯이 포함될 수 있으므로 호출 측에서 hasSlotBetween으로 다시 거릅니다.
+	 * 기존 형식 행의 컬렉션은 @BatchSize로 묶어서 로딩됩니다.
 	 *
-	 * @param placeId  플레이스 ID
-	 * @param start    시작 시간 (inclusive)
-	 * @param end      종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
-	 * @param statuses 조회할 예약 상태 목록
-	 * @return 조건에 맞는 예약 가격 엔티티 목록 (전체 slotPrices 로딩됨)
+	 * @param placeId       플레이스 ID
+	 * @param earliestStart 겹칠 수 있는 예약의 가장 이른 시작 시각 (start - 최대 예약 기간)
+	 * @param start         시작 시간 (inclusive)
+	 * @param end           종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
+	 * @param statuses      조회할 예약 상태 목록
+	 * @return 조건에 맞는 예약 가격 엔티티 목록
 	 */
-	@Query("SELECT DISTINCT rp FROM ReservationPricingEntity rp "
-			+ "LEFT JOIN FETCH rp.slotPrices "
-			+ "WHERE rp.id IN ("
-			+ "  SELECT DISTINCT rp2.id FROM ReservationPricingEntity rp2 "
-			+ "  JOIN rp2.slotPrices sp2 "
-			+ "  WHERE rp2.placeId = :placeId "
-			+ "  AND KEY(sp2) >= :start AND KEY(sp2) <= :end "
-			+ "  AND rp2.status IN :statuses"
-			+ ")")
+	@Query("SELECT rp FROM ReservationPricingEntity rp "
+			+ "WHERE rp.placeId = :placeId "
+			+ "AND rp.status IN :statuses "
+			+ "AND rp.slotStartAt >= :earliestStart AND rp.slotStartAt <= :end "
+			+ "AND rp.slotEndAt >= :start")
 	List<ReservationPricingEntity> findByPlaceIdAndTimeRange(
 			@Param("placeId") Long placeId,
+			@Param("earliestStart") LocalDateTime earliestStart,
 			@Param("start") LocalDateTime start,
 			@Param("end") LocalDateTime end,
 			@Param("statuses") List<ReservationStatus> statuses);
 	
 	/**
-	 * RoomId와 시간 범위, 상태로 예약 가격을 조회합니다 (slotPrices Fetch Join 최적화).
+	 * RoomId와 시간 범위, 상태로 예약 가격을 조회합니다.
+	 * 범위 타입을 지원하지 않는 DB(H2 테스트 등)용이며, PostgreSQL에서는 findByRoomIdAndSlotRangeOverlap을 사용합니다.
 	 * <p>
-	 * N+1 문제 해결을 위해 slotPrices를 Fetch Join으로 로딩합니다.
-	 * 시간 범위 체크는 slotPrices의 키(LocalDateTime)를 기준으로 합니다.
-	 * <p>
-	 * 주의: 서브쿼리를 사용하여 필터링과 페칭을 분리합니다.
-	 * WHERE 절에서 컬렉션을 필터링하면 해당 조건에 맞는 요소만 로드되므로,
-	 * 예약의 전체 slotPrices를 로드하기 위해 서브쿼리로 ID를 먼저 조회합니다.
+	 * 슬롯 기간(slot_start_at ~ slot_end_at)으로 조인 없이 거르고, 파티션 키(slot_start_at)의 양쪽 범위를 함께 지정하여
+	 * 조회 구간과 겹칠 수 있는 월 파티션만 읽습니다.
+	 * 슬롯 기간에는 빈 슬롯이 포함될 수 있으므로 호출 측에서 hasSlotBetween으로 다시 거릅니다.
+	 * 기존 형식 행의 컬렉션은 @BatchSize로 묶어서 로딩됩니다.
 	 *
-	 * @param roomId   룸 ID
-	 * @param start    시작 시간 (inclusive)
-	 * @param end      종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
-	 * @param statuses 조회할 예약 상태 목록
-	 * @return 조건에 맞는 예약 가격 엔티티 목록 (전체 slotPrices 로딩됨)
+	 * @param roomId       룸 ID
+	 * @param earliestStart 겹칠 수 있는 예약의 가장 이른 시작 시각 (start - 최대 예약 기간)
+	 * @param start         시작 시간 (inclusive)
+	 * @param end           종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
+	 * @param statuses      조회할 예약 상태 목록
+	 * @return 조건에 맞는 예약 가격 엔티티 목록
 	 */
-	@Query("SELECT DISTINCT rp FROM ReservationPricingEntity rp "
-			+ "LEFT JOIN FETCH rp.slotPrices "
-			+ "WHERE rp.id IN ("
-			+ "  SELECT DISTINCT rp2.id FROM ReservationPricingEntity rp2 "
-			+ "  JOIN rp2.slotPrices sp2 "
-			+ "  WHERE rp2.roomId = :roomId "
-			+ "  AND KEY(sp2) >= :start AND KEY(sp2) <= :end "
-			+ "  AND rp2.status IN :statuses"
-			+ ")")
+	@Query("SELECT rp FROM ReservationPricingEntity rp "
+			+ "WHERE rp.roomId = :roomId "
+			+ "AND rp.status IN :statuses "
+			+ "AND rp.slotStartAt >= :earliestStart AND rp.slotStartAt <= :end "
+			+ "AND rp.slotEndAt >= :start")
 	List<ReservationPricingEntity> findByRoomIdAndTimeRange(
 			@Param("roomId") Long roomId,
+			@Param("earliestStart") LocalDateTime earliestStart,
 			@Param("start") LocalDateTime start,
 			@Param("end") LocalDateTime end,
 			@Param("statuses") List<ReservationStatus> statuses);
 	
 	/**
-	 * 상태로 예약 가격을 조회합니다.
+	 * PlaceId와 시간 범위, 상태로 예약 가격을 조회합니다 (PostgreSQL 범위 타입).
+	 * <p>
+	 * 파티션 키(slot_start_at) 범위로 겹칠 수 있는 월 파티션만 고른 뒤,
+	 * 각 파티션의 (place_id, slot_range) GiST 인덱스에서 겹침 연산자(&&)로 거릅니다.
+	 * 슬롯 기간에는 빈 슬롯이 포함될 수 있으므로 호출 측에서 hasSlotBetween으로 다시 거릅니다.
 	 *
-	 * @param statuses 조회할 예약 상태 목록
+	 * @param placeId       플레이스 ID
+	 * @param earliestStart 겹칠 수 있는 예약의 가장 이른 시작 시각 (start - 최대 예약 기간)
+	 * @param start         시작 시간 (inclusive)
+	 * @param end           종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
+	 * @param statuses      조회할 예약 상태 이름 목록
 	 * @return 조건에 맞는 예약 가격 엔티티 목록
 	 */
-	List<ReservationPricingEntity> findByStatusIn(List<ReservationStatus> statuses);
-
+	@Query(value = "SELECT rp.* FROM reservation_pricings rp "
+			+ "WHERE rp.place_id = :placeId "
+			+ "AND rp.status IN (:statuses) "
+			+ "AND rp.slot_start_at BETWEEN :earliestStart AND :end "
+			+ "AND rp.slot_range && TSRANGE(CAST(:start AS TIMESTAMP), CAST(:end AS TIMESTAMP), '[]')",
+			nativeQuery = true)
+	List<ReservationPricingEntity> findByPlaceIdAndSlotRangeOverlap(
+			@Param("placeId") Long placeId,
+			@Param("earliestStart") LocalDateTime earliestStart,
+			@Param("start") LocalDateTime start,
+			@Param("end") LocalDateTime end,
+			@Param("statuses") List<String> statuses);
+	
 	/**
-	 * 상태로 예약 가격을 조회합니다 (slotPrices Fetch Join 최적화).
+	 * RoomId와 시간 범위, 상태로 예약 가격을 조회합니다 (PostgreSQL 범위 타입).
+	 * <p>
+	 * 파티션 키(slot_start_at) 범위로 겹칠 수 있는 월 파티션만 고른 뒤,
+	 * 각 파티션의 (room_id, slot_range) GiST 인덱스에서 겹침 연산자(&&)로 거릅니다.
+	 * 슬롯 기간에는 빈 슬롯이 포함될 수 있으므로 호출 측에서 hasSlotBetween으로 다시 거릅니다.
 	 *
-	 * N+1 문제 해결을 위해 slotPrices를 Fetch Join으로 로딩합니다.
-	 * productBreakdowns는 MultipleBagFetchException 방지를 위해 별도 쿼리로 로딩 필요.
+	 * @param roomId       룸 ID
+	 * @param earliestStart 겹칠 수 있는 예약의 가장 이른 시작 시각 (start - 최대 예약 기간)
+	 * @param start         시작 시간 (inclusive)
+	 * @param end           종료 시간 (inclusive) - 마지막 슬롯 시간을 포함
+	 * @param statuses      조회할 예약 상태 이름 목록
+	 * @return 조건에 맞는 예약 가격 엔티티 목록
+	 */
+	@Query(value = "SELECT rp.* FROM reservation_pricings rp "
+			+ "WHERE rp.room_id = :roomId "
+			+ "AND rp.status IN (:statuses) "
+			+ "AND rp.slot_start_at BETWEEN :earliestStart AND :end "
+			+ "AND rp.slot_range && TSRANGE(CAST(:start AS TIMESTAMP), CAST(:end AS TIMESTAMP), '[]')",
+			nativeQuery = true)
+	List<ReservationPricingEntity> findByRoomIdAndSlotRangeOverlap(
+			@Param("roomId") Long roomId,
+			@Param("earliestStart") LocalDateTime earliestStart,
+			@Param("start") LocalDateTime start,
+			@Param("end") LocalDateTime end,
+			@Param("statuses") List<String> statuses);
+	
+	/**
+	 * 상태로 예약 가격을 조회합니다.
 	 *
 	 * @param statuses 조회할 예약 상태 목록
-	 * @return 조건에 맞는 예약 가격 엔티티 목록 (slotPrices 로딩됨)
+	 * @return 조건에 맞는 예약 가격 엔티티 목록
 	 */
-	@Query("SELECT DISTINCT rp FROM ReservationPricingEntity rp "
-			+ "LEFT JOIN FETCH rp.slotPrices "
-			+ "WHERE rp.status IN :statuses")
-	List<ReservationPricingEntity> findByStatusInWithSlots(@Param("statuses") List<ReservationStatus> statuses);
+	List<ReservationPricingEntity> findByStatusIn(List<ReservationStatus> statuses);
 
 	/**
-	 * 예약 엔티티들의 productBreakdowns를 Fetch Join으로 로딩합니다.
-	 *
-	 * MultipleBagFetchException 방지를 위해 slotPrices와 분리된 쿼리로 실행.
+	 * 예약 ID와 파티션 키(slot_start_at)로 예약 가격을 조회합니다 (해당 월 파티션만 읽음).
 	 *
-	 * @param reservations 상품 정보를 로딩할 예약 엔티티 목록
-	 * @return productBreakdowns가 로딩된 예약 엔티티 목록
+	 * @param id          예약 ID
+	 * @param slotStartAt 첫 슬롯 시각 (reservation_pricing_keys에서 조회)
+	 * @return 예약 가격 엔티티
 	 */
-	@Query("SELECT DISTINCT rp FROM ReservationPricingEntity rp "
-			+ "LEFT JOIN FETCH rp.productBreakdowns "
-			+ "WHERE rp IN :reservations")
-	List<ReservationPricingEntity> fetchProductBreakdowns(@Param("reservations") List<ReservationPricingEntity> reservations);
-	
+	Optional<ReservationPricingEntity> findByIdAndSlotStartAt(Long id, LocalDateTime slotStartAt);
+
 	/**
-	 * 만료된 PENDING 상태의 예약을 조회합니다 (slotPrices Fetch Join 최적화).
-	 * <p>
-	 * N+1 문제 해결을 위해 slotPrices를 Fetch Join으로 로딩합니다.
+	 * 만료된 PENDING 상태의 예약을 조회합니다.
+	 * 시작 시각과 관계없이 만료 시각으로만 거르며, 각 파티션의 (status, expires_at) 부분 인덱스를 사용합니다.
 	 *
 	 * @param now 현재 시간
-	 * @return 만료된 PENDING 예약 엔티티 목록 (slotPrices 로딩됨)
+	 * @return 만료된 PENDING 예약 엔티티 목록
 	 */
-	@Query("SELECT DISTINCT rp FROM ReservationPricingEntity rp "
-			+ "LEFT JOIN FETCH rp.slotPrices "
+	@Query("SELECT rp FROM ReservationPricingEntity rp "
 			+ "WHERE rp.status = 'PENDING' "
 			+ "AND rp.expiresAt < :now")
 	List<ReservationPricingEntity> findExpiredPendingReservations(@Param("now") LocalDateTime now);
+
+	/**
+	 * 예약 상태만 조회합니다 (컬렉션 로딩 없음, 해당 월 파티션만 읽음).
+	 *
+	 * @param id          예약 ID
+	 * @param slotStartAt 첫 슬롯 시각 (reservation_pricing_keys에서 조회)
+	 * @return 예약 상태
+	 */
+	@Query("SELECT rp.status FROM ReservationPricingEntity rp "
+			+ "WHERE rp.id = :id AND rp.slotStartAt = :slotStartAt")
+	Optional<ReservationStatus> findStatusById(
+			@Param("id") Long id,
+			@Param("slotStartAt") LocalDateTime slotStartAt);
+	
+	/**
+	 * 현재 상태가 expected인 경우에만 상태를 next로 바꾸고 버전을 올립니다 (컬렉션 로딩 없음).
+	 * 영속성 컨텍스트 전체를 비우지 않으므로, 이미 로딩된 해당 예약 엔티티는 호출하는 쪽에서 갱신해야 합니다.
+	 *
+	 * @param id          예약 ID
+	 * @param slotStartAt 첫 슬롯 시각 (reservation_pricing_keys에서 조회, 해당 월 파티션만 변경)
+	 * @param expected    기대하는 현재 상태
+	 * @param next        변경할 상태
+	 * @return 변경된 행 수 (0이면 상태가 이미 바뀌었거나 예약이 없음)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE ReservationPricingEntity rp "
+			+ "SET rp.status = :next, rp.version = rp.version + 1 "
+			+ "WHERE rp.id = :id AND rp.slotStartAt = :slotStartAt AND rp.status = :expected")
+	int transitionStatus(
+			@Param("id") Long id,
+			@Param("slotStartAt") LocalDateTime slotStartAt,
+			@Param("expected") ReservationStatus expected,
+			@Param("next") ReservationStatus next);
 }
@@ -0,0 +1,45 @@
+package com.teambind.springproject.adapter.out.persistence.reservationpricing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 ID → 파티션 키(slot_start_at) 조회 테이블의 JPA Entity.
+ *
+ * reservation_pricings는 (reservation_id, slot_start_at) 기본 키로 월별 파티션되어 있어,
+ * 예약 ID만으로 조회/변경하면 모든 파티션을 탐색합니다.
+ * 예약 ID로 먼저 이 테이블에서 시작 시각을 찾아 해당 월 파티션만 읽고 씁니다.
+ * 파티션 테이블은 예약 ID만의 유일성을 보장할 수 없으므로, 이 테이블의 기본 키가 예약 ID 유일성을 보장합니다.
+ */
+@Entity
+@Table(name = "reservation_pricing_keys")
+public class ReservationPricingKeyEntity {
+
+	@Id
+	@Column(name = "reservation_id")
+	private Long id;
+
+	@Column(name = "slot_start_at", nullable = false, updatable = false)
+	private LocalDateTime slotStartAt;
+
+	protected ReservationPricingKeyEntity() {
+		// JPA용 기본 생성자
+	}
+
+	public ReservationPricingKeyEntity(final Long id, final LocalDateTime slotStartAt) {
+		this.id = id;
+		this.slotStartAt = slotStartAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public LocalDateTime getSlotStartAt() {
+		return slotStartAt;
+	}
+}
@@ -9,8 +9,13 @@ import com.teambind.springproject.domain.shared.PlaceId;
 import com.teambind.springproject.domain.shared.ReservationId;
 import com.teambind.springproject.domain.shared.ReservationStatus;
 import com.teambind.springproject.domain.shared.RoomId;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,83 +29,92 @@ public class ReservationPricingRepositoryAdapter implements ReservationPricingRe
 	
 	private final ReservationPricingJpaRepository jpaRepository;
 	private final PricingPolicyJpaRepository pricingPolicyJpaRepository;
+	private final EntityManager entityManager;
+	
+	/**
+	 * 압축 형식과 함께 기존 시간대/상품 테이블에도 기록할지 여부.
+	 * 기존 테이블만 읽는 이전 버전과 함께 운영하는 배포 기간에만 활성화합니다.
+	 */
+	@Value("${reservation.storage.legacy-write-enabled:false}")
+	private boolean legacyWriteEnabled;
+	
+	/**
+	 * 시간 범위 조회에 slot_range 범위 타입(GiST 인덱스)을 사용할지 여부.
+	 * 범위 타입이 없는 DB(H2 테스트 등)에서는 비활성화하여 슬롯 기간 비교 JPQL로 조회합니다.
+	 */
+	@Value("${reservation.storage.range-index-enabled:true}")
+	private boolean rangeIndexEnabled;
+	
+	/**
+	 * 예약 하나의 최대 기간 (일, 첫 슬롯 ~ 마지막 슬롯).
+	 * 생성 시 이 기간을 넘는 예약은 거절하므로, 시간 범위 조회는 조회 시작보다 이 기간만큼 앞선 월 파티션까지만 읽습니다.
+	 */
+	@Value("${reservation.storage.max-span-days:7}")
+	private long maxSpanDays;
 	
 	public ReservationPricingRepositoryAdapter(
 			final ReservationPricingJpaRepository jpaRepository,
-			final PricingPolicyJpaRepository pricingPolicyJpaRepository) {
+			final PricingPolicyJpaRepository pricingPolicyJpaRepository,
+			final EntityManager entityManager) {
 		this.jpaRepository = jpaRepository;
 		this.pricingPolicyJpaRepository = pricingPolicyJpaRepository;
+		this.entityManager = entityManager;
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public Optional<ReservationPricing> findById(final ReservationId reservationId) {
-		return jpaRepository.findById(reservationId.getValue())
+		return findEntityById(reservationId)
 				.map(ReservationPricingEntity::toDomain);
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReservationPricing> findByPlaceIdAndTimeRange(
 			final PlaceId placeId,
 			final LocalDateTime start,
 			final LocalDateTime end,
 			final List<ReservationStatus> statuses) {
 
-		// N+1 최적화: 2단계 Fetch Join으로 컬렉션 로딩
-		// 1단계: slotPrices fetch join (이미 쿼리에 포함됨)
-		final List<ReservationPricingEntity> reservations = jpaRepository.findByPlaceIdAndTimeRange(
-				placeId.getValue(),
-				start,
-				end,
-				statuses
-		);
-
-		// 2단계: productBreakdowns fetch join (MultipleBagFetchException 방지)
-		if (!reservations.isEmpty()) {
-			jpaRepository.fetchProductBreakdowns(reservations);
-		}
+		// 압축 형식 행은 조인 없이 읽고, 기존 형식 행의 컬렉션만 @BatchSize로 묶어서 로딩
+		final List<ReservationPricingEntity> reservations = rangeIndexEnabled
+				? jpaRepository.findByPlaceIdAndSlotRangeOverlap(
+						placeId.getValue(), start.minusDays(maxSpanDays), start, end, statusNames(statuses))
+				: jpaRepository.findByPlaceIdAndTimeRange(
+						placeId.getValue(), start.minusDays(maxSpanDays), start, end, statuses);
 
 		return reservations.stream()
+				.filter(reservation -> reservation.hasSlotBetween(start, end))
 				.map(ReservationPricingEntity::toDomain)
 				.toList();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReservationPricing> findByRoomIdAndTimeRange(
 			final RoomId roomId,
 			final LocalDateTime start,
 			final LocalDateTime end,
 			final List<ReservationStatus> statuses) {
 
-		// N+1 최적화: 2단계 Fetch Join으로 컬렉션 로딩
-		// 1단계: slotPrices fetch join (이미 쿼리에 포함됨)
-		final List<ReservationPricingEntity> reservations = jpaRepository.findByRoomIdAndTimeRange(
-				roomId.getValue(),
-				start,
-				end,
-				statuses
-		);
-
-		// 2단계: productBreakdowns fetch join (MultipleBagFetchException 방지)
-		if (!reservations.isEmpty()) {
-			jpaRepository.fetchProductBreakdowns(reservations);
-		}
+		// 압축 형식 행은 조인 없이 읽고, 기존 형식 행의 컬렉션만 @BatchSize로 묶어서 로딩
+		final List<ReservationPricingEntity> reservations = rangeIndexEnabled
+				? jpaRepository.findByRoomIdAndSlotRangeOverlap(
+						roomId.getValue(), start.minusDays(maxSpanDays), start, end, statusNames(statuses))
+				: jpaRepository.findByRoomIdAndTimeRange(
+						roomId.getValue(), start.minusDays(maxSpanDays), start, end, statuses);
 
 		return reservations.stream()
+				.filter(reservation -> reservation.hasSlotBetween(start, end))
 				.map(ReservationPricingEntity::toDomain)
 				.toList();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReservationPricing> findByStatusIn(final List<ReservationStatus> statuses) {
-		// N+1 최적화: 2단계 Fetch Join으로 컬렉션 로딩
-		// 1단계: slotPrices fetch join
-		final List<ReservationPricingEntity> reservations =
-				jpaRepository.findByStatusInWithSlots(statuses);
-
-		// 2단계: productBreakdowns fetch join (MultipleBagFetchException 방지)
-		if (!reservations.isEmpty()) {
-			jpaRepository.fetchProductBreakdowns(reservations);
-		}
+		// 압축 형식 행은 조인 없이 읽고, 기존 형식 행의 컬렉션만 @BatchSize로 묶어서 로딩
+		final List<ReservationPricingEntity> reservations = jpaRepository.findByStatusIn(statuses);
 
 		return reservations.stream()
 				.map(ReservationPricingEntity::toDomain)
@@ -108,7 +122,20 @@ public class ReservationPricingRepositoryAdapter implements ReservationPricingRe
 	}
 	
 	@Override
+	@Transactional
 	public ReservationPricing save(final ReservationPricing reservationPricing) {
+		// 기존 예약은 영속 엔티티에 변경 사항만 반영 (merge는 기존 형식 컬렉션까지 로딩하므로 사용하지 않음)
+		final Optional<ReservationPricingEntity> existing =
+				findEntityById(reservationPricing.getReservationId());
+		if (existing.isPresent()) {
+			final ReservationPricingEntity entity = existing.get();
+			entity.apply(reservationPricing);
+			if (legacyWriteEnabled) {
+				entity.writeLegacyCopy();
+			}
+			return entity.toDomain();
+		}
+		
 		// RoomId로 PricingPolicy를 조회하여 PlaceId를 가져옴
 		final Long placeId = findPlaceIdByRoomId(reservationPricing.getRoomId());
 		
@@ -117,34 +144,77 @@ public class ReservationPricingRepositoryAdapter implements ReservationPricingRe
 				reservationPricing,
 				placeId
 		);
+		validateSpan(entity);
+		if (legacyWriteEnabled) {
+			entity.writeLegacyCopy();
+		}
 		
-		// 저장 후 Domain으로 다시 변환
+		// 저장 후 Domain으로 다시 변환 (예약 ID → 파티션 키 조회 행도 함께 기록)
 		final ReservationPricingEntity savedEntity = jpaRepository.save(entity);
+		entityManager.persist(new ReservationPricingKeyEntity(savedEntity.getId(), savedEntity.getSlotStartAt()));
 		return savedEntity.toDomain();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public Optional<ReservationStatus> findStatusById(final ReservationId reservationId) {
+		return findSlotStartAt(reservationId)
+				.flatMap(slotStartAt -> jpaRepository.findStatusById(reservationId.getValue(), slotStartAt));
+	}
+	
+	@Override
+	@Transactional
+	public boolean transitionStatus(
+			final ReservationId reservationId,
+			final ReservationStatus expected,
+			final ReservationStatus next) {
+		final Optional<LocalDateTime> slotStartAt = findSlotStartAt(reservationId);
+		if (slotStartAt.isEmpty()) {
+			return false;
+		}
+		final boolean transitioned = jpaRepository.transitionStatus(
+				reservationId.getValue(), slotStartAt.get(), expected, next) == 1;
+		if (transitioned) {
+			detachIfLoaded(reservationId);
+		}
+		return transitioned;
+	}
+	
+	/**
+	 * 같은 트랜잭션에서 이미 로딩된 예약 엔티티만 영속성 컨텍스트에서 분리합니다.
+	 * 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 분리하지 않으면 이후 save()가 이전 상태/버전으로 덮어씁니다.
+	 * 분리된 예약은 다음 조회에서 파티션 키로 다시 읽습니다 (refresh는 예약 ID만으로 모든 파티션을 탐색).
+	 * 로딩되지 않은 예약은 getReference가 조회 없이 프록시만 돌려주므로 추가 조회가 없습니다.
+	 */
+	private void detachIfLoaded(final ReservationId reservationId) {
+		final ReservationPricingEntity loaded =
+				entityManager.getReference(ReservationPricingEntity.class, reservationId.getValue());
+		if (Hibernate.isInitialized(loaded)) {
+			entityManager.detach(loaded);
+		}
+	}
+	
+	@Override
+	@Transactional
 	public void deleteById(final ReservationId reservationId) {
-		jpaRepository.deleteById(reservationId.getValue());
+		findEntityById(reservationId).ifPresent(jpaRepository::delete);
+		Optional.ofNullable(entityManager.find(ReservationPricingKeyEntity.class, reservationId.getValue()))
+				.ifPresent(entityManager::remove);
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public boolean existsById(final ReservationId reservationId) {
-		return jpaRepository.existsById(reservationId.getValue());
+		return findSlotStartAt(reservationId).isPresent();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReservationPricing> findExpiredPendingReservations() {
-		// N+1 최적화: 2단계 Fetch Join으로 컬렉션 로딩
-		// 1단계: slotPrices fetch join (이미 쿼리에 포함됨)
+		// 압축 형식 행은 조인 없이 읽고, 기존 형식 행의 컬렉션만 @BatchSize로 묶어서 로딩
 		final List<ReservationPricingEntity> reservations =
 				jpaRepository.findExpiredPendingReservations(LocalDateTime.now());
 
-		// 2단계: productBreakdowns fetch join (MultipleBagFetchException 방지)
-		if (!reservations.isEmpty()) {
-			jpaRepository.fetchProductBreakdowns(reservations);
-		}
-
 		return reservations.stream()
 				.map(ReservationPricingEntity::toDomain)
 				.toList();
@@ -155,6 +225,34 @@ public class ReservationPricingRepositoryAdapter implements ReservationPricingRe
 		jpaRepository.flush();
 	}
 
+	/**
+	 * 예약 ID로 파티션 키(slot_start_at)를 찾은 뒤 해당 월 파티션에서 예약 엔티티를 조회합니다.
+	 */
+	private Optional<ReservationPricingEntity> findEntityById(final ReservationId reservationId) {
+		return findSlotStartAt(reservationId)
+				.flatMap(slotStartAt -> jpaRepository.findByIdAndSlotStartAt(reservationId.getValue(), slotStartAt));
+	}
+	
+	private Optional<LocalDateTime> findSlotStartAt(final ReservationId reservationId) {
+		return Optional.ofNullable(entityManager.find(ReservationPricingKeyEntity.class, reservationId.getValue()))
+				.map(ReservationPricingKeyEntity::getSlotStartAt);
+	}
+	
+	/**
+	 * 새 예약의 슬롯 기간이 최대 예약 기간을 넘지 않는지 확인합니다.
+	 * 시간 범위 조회(findByPlaceIdAndTimeRange 등)와 재고 점검은 조회 시작보다 최대 기간만큼 앞선 예약까지만 읽습니다.
+	 *
+	 * @throws IllegalArgumentException 첫 슬롯부터 마지막 슬롯까지가 최대 예약 기간보다 긴 경우
+	 */
+	private void validateSpan(final ReservationPricingEntity entity) {
+		if (Duration.between(entity.getSlotStartAt(), entity.getSlotEndAt())
+				.compareTo(Duration.ofDays(maxSpanDays)) > 0) {
+			throw new IllegalArgumentException(
+					"Reservation span exceeds " + maxSpanDays + " days: slotStartAt=" + entity.getSlotStartAt()
+							+ ", slotEndAt=" + entity.getSlotEndAt());
+		}
+	}
+	
 	/**
 	 * RoomId로 PlaceId를 조회합니다.
 	 * PricingPolicy에서 Room-Place 매핑을 가져옵니다.
@@ -175,4 +273,8 @@ public class ReservationPricingRepositoryAdapter implements ReservationPricingRe
 						"PricingPolicy not found for roomId: " + roomId.getValue()
 								+ ". Room must have a pricing policy before creating reservations."));
 	}
+	
+	private static List<String> statusNames(final List<ReservationStatus> statuses) {
+		return statuses.stream().map(ReservationStatus::name).toList();
+	}
 }
@@ -0,0 +1,294 @@
+package com.teambind.springproject.adapter.out.redis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 재고 카운터 접근 컴포넌트.
+ *
+ * 카운터는 해시(total, reserved)로 저장하며, 증감은 Lua 스크립트 한 번으로 모든 키의 한도를 검사한 뒤
+ * 전체를 반영하거나 전체를 거절합니다. 반영한 키는 dirty set에 추가되어 Write-behind로 Postgres에 저장됩니다.
+ *
+ * 상품별로 적재된 키 집합({inventory}:keys:{productId})을 유지하여, 총 수량이 바뀌면 적재된 카운터의 총 수량도 갱신합니다.
+ *
+ * 증감이 트랜잭션 안에서 실행되면 트랜잭션 롤백 시 반대 증감을 적용합니다(보상).
+ * Postgres 트랜잭션과 Redis 갱신은 원자적이지 않으므로 롤백과 보상 사이에는 짧은 불일치 구간이 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory", name = "engine", havingValue = "redis")
+public class RedisInventoryCounters {
+
+	private static final Logger logger = LoggerFactory.getLogger(RedisInventoryCounters.class);
+
+	private static final String TOTAL_FIELD = "total";
+	private static final String RESERVED_FIELD = "reserved";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ADJUST_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/inventory_adjust.lua"), List.class);
+
+	private static final RedisScript<Long> INIT_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/inventory_init.lua"), Long.class);
+
+	private static final RedisScript<Long> SET_TOTAL_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/inventory_set_total.lua"), Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	public RedisInventoryCounters(final StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 카운터 증감 요청.
+	 *
+	 * @param key     카운터 키
+	 * @param delta   예약 수량 증감량 (예약: 양수, 해제: 음수)
+	 * @param checked 한도 검사 여부 (PLACE 귀속 행 예약처럼 기록만 하는 경우 false)
+	 */
+	record Adjustment(RedisInventoryKey key, int delta, boolean checked) {
+	}
+
+	/**
+	 * 카운터 값.
+	 *
+	 * @param key      카운터 키
+	 * @param total    총 수량 (PLACE 귀속 행처럼 기록만 한 카운터는 null)
+	 * @param reserved 예약 수량
+	 */
+	record CounterValue(RedisInventoryKey key, Integer total, int reserved) {
+	}
+
+	/**
+	 * 모든 증감을 원자적으로 반영합니다. 한 키라도 한도를 벗어나면 아무것도 반영하지 않습니다.
+	 * 같은 키의 증감은 합산하여 한 번에 검사합니다.
+	 *
+	 * @param adjustments 증감 요청 목록
+	 * @return 한도를 벗어난 키 집합 (비어 있으면 전체 반영)
+	 */
+	Set<RedisInventoryKey> adjust(final List<Adjustment> adjustments) {
+		final List<Adjustment> merged = merge(adjustments);
+		if (merged.isEmpty()) {
+			return Set.of();
+		}
+
+		final Set<RedisInventoryKey> failedKeys = execute(merged);
+		if (failedKeys.isEmpty()) {
+			registerCompensation(merged);
+		}
+		return failedKeys;
+	}
+
+	/**
+	 * 총 수량이 적재되지 않은 키를 조회합니다. (파이프라인 1회)
+	 */
+	List<RedisInventoryKey> findUnloaded(final List<RedisInventoryKey> keys) {
+		final List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (final RedisInventoryKey key : keys) {
+				connection.hashCommands().hExists(bytes(key.value()), bytes(TOTAL_FIELD));
+			}
+			return null;
+		});
+
+		final List<RedisInventoryKey> unloaded = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			if (!Boolean.TRUE.equals(exists.get(i))) {
+				unloaded.add(keys.get(i));
+			}
+		}
+		return unloaded;
+	}
+
+	/**
+	 * Postgres 값을 카운터에 적재합니다. 이미 있는 필드는 덮어쓰지 않습니다.
+	 * 적재한 키는 상품별 키 집합에 기록되어 총 수량 변경 시 함께 갱신됩니다.
+	 */
+	void initialize(final List<CounterValue> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+		final List<String> keys = new ArrayList<>(values.size() * 2);
+		final String[] args = new String[values.size() * 2];
+		for (int i = 0; i < values.size(); i++) {
+			final CounterValue value = values.get(i);
+			keys.add(value.key().value());
+			args[i * 2] = String.valueOf(value.total());
+			args[i * 2 + 1] = String.valueOf(value.reserved());
+		}
+		values.forEach(value -> keys.add(RedisInventoryKey.index(value.key().productId())));
+		redisTemplate.execute(INIT_SCRIPT, keys, (Object[]) args);
+	}
+
+	/**
+	 * 상품의 적재된 카운터(상품 재고, from 이후 시간대 행과 Place 집계 행)에 새 총 수량을 기록합니다.
+	 * Postgres 엔진이 총 수량 변경 시 현재 이후 시간대 행만 갱신하는 것과 같은 범위입니다.
+	 *
+	 * 트랜잭션 안이면 커밋 후에 기록합니다. 롤백된 변경이 Redis에 남지 않고,
+	 * 커밋 후 Read-through로 적재되는 카운터는 이미 새 총 수량을 읽습니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param total     새 총 수량
+	 * @param from      갱신할 가장 이른 시간대
+	 */
+	void updateTotal(final long productId, final int total, final LocalDateTime from) {
+		final Runnable update = () -> {
+			try {
+				writeTotal(productId, total, from);
+			} catch (final RuntimeException e) {
+				logger.error("Failed to update redis inventory total: productId={}, total={}", productId, total, e);
+			}
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
+	/**
+	 * 카운터의 현재 값을 조회합니다.
+	 */
+	Optional<CounterValue> find(final RedisInventoryKey key) {
+		final List<Object> values = redisTemplate.opsForHash()
+				.multiGet(key.value(), List.of(TOTAL_FIELD, RESERVED_FIELD));
+		if (values.get(1) == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new CounterValue(
+				key,
+				values.get(0) != null ? Integer.valueOf((String) values.get(0)) : null,
+				Integer.parseInt((String) values.get(1))
+		));
+	}
+
+	/**
+	 * Flush 대기 중인 키를 최대 count개 꺼냅니다.
+	 */
+	List<String> popDirtyKeys(final int count) {
+		final List<String> keys = redisTemplate.opsForSet().pop(RedisInventoryKey.DIRTY_SET, count);
+		return keys != null ? keys : List.of();
+	}
+
+	/**
+	 * 키를 다시 Flush 대기 상태로 만듭니다.
+	 */
+	void markDirty(final String key) {
+		redisTemplate.opsForSet().add(RedisInventoryKey.DIRTY_SET, key);
+	}
+
+	private void writeTotal(final long productId, final int total, final LocalDateTime from) {
+		final String indexKey = RedisInventoryKey.index(productId);
+		final Set<String> members = redisTemplate.opsForSet().members(indexKey);
+		if (members == null || members.isEmpty()) {
+			return;
+		}
+
+		// 지난 시간대 키는 더 이상 갱신하지 않으므로 집합에서만 제거
+		final List<String> keys = new ArrayList<>(members.size() + 1);
+		keys.add(indexKey);
+		final List<String> pastKeys = new ArrayList<>();
+		for (final String member : members) {
+			final LocalDateTime timeSlot = RedisInventoryKey.parse(member).timeSlot();
+			if (timeSlot != null && timeSlot.isBefore(from)) {
+				pastKeys.add(member);
+			} else {
+				keys.add(member);
+			}
+		}
+
+		if (!pastKeys.isEmpty()) {
+			redisTemplate.opsForSet().remove(indexKey, pastKeys.toArray());
+		}
+		if (keys.size() > 1) {
+			redisTemplate.execute(SET_TOTAL_SCRIPT, keys, String.valueOf(total));
+		}
+	}
+
+	private Set<RedisInventoryKey> execute(final List<Adjustment> adjustments) {
+		final List<String> keys = new ArrayList<>(adjustments.size() + 1);
+		keys.add(RedisInventoryKey.DIRTY_SET);
+		final String[] args = new String[adjustments.size() * 2];
+		for (int i = 0; i < adjustments.size(); i++) {
+			final Adjustment adjustment = adjustments.get(i);
+			keys.add(adjustment.key().value());
+			args[i * 2] = String.valueOf(adjustment.delta());
+			args[i * 2 + 1] = adjustment.checked() ? "1" : "0";
+		}
+
+		@SuppressWarnings("unchecked")
+		final List<Long> failedIndexes = redisTemplate.execute(ADJUST_SCRIPT, keys, (Object[]) args);
+
+		final Set<RedisInventoryKey> failedKeys = new HashSet<>();
+		if (failedIndexes != null) {
+			failedIndexes.forEach(index -> failedKeys.add(adjustments.get(index.intValue() - 1).key()));
+		}
+		return failedKeys;
+	}
+
+	/**
+	 * 트랜잭션이 롤백되면 반영한 증감을 되돌립니다.
+	 * 되돌리는 증감은 이미 반영된 수량이므로 한도를 검사하지 않습니다.
+	 */
+	private void registerCompensation(final List<Adjustment> applied) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				if (status != STATUS_ROLLED_BACK) {
+					return;
+				}
+				try {
+					execute(applied.stream()
+							.map(adjustment -> new Adjustment(adjustment.key(), -adjustment.delta(), false))
+							.toList());
+				} catch (final RuntimeException e) {
+					// 보상 실패분은 자동으로 복구되지 않습니다. 재고 정합성 점검은 Redis 엔진에서 dry-run으로만 실행되므로
+					// 로그에 남긴 증감을 기준으로 카운터를 직접 되돌려야 합니다.
+					logger.error("Failed to compensate redis inventory counters after rollback: {}", applied, e);
+				}
+			}
+		});
+	}
+
+	private static List<Adjustment> merge(final List<Adjustment> adjustments) {
+		final Map<RedisInventoryKey, Adjustment> merged = new LinkedHashMap<>();
+		for (final Adjustment adjustment : adjustments) {
+			merged.merge(adjustment.key(), adjustment, (left, right) -> new Adjustment(
+					left.key(),
+					left.delta() + right.delta(),
+					left.checked() || right.checked()
+			));
+		}
+		return new ArrayList<>(merged.values());
+	}
+
+	private static byte[] bytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,95 @@
+package com.teambind.springproject.adapter.out.redis;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Redis 재고 카운터 키.
+ *
+ * 모든 키는 같은 해시 태그({inventory})를 사용하므로 Redis Cluster에서도 같은 슬롯에 배치되어
+ * 여러 키를 하나의 Lua 스크립트로 원자적으로 갱신할 수 있습니다.
+ * <ul>
+ *   <li>PRODUCT: {inventory}:product:{productId} (RESERVATION Scope 상품 재고)</li>
+ *   <li>SLOT: {inventory}:slot:{productId}:{roomId}:{yyyyMMddHHmm} (product_time_slot_inventory 행)</li>
+ *   <li>PLACE: {inventory}:place:{productId}:{yyyyMMddHHmm} (place_time_slot_inventory 집계 행)</li>
+ * </ul>
+ *
+ * @param type      카운터 종류
+ * @param productId 상품 ID
+ * @param roomId    룸 ID (SLOT만 사용)
+ * @param timeSlot  시간대 (SLOT, PLACE만 사용)
+ */
+record RedisInventoryKey(
+		Type type,
+		long productId,
+		Long roomId,
+		LocalDateTime timeSlot
+) {
+
+	/**
+	 * Flush 대기 중인 카운터 키 집합.
+	 */
+	static final String DIRTY_SET = "{inventory}:dirty";
+
+	/**
+	 * 상품별 적재된 카운터 키 집합 (총 수량 변경 시 갱신 대상).
+	 */
+	private static final String INDEX_PREFIX = "{inventory}:keys:";
+
+	private static final String PREFIX = "{inventory}:";
+	private static final DateTimeFormatter SLOT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+	static RedisInventoryKey product(final long productId) {
+		return new RedisInventoryKey(Type.PRODUCT, productId, null, null);
+	}
+
+	static RedisInventoryKey slot(final long productId, final long roomId, final LocalDateTime timeSlot) {
+		return new RedisInventoryKey(Type.SLOT, productId, roomId, timeSlot);
+	}
+
+	static RedisInventoryKey place(final long productId, final LocalDateTime timeSlot) {
+		return new RedisInventoryKey(Type.PLACE, productId, null, timeSlot);
+	}
+
+	/**
+	 * 상품의 적재된 카운터 키 집합 이름.
+	 */
+	static String index(final long productId) {
+		return INDEX_PREFIX + productId;
+	}
+
+	/**
+	 * 키 문자열을 해석합니다.
+	 *
+	 * @throws IllegalArgumentException 재고 카운터 키 형식이 아닌 경우
+	 */
+	static RedisInventoryKey parse(final String key) {
+		if (!key.startsWith(PREFIX)) {
+			throw new IllegalArgumentException("Not an inventory key: " + key);
+		}
+		final String[] parts = key.substring(PREFIX.length()).split(":");
+		return switch (parts[0]) {
+			case "product" -> product(Long.parseLong(parts[1]));
+			case "slot" -> slot(
+					Long.parseLong(parts[1]),
+					Long.parseLong(parts[2]),
+					LocalDateTime.parse(parts[3], SLOT_FORMAT));
+			case "place" -> place(Long.parseLong(parts[1]), LocalDateTime.parse(parts[2], SLOT_FORMAT));
+			default -> throw new IllegalArgumentException("Not an inventory key: " + key);
+		};
+	}
+
+	String value() {
+		return switch (type) {
+			case PRODUCT -> PREFIX + "product:" + productId;
+			case SLOT -> PREFIX + "slot:" + productId + ":" + roomId + ":" + SLOT_FORMAT.format(timeSlot);
+			case PLACE -> PREFIX + "place:" + productId + ":" + SLOT_FORMAT.format(timeSlot);
+		};
+	}
+
+	enum Type {
+		PRODUCT,
+		SLOT,
+		PLACE
+	}
+}
@@ -0,0 +1,391 @@
+package com.teambind.springproject.adapter.out.redis;
+
+import com.teambind.springproject.adapter.out.persistence.product.ProductRepositoryAdapter;
+import com.teambind.springproject.adapter.out.redis.RedisInventoryCounters.Adjustment;
+import com.teambind.springproject.adapter.out.redis.RedisInventoryCounters.CounterValue;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 엔진 (inventory.engine=redis).
+ *
+ * 재고 카운터 증감은 Redis Lua 스크립트로 원자적으로 처리하여 Postgres 행 잠금 경합을 없애고,
+ * 변경된 카운터는 {@link RedisInventoryWriteBehind}가 주기적으로 Postgres에 저장합니다.
+ * 재고 외의 조회/저장과 샤딩/원장 설정은 {@link ProductRepositoryAdapter}에 위임합니다.
+ *
+ * Redis에 없는 카운터는 증감 직전에 Postgres 값으로 적재합니다(Read-through).
+ * 적재 규칙은 Postgres 엔진의 초기화 규칙과 같습니다.
+ * <ul>
+ *   <li>ROOM 시간대 행이 없으면 상품 총 수량, 예약 0으로 적재</li>
+ *   <li>PLACE 집계 행이 없으면 룸별 행의 MAX(총 수량), SUM(예약 수량)으로 적재, 룸별 행도 없으면 적재하지 않아 예약 실패 (NO FALLBACK)</li>
+ * </ul>
+ *
+ * Redis 엔진에서는 RESERVATION Scope 상품의 샤딩/원장 카운터로 예약을 처리하지 않습니다.
+ * 상품 카운터 하나가 이미 경합 없이 처리되기 때문입니다. 다만 샤딩/원장 설정이 남아 있는 상품은
+ * 적재와 Flush 모두 해당 저장소(샤드 합계, 원장 잔액)를 사용하므로, 설정과 무관하게 예약 수량이 보존됩니다.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "inventory", name = "engine", havingValue = "redis")
+public class RedisInventoryProductRepository implements ProductRepository {
+
+	private final ProductRepositoryAdapter delegate;
+	private final RedisInventoryCounters counters;
+	private final JdbcTemplate jdbcTemplate;
+
+	public RedisInventoryProductRepository(
+			final ProductRepositoryAdapter delegate,
+			final RedisInventoryCounters counters,
+			final JdbcTemplate jdbcTemplate) {
+		this.delegate = delegate;
+		this.counters = counters;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public Optional<Product> findById(final ProductId productId) {
+		return delegate.findById(productId);
+	}
+
+	@Override
+	public List<Product> findAllById(final List<ProductId> productIds) {
+		return delegate.findAllById(productIds);
+	}
+
+	@Override
+	public List<Product> findByPlaceId(final PlaceId placeId) {
+		return delegate.findByPlaceId(placeId);
+	}
+
+	@Override
+	public List<Product> findByRoomId(final RoomId roomId) {
+		return delegate.findByRoomId(roomId);
+	}
+
+	@Override
+	public List<Product> findAccessibleProducts(final PlaceId placeId, final RoomId roomId) {
+		return delegate.findAccessibleProducts(placeId, roomId);
+	}
+
+	@Override
+	public List<Product> findByScope(final ProductScope scope) {
+		return delegate.findByScope(scope);
+	}
+
+	/**
+	 * 상품을 저장하고, 총 수량이 바뀌었을 수 있으므로 이미 적재된 Redis 카운터의 총 수량도 갱신합니다.
+	 * 적재 스크립트는 기존 총 수량을 덮어쓰지 않으므로 여기서 갱신하지 않으면 변경 전 총 수량으로 예약을 검사합니다.
+	 */
+	@Override
+	public Product save(final Product product) {
+		final Product saved = delegate.save(product);
+		counters.updateTotal(saved.getProductId().getValue(), saved.getTotalQuantity(), LocalDateTime.now());
+		return saved;
+	}
+
+	@Override
+	public void deleteById(final ProductId productId) {
+		delegate.deleteById(productId);
+	}
+
+	@Override
+	public boolean existsById(final ProductId productId) {
+		return delegate.existsById(productId);
+	}
+
+	@Override
+	public boolean reserveQuantity(final ProductId productId, final int quantity) {
+		validateQuantity(quantity);
+		return apply(List.of(new Adjustment(RedisInventoryKey.product(productId.getValue()), quantity, true)))
+				.isEmpty();
+	}
+
+	@Override
+	public boolean releaseQuantity(final ProductId productId, final int quantity) {
+		validateQuantity(quantity);
+		return apply(List.of(new Adjustment(RedisInventoryKey.product(productId.getValue()), -quantity, true)))
+				.isEmpty();
+	}
+
+	@Override
+	public boolean releaseQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		return releaseQuantity(productId, quantity);
+	}
+
+	@Override
+	public boolean configureInventoryShards(final ProductId productId, final int shardCount) {
+		return delegate.configureInventoryShards(productId, shardCount);
+	}
+
+	@Override
+	public boolean configureInventoryLedger(final ProductId productId, final boolean enabled) {
+		return delegate.configureInventoryLedger(productId, enabled);
+	}
+
+	@Override
+	public List<ProductId> findProductIdsWithPendingMovements(final int limit) {
+		return delegate.findProductIdsWithPendingMovements(limit);
+	}
+
+	@Override
+	public int compactInventoryLedger(final ProductId productId) {
+		return delegate.compactInventoryLedger(productId);
+	}
+
+	@Override
+	public int deleteCompactedMovementsBefore(final LocalDateTime cutoff) {
+		return delegate.deleteCompactedMovementsBefore(cutoff);
+	}
+
+	@Override
+	public String applyLockTimeout(final String lockTimeout) {
+		return delegate.applyLockTimeout(lockTimeout);
+	}
+
+	@Override
+	public boolean reserveRoomTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return reserveRoomTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	public boolean reservePlaceTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return reservePlaceTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	public boolean releaseTimeSlotQuantity(
+			final ProductId productId,
+			final RoomId roomId,
+			final LocalDateTime timeSlot,
+			final int quantity) {
+		return releaseTimeSlotQuantities(productId, roomId, List.of(timeSlot), quantity);
+	}
+
+	@Override
+	public boolean reserveRoomTimeSlotQuantities(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		validateQuantity(quantity);
+		return apply(timeSlotAdjustments(ProductScope.ROOM, productId, roomId, normalizeTimeSlots(timeSlots), quantity))
+				.isEmpty();
+	}
+
+	@Override
+	public boolean reservePlaceTimeSlotQuantities(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		validateQuantity(quantity);
+		return apply(timeSlotAdjustments(ProductScope.PLACE, productId, roomId, normalizeTimeSlots(timeSlots), quantity))
+				.isEmpty();
+	}
+
+	@Override
+	public boolean releaseTimeSlotQuantities(
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final int quantity) {
+		validateQuantity(quantity);
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
+
+		final Optional<Product> product = delegate.findById(productId);
+		if (product.isEmpty() || product.get().getScope() == ProductScope.RESERVATION) {
+			return false;
+		}
+		return apply(timeSlotAdjustments(product.get().getScope(), productId, roomId, slots, -quantity))
+				.isEmpty();
+	}
+
+	/**
+	 * 장바구니 전체를 Lua 스크립트 1회로 예약합니다.
+	 * 한 상품이라도 실패하면 아무것도 반영하지 않으며, 실패한 상품만 false로 보고합니다.
+	 */
+	@Override
+	public Map<ProductId, Boolean> reserveCartQuantities(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		final Map<ProductId, Boolean> results = new LinkedHashMap<>();
+		if (quantities.isEmpty()) {
+			return results;
+		}
+		quantities.values().forEach(RedisInventoryProductRepository::validateQuantity);
+
+		final List<LocalDateTime> slots = timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+		final Map<ProductId, Product> products = delegate.findAllById(new ArrayList<>(quantities.keySet())).stream()
+				.collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+		final List<Adjustment> adjustments = new ArrayList<>();
+		boolean allKnown = true;
+		for (final Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+			final Product product = products.get(entry.getKey());
+			if (product == null) {
+				allKnown = false;
+				continue;
+			}
+			if (product.getScope() == ProductScope.RESERVATION) {
+				adjustments.add(new Adjustment(
+						RedisInventoryKey.product(entry.getKey().getValue()), entry.getValue(), true));
+			} else {
+				// ROOM 상품은 상품의 룸, PLACE 상품은 예약한 룸에 귀속
+				final RoomId attributedRoomId = product.getScope() == ProductScope.ROOM
+						? product.getRoomId()
+						: roomId;
+				adjustments.addAll(timeSlotAdjustments(
+						product.getScope(), entry.getKey(), attributedRoomId, slots, entry.getValue()));
+			}
+		}
+
+		// 알 수 없는 상품이 있으면 전체 실패 (Postgres 엔진과 동일)
+		final Set<Long> failedProductIds = allKnown
+				? apply(adjustments).stream().map(RedisInventoryKey::productId).collect(Collectors.toSet())
+				: Set.of();
+		quantities.keySet().forEach(productId -> results.put(
+				productId,
+				products.containsKey(productId) && allKnown && !failedProductIds.contains(productId.getValue())
+		));
+		return results;
+	}
+
+	/**
+	 * 카운터를 적재한 뒤 증감을 반영합니다.
+	 *
+	 * @return 한도를 벗어난 키 집합 (비어 있으면 전체 반영)
+	 */
+	private Set<RedisInventoryKey> apply(final List<Adjustment> adjustments) {
+		if (adjustments.isEmpty()) {
+			return Set.of();
+		}
+		loadUnloaded(adjustments.stream()
+				.map(Adjustment::key)
+				.distinct()
+				.toList());
+		return counters.adjust(adjustments);
+	}
+
+	/**
+	 * 시간대별 카운터 증감 목록을 만듭니다.
+	 * PLACE 상품은 집계 카운터로 한도를 검사하고, 룸별 귀속 카운터는 해제할 때만 검사합니다.
+	 */
+	private static List<Adjustment> timeSlotAdjustments(
+			final ProductScope scope,
+			final ProductId productId,
+			final RoomId roomId,
+			final List<LocalDateTime> slots,
+			final int delta) {
+		final long id = productId.getValue();
+		final List<Adjustment> adjustments = new ArrayList<>();
+		for (final LocalDateTime slot : slots) {
+			if (scope == ProductScope.PLACE) {
+				adjustments.add(new Adjustment(RedisInventoryKey.place(id, slot), delta, true));
+				adjustments.add(new Adjustment(RedisInventoryKey.slot(id, roomId.getValue(), slot), delta, delta < 0));
+			} else {
+				adjustments.add(new Adjustment(RedisInventoryKey.slot(id, roomId.getValue(), slot), delta, true));
+			}
+		}
+		return adjustments;
+	}
+
+	/**
+	 * Redis에 총 수량이 없는 카운터를 Postgres 값으로 적재합니다.
+	 * 기록만 된 귀속 카운터도 적재해야 Flush 시 기존 Postgres 예약 수량을 덮어쓰지 않습니다.
+	 */
+	private void loadUnloaded(final List<RedisInventoryKey> keys) {
+		final List<CounterValue> values = new ArrayList<>();
+		for (final RedisInventoryKey key : counters.findUnloaded(keys)) {
+			loadFromDatabase(key).ifPresent(values::add);
+		}
+		counters.initialize(values);
+	}
+
+	private Optional<CounterValue> loadFromDatabase(final RedisInventoryKey key) {
+		return switch (key.type()) {
+			case PRODUCT -> delegate.findById(ProductId.of(key.productId()))
+					.map(product -> new CounterValue(key, product.getTotalQuantity(), product.getReservedQuantity()));
+			case SLOT -> jdbcTemplate.query("""
+							SELECT 0 AS priority, total_quantity, reserved_quantity
+							FROM product_time_slot_inventory
+							WHERE product_id = ? AND room_id = ? AND time_slot = ?
+							UNION ALL
+							SELECT 1, total_quantity, 0
+							FROM products
+							WHERE product_id = ?
+							ORDER BY priority
+							LIMIT 1
+							""",
+					(rs, rowNum) -> new CounterValue(key, rs.getInt("total_quantity"), rs.getInt("reserved_quantity")),
+					key.productId(), key.roomId(), Timestamp.valueOf(key.timeSlot()), key.productId()
+			).stream().findFirst();
+			case PLACE -> jdbcTemplate.query("""
+							SELECT 0 AS priority, total_quantity, reserved_quantity
+							FROM place_time_slot_inventory
+							WHERE product_id = ? AND time_slot = ?
+							UNION ALL
+							SELECT 1, MAX(total_quantity), SUM(reserved_quantity)
+							FROM product_time_slot_inventory
+							WHERE product_id = ? AND time_slot = ?
+							HAVING COUNT(*) > 0
+							ORDER BY priority
+							LIMIT 1
+							""",
+					(rs, rowNum) -> new CounterValue(key, rs.getInt("total_quantity"), rs.getInt("reserved_quantity")),
+					key.productId(), Timestamp.valueOf(key.timeSlot()),
+					key.productId(), Timestamp.valueOf(key.timeSlot())
+			).stream().findFirst();
+		};
+	}
+
+	private static void validateQuantity(final Integer quantity) {
+		if (quantity == null || quantity <= 0) {
+			throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+		}
+	}
+
+	private static List<LocalDateTime> normalizeTimeSlots(final List<LocalDateTime> timeSlots) {
+		if (timeSlots == null || timeSlots.isEmpty()) {
+			throw new IllegalArgumentException("Time slots must not be empty");
+		}
+		return timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+	}
+}
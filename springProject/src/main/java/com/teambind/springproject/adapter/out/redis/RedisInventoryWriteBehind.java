@@ -0,0 +1,221 @@
+package com.teambind.springproject.adapter.out.redis;
+
+import com.teambind.springproject.adapter.out.persistence.product.ProductRepositoryAdapter;
+import com.teambind.springproject.adapter.out.redis.RedisInventoryCounters.CounterValue;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 재고 카운터의 Write-behind 저장 및 시작 시 재적재.
+ *
+ * <ul>
+ *   <li>Flush: dirty set에서 키를 꺼내 현재 값(절대값)을 Postgres에 저장합니다.
+ *       RESERVATION Scope 상품은 카운터 방식(ROW/SHARDED/LEDGER)별 저장소에 저장하여 재적재 값과 일치시킵니다.
+ *       저장에 실패한 키는 다시 dirty set에 넣어 다음 주기에 재시도합니다.</li>
+ *   <li>재적재: 애플리케이션 시작 시 RESERVATION Scope 상품과 현재 시각 이후 시간대 행을 Redis에 적재합니다.
+ *       Redis에 이미 있는 값(아직 Flush되지 않은 최신 값)은 덮어쓰지 않습니다.</li>
+ * </ul>
+ *
+ * Flush는 절대값을 저장하므로 중복 실행되어도 결과가 같지만, ShedLock으로 인스턴스 간 중복 실행을 피합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory", name = "engine", havingValue = "redis")
+public class RedisInventoryWriteBehind {
+
+	private static final Logger logger = LoggerFactory.getLogger(RedisInventoryWriteBehind.class);
+
+	private final RedisInventoryCounters counters;
+	private final ProductRepositoryAdapter productRepositoryAdapter;
+	private final JdbcTemplate jdbcTemplate;
+	private final InventoryConfiguration inventoryConfiguration;
+
+	public RedisInventoryWriteBehind(
+			final RedisInventoryCounters counters,
+			final ProductRepositoryAdapter productRepositoryAdapter,
+			final JdbcTemplate jdbcTemplate,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.counters = counters;
+		this.productRepositoryAdapter = productRepositoryAdapter;
+		this.jdbcTemplate = jdbcTemplate;
+		this.inventoryConfiguration = inventoryConfiguration;
+	}
+
+	/**
+	 * 변경된 카운터를 Postgres에 저장합니다.
+	 *
+	 * @return 저장한 카운터 수
+	 */
+	@Scheduled(fixedDelayString = "${inventory.redis.flush-interval-millis:1000}")
+	@SchedulerLock(name = "redisInventoryFlush", lockAtMostFor = "1m")
+	public int flush() {
+		final List<String> keys = counters.popDirtyKeys(inventoryConfiguration.getRedis().getFlushBatchSize());
+		int flushed = 0;
+		for (final String key : keys) {
+			try {
+				final Optional<CounterValue> value = counters.find(RedisInventoryKey.parse(key));
+				if (value.isPresent()) {
+					persist(value.get());
+					flushed++;
+				}
+			} catch (final RuntimeException e) {
+				logger.error("Failed to flush redis inventory counter: key={}", key, e);
+				counters.markDirty(key);
+			}
+		}
+
+		if (flushed > 0) {
+			logger.debug("Flushed redis inventory counters: {}", flushed);
+		}
+		return flushed;
+	}
+
+	/**
+	 * 애플리케이션 시작 시 Postgres 재고를 Redis에 적재합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rehydrateOnStartup() {
+		if (!inventoryConfiguration.getRedis().isRehydrateOnStartup()) {
+			return;
+		}
+		try {
+			final int loaded = rehydrate();
+			logger.info("Rehydrated redis inventory counters: {}", loaded);
+		} catch (final RuntimeException e) {
+			// 적재되지 않은 카운터는 첫 요청 시 Read-through로 적재됩니다.
+			logger.error("Failed to rehydrate redis inventory counters", e);
+		}
+	}
+
+	/**
+	 * RESERVATION Scope 상품 재고와 현재 시각 이후 시간대 행을 Redis에 적재합니다.
+	 *
+	 * @return 적재 요청한 카운터 수
+	 */
+	public int rehydrate() {
+		final Timestamp from = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+		final Batch batch = new Batch(inventoryConfiguration.getRedis().getFlushBatchSize());
+
+		// 샤딩/원장 모드 상품도 실효 예약 수량(샤드 합계, 원장 잔액)으로 적재
+		productRepositoryAdapter.findByScope(ProductScope.RESERVATION).forEach(product -> batch.add(new CounterValue(
+				RedisInventoryKey.product(product.getProductId().getValue()),
+				product.getTotalQuantity(),
+				product.getReservedQuantity())));
+
+		jdbcTemplate.query("""
+						SELECT product_id, room_id, time_slot, total_quantity, reserved_quantity
+						FROM product_time_slot_inventory
+						WHERE time_slot >= ?
+						""",
+				rs -> {
+					batch.add(new CounterValue(
+							RedisInventoryKey.slot(
+									rs.getLong("product_id"),
+									rs.getLong("room_id"),
+									rs.getTimestamp("time_slot").toLocalDateTime()),
+							rs.getInt("total_quantity"),
+							rs.getInt("reserved_quantity")));
+				},
+				from);
+
+		jdbcTemplate.query("""
+						SELECT product_id, time_slot, total_quantity, reserved_quantity
+						FROM place_time_slot_inventory
+						WHERE time_slot >= ?
+						""",
+				rs -> {
+					batch.add(new CounterValue(
+							RedisInventoryKey.place(
+									rs.getLong("product_id"),
+									rs.getTimestamp("time_slot").toLocalDateTime()),
+							rs.getInt("total_quantity"),
+							rs.getInt("reserved_quantity")));
+				},
+				from);
+
+		return batch.finish();
+	}
+
+	private void persist(final CounterValue value) {
+		final RedisInventoryKey key = value.key();
+		switch (key.type()) {
+			// 샤딩/원장 모드 상품은 재적재가 읽는 샤드/원장에 저장
+			case PRODUCT -> productRepositoryAdapter.storeReservedQuantity(
+					ProductId.of(key.productId()),
+					value.reserved());
+			case SLOT -> jdbcTemplate.update("""
+							INSERT INTO product_time_slot_inventory
+							    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+							SELECT p.product_id, ?, ?, COALESCE(?, p.total_quantity), ?
+							FROM products p
+							WHERE p.product_id = ?
+							ON CONFLICT (product_id, room_id, time_slot)
+							DO UPDATE SET
+							    reserved_quantity = EXCLUDED.reserved_quantity,
+							    updated_at = NOW()
+							""",
+					key.roomId(),
+					Timestamp.valueOf(key.timeSlot()),
+					value.total(),
+					value.reserved(),
+					key.productId());
+			case PLACE -> jdbcTemplate.update("""
+							INSERT INTO place_time_slot_inventory
+							    (product_id, time_slot, total_quantity, reserved_quantity)
+							VALUES (?, ?, ?, ?)
+							ON CONFLICT (product_id, time_slot)
+							DO UPDATE SET
+							    reserved_quantity = EXCLUDED.reserved_quantity,
+							    updated_at = NOW()
+							""",
+					key.productId(),
+					Timestamp.valueOf(key.timeSlot()),
+					value.total(),
+					value.reserved());
+		}
+	}
+
+	/**
+	 * 재적재 값을 batchSize 단위로 모아 초기화 스크립트 1회로 적재합니다.
+	 */
+	private final class Batch {
+
+		private final int batchSize;
+		private final List<CounterValue> values = new ArrayList<>();
+		private int total;
+
+		private Batch(final int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		private void add(final CounterValue value) {
+			values.add(value);
+			if (values.size() >= batchSize) {
+				finish();
+			}
+		}
+
+		private int finish() {
+			counters.initialize(values);
+			total += values.size();
+			values.clear();
+			return total;
+		}
+	}
+}
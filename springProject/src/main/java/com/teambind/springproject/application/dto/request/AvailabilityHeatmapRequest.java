@@ -0,0 +1,38 @@
+package com.teambind.springproject.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 룸 x 날짜 x 시간 버킷 재고 가용성 히트맵 조회 요청 DTO.
+ *
+ * @param placeId       플레이스 ID
+ * @param productIds    조회할 시간 기반 Scope(ROOM, PLACE) 상품 ID 목록
+ * @param startDate     시작 날짜 (포함)
+ * @param endDate       종료 날짜 (포함)
+ * @param bucketMinutes 시간 버킷 크기 (분, 하루를 나누어 떨어지는 값)
+ */
+public record AvailabilityHeatmapRequest(
+		@NotNull(message = "Place ID is required")
+		@Positive(message = "Place ID must be positive")
+		Long placeId,
+		
+		@NotEmpty(message = "Product IDs must not be empty")
+		List<@NotNull @Positive(message = "Product ID must be positive") Long> productIds,
+		
+		@NotNull(message = "Start date is required")
+		LocalDate startDate,
+		
+		@NotNull(message = "End date is required")
+		LocalDate endDate,
+		
+		@NotNull(message = "Bucket minutes is required")
+		@Positive(message = "Bucket minutes must be positive")
+		Integer bucketMinutes
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.teambind.springproject.application.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * RESERVATION Scope 상품 재고 원장 모드 설정 요청 DTO.
+ *
+ * @param enabled 원장 모드 사용 여부
+ */
+public record ConfigureInventoryLedgerRequest(
+		@NotNull(message = "Enabled flag is required")
+		Boolean enabled
+) {
+}
@@ -0,0 +1,16 @@
+package com.teambind.springproject.application.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * RESERVATION Scope 상품 재고 샤딩 설정 요청 DTO.
+ *
+ * @param shardCount 샤드 수 (1이면 샤딩 해제)
+ */
+public record ConfigureInventoryShardsRequest(
+		@NotNull(message = "Shard count is required")
+		@Min(value = 1, message = "Shard count must be greater than or equal to 1")
+		Integer shardCount
+) {
+}
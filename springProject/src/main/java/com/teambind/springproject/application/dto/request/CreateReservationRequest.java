@@ -9,6 +9,10 @@ import java.util.List;
 
 /**
  * 예약 생성 요청 DTO.
+ *
+ * waitlistClaimIds는 대기열에서 재고를 할당받은 대기 요청 ID 목록이며(선택),
+ * 할당된 수량은 추가로 예약하지 않고 대기 요청이 선점한 재고를 사용합니다.
+ * holdId는 가격 미리보기에서 생성한 재고 홀드 ID이며(선택), 홀드 수량은 재검증 없이 예약 재고로 전환됩니다.
  */
 public record CreateReservationRequest(
 		@NotNull(message = "Room ID is required")
@@ -18,6 +22,17 @@ public record CreateReservationRequest(
 		List<LocalDateTime> timeSlots,
 		
 
-		List<ProductRequest> products
+		List<ProductRequest> products,
+
+		List<Long> waitlistClaimIds,
+
+		Long holdId
 ) {
+
+	public CreateReservationRequest(
+			final Long roomId,
+			final List<LocalDateTime> timeSlots,
+			final List<ProductRequest> products) {
+		this(roomId, timeSlots, products, null, null);
+	}
 }
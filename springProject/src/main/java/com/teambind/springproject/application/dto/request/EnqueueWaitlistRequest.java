@@ -0,0 +1,32 @@
+package com.teambind.springproject.application.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 품절 상품 대기 요청 등록 DTO.
+ *
+ * @param roomId    예약할 룸 ID
+ * @param timeSlots 예약 시간대 목록
+ * @param productId 대기할 상품 ID
+ * @param quantity  필요한 수량
+ */
+public record EnqueueWaitlistRequest(
+		@NotNull(message = "Room ID is required")
+		Long roomId,
+
+		@NotEmpty(message = "Time slots cannot be empty")
+		List<LocalDateTime> timeSlots,
+
+		@NotNull(message = "Product ID is required")
+		Long productId,
+
+		@NotNull(message = "Quantity is required")
+		@Min(value = 1, message = "Quantity must be at least 1")
+		Integer quantity
+) {
+}
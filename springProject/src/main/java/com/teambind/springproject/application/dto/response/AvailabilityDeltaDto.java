@@ -0,0 +1,20 @@
+package com.teambind.springproject.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간대별 가용 수량 변경 DTO.
+ *
+ * @param productId         상품 ID
+ * @param roomId            ROOM Scope 상품의 룸 ID (PLACE Scope는 null, 플레이스 전체에 적용)
+ * @param timeSlot          시간대
+ * @param availableQuantity 변경 후 가용 수량
+ */
+public record AvailabilityDeltaDto(
+		Long productId,
+		Long roomId,
+		LocalDateTime timeSlot,
+		int availableQuantity
+) {
+
+}
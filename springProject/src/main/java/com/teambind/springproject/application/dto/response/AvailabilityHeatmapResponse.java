@@ -0,0 +1,40 @@
+package com.teambind.springproject.application.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 재고 가용성 히트맵 응답 DTO.
+ *
+ * <p>셀 값은 (날짜, 버킷)별 최소 가용 수량이며, 상품마다 날짜 우선으로 평탄화한 정수 배열 하나로 전달합니다.
+ * 셀 인덱스 = (startDate로부터의 일수) * bucketsPerDay + 버킷 인덱스.
+ *
+ * <p>ROOM Scope 상품은 룸 하나, PLACE Scope 상품은 플레이스 전체 재고를 공유하므로
+ * 상품에 접근 가능한 모든 룸이 같은 배열을 공유합니다 (룸별 중복 전송 없음).
+ */
+public record AvailabilityHeatmapResponse(
+		Long placeId,
+		LocalDate startDate,
+		LocalDate endDate,
+		int bucketMinutes,
+		int bucketsPerDay,
+		List<ProductHeatmap> products
+) {
+	
+	/**
+	 * 상품별 히트맵.
+	 *
+	 * @param productId     상품 ID
+	 * @param totalQuantity 총 재고 수량
+	 * @param roomIds       상품에 접근 가능한 룸 ID 목록 (모두 같은 셀 값을 가짐)
+	 * @param minAvailable  (날짜, 버킷)별 최소 가용 수량 (날짜 우선 평탄화)
+	 */
+	public record ProductHeatmap(
+			Long productId,
+			Integer totalQuantity,
+			List<Long> roomIds,
+			int[] minAvailable
+	) {
+	
+	}
+}
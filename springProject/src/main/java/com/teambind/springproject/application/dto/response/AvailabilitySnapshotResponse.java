@@ -0,0 +1,18 @@
+package com.teambind.springproject.application.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * 가용성 전체 스냅샷 발행 결과 DTO.
+ *
+ * @param fromDate        스냅샷 시작 날짜 (포함)
+ * @param toDate          스냅샷 종료 날짜 (미포함)
+ * @param publishedEvents 발행한 이벤트 수
+ */
+public record AvailabilitySnapshotResponse(
+		LocalDate fromDate,
+		LocalDate toDate,
+		int publishedEvents
+) {
+
+}
@@ -0,0 +1,24 @@
+package com.teambind.springproject.application.dto.response;
+
+/**
+ * 재고 정합성 점검 결과 응답 DTO.
+ *
+ * @param dryRun           보정 없이 점검만 수행했는지 여부
+ * @param partitions       점검한 시간대별 재고 파티션 수
+ * @param driftCount       발견된 차이 건수
+ * @param correctedCount   보정된 건수
+ * @param skippedCount     보정하지 않은 건수 (점검 이후 변경/잠금, 샤드/원장 모드 상품)
+ * @param failedTasks      실패한 점검 작업 수
+ * @param elapsedMillis    소요 시간 (밀리초)
+ */
+public record InventoryReconciliationResponse(
+		boolean dryRun,
+		int partitions,
+		long driftCount,
+		long correctedCount,
+		long skippedCount,
+		int failedTasks,
+		long elapsedMillis
+) {
+
+}
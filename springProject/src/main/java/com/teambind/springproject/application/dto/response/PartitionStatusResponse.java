@@ -0,0 +1,26 @@
+package com.teambind.springproject.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파티션 테이블 상태 응답 DTO.
+ *
+ * @param table           부모 테이블 이름
+ * @param managedBy       관리 주체 (pg_partman, application)
+ * @param partitionCount  RANGE 파티션 수
+ * @param oldestPartition 가장 오래된 파티션 시작 시각 (파티션이 없으면 null)
+ * @param coveredUntil    현재 시각부터 빈틈없이 이어지는 파티션 범위의 끝 (현재 시각이 범위 밖이면 null)
+ * @param monthsAhead     현재 월부터 파티션이 준비된 개월 수 (현재 월 포함)
+ * @param healthy         다음 달 파티션까지 준비되었는지 여부
+ */
+public record PartitionStatusResponse(
+		String table,
+		String managedBy,
+		int partitionCount,
+		LocalDateTime oldestPartition,
+		LocalDateTime coveredUntil,
+		long monthsAhead,
+		boolean healthy
+) {
+
+}
@@ -0,0 +1,24 @@
+package com.teambind.springproject.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성 결과 응답 DTO.
+ *
+ * @param placeId       플레이스 ID (null이면 전체 플레이스)
+ * @param products      대상 상품 수
+ * @param from          생성 시작 시각 (포함)
+ * @param to            생성 종료 시각 (제외)
+ * @param insertedRows  새로 생성된 행 수
+ * @param elapsedMillis 소요 시간 (밀리초)
+ */
+public record PlaceTimeSlotProvisioningResponse(
+		Long placeId,
+		int products,
+		LocalDateTime from,
+		LocalDateTime to,
+		long insertedRows,
+		long elapsedMillis
+) {
+
+}
@@ -1,15 +1,29 @@
 package com.teambind.springproject.application.dto.response;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 가격 미리보기 응답 DTO.
+ * 재고 홀드를 요청한 경우 holdId와 홀드 만료 시각이 포함됩니다.
  */
 public record PricePreviewResponse(
 		BigDecimal timeSlotPrice,
 		List<ProductPriceDetail> productBreakdowns,
-		BigDecimal totalPrice
+		BigDecimal totalPrice,
+		Long holdId,
+		LocalDateTime holdExpiresAt
 ) {
 
+	public PricePreviewResponse(
+			final BigDecimal timeSlotPrice,
+			final List<ProductPriceDetail> productBreakdowns,
+			final BigDecimal totalPrice) {
+		this(timeSlotPrice, productBreakdowns, totalPrice, null, null);
+	}
+
+	public PricePreviewResponse withHold(final Long holdId, final LocalDateTime holdExpiresAt) {
+		return new PricePreviewResponse(timeSlotPrice, productBreakdowns, totalPrice, holdId, holdExpiresAt);
+	}
 }
@@ -0,0 +1,43 @@
+package com.teambind.springproject.application.dto.response;
+
+import com.teambind.springproject.application.port.out.InventoryWaitlistRepository.WaitlistClaim;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 품절 상품 대기 요청 응답 DTO.
+ *
+ * @param claimId   대기 요청 ID (예약 생성 시 waitlistClaimIds로 전달)
+ * @param productId 상품 ID
+ * @param roomId    룸 ID
+ * @param timeSlots 시간대 목록
+ * @param quantity  요청 수량
+ * @param status    상태 (WAITING, ALLOCATED, FULFILLED, EXPIRED, CANCELLED)
+ * @param position  대기 순번 (WAITING일 때만, 1부터 시작)
+ * @param expiresAt WAITING이면 대기 만료 시각, ALLOCATED이면 할당 만료 시각
+ */
+public record WaitlistClaimResponse(
+		Long claimId,
+		Long productId,
+		Long roomId,
+		List<LocalDateTime> timeSlots,
+		int quantity,
+		String status,
+		Long position,
+		LocalDateTime expiresAt
+) {
+
+	public static WaitlistClaimResponse of(final WaitlistClaim claim, final Long position) {
+		return new WaitlistClaimResponse(
+				claim.claimId(),
+				claim.productId(),
+				claim.roomId(),
+				claim.timeSlots(),
+				claim.quantity(),
+				claim.status().name(),
+				position,
+				claim.expiresAt()
+		);
+	}
+}
@@ -16,4 +16,15 @@ public interface CalculateReservationPriceUseCase {
 	 * @return 가격 미리보기 결과 (시간대 가격 + 상품별 가격 + 총 합계)
 	 */
 	PricePreviewResponse calculatePrice(CreateReservationRequest request);
+
+	/**
+	 * 예약 가격을 미리 계산하고 요청 수량을 짧은 시간 동안 홀드합니다.
+	 * 재고가 부족하면 결제 화면 이전에 실패합니다.
+	 * 요청자나 룸의 활성 홀드 수가 한도에 도달하면 홀드하지 않고 실패합니다.
+	 *
+	 * @param request   예약 요청 정보
+	 * @param holderKey 요청자 키 (클라이언트 IP)
+	 * @return 가격 미리보기 결과 (홀드 ID와 만료 시각 포함)
+	 */
+	PricePreviewResponse calculatePriceWithHold(CreateReservationRequest request, String holderKey);
 }
@@ -0,0 +1,20 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.domain.shared.ProductId;
+
+/**
+ * RESERVATION Scope 상품 재고 원장 모드 설정 Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ConfigureInventoryLedgerUseCase {
+	
+	/**
+	 * 상품의 재고 원장(Append-only) 모드를 켜거나 끕니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param enabled   원장 모드 사용 여부
+	 * @throws java.util.NoSuchElementException 상품이 존재하지 않는 경우
+	 * @throws IllegalArgumentException         RESERVATION Scope 상품이 아니거나 샤딩된 상품인 경우
+	 */
+	void configureLedger(ProductId productId, boolean enabled);
+}
@@ -0,0 +1,20 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.domain.shared.ProductId;
+
+/**
+ * RESERVATION Scope 상품 재고 샤딩 설정 Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ConfigureInventoryShardingUseCase {
+	
+	/**
+	 * 인기 RESERVATION Scope 상품의 재고를 여러 샤드 행으로 분할합니다.
+	 *
+	 * @param productId  상품 ID
+	 * @param shardCount 샤드 수 (1이면 샤딩 해제)
+	 * @throws java.util.NoSuchElementException 상품이 존재하지 않는 경우
+	 * @throws IllegalArgumentException         RESERVATION Scope 상품이 아니거나 샤드 수가 유효하지 않은 경우
+	 */
+	void configureShards(ProductId productId, int shardCount);
+}
@@ -0,0 +1,28 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.response.PartitionStatusResponse;
+
+import java.util.List;
+
+/**
+ * 시간 기준 월별 파티션 테이블 관리 Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ManagePartitionsUseCase {
+	
+	/**
+	 * 관리 대상 테이블마다 파티션 유지보수를 실행합니다.
+	 * pg_partman이 설정된 테이블은 pg_partman에 위임하고, 그렇지 않은 테이블은 직접 미래 파티션을 생성하고
+	 * 보존 기간이 지난 파티션을 삭제/보관합니다.
+	 *
+	 * @throws IllegalStateException 하나 이상의 테이블 유지보수가 실패한 경우 (나머지 테이블은 계속 처리)
+	 */
+	void maintainPartitions();
+	
+	/**
+	 * 관리 대상 테이블의 파티션 상태를 조회합니다.
+	 *
+	 * @return 테이블별 파티션 상태
+	 */
+	List<PartitionStatusResponse> getPartitionStatuses();
+}
@@ -0,0 +1,42 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.request.EnqueueWaitlistRequest;
+import com.teambind.springproject.application.dto.response.WaitlistClaimResponse;
+
+/**
+ * 품절 상품 대기열(Waitlist) Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ManageWaitlistUseCase {
+
+	/**
+	 * 대기 요청을 등록합니다. 지금 할당 가능한 재고가 있고 앞선 대기 요청이 없으면 바로 할당됩니다.
+	 *
+	 * @param request 대기 요청
+	 * @return 등록된 대기 요청
+	 */
+	WaitlistClaimResponse enqueue(EnqueueWaitlistRequest request);
+
+	/**
+	 * 대기 요청 상태를 조회합니다.
+	 *
+	 * @param claimId 대기 요청 ID
+	 * @return 대기 요청
+	 */
+	WaitlistClaimResponse getClaim(Long claimId);
+
+	/**
+	 * 대기 요청을 취소합니다. 이미 할당된 재고는 반환되어 다음 대기 요청에 할당됩니다.
+	 *
+	 * @param claimId 대기 요청 ID
+	 * @return 취소된 대기 요청
+	 */
+	WaitlistClaimResponse cancel(Long claimId);
+
+	/**
+	 * 만료 시각이 지난 대기 요청을 만료 처리합니다. 할당된 재고는 반환되어 다음 대기 요청에 할당됩니다.
+	 *
+	 * @return 만료 처리한 대기 요청 수
+	 */
+	int expireClaims();
+}
@@ -0,0 +1,22 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.response.PlaceTimeSlotProvisioningResponse;
+import com.teambind.springproject.domain.shared.PlaceId;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성 Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ProvisionPlaceTimeSlotsUseCase {
+	
+	/**
+	 * 현재 시각부터 horizonDays일 뒤까지 없는 시간대별 재고 행을 생성합니다.
+	 * 이미 있는 행은 변경하지 않으므로 여러 번 실행해도 안전합니다.
+	 *
+	 * @param placeId     플레이스 ID (null이면 전체 플레이스)
+	 * @param horizonDays 생성 기간 (일)
+	 * @return 생성 결과
+	 * @throws IllegalArgumentException horizonDays가 1 ~ 366 범위를 벗어난 경우
+	 */
+	PlaceTimeSlotProvisioningResponse provision(PlaceId placeId, int horizonDays);
+}
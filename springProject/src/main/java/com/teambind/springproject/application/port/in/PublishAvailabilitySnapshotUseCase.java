@@ -0,0 +1,18 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.response.AvailabilitySnapshotResponse;
+
+/**
+ * 가용성 전체 스냅샷 발행 Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface PublishAvailabilitySnapshotUseCase {
+	
+	/**
+	 * 모든 시간 기반 Scope 상품의 (룸, 날짜)별 가용성 상태를 가용성 변경 토픽에 발행합니다.
+	 * 하위 서비스가 토픽만으로 전체 상태를 구성할 수 있도록 사용 내역이 없는 날짜도 발행합니다.
+	 *
+	 * @return 발행 결과
+	 */
+	AvailabilitySnapshotResponse publishSnapshot();
+}
@@ -0,0 +1,19 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.request.AvailabilityHeatmapRequest;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse;
+
+/**
+ * 재고 가용성 히트맵 조회 Use Case.
+ * 플레이스의 여러 룸, 여러 날짜에 대한 상품별 최소 가용 수량을 한 번에 조회합니다.
+ */
+public interface QueryAvailabilityHeatmapUseCase {
+	
+	/**
+	 * (룸, 날짜, 시간 버킷)별 최소 가용 수량을 조회합니다.
+	 *
+	 * @param request 조회 요청 (placeId, productIds, 기간, 버킷 크기)
+	 * @return 상품별 히트맵
+	 */
+	AvailabilityHeatmapResponse queryHeatmap(AvailabilityHeatmapRequest request);
+}
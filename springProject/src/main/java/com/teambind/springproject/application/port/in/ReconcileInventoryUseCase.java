@@ -0,0 +1,18 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.response.InventoryReconciliationResponse;
+
+/**
+ * 재고 카운터 정합성 점검(Reconciliation) Use Case.
+ * Hexagonal Architecture의 입력 포트(Input Port)입니다.
+ */
+public interface ReconcileInventoryUseCase {
+	
+	/**
+	 * 저장된 재고 카운터를 활성 예약(PENDING/CONFIRMED) 기준 기대 수량과 비교하고 차이를 보정합니다.
+	 *
+	 * @param dryRun true이면 차이만 보고하고 보정하지 않음 (Redis 재고 엔진에서는 항상 dry-run)
+	 * @return 점검 결과
+	 */
+	InventoryReconciliationResponse reconcile(boolean dryRun);
+}
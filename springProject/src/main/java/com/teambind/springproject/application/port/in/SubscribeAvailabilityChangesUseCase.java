@@ -0,0 +1,39 @@
+package com.teambind.springproject.application.port.in;
+
+import com.teambind.springproject.application.dto.response.AvailabilityDeltaDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 재고 가용성 변경 구독 Use Case.
+ * 예약/해제로 바뀐 (상품, 시간대)의 가용 수량을 짧은 구간 단위로 모아 전달합니다.
+ */
+public interface SubscribeAvailabilityChangesUseCase {
+	
+	/**
+	 * 구독 해지 핸들.
+	 */
+	interface Subscription {
+		
+		void cancel();
+	}
+	
+	/**
+	 * 플레이스(또는 룸)의 가용성 변경을 구독합니다.
+	 * 룸을 지정하면 해당 룸의 ROOM Scope 상품과 플레이스의 PLACE Scope 상품 변경만 전달합니다.
+	 * 변경 묶음은 구독자별 대기열을 거쳐 별도 스레드에서 전달되며, 대기열이 넘치면 구독이 해지됩니다.
+	 *
+	 * @param placeId   플레이스 ID
+	 * @param roomId    룸 ID (nullable)
+	 * @param listener  변경 묶음 수신자 (예외를 던지면 구독이 해지됨)
+	 * @param onDropped 대기열 초과 또는 수신자 예외로 구독이 해지될 때 호출
+	 * @return 구독 핸들 (구독자 수 한도 초과 시 empty)
+	 */
+	Optional<Subscription> subscribe(
+			Long placeId,
+			Long roomId,
+			Consumer<List<AvailabilityDeltaDto>> listener,
+			Runnable onDropped);
+}
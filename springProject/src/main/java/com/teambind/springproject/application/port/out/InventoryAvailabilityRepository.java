@@ -0,0 +1,139 @@
+package com.teambind.springproject.application.port.out;
+
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 시간대별 재고 카운터 기반 가용성 조회 Port.
+ *
+ * 예약 Aggregate를 읽어 합산하지 않고, 재고 예약/해제가 유지하는 product_time_slot_inventory 카운터를
+ * 집계 쿼리 한 번으로 조회합니다. 카운터에는 예약뿐 아니라 홀드와 대기열 할당도 반영되어 있습니다.
+ */
+public interface InventoryAvailabilityRepository {
+
+	/**
+	 * (상품, 날짜, 시간 버킷) 단위 최대 사용 수량.
+	 *
+	 * @param productId   상품 ID
+	 * @param day         날짜
+	 * @param bucket      하루 안의 버킷 인덱스 (0부터, 자정 기준 bucketMinutes 단위)
+	 * @param maxReserved 버킷 내 시간대 중 최대 사용 수량
+	 */
+	record BucketUsage(
+			ProductId productId,
+			LocalDate day,
+			int bucket,
+			int maxReserved
+	) {
+	}
+
+	/**
+	 * 예약 수량이 있는 (상품, 룸, 시간대) 재고 행.
+	 *
+	 * @param productId 상품 ID
+	 * @param roomId    룸 ID (PLACE Scope는 예약이 귀속된 룸)
+	 * @param timeSlot  시간대
+	 * @param reserved  예약 수량
+	 */
+	record ReservedSlot(
+			long productId,
+			long roomId,
+			LocalDateTime timeSlot,
+			int reserved
+	) {
+	}
+
+	/**
+	 * 기간 내 재고 행의 체크섬.
+	 * 인메모리 가용성 인덱스가 같은 식으로 계산한 값과 비교하여 불일치(Drift)를 감지합니다.
+	 *
+	 * @param totalReserved 예약 수량 합계
+	 * @param weightedSum   행마다 예약 수량 × {@link #weight(long, long, long)}를 더한 값
+	 */
+	record ReservedSlotChecksum(
+			long totalReserved,
+			long weightedSum
+	) {
+		public static final long MODULUS = 1_000_003L;
+
+		/**
+		 * 행의 위치(상품, 룸, 시간대)에 따른 가중치. 수량이 다른 위치로 옮겨진 경우도 감지합니다.
+		 *
+		 * @param epochMinute 시간대의 UTC 기준 epoch 분 (timestamp 값을 그대로 사용)
+		 */
+		public static long weight(final long productId, final long roomId, final long epochMinute) {
+			return 1 + (productId % MODULUS) * 31 + (roomId % MODULUS) * 17 + epochMinute % MODULUS;
+		}
+	}
+
+	/**
+	 * 시간 기반 Scope(ROOM, PLACE) 상품들의 요청 시간대 중 최대 사용 수량을 조회합니다.
+	 *
+	 * - ROOM Scope: 상품 룸의 시간대별 예약 수량
+	 * - PLACE Scope: 모든 룸의 시간대별 예약 수량 합계
+	 *
+	 * @param productIds 시간 기반 Scope 상품 ID 목록
+	 * @param timeSlots  요청 시간대 목록
+	 * @return 상품 ID별 최대 사용 수량 (재고 행이 없는 상품은 포함하지 않음)
+	 */
+	Map<ProductId, Integer> findMaxReservedQuantities(List<ProductId> productIds, List<LocalDateTime> timeSlots);
+
+	/**
+	 * 시간 기반 Scope 상품들의 시간대별 사용 수량을 조회합니다. (집계 기준은 findMaxReservedQuantities와 동일)
+	 *
+	 * @param productIds 시간 기반 Scope 상품 ID 목록
+	 * @param timeSlots  시간대 목록
+	 * @return 상품 ID별 시간대별 사용 수량 (재고 행이 없는 시간대는 포함하지 않음)
+	 */
+	Map<ProductId, Map<LocalDateTime, Integer>> findReservedQuantitiesBySlot(
+			List<ProductId> productIds,
+			List<LocalDateTime> timeSlots);
+
+	/**
+	 * 기간 내 시간 기반 Scope 상품들의 (날짜, 시간 버킷)별 최대 사용 수량을 범위 집계 한 번으로 조회합니다.
+	 *
+	 * @param productIds    시간 기반 Scope 상품 ID 목록
+	 * @param from          시작 시각 (포함)
+	 * @param to            종료 시각 (미포함)
+	 * @param bucketMinutes 버킷 크기 (분)
+	 * @return 사용 내역이 있는 버킷 목록
+	 */
+	List<BucketUsage> findMaxReservedByBucket(
+			List<ProductId> productIds,
+			LocalDateTime from,
+			LocalDateTime to,
+			int bucketMinutes);
+
+	/**
+	 * 플레이스의 룸 중 상품에 접근 가능한 룸 ID를 조회합니다.
+	 *
+	 * - ROOM Scope: 상품이 속한 룸
+	 * - PLACE Scope: 같은 플레이스에서 상품을 허용한 룸 (room_allowed_products)
+	 *
+	 * @return 상품 ID별 룸 ID 목록 (오름차순)
+	 */
+	Map<ProductId, List<Long>> findAccessibleRoomIds(PlaceId placeId, List<ProductId> productIds);
+
+	/**
+	 * 기간 내 예약 수량이 있는 재고 행을 모두 전달합니다. (인메모리 가용성 인덱스 적재용)
+	 *
+	 * @param from     시작 시각 (포함)
+	 * @param to       종료 시각 (미포함)
+	 * @param consumer 행 처리기
+	 */
+	void streamReservedSlots(LocalDateTime from, LocalDateTime to, Consumer<ReservedSlot> consumer);
+
+	/**
+	 * 기간 내 재고 행의 체크섬을 계산합니다.
+	 *
+	 * @param from 시작 시각 (포함)
+	 * @param to   종료 시각 (미포함)
+	 */
+	ReservedSlotChecksum checksumReservedSlots(LocalDateTime from, LocalDateTime to);
+}
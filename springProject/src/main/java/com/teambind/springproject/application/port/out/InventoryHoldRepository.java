@@ -0,0 +1,88 @@
+package com.teambind.springproject.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 단기 재고 홀드 Repository Port.
+ *
+ * 홀드 행은 이미 재고 카운터에 반영된 예약 수량의 기록입니다.
+ * 홀드를 삭제하는 쪽(예약 전환 또는 만료 정리)만 해당 수량을 처리하도록 잠금 조회 후 삭제합니다.
+ */
+public interface InventoryHoldRepository {
+
+	/**
+	 * 재고 홀드.
+	 *
+	 * @param holdId     홀드 ID
+	 * @param roomId     룸 ID
+	 * @param timeSlots  시간대 목록 (오름차순)
+	 * @param quantities 상품 ID별 홀드 수량
+	 * @param expiresAt  만료 시각
+	 */
+	record InventoryHold(
+			Long holdId,
+			Long roomId,
+			List<LocalDateTime> timeSlots,
+			Map<Long, Integer> quantities,
+			LocalDateTime expiresAt
+	) {
+	}
+
+	/**
+	 * 활성 홀드 수.
+	 *
+	 * @param byHolder 요청자의 활성 홀드 수
+	 * @param byRoom   룸의 활성 홀드 수
+	 */
+	record ActiveHoldCounts(int byHolder, int byRoom) {
+	}
+
+	/**
+	 * 홀드를 저장합니다.
+	 *
+	 * @param holderKey 요청자 키 (nullable)
+	 * @return 저장된 홀드
+	 */
+	InventoryHold insert(
+			String holderKey,
+			Long roomId,
+			List<LocalDateTime> timeSlots,
+			Map<Long, Integer> quantities,
+			LocalDateTime expiresAt);
+
+	/**
+	 * 요청자와 룸의 홀드 생성을 트랜잭션이 끝날 때까지 직렬화합니다 (Advisory Lock).
+	 * 활성 홀드 수를 센 뒤 홀드를 저장하기까지 다른 요청이 끼어들어 한도를 넘지 않도록 합니다.
+	 *
+	 * @param holderKey 요청자 키 (nullable이면 룸만 잠금)
+	 * @param roomId    룸 ID
+	 */
+	void lockHoldQuota(String holderKey, Long roomId);
+
+	/**
+	 * 만료 시각이 지나지 않은 홀드 수를 요청자별, 룸별로 셉니다.
+	 *
+	 * @param holderKey 요청자 키 (nullable이면 byHolder는 0)
+	 */
+	ActiveHoldCounts countActive(String holderKey, Long roomId, LocalDateTime now);
+
+	/**
+	 * 홀드를 잠그고 조회합니다. 다른 트랜잭션이 잠근 경우 해제될 때까지 기다립니다.
+	 */
+	Optional<InventoryHold> findByIdForUpdate(Long holdId);
+
+	/**
+	 * 만료 시각이 지난 홀드를 잠그고 조회합니다. (FOR UPDATE SKIP LOCKED)
+	 */
+	List<InventoryHold> lockExpired(LocalDateTime now, int limit);
+
+	/**
+	 * 홀드를 일괄 삭제합니다. 홀드 상품 행은 함께 삭제됩니다.
+	 *
+	 * @return 삭제된 홀드 수
+	 */
+	int deleteAllById(List<Long> holdIds);
+}
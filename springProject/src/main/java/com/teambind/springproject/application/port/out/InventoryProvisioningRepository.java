@@ -0,0 +1,49 @@
+package com.teambind.springproject.application.port.out;
+
+import com.teambind.springproject.domain.shared.PlaceId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간대별 재고 행 사전 생성(Provisioning)을 위한 Repository Port.
+ *
+ * PLACE Scope 예약은 (product, time_slot) 집계 행(place_time_slot_inventory)이 있어야 성공합니다.
+ * 집계 행을 미리 만들어 두면 룸별 재고 행 없이도 예약할 수 있습니다.
+ */
+public interface InventoryProvisioningRepository {
+
+	/**
+	 * 사전 생성 대상 PLACE Scope 상품.
+	 *
+	 * @param productId     상품 ID
+	 * @param totalQuantity 시간대별 총 재고 수량
+	 * @param slotMinutes   시간대 간격 (Place 내 HALFHOUR 룸이 있으면 30, 아니면 60)
+	 */
+	record PlaceProvisioningTarget(
+			Long productId,
+			int totalQuantity,
+			int slotMinutes
+	) {
+	}
+
+	/**
+	 * 사전 생성 대상 PLACE Scope 상품을 조회합니다.
+	 *
+	 * @param placeId 플레이스 ID (null이면 전체 플레이스)
+	 * @return 대상 상품 목록 (상품 ID 순)
+	 */
+	List<PlaceProvisioningTarget> findPlaceProvisioningTargets(PlaceId placeId);
+
+	/**
+	 * [from, to) 범위의 집계 행 중 없는 행만 생성합니다.
+	 * 행은 COPY 프로토콜로 임시 테이블에 스트리밍한 뒤 ON CONFLICT DO NOTHING으로 병합하므로
+	 * 여러 번 실행해도 기존 행(예약 수량)은 변경되지 않습니다.
+	 *
+	 * @param targets 대상 상품 목록
+	 * @param from    시작 시각 (포함)
+	 * @param to      종료 시각 (제외)
+	 * @return 새로 생성된 행 수
+	 */
+	int provisionPlaceTimeSlots(List<PlaceProvisioningTarget> targets, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,110 @@
+package com.teambind.springproject.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 재고 카운터 정합성 점검(Reconciliation)을 위한 Repository Port.
+ * 저장된 예약 수량과 활성 예약(PENDING/CONFIRMED), 미리보기 홀드, 대기열 할당(ALLOCATED)으로부터
+ * 계산한 기대 수량을 비교합니다.
+ *
+ * 점검 대상:
+ * - TIME_SLOT: product_time_slot_inventory (ROOM Scope 행, PLACE Scope 룸별 귀속 행)
+ * - PLACE_AGGREGATE: place_time_slot_inventory (PLACE Scope 집계 행)
+ * - PRODUCT: products (RESERVATION Scope, 샤드/원장 모드는 유효 예약 수량 기준)
+ */
+public interface InventoryReconciliationRepository {
+
+	/**
+	 * 점검 대상 카운터 종류.
+	 */
+	enum CounterTarget {
+		TIME_SLOT,
+		PLACE_AGGREGATE,
+		PRODUCT
+	}
+
+	/**
+	 * 시간대별 재고 테이블의 파티션 범위 [rangeStart, rangeEnd).
+	 *
+	 * @param partitionName 파티션 테이블 이름
+	 * @param rangeStart    파티션 시작 시각 (포함)
+	 * @param rangeEnd      파티션 종료 시각 (제외)
+	 */
+	record InventoryPartition(
+			String partitionName,
+			LocalDateTime rangeStart,
+			LocalDateTime rangeEnd
+	) {
+	}
+
+	/**
+	 * 저장된 예약 수량과 기대 수량이 다른 카운터.
+	 *
+	 * @param target           카운터 종류
+	 * @param productId        상품 ID
+	 * @param roomId           룸 ID (TIME_SLOT만 사용, 그 외 null)
+	 * @param timeSlot         시간대 (PRODUCT는 null)
+	 * @param storedQuantity   점검 시점에 저장되어 있던 예약 수량 (행이 없으면 0)
+	 * @param expectedQuantity 활성 예약 + 홀드 + 대기열 할당 기준 기대 수량
+	 * @param rowExists        카운터 행 존재 여부
+	 * @param correctable      자동 보정 가능 여부 (샤드/원장 모드 상품은 false)
+	 */
+	record InventoryDrift(
+			CounterTarget target,
+			Long productId,
+			Long roomId,
+			LocalDateTime timeSlot,
+			int storedQuantity,
+			int expectedQuantity,
+			boolean rowExists,
+			boolean correctable
+	) {
+		public int delta() {
+			return expectedQuantity - storedQuantity;
+		}
+	}
+
+	/**
+	 * 종료 시각이 from 이후인 시간대별 재고 파티션을 시작 시각 순으로 조회합니다.
+	 * DEFAULT 파티션은 범위가 없으므로 제외합니다.
+	 *
+	 * @param from 점검 시작 기준 시각
+	 * @return 파티션 목록
+	 */
+	List<InventoryPartition> findTimeSlotPartitions(LocalDateTime from);
+
+	/**
+	 * 파티션 범위의 시간대별 재고 행과 기대 수량을 비교하여 차이가 있는 행을 전달합니다.
+	 * 읽기 전용 트랜잭션의 서버 측 커서로 스트리밍하며 행 잠금을 잡지 않습니다.
+	 *
+	 * @param partition 점검할 파티션
+	 * @param consumer  차이 수신자
+	 */
+	void streamTimeSlotDrifts(InventoryPartition partition, Consumer<InventoryDrift> consumer);
+
+	/**
+	 * 파티션 범위의 Place 집계 행과 기대 수량을 비교하여 차이가 있는 행을 전달합니다.
+	 *
+	 * @param partition 점검할 시간 범위
+	 * @param consumer  차이 수신자
+	 */
+	void streamPlaceAggregateDrifts(InventoryPartition partition, Consumer<InventoryDrift> consumer);
+
+	/**
+	 * RESERVATION Scope 상품의 유효 예약 수량과 기대 수량을 비교하여 차이가 있는 상품을 전달합니다.
+	 *
+	 * @param consumer 차이 수신자
+	 */
+	void streamReservationScopeDrifts(Consumer<InventoryDrift> consumer);
+
+	/**
+	 * 차이를 보정합니다.
+	 * 점검 시점의 값(storedQuantity)이 그대로이고 다른 트랜잭션이 잠그지 않은 행만 기대 수량으로 갱신합니다.
+	 *
+	 * @param drift 보정할 차이
+	 * @return 보정 여부 (점검 이후 값이 바뀌었거나 잠겨 있으면 false)
+	 */
+	boolean applyCorrection(InventoryDrift drift);
+}
@@ -0,0 +1,102 @@
+package com.teambind.springproject.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 품절 상품 대기열(Waitlist) Repository Port.
+ *
+ * 대기 요청은 생성 순서(created_at, claim_id)대로 재고를 할당받습니다.
+ * 잠금 조회는 FOR UPDATE SKIP LOCKED를 사용하므로, 다른 트랜잭션이 처리 중인 대기 요청은 건너뜁니다.
+ */
+public interface InventoryWaitlistRepository {
+
+	/**
+	 * 대기 요청 상태.
+	 */
+	enum ClaimStatus {
+		/** 재고 할당 대기 */
+		WAITING,
+		/** 재고 할당 완료 (예약 생성 대기) */
+		ALLOCATED,
+		/** 예약 생성에 사용됨 */
+		FULFILLED,
+		/** 대기 또는 할당 유효 시간 초과 */
+		EXPIRED,
+		/** 클라이언트 취소 */
+		CANCELLED
+	}
+
+	/**
+	 * 대기 요청.
+	 *
+	 * @param claimId   대기 요청 ID
+	 * @param productId 상품 ID
+	 * @param roomId    룸 ID (PLACE Scope는 귀속 룸, RESERVATION Scope는 샤드 선택에 사용)
+	 * @param timeSlots 시간대 목록 (오름차순)
+	 * @param quantity  요청 수량
+	 * @param status    상태
+	 * @param createdAt 등록 시각 (할당 순서 기준)
+	 * @param expiresAt WAITING이면 대기 만료 시각, ALLOCATED이면 할당 만료 시각
+	 */
+	record WaitlistClaim(
+			Long claimId,
+			Long productId,
+			Long roomId,
+			List<LocalDateTime> timeSlots,
+			int quantity,
+			ClaimStatus status,
+			LocalDateTime createdAt,
+			LocalDateTime expiresAt
+	) {
+	}
+
+	/**
+	 * WAITING 상태의 대기 요청을 등록합니다.
+	 *
+	 * @return 등록된 대기 요청
+	 */
+	WaitlistClaim insert(Long productId, Long roomId, List<LocalDateTime> timeSlots, int quantity, LocalDateTime expiresAt);
+
+	Optional<WaitlistClaim> findById(Long claimId);
+
+	/**
+	 * 대기 요청을 잠그고 조회합니다. 다른 트랜잭션이 잠근 경우 해제될 때까지 기다립니다.
+	 */
+	Optional<WaitlistClaim> findByIdForUpdate(Long claimId);
+
+	/**
+	 * 상품의 WAITING 대기 요청을 오래된 순으로 잠그고 조회합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param timeSlots 해제된 시간대 목록 (비어 있으면 시간대 무관, 아니면 시간대가 겹치는 요청만)
+	 * @param limit     최대 조회 수
+	 */
+	List<WaitlistClaim> lockWaitingClaims(Long productId, List<LocalDateTime> timeSlots, int limit);
+
+	/**
+	 * 만료 시각이 지난 WAITING/ALLOCATED 대기 요청을 잠그고 조회합니다.
+	 */
+	List<WaitlistClaim> lockExpiredClaims(LocalDateTime now, int limit);
+
+	/**
+	 * 같은 상품의 더 오래된 WAITING 대기 요청 수를 조회합니다. (대기 순번 - 1)
+	 */
+	long countWaitingAhead(WaitlistClaim claim);
+
+	/**
+	 * 현재 상태가 expected인 경우에만 상태를 변경합니다.
+	 *
+	 * @param expiresAt     변경할 만료 시각 (null이면 유지)
+	 * @param reservationId FULFILLED 전환 시 사용한 예약 ID (null이면 유지)
+	 * @return 변경 여부
+	 */
+	boolean updateStatus(
+			Long claimId,
+			ClaimStatus expected,
+			ClaimStatus status,
+			LocalDateTime expiresAt,
+			Long reservationId
+	);
+}
@@ -0,0 +1,101 @@
+package com.teambind.springproject.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간 기준 RANGE 파티션 테이블 관리를 위한 Repository Port.
+ */
+public interface PartitionRepository {
+
+	/**
+	 * 파티션 범위 [rangeStart, rangeEnd).
+	 *
+	 * @param partitionName 파티션 테이블 이름
+	 * @param rangeStart    파티션 시작 시각 (포함)
+	 * @param rangeEnd      파티션 종료 시각 (제외)
+	 */
+	record TablePartition(
+			String partitionName,
+			LocalDateTime rangeStart,
+			LocalDateTime rangeEnd
+	) {
+	}
+
+	/**
+	 * pg_partman이 해당 테이블을 관리하도록 설정되어 있는지 확인합니다.
+	 * pg_partman이 설치되지 않은 경우 false를 반환합니다.
+	 *
+	 * @param parentTable 부모 테이블 이름
+	 * @return pg_partman 관리 여부
+	 */
+	boolean isManagedByPgPartman(String parentTable);
+
+	/**
+	 * pg_partman 유지보수(파티션 사전 생성, 보존 기간 정리)를 실행합니다.
+	 *
+	 * @param parentTable 부모 테이블 이름
+	 */
+	void runPgPartmanMaintenance(String parentTable);
+
+	/**
+	 * 부모 테이블의 RANGE 파티션을 시작 시각 순으로 조회합니다.
+	 * DEFAULT 파티션은 범위가 없으므로 제외합니다.
+	 *
+	 * @param parentTable 부모 테이블 이름
+	 * @return 파티션 목록
+	 */
+	List<TablePartition> findPartitions(String parentTable);
+
+	/**
+	 * 파티션을 생성합니다. 같은 이름의 테이블이 이미 있으면 아무것도 하지 않습니다.
+	 * DEFAULT 파티션에 새 범위의 행이 있으면 새 파티션으로 옮깁니다.
+	 *
+	 * @param parentTable   부모 테이블 이름
+	 * @param partitionName 생성할 파티션 이름
+	 * @param rangeStart    시작 시각 (포함)
+	 * @param rangeEnd      종료 시각 (제외)
+	 */
+	void createPartition(String parentTable, String partitionName, LocalDateTime rangeStart, LocalDateTime rangeEnd);
+
+	/**
+	 * 파티션 행을 외래 키 없이 참조하는 테이블.
+	 * 파티션을 삭제/보관할 때 같은 트랜잭션에서 참조 행을 삭제합니다.
+	 *
+	 * @param referenceKey      파티션과 참조 테이블에 공통인 키 컬럼 이름
+	 * @param referencingTables 참조 테이블 이름 목록
+	 */
+	record PartitionReferences(
+			String referenceKey,
+			List<String> referencingTables
+	) {
+
+		public static PartitionReferences none() {
+			return new PartitionReferences(null, List.of());
+		}
+	}
+
+	/**
+	 * 파티션 행을 참조하는 행을 삭제하고, 파티션을 분리한 뒤 삭제합니다.
+	 *
+	 * @param parentTable   부모 테이블 이름
+	 * @param partitionName 삭제할 파티션 이름
+	 * @param references    함께 정리할 참조 테이블
+	 */
+	void dropPartition(String parentTable, String partitionName, PartitionReferences references);
+
+	/**
+	 * 파티션 행을 참조하는 행을 삭제하고, 파티션을 분리한 뒤 보관 스키마로 이동합니다.
+	 *
+	 * @param parentTable   부모 테이블 이름
+	 * @param partitionName 보관할 파티션 이름
+	 * @param archiveSchema 보관 스키마 이름 (없으면 생성)
+	 * @param references    함께 정리할 참조 테이블
+	 */
+	void archivePartition(
+			String parentTable,
+			String partitionName,
+			String archiveSchema,
+			PartitionReferences references
+	);
+}
@@ -8,6 +8,7 @@ import com.teambind.springproject.domain.shared.RoomId;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -74,9 +75,13 @@ public interface ProductRepository {
 	/**
 	 * 상품을 저장합니다.
 	 * 새로운 상품이면 INSERT, 기존 상품이면 UPDATE합니다.
+	 * 총 재고가 바뀌면 아직 지나지 않은 시간대별 재고 행(PLACE 집계 행 포함)의 총 재고도 같은 트랜잭션에서 갱신하고,
+	 * 샤딩된 RESERVATION 상품은 샤드별 총 재고를 다시 분할합니다.
+	 * 예약 수량은 재고 카운터 연산만 변경하므로 저장 시 기록하지 않습니다.
 	 *
 	 * @param product 저장할 상품
 	 * @return 저장된 상품
+	 * @throws IllegalArgumentException 샤딩된 상품의 새 총 재고가 현재 예약 수량보다 작은 경우
 	 */
 	Product save(Product product);
 	
@@ -107,6 +112,7 @@ public interface ProductRepository {
 	 * - 데이터베이스의 Row Lock을 활용하여 원자적 연산 보장
 	 * - WHERE 조건에서 재고 부족 시 UPDATE 실패 (0 rows affected)
 	 * - Race Condition 방지 (Check-Then-Act 안티패턴 해결)
+	 * - 샤딩된 상품은 샤드 행에서 차감합니다
 	 *
 	 * @param productId 상품 ID
 	 * @param quantity  예약할 수량 (양수)
@@ -134,6 +140,82 @@ public interface ProductRepository {
 	 */
 	boolean releaseQuantity(ProductId productId, int quantity);
 
+	/**
+	 * 예약 취소 시 RESERVATION Scope 상품 재고를 예약 정보(룸, 시간대) 기준으로 복구합니다.
+	 * 샤딩된 상품은 예약 시와 같은 shard key로 계산된 샤드부터 되돌리고,
+	 * 샤딩되지 않은 상품은 {@link #releaseQuantity(ProductId, int)}와 동일하게 동작합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param roomId    예약의 룸 ID
+	 * @param timeSlots 예약의 시간대 목록
+	 * @param quantity  해제할 수량 (양수)
+	 * @return 해제 성공 여부 (예약 수량 부족 시 false)
+	 * @throws IllegalArgumentException quantity가 0 이하인 경우
+	 */
+	boolean releaseQuantity(
+			ProductId productId,
+			RoomId roomId,
+			List<LocalDateTime> timeSlots,
+			int quantity
+	);
+
+	/**
+	 * RESERVATION Scope 상품의 재고 샤딩을 설정합니다 (Opt-in).
+	 * 총 재고를 shardCount개의 샤드 행으로 균등 분할하여 인기 상품의 단일 행 경합을 분산합니다.
+	 *
+	 * - 기존 예약 수량은 앞쪽 샤드부터 채워 보존합니다
+	 * - shardCount가 1이면 샤딩을 해제하고 products 단일 행 방식으로 되돌립니다
+	 * - 총 재고가 변경되면 {@link #save(Product)}가 같은 트랜잭션에서 샤드를 다시 분할합니다
+	 *
+	 * @param productId  상품 ID
+	 * @param shardCount 샤드 수 (1 이상, 총 재고 이하)
+	 * @return 설정 성공 여부 (RESERVATION Scope 상품이 아니거나 존재하지 않으면 false)
+	 * @throws IllegalArgumentException shardCount가 0 이하이거나 총 재고를 초과하는 경우
+	 */
+	boolean configureInventoryShards(ProductId productId, int shardCount);
+
+	/**
+	 * RESERVATION Scope 상품의 원장(Ledger) 모드를 설정합니다 (Opt-in).
+	 * 원장 모드 상품은 예약/해제 시 products 행을 갱신하지 않고 inventory_movements에 이동분을 추가하며,
+	 * 예약 가능 여부는 Compaction된 잔액과 미반영 이동분 합계로 판단합니다.
+	 * 여유 재고가 충분하면 에스크로 슬롯 하나만 잡고 동시에 이동분을 추가하며,
+	 * 품절 임박 시에만 모든 슬롯을 잡아 정확히 확인합니다.
+	 *
+	 * - 활성화 시 현재 예약 수량을 잔액으로 이관합니다
+	 * - 비활성화 시 미반영 이동분을 합산하여 products.reserved_quantity로 되돌리며, 이동 이력은 보존합니다
+	 *
+	 * @param productId 상품 ID
+	 * @param enabled   원장 모드 사용 여부
+	 * @return 설정 성공 여부 (RESERVATION Scope 상품이 아니거나 존재하지 않으면 false)
+	 * @throws IllegalArgumentException 샤딩된 상품에 원장 모드를 활성화하는 경우
+	 */
+	boolean configureInventoryLedger(ProductId productId, boolean enabled);
+
+	/**
+	 * 잔액에 반영되지 않은 이동분이 있는 원장 모드 상품을 조회합니다.
+	 * 가장 오래 전에 Compaction된 상품부터 반환합니다.
+	 *
+	 * @param limit 최대 조회 건수
+	 * @return 상품 ID 목록
+	 */
+	List<ProductId> findProductIdsWithPendingMovements(int limit);
+
+	/**
+	 * 원장 모드 상품의 미반영 이동분을 잔액에 합산합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @return 합산한 이동 건수
+	 */
+	int compactInventoryLedger(ProductId productId);
+
+	/**
+	 * 잔액에 반영이 끝난 이동분 중 기준 시각 이전에 생성된 이력을 삭제합니다.
+	 *
+	 * @param cutoff 삭제 기준 시각
+	 * @return 삭제된 이동 건수
+	 */
+	int deleteCompactedMovementsBefore(LocalDateTime cutoff);
+
 	/**
 	 * ROOM Scope 상품의 특정 시간대 재고를 원자적으로 예약합니다.
 	 * product_time_slot_inventory 테이블에 대한 UPSERT + 원자적 UPDATE를 수행합니다.
@@ -159,12 +241,12 @@ public interface ProductRepository {
 
 	/**
 	 * PLACE Scope 상품의 특정 시간대 재고를 원자적으로 예약합니다.
-	 * 전체 Place 범위의 모든 룸에 걸쳐 재고를 검증합니다.
+	 * 전체 Place 범위의 재고를 (product, time_slot) 집계 행 하나로 검증합니다.
 	 *
 	 * 동시성 제어 메커니즘:
-	 * 1. INSERT ON CONFLICT (product_id, room_id, time_slot) DO UPDATE
-	 * 2. EXISTS 서브쿼리로 전체 Place 재고 검증
-	 * 3. WHERE 조건: SUM(reserved_quantity) + quantity <= total_quantity
+	 * 1. place_time_slot_inventory 집계 행에 대한 조건부 UPDATE
+	 * 2. WHERE 조건: total_quantity - reserved_quantity >= quantity
+	 * 3. 룸별 행은 귀속 기록으로만 UPSERT (룸별 Row Lock 경합 없음)
 	 *
 	 * @param productId 상품 ID
 	 * @param roomId    현재 예약하려는 룸 ID
@@ -197,4 +279,103 @@ public interface ProductRepository {
 			LocalDateTime timeSlot,
 			int quantity
 	);
+
+	/**
+	 * ROOM Scope 상품의 여러 시간대 재고를 한 번에 원자적으로 예약합니다.
+	 * 시간대 배열(unnest)을 사용하여 슬롯 수와 무관하게 단일 조건부 UPDATE로 처리합니다.
+	 *
+	 * 동작 방식:
+	 * 1. 아직 행이 없는 시간대만 products.total_quantity로 초기화 (ON CONFLICT DO NOTHING)
+	 * 2. 대상 행을 time_slot 순서로 잠근 뒤(FOR UPDATE) 모든 시간대의 가용 수량을 검증
+	 * 3. 모든 시간대가 가용한 경우에만 reserved_quantity를 일괄 증가 (All-or-Nothing)
+	 *
+	 * 재고 한도는 product_time_slot_inventory.total_quantity(V13)를 기준으로 판단합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param roomId    룸 ID
+	 * @param timeSlots 예약할 시간대 목록
+	 * @param quantity  예약할 수량 (양수)
+	 * @return 모든 시간대 예약 성공 여부 (하나라도 부족하면 false, 변경 없음)
+	 * @throws IllegalArgumentException quantity가 0 이하이거나 시간대 목록이 비어있는 경우
+	 */
+	boolean reserveRoomTimeSlotQuantities(
+			ProductId productId,
+			RoomId roomId,
+			List<LocalDateTime> timeSlots,
+			int quantity
+	);
+
+	/**
+	 * PLACE Scope 상품의 여러 시간대 재고를 한 번에 원자적으로 예약합니다.
+	 * (product, time_slot) 단위의 Place 집계 행(place_time_slot_inventory)에 대한 조건부 UPDATE로 처리합니다.
+	 *
+	 * 동작 방식:
+	 * 1. 집계 행이 없는 시간대만 룸별 재고 행으로부터 초기화 (ON CONFLICT DO NOTHING)
+	 * 2. 시간대별 집계 행만 time_slot 순서로 잠금 (룸 수와 무관하게 시간대당 1개의 Row Lock)
+	 * 3. WHERE total_quantity - reserved_quantity >= quantity 조건으로 일괄 차감 (All-or-Nothing)
+	 * 4. 현재 룸의 product_time_slot_inventory 행은 귀속(attribution) 기록으로만 UPSERT
+	 *
+	 * @param productId 상품 ID
+	 * @param roomId    현재 예약하려는 룸 ID
+	 * @param timeSlots 예약할 시간대 목록
+	 * @param quantity  예약할 수량 (양수)
+	 * @return 모든 시간대 예약 성공 여부 (재고 미설정 또는 부족 시 false, 변경 없음)
+	 * @throws IllegalArgumentException quantity가 0 이하이거나 시간대 목록이 비어있는 경우
+	 */
+	boolean reservePlaceTimeSlotQuantities(
+			ProductId productId,
+			RoomId roomId,
+			List<LocalDateTime> timeSlots,
+			int quantity
+	);
+
+	/**
+	 * 여러 시간대의 재고를 한 번에 복구합니다.
+	 * 모든 시간대의 reserved_quantity가 해제 수량 이상인 경우에만 일괄 감소시킵니다 (All-or-Nothing).
+	 * PLACE Scope 상품은 Place 집계 행의 예약 수량도 함께 감소시킵니다.
+	 *
+	 * @param productId 상품 ID
+	 * @param roomId    룸 ID
+	 * @param timeSlots 해제할 시간대 목록
+	 * @param quantity  해제할 수량 (양수)
+	 * @return 모든 시간대 해제 성공 여부
+	 * @throws IllegalArgumentException quantity가 0 이하이거나 시간대 목록이 비어있는 경우
+	 */
+	boolean releaseTimeSlotQuantities(
+			ProductId productId,
+			RoomId roomId,
+			List<LocalDateTime> timeSlots,
+			int quantity
+	);
+
+	/**
+	 * 예약 요청에 포함된 모든 상품의 재고를 한 번의 DB 호출로 원자적으로 예약합니다.
+	 * RESERVATION / ROOM / PLACE Scope 상품을 모든 시간대에 대해 함께 검증합니다.
+	 *
+	 * 동작 방식:
+	 * - reserve_inventory_cart 저장 함수 호출 (왕복 횟수: 상품 수 x 시간대 수 → 1)
+	 * - 상품은 product_id 순서, 시간대는 time_slot 순서로 잠금
+	 * - 하나라도 재고가 부족하면 어떤 상품의 재고도 변경하지 않음 (All-or-Nothing)
+	 *
+	 * @param roomId     예약할 룸 ID (PLACE Scope 상품의 귀속 룸)
+	 * @param timeSlots  예약 시간대 목록 (ROOM/PLACE Scope에서 사용)
+	 * @param quantities 상품별 예약 수량 (양수)
+	 * @return 상품별 예약 가능 여부 (입력 순서 유지). 모두 true인 경우에만 실제로 예약됨
+	 * @throws IllegalArgumentException 수량이 0 이하인 상품이 있는 경우
+	 */
+	Map<ProductId, Boolean> reserveCartQuantities(
+			RoomId roomId,
+			List<LocalDateTime> timeSlots,
+			Map<ProductId, Integer> quantities
+	);
+
+	/**
+	 * 현재 트랜잭션의 잠금 대기 시간 상한(lock_timeout)을 설정하고 이전 값을 반환합니다.
+	 * 트랜잭션 범위로 적용되므로 Savepoint가 롤백되면 설정도 함께 되돌려집니다.
+	 * 상한을 넘겨 대기한 구문은 잠금 타임아웃(55P03)으로 실패합니다.
+	 *
+	 * @param lockTimeout 설정할 값 (예: "1000ms", "0"은 무제한)
+	 * @return 설정 전 값 (되돌릴 때 그대로 전달)
+	 */
+	String applyLockTimeout(String lockTimeout);
 }
@@ -70,9 +70,31 @@ public interface ReservationPricingRepository {
 	 *
 	 * @param reservationPricing 저장할 예약 가격
 	 * @return 저장된 예약 가격
+	 * @throws IllegalArgumentException 새 예약의 첫 슬롯부터 마지막 슬롯까지가 최대 예약 기간보다 긴 경우
 	 */
 	ReservationPricing save(ReservationPricing reservationPricing);
 	
+	/**
+	 * 예약 상태만 조회합니다.
+	 * 시간대 가격과 상품 내역을 로딩하지 않습니다.
+	 *
+	 * @param reservationId 예약 ID
+	 * @return 예약 상태 (없으면 Optional.empty())
+	 */
+	Optional<ReservationStatus> findStatusById(ReservationId reservationId);
+	
+	/**
+	 * 예약 상태를 조건부로 전환합니다 (Compare-and-set).
+	 * 현재 상태가 expected인 경우에만 한 문장의 UPDATE로 next로 바꾸고 버전을 올리며,
+	 * 시간대 가격과 상품 내역은 읽지 않습니다. 전환 규칙은 호출 측에서 도메인 규칙으로 검증해야 합니다.
+	 *
+	 * @param reservationId 예약 ID
+	 * @param expected      기대하는 현재 상태
+	 * @param next          변경할 상태
+	 * @return 전환했으면 true, 다른 요청이 먼저 상태를 바꿨거나 예약이 없으면 false
+	 */
+	boolean transitionStatus(ReservationId reservationId, ReservationStatus expected, ReservationStatus next);
+	
 	/**
 	 * ReservationId로 예약 가격을 삭제합니다.
 	 *
@@ -0,0 +1,186 @@
+package com.teambind.springproject.application.service.partition;
+
+import com.teambind.springproject.application.dto.response.PartitionStatusResponse;
+import com.teambind.springproject.application.port.in.ManagePartitionsUseCase;
+import com.teambind.springproject.application.port.out.PartitionRepository;
+import com.teambind.springproject.application.port.out.PartitionRepository.PartitionReferences;
+import com.teambind.springproject.application.port.out.PartitionRepository.TablePartition;
+import com.teambind.springproject.common.config.PartitionConfiguration;
+import com.teambind.springproject.common.config.PartitionConfiguration.ManagedTable;
+import com.teambind.springproject.common.config.PartitionConfiguration.RetentionAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간 기준 월별 파티션 테이블 관리 Application Service.
+ * ManagePartitionsUseCase를 구현합니다.
+ *
+ * pg_partman이 없는 환경에서는 V11에서 만든 마지막 파티션 이후 INSERT가 실패하므로,
+ * 애플리케이션이 pg_partman과 같은 규칙(월 단위, premake, retention)으로 파티션을 관리합니다.
+ *
+ * 동작 방식 (pg_partman 미설정 테이블):
+ * - 현재 월부터 premake-months 개월 뒤까지 비어 있는 월 범위에 {테이블}_{yyyy_MM} 파티션 생성
+ * - 기존 파티션과 범위가 겹치는 월은 건너뜀 (pg_partman이 만든 파티션과 공존 가능)
+ * - 종료 시각이 (현재 월 - retention-months) 이전인 파티션을 분리 후 삭제(DROP) 또는 보관(ARCHIVE)
+ *   referencing-tables가 설정된 테이블은 파티션 행을 reference-key로 참조하는 행을 같은 트랜잭션에서 삭제
+ *   (파티션 테이블은 외래 키로 참조할 수 없어 ON DELETE CASCADE가 없으므로)
+ *
+ * 주의: DDL은 PostgreSQL에서 트랜잭션 내 실행 시 테이블 잠금을 오래 유지하므로,
+ * 파티션 단위로 짧게 실행하며 서비스 전체에 트랜잭션을 적용하지 않습니다.
+ */
+@Service
+public class PartitionManagementService implements ManagePartitionsUseCase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(PartitionManagementService.class);
+	
+	private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+	private static final String MANAGED_BY_PG_PARTMAN = "pg_partman";
+	private static final String MANAGED_BY_APPLICATION = "application";
+	
+	private final PartitionRepository partitionRepository;
+	private final PartitionConfiguration partitionConfiguration;
+	
+	public PartitionManagementService(
+			final PartitionRepository partitionRepository,
+			final PartitionConfiguration partitionConfiguration) {
+		this.partitionRepository = partitionRepository;
+		this.partitionConfiguration = partitionConfiguration;
+	}
+	
+	@Override
+	public void maintainPartitions() {
+		if (!partitionConfiguration.isEnabled()) {
+			return;
+		}
+		
+		final List<String> failedTables = new ArrayList<>();
+		for (final ManagedTable table : partitionConfiguration.getTables()) {
+			try {
+				if (partitionRepository.isManagedByPgPartman(table.getName())) {
+					partitionRepository.runPgPartmanMaintenance(table.getName());
+					logger.info("Completed pg_partman maintenance: table={}", table.getName());
+				} else {
+					maintainTable(table);
+				}
+			} catch (final Exception e) {
+				failedTables.add(table.getName());
+				logger.error("Partition maintenance failed: table={}", table.getName(), e);
+			}
+		}
+		
+		if (!failedTables.isEmpty()) {
+			throw new IllegalStateException("Partition maintenance failed for tables: " + failedTables);
+		}
+	}
+	
+	@Override
+	public List<PartitionStatusResponse> getPartitionStatuses() {
+		final LocalDateTime now = LocalDateTime.now();
+		final YearMonth currentMonth = YearMonth.from(now);
+		
+		final List<PartitionStatusResponse> statuses = new ArrayList<>();
+		for (final ManagedTable table : partitionConfiguration.getTables()) {
+			final List<TablePartition> partitions = partitionRepository.findPartitions(table.getName());
+			final LocalDateTime coveredUntil = findCoveredUntil(partitions, now);
+			final long monthsAhead = coveredUntil == null
+					? 0
+					: ChronoUnit.MONTHS.between(currentMonth, YearMonth.from(coveredUntil.minusNanos(1))) + 1;
+			
+			statuses.add(new PartitionStatusResponse(
+					table.getName(),
+					partitionRepository.isManagedByPgPartman(table.getName())
+							? MANAGED_BY_PG_PARTMAN
+							: MANAGED_BY_APPLICATION,
+					partitions.size(),
+					partitions.isEmpty() ? null : partitions.get(0).rangeStart(),
+					coveredUntil,
+					monthsAhead,
+					monthsAhead >= 2
+			));
+		}
+		return statuses;
+	}
+	
+	private void maintainTable(final ManagedTable table) {
+		final List<TablePartition> partitions = partitionRepository.findPartitions(table.getName());
+		final YearMonth currentMonth = YearMonth.now();
+		
+		// 1. 현재 월 ~ premake 개월 뒤까지 비어 있는 월 파티션 생성
+		for (int offset = 0; offset <= partitionConfiguration.getPremakeMonths(); offset++) {
+			final YearMonth month = currentMonth.plusMonths(offset);
+			final LocalDateTime rangeStart = month.atDay(1).atStartOfDay();
+			final LocalDateTime rangeEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+			
+			if (overlapsAny(partitions, rangeStart, rangeEnd)) {
+				continue;
+			}
+			
+			final String partitionName = table.getName() + "_" + PARTITION_SUFFIX_FORMAT.format(month);
+			partitionRepository.createPartition(table.getName(), partitionName, rangeStart, rangeEnd);
+			logger.info("Created partition: table={}, partition={}, range=[{}, {})",
+					table.getName(), partitionName, rangeStart, rangeEnd);
+		}
+		
+		// 2. 보존 기간이 지난 파티션 삭제/보관
+		if (!partitionConfiguration.isRetentionEnabled() || table.getRetentionMonths() <= 0) {
+			return;
+		}
+		
+		final LocalDateTime retentionCutoff = currentMonth.minusMonths(table.getRetentionMonths())
+				.atDay(1)
+				.atStartOfDay();
+		final PartitionReferences references = table.getReferencingTables().isEmpty()
+				? PartitionReferences.none()
+				: new PartitionReferences(table.getReferenceKey(), List.copyOf(table.getReferencingTables()));
+		for (final TablePartition partition : partitions) {
+			if (partition.rangeEnd().isAfter(retentionCutoff)) {
+				continue;
+			}
+			
+			if (table.getRetentionAction() == RetentionAction.ARCHIVE) {
+				partitionRepository.archivePartition(
+						table.getName(), partition.partitionName(), partitionConfiguration.getArchiveSchema(), references);
+			} else {
+				partitionRepository.dropPartition(table.getName(), partition.partitionName(), references);
+			}
+			logger.info("Applied partition retention: table={}, partition={}, action={}, cutoff={}",
+					table.getName(), partition.partitionName(), table.getRetentionAction(), retentionCutoff);
+		}
+	}
+	
+	private static boolean overlapsAny(
+			final List<TablePartition> partitions,
+			final LocalDateTime rangeStart,
+			final LocalDateTime rangeEnd) {
+		return partitions.stream().anyMatch(partition ->
+				partition.rangeStart().isBefore(rangeEnd) && rangeStart.isBefore(partition.rangeEnd()));
+	}
+	
+	/**
+	 * from 시각을 포함하는 파티션부터 빈틈없이 이어지는 파티션 범위의 끝을 찾습니다.
+	 */
+	private static LocalDateTime findCoveredUntil(final List<TablePartition> partitions, final LocalDateTime from) {
+		LocalDateTime coveredUntil = null;
+		LocalDateTime cursor = from;
+		boolean advanced = true;
+		while (advanced) {
+			advanced = false;
+			for (final TablePartition partition : partitions) {
+				if (!partition.rangeStart().isAfter(cursor) && partition.rangeEnd().isAfter(cursor)) {
+					coveredUntil = partition.rangeEnd();
+					cursor = partition.rangeEnd();
+					advanced = true;
+				}
+			}
+		}
+		return coveredUntil;
+	}
+}
@@ -0,0 +1,323 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.response.AvailabilityDeltaDto;
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryChangeListener;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 가용성 변경 브로드캐스터.
+ *
+ * 커밋된 예약/해제로 바뀐 (상품, 시간대)를 모아 두었다가 flush 주기마다 한 번에 전달합니다.
+ * - 병합: 같은 (상품, 시간대)가 주기 안에 여러 번 바뀌어도 최종 가용 수량 하나만 전달합니다.
+ * - 조회: 주기마다 상품 조회와 시간대별 사용 수량 집계 쿼리를 한 번씩만 실행하므로, DB 부하는 구독자 수와 무관합니다.
+ * - 구독자 수: 전체와 플레이스별 한도를 넘으면 구독을 거절하며, 클라이언트는 기존 조회 API로 폴링합니다.
+ * - 전달: 변경 묶음은 구독자별 고정 크기 대기열에 넣고 전달 스레드가 보냅니다.
+ *   느린 구독자가 flush 스레드를 막지 않도록, 대기열이 넘치면 그 구독자를 끊습니다.
+ *
+ * 이 인스턴스에서 커밋된 변경만 전달합니다. RESERVATION Scope 상품은 시간대별 재고가 없으므로 대상이 아닙니다.
+ */
+@Service
+public class AvailabilityChangeBroadcaster implements InventoryChangeListener, SubscribeAvailabilityChangesUseCase {
+
+	private static final Logger logger = LoggerFactory.getLogger(AvailabilityChangeBroadcaster.class);
+
+	private final ProductRepository productRepository;
+	private final InventoryAvailabilityRepository inventoryAvailabilityRepository;
+	private final InventoryConfiguration.AvailabilityStream configuration;
+
+	private final Map<Long, Set<Subscriber>> subscribersByPlace = new ConcurrentHashMap<>();
+	private final Set<PendingChange> pendingChanges = ConcurrentHashMap.newKeySet();
+	private final Executor deliveryExecutor;
+	private int subscriberCount;
+
+	@Autowired
+	public AvailabilityChangeBroadcaster(
+			final ProductRepository productRepository,
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository,
+			final InventoryConfiguration inventoryConfiguration) {
+		this(productRepository, inventoryAvailabilityRepository, inventoryConfiguration,
+				newDeliveryExecutor(inventoryConfiguration.getAvailabilityStream().getDeliveryThreads()));
+	}
+
+	AvailabilityChangeBroadcaster(
+			final ProductRepository productRepository,
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository,
+			final InventoryConfiguration inventoryConfiguration,
+			final Executor deliveryExecutor) {
+		this.productRepository = productRepository;
+		this.inventoryAvailabilityRepository = inventoryAvailabilityRepository;
+		this.configuration = inventoryConfiguration.getAvailabilityStream();
+		this.deliveryExecutor = deliveryExecutor;
+	}
+
+	private static ExecutorService newDeliveryExecutor(final int threads) {
+		final AtomicInteger threadNumber = new AtomicInteger(1);
+		return Executors.newFixedThreadPool(
+				Math.max(1, threads),
+				runnable -> {
+					final Thread thread = new Thread(runnable,
+							"availability-stream-" + threadNumber.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	private record PendingChange(ProductId productId, LocalDateTime timeSlot) {
+	}
+
+	/**
+	 * 구독자. 변경 묶음은 대기열에 쌓이고, 한 번에 하나의 전달 태스크만 대기열을 비웁니다.
+	 */
+	private final class Subscriber implements Subscription {
+		private final Long placeId;
+		private final Long roomId;
+		private final Consumer<List<AvailabilityDeltaDto>> listener;
+		private final Runnable onDropped;
+		private final BlockingQueue<List<AvailabilityDeltaDto>> queue;
+		private final AtomicBoolean draining = new AtomicBoolean(false);
+		private final AtomicBoolean active = new AtomicBoolean(true);
+
+		private Subscriber(
+				final Long placeId,
+				final Long roomId,
+				final Consumer<List<AvailabilityDeltaDto>> listener,
+				final Runnable onDropped) {
+			this.placeId = placeId;
+			this.roomId = roomId;
+			this.listener = listener;
+			this.onDropped = onDropped;
+			this.queue = new ArrayBlockingQueue<>(Math.max(1, configuration.getSubscriberQueueCapacity()));
+		}
+
+		private void enqueue(final List<AvailabilityDeltaDto> deltas) {
+			if (!queue.offer(deltas)) {
+				drop("queue overflow");
+				return;
+			}
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (!active.get() || !draining.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				deliveryExecutor.execute(this::drain);
+			} catch (final RejectedExecutionException e) {
+				draining.set(false);
+				drop("delivery executor rejected");
+			}
+		}
+
+		private void drain() {
+			try {
+				List<AvailabilityDeltaDto> deltas;
+				while (active.get() && (deltas = queue.poll()) != null) {
+					listener.accept(deltas);
+				}
+			} catch (final RuntimeException e) {
+				drop(e.getMessage());
+			} finally {
+				draining.set(false);
+			}
+			if (!queue.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		private void drop(final String reason) {
+			if (!active.compareAndSet(true, false)) {
+				return;
+			}
+			logger.debug("Availability subscriber dropped: placeId={}, roomId={}, reason={}",
+					placeId, roomId, reason);
+			unsubscribe(this);
+			queue.clear();
+			try {
+				onDropped.run();
+			} catch (final RuntimeException e) {
+				logger.debug("Availability subscriber drop callback failed: placeId={}, reason={}",
+						placeId, e.getMessage());
+			}
+		}
+
+		@Override
+		public void cancel() {
+			active.set(false);
+			unsubscribe(this);
+			queue.clear();
+		}
+	}
+
+	@Override
+	public synchronized Optional<Subscription> subscribe(
+			final Long placeId,
+			final Long roomId,
+			final Consumer<List<AvailabilityDeltaDto>> listener,
+			final Runnable onDropped) {
+		final Set<Subscriber> placeSubscribers = subscribersByPlace.getOrDefault(placeId, Set.of());
+		if (subscriberCount >= configuration.getMaxSubscribers()
+				|| placeSubscribers.size() >= configuration.getMaxSubscribersPerPlace()) {
+			logger.debug("Availability subscriber rejected: placeId={}, total={}", placeId, subscriberCount);
+			return Optional.empty();
+		}
+
+		final Subscriber subscriber = new Subscriber(placeId, roomId, listener, onDropped);
+		subscribersByPlace.computeIfAbsent(placeId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+		subscriberCount++;
+		logger.debug("Availability subscriber added: placeId={}, roomId={}, total={}",
+				placeId, roomId, subscriberCount);
+		return Optional.of(subscriber);
+	}
+
+	@Override
+	public void onReserved(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		if (subscribersByPlace.isEmpty()) {
+			return;
+		}
+		quantities.keySet().forEach(productId -> addPending(productId, timeSlots));
+	}
+
+	@Override
+	public void onReleased(final List<InventoryReleaseItem> items, final List<LocalDateTime> timeSlots) {
+		if (subscribersByPlace.isEmpty()) {
+			return;
+		}
+		items.stream()
+				.filter(item -> item.product().getScope() != ProductScope.RESERVATION)
+				.forEach(item -> addPending(item.product().getProductId(), timeSlots));
+	}
+
+	/**
+	 * 모아 둔 변경의 최종 가용 수량을 계산하여 구독자 대기열에 넣습니다.
+	 *
+	 * @return 전달 대상 변경 수 (구독자별 중복 제외)
+	 */
+	public int flush() {
+		if (pendingChanges.isEmpty()) {
+			return 0;
+		}
+		final List<PendingChange> changes = new ArrayList<>();
+		for (final PendingChange change : pendingChanges) {
+			if (pendingChanges.remove(change)) {
+				changes.add(change);
+			}
+		}
+
+		final List<ProductId> productIds = changes.stream().map(PendingChange::productId).distinct().toList();
+		final Map<ProductId, Product> products = productRepository.findAllById(productIds).stream()
+				.filter(product -> product.getScope() != ProductScope.RESERVATION)
+				.filter(product -> subscribersByPlace.containsKey(product.getPlaceId().getValue()))
+				.collect(Collectors.toMap(Product::getProductId, product -> product));
+		if (products.isEmpty()) {
+			return 0;
+		}
+
+		final Map<ProductId, Map<LocalDateTime, Integer>> reserved =
+				inventoryAvailabilityRepository.findReservedQuantitiesBySlot(
+						List.copyOf(products.keySet()),
+						changes.stream().map(PendingChange::timeSlot).distinct().toList());
+
+		final Map<Long, List<AvailabilityDeltaDto>> deltasByPlace = changes.stream()
+				.filter(change -> products.containsKey(change.productId()))
+				.sorted(Comparator.comparing((PendingChange change) -> change.productId().getValue())
+						.thenComparing(PendingChange::timeSlot))
+				.map(change -> {
+					final Product product = products.get(change.productId());
+					final int used = reserved.getOrDefault(change.productId(), Map.of())
+							.getOrDefault(change.timeSlot(), 0);
+					return Map.entry(product.getPlaceId().getValue(), new AvailabilityDeltaDto(
+							product.getProductId().getValue(),
+							product.getScope() == ProductScope.ROOM ? product.getRoomId().getValue() : null,
+							change.timeSlot(),
+							Math.max(0, product.getTotalQuantity() - used)));
+				})
+				.collect(Collectors.groupingBy(Map.Entry::getKey,
+						Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+		deltasByPlace.forEach(this::deliver);
+		return deltasByPlace.values().stream().mapToInt(List::size).sum();
+	}
+
+	private void deliver(final Long placeId, final List<AvailabilityDeltaDto> deltas) {
+		for (final Subscriber subscriber : subscribersByPlace.getOrDefault(placeId, Set.of())) {
+			final List<AvailabilityDeltaDto> visible = subscriber.roomId == null
+					? deltas
+					: deltas.stream()
+							.filter(delta -> delta.roomId() == null || Objects.equals(delta.roomId(), subscriber.roomId))
+							.toList();
+			if (!visible.isEmpty()) {
+				subscriber.enqueue(visible);
+			}
+		}
+	}
+
+	private void addPending(final ProductId productId, final List<LocalDateTime> timeSlots) {
+		timeSlots.forEach(timeSlot -> pendingChanges.add(new PendingChange(productId, timeSlot)));
+	}
+
+	private synchronized void unsubscribe(final Subscriber subscriber) {
+		final Set<Subscriber> placeSubscribers = subscribersByPlace.get(subscriber.placeId);
+		if (placeSubscribers == null || !placeSubscribers.remove(subscriber)) {
+			return;
+		}
+		subscriberCount--;
+		if (placeSubscribers.isEmpty()) {
+			subscribersByPlace.remove(subscriber.placeId);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (!(deliveryExecutor instanceof ExecutorService executorService)) {
+			return;
+		}
+		executorService.shutdown();
+		try {
+			if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+				executorService.shutdownNow();
+			}
+		} catch (final InterruptedException e) {
+			executorService.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent.SlotAvailability;
+import com.teambind.springproject.application.dto.response.AvailabilitySnapshotResponse;
+import com.teambind.springproject.application.port.in.PublishAvailabilitySnapshotUseCase;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.BucketUsage;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.port.out.publisher.EventPublisher;
+import com.teambind.springproject.application.service.reservationpricing.InventoryChangeListener;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가용성 변경 Kafka 이벤트 발행 Application Service.
+ *
+ * 커밋된 예약/해제로 바뀐 (상품, 날짜)를 모아 두었다가, 마지막 변경 후 debounceMillis 동안 추가 변경이 없거나
+ * 첫 변경 후 maxDelayMillis가 지나면 그날의 가용성 상태 전체를 InventoryAvailabilityChangedEvent로 발행합니다.
+ * 이벤트 키는 (상품, 룸, 날짜)이므로 Compaction 토픽에 키별 최신 상태만 남습니다.
+ *
+ * 전체 스냅샷은 모든 시간 기반 Scope 상품과 날짜의 상태를 발행하여, 하위 서비스가 토픽만으로 처음 상태를 구성할 수 있게 합니다.
+ * 이 인스턴스에서 커밋된 변경만 발행하며, 다른 경로의 보정(Reconciliation 등)은 다음 스냅샷에 반영됩니다.
+ */
+@Service
+public class AvailabilityChangeEventService implements InventoryChangeListener, PublishAvailabilitySnapshotUseCase {
+
+	private static final Logger logger = LoggerFactory.getLogger(AvailabilityChangeEventService.class);
+
+	private final ProductRepository productRepository;
+	private final InventoryAvailabilityRepository inventoryAvailabilityRepository;
+	private final EventPublisher eventPublisher;
+	private final InventoryConfiguration.AvailabilityEvents configuration;
+
+	private final Map<PendingKey, PendingWindow> pendingChanges = new ConcurrentHashMap<>();
+
+	@Value("${kafka.topics.inventory-availability-changed:inventory-availability-changed}")
+	private String inventoryAvailabilityChangedTopic;
+
+	public AvailabilityChangeEventService(
+			final ProductRepository productRepository,
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository,
+			final EventPublisher eventPublisher,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.productRepository = productRepository;
+		this.inventoryAvailabilityRepository = inventoryAvailabilityRepository;
+		this.eventPublisher = eventPublisher;
+		this.configuration = inventoryConfiguration.getAvailabilityEvents();
+	}
+
+	private record PendingKey(ProductId productId, LocalDate date) {
+	}
+
+	/**
+	 * 키의 첫 변경 시각과 마지막 변경 시각 (epoch millis).
+	 */
+	private record PendingWindow(long firstChangedAt, long lastChangedAt) {
+	}
+
+	@Override
+	public void onReserved(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		if (!configuration.isEnabled()) {
+			return;
+		}
+		quantities.keySet().forEach(productId -> markChanged(productId, timeSlots));
+	}
+
+	@Override
+	public void onReleased(final List<InventoryReleaseItem> items, final List<LocalDateTime> timeSlots) {
+		if (!configuration.isEnabled()) {
+			return;
+		}
+		items.stream()
+				.filter(item -> item.product().getScope() != ProductScope.RESERVATION)
+				.forEach(item -> markChanged(item.product().getProductId(), timeSlots));
+	}
+
+	/**
+	 * Debounce 구간이 끝난 키의 가용성 상태를 발행합니다.
+	 *
+	 * @return 발행한 이벤트 수
+	 */
+	public int flush() {
+		if (!configuration.isEnabled() || pendingChanges.isEmpty()) {
+			return 0;
+		}
+
+		final long now = System.currentTimeMillis();
+		final List<PendingKey> dueKeys = new ArrayList<>();
+		pendingChanges.forEach((key, window) -> {
+			final boolean quiet = now - window.lastChangedAt() >= configuration.getDebounceMillis();
+			final boolean overdue = now - window.firstChangedAt() >= configuration.getMaxDelayMillis();
+			// 판단 이후 새 변경이 들어온 키는 남겨 두고 다음 주기에 다시 판단합니다.
+			if ((quiet || overdue) && pendingChanges.remove(key, window)) {
+				dueKeys.add(key);
+			}
+		});
+
+		return dueKeys.isEmpty() ? 0 : publishStates(dueKeys, false);
+	}
+
+	@Override
+	public AvailabilitySnapshotResponse publishSnapshot() {
+		final LocalDate fromDate = LocalDate.now();
+		final LocalDate toDate = fromDate.plusDays(configuration.getSnapshotHorizonDays());
+
+		final List<ProductId> productIds = new ArrayList<>();
+		productRepository.findByScope(ProductScope.ROOM).forEach(product -> productIds.add(product.getProductId()));
+		productRepository.findByScope(ProductScope.PLACE).forEach(product -> productIds.add(product.getProductId()));
+
+		int published = 0;
+		for (int start = 0; start < productIds.size(); start += configuration.getSnapshotBatchSize()) {
+			final List<ProductId> batch = productIds.subList(
+					start, Math.min(start + configuration.getSnapshotBatchSize(), productIds.size()));
+			final List<PendingKey> keys = new ArrayList<>();
+			batch.forEach(productId -> fromDate.datesUntil(toDate)
+					.forEach(date -> keys.add(new PendingKey(productId, date))));
+			published += publishStates(keys, true);
+		}
+
+		logger.info("Availability snapshot published: from={}, to={}, products={}, events={}",
+				fromDate, toDate, productIds.size(), published);
+		return new AvailabilitySnapshotResponse(fromDate, toDate, published);
+	}
+
+	/**
+	 * 키별 하루 가용성 상태를 계산하여 발행합니다.
+	 * 상품 조회와 시간대별 사용 수량 범위 집계를 한 번씩만 실행합니다.
+	 */
+	private int publishStates(final Collection<PendingKey> keys, final boolean snapshot) {
+		final List<ProductId> productIds = keys.stream().map(PendingKey::productId).distinct().toList();
+		final Map<ProductId, Product> products = productRepository.findAllById(productIds).stream()
+				.filter(product -> product.getScope() != ProductScope.RESERVATION)
+				.collect(Collectors.toMap(Product::getProductId, Function.identity()));
+		if (products.isEmpty()) {
+			return 0;
+		}
+
+		final LocalDate fromDate = keys.stream().map(PendingKey::date).min(Comparator.naturalOrder()).orElseThrow();
+		final LocalDate toDate = keys.stream().map(PendingKey::date).max(Comparator.naturalOrder()).orElseThrow()
+				.plusDays(1);
+		final Map<PendingKey, List<BucketUsage>> usages = new HashMap<>();
+		inventoryAvailabilityRepository.findMaxReservedByBucket(
+						List.copyOf(products.keySet()),
+						fromDate.atStartOfDay(),
+						toDate.atStartOfDay(),
+						configuration.getSlotMinutes())
+				.forEach(usage -> usages.computeIfAbsent(new PendingKey(usage.productId(), usage.day()),
+						key -> new ArrayList<>()).add(usage));
+
+		final LocalDateTime occurredAt = LocalDateTime.now();
+		int published = 0;
+		for (final PendingKey key : keys) {
+			final Product product = products.get(key.productId());
+			if (product == null) {
+				continue;
+			}
+			final List<SlotAvailability> slots = usages.getOrDefault(key, List.of()).stream()
+					.sorted(Comparator.comparingInt(BucketUsage::bucket))
+					.map(usage -> new SlotAvailability(
+							key.date().atStartOfDay().plusMinutes((long) usage.bucket() * configuration.getSlotMinutes()),
+							Math.max(0, product.getTotalQuantity() - usage.maxReserved())))
+					.toList();
+
+			eventPublisher.publish(new InventoryAvailabilityChangedEvent(
+					inventoryAvailabilityChangedTopic,
+					null,
+					product.getProductId().getValue(),
+					product.getPlaceId().getValue(),
+					product.getScope() == ProductScope.ROOM ? product.getRoomId().getValue() : null,
+					key.date(),
+					product.getTotalQuantity(),
+					slots,
+					snapshot,
+					occurredAt
+			));
+			published++;
+		}
+		return published;
+	}
+
+	private void markChanged(final ProductId productId, final List<LocalDateTime> timeSlots) {
+		final long now = System.currentTimeMillis();
+		timeSlots.stream()
+				.map(LocalDateTime::toLocalDate)
+				.distinct()
+				.forEach(date -> pendingChanges.merge(
+						new PendingKey(productId, date),
+						new PendingWindow(now, now),
+						(current, next) -> new PendingWindow(current.firstChangedAt(), next.lastChangedAt())));
+	}
+}
@@ -0,0 +1,141 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.request.AvailabilityHeatmapRequest;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse.ProductHeatmap;
+import com.teambind.springproject.application.port.in.QueryAvailabilityHeatmapUseCase;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.BucketUsage;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 재고 가용성 히트맵 조회 Application Service.
+ *
+ * 룸 x 날짜 조합마다 가용성 API를 호출하는 대신, 기간 전체의 시간대별 재고 카운터를
+ * (상품, 날짜, 버킷) 단위 범위 집계 한 번으로 조회하여 상품별 평탄화 배열로 반환합니다.
+ * 사용 내역이 없는 버킷은 총 재고 수량이 그대로 가용 수량입니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityHeatmapQueryService implements QueryAvailabilityHeatmapUseCase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(AvailabilityHeatmapQueryService.class);
+	
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	private static final long MAX_RANGE_DAYS = 31;
+	
+	private final ProductRepository productRepository;
+	private final InventoryAvailabilityRepository inventoryAvailabilityRepository;
+	
+	public AvailabilityHeatmapQueryService(
+			final ProductRepository productRepository,
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository) {
+		this.productRepository = productRepository;
+		this.inventoryAvailabilityRepository = inventoryAvailabilityRepository;
+	}
+	
+	@Override
+	public AvailabilityHeatmapResponse queryHeatmap(final AvailabilityHeatmapRequest request) {
+		final int bucketMinutes = request.bucketMinutes();
+		validateRange(request.startDate(), request.endDate(), bucketMinutes);
+		
+		final int bucketsPerDay = MINUTES_PER_DAY / bucketMinutes;
+		final int dayCount = (int) ChronoUnit.DAYS.between(request.startDate(), request.endDate()) + 1;
+		
+		// 1. 상품 조회 및 시간 기반 Scope 검증
+		final List<ProductId> productIds = request.productIds().stream()
+				.distinct()
+				.map(ProductId::of)
+				.toList();
+		final List<Product> products = productRepository.findAllById(productIds);
+		if (products.size() != productIds.size()) {
+			throw new NoSuchElementException("Products not found: requested=" + productIds.size()
+					+ ", found=" + products.size());
+		}
+		products.stream()
+				.filter(product -> product.getScope() == ProductScope.RESERVATION)
+				.findFirst()
+				.ifPresent(product -> {
+					throw new IllegalArgumentException(
+							"Heatmap supports ROOM and PLACE scope products only: productId="
+									+ product.getProductId().getValue());
+				});
+		
+		// 2. 상품별 접근 가능한 룸 + 기간 전체 버킷 집계 (각 1 query)
+		final PlaceId placeId = PlaceId.of(request.placeId());
+		final Map<ProductId, List<Long>> roomIds =
+				inventoryAvailabilityRepository.findAccessibleRoomIds(placeId, productIds);
+		final List<BucketUsage> usages = inventoryAvailabilityRepository.findMaxReservedByBucket(
+				productIds,
+				request.startDate().atStartOfDay(),
+				request.endDate().plusDays(1).atStartOfDay(),
+				bucketMinutes
+		);
+		
+		// 3. 상품별 셀 배열 구성 (기본값: 총 재고)
+		final Map<ProductId, int[]> grids = new HashMap<>();
+		products.forEach(product -> {
+			final int[] grid = new int[dayCount * bucketsPerDay];
+			Arrays.fill(grid, product.getTotalQuantity());
+			grids.put(product.getProductId(), grid);
+		});
+		final Map<ProductId, Integer> totals = new HashMap<>();
+		products.forEach(product -> totals.put(product.getProductId(), product.getTotalQuantity()));
+		
+		for (final BucketUsage usage : usages) {
+			final int index = (int) ChronoUnit.DAYS.between(request.startDate(), usage.day()) * bucketsPerDay
+					+ usage.bucket();
+			grids.get(usage.productId())[index] = Math.max(0, totals.get(usage.productId()) - usage.maxReserved());
+		}
+		
+		final List<ProductHeatmap> heatmaps = productIds.stream()
+				.map(productId -> new ProductHeatmap(
+						productId.getValue(),
+						totals.get(productId),
+						roomIds.getOrDefault(productId, List.of()),
+						grids.get(productId)
+				))
+				.toList();
+		
+		logger.info("Availability heatmap queried: placeId={}, products={}, days={}, bucketsPerDay={}, usedBuckets={}",
+				request.placeId(), heatmaps.size(), dayCount, bucketsPerDay, usages.size());
+		
+		return new AvailabilityHeatmapResponse(
+				request.placeId(),
+				request.startDate(),
+				request.endDate(),
+				bucketMinutes,
+				bucketsPerDay,
+				heatmaps
+		);
+	}
+	
+	private void validateRange(final LocalDate startDate, final LocalDate endDate, final int bucketMinutes) {
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException(
+					"End date must not be before start date: startDate=" + startDate + ", endDate=" + endDate);
+		}
+		if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+			throw new IllegalArgumentException("Heatmap range must not exceed " + MAX_RANGE_DAYS + " days");
+		}
+		if (bucketMinutes <= 0 || MINUTES_PER_DAY % bucketMinutes != 0) {
+			throw new IllegalArgumentException("Bucket minutes must divide a day: " + bucketMinutes);
+		}
+	}
+}
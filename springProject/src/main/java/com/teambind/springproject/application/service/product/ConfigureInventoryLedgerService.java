@@ -0,0 +1,51 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.port.in.ConfigureInventoryLedgerUseCase;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+/**
+ * RESERVATION Scope 상품 재고 원장 모드 설정 Application Service.
+ * ConfigureInventoryLedgerUseCase를 구현합니다.
+ */
+@Service
+@Transactional
+public class ConfigureInventoryLedgerService implements ConfigureInventoryLedgerUseCase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(ConfigureInventoryLedgerService.class);
+	
+	private final ProductRepository productRepository;
+	
+	public ConfigureInventoryLedgerService(final ProductRepository productRepository) {
+		this.productRepository = productRepository;
+	}
+	
+	@Override
+	public void configureLedger(final ProductId productId, final boolean enabled) {
+		logger.info("Configuring inventory ledger: productId={}, enabled={}",
+				productId.getValue(), enabled);
+		
+		final Product product = productRepository.findById(productId)
+				.orElseThrow(() -> new NoSuchElementException(
+						"Product not found with id: " + productId.getValue()));
+		
+		if (product.getScope() != ProductScope.RESERVATION) {
+			throw new IllegalArgumentException(
+					"Inventory ledger is only supported for RESERVATION scope products: productId="
+							+ productId.getValue());
+		}
+		
+		productRepository.configureInventoryLedger(productId, enabled);
+		
+		logger.info("Successfully configured inventory ledger: productId={}, enabled={}",
+				productId.getValue(), enabled);
+	}
+}
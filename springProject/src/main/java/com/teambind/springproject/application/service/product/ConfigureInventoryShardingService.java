@@ -0,0 +1,51 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.port.in.ConfigureInventoryShardingUseCase;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+/**
+ * RESERVATION Scope 상품 재고 샤딩 설정 Application Service.
+ * ConfigureInventoryShardingUseCase를 구현합니다.
+ */
+@Service
+@Transactional
+public class ConfigureInventoryShardingService implements ConfigureInventoryShardingUseCase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(ConfigureInventoryShardingService.class);
+	
+	private final ProductRepository productRepository;
+	
+	public ConfigureInventoryShardingService(final ProductRepository productRepository) {
+		this.productRepository = productRepository;
+	}
+	
+	@Override
+	public void configureShards(final ProductId productId, final int shardCount) {
+		logger.info("Configuring inventory shards: productId={}, shardCount={}",
+				productId.getValue(), shardCount);
+		
+		final Product product = productRepository.findById(productId)
+				.orElseThrow(() -> new NoSuchElementException(
+						"Product not found with id: " + productId.getValue()));
+		
+		if (product.getScope() != ProductScope.RESERVATION) {
+			throw new IllegalArgumentException(
+					"Inventory sharding is only supported for RESERVATION scope products: productId="
+							+ productId.getValue());
+		}
+		
+		productRepository.configureInventoryShards(productId, shardCount);
+		
+		logger.info("Successfully configured inventory shards: productId={}, shardCount={}",
+				productId.getValue(), shardCount);
+	}
+}
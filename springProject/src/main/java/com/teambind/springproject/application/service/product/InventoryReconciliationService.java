@@ -0,0 +1,223 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.response.InventoryReconciliationResponse;
+import com.teambind.springproject.application.port.in.ReconcileInventoryUseCase;
+import com.teambind.springproject.application.port.out.InventoryReconciliationRepository;
+import com.teambind.springproject.application.port.out.InventoryReconciliationRepository.InventoryDrift;
+import com.teambind.springproject.application.port.out.InventoryReconciliationRepository.InventoryPartition;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 재고 카운터 정합성 점검(Reconciliation) Application Service.
+ * ReconcileInventoryUseCase를 구현합니다.
+ *
+ * 예약 수량 카운터는 예약과 같은 트랜잭션에서 갱신되지만, 다음 경우에는 실제 활성 예약과 어긋날 수 있습니다.
+ * - 운영자 수동 수정, 데이터 이관 등 애플리케이션을 거치지 않은 DB 변경
+ * - 예약 상태를 바꾸면서 재고 확보/해제를 빠뜨리는 코드 경로(버그)
+ * - Redis 재고 엔진: 롤백 보상 실패, Flush 전 Redis 장애로 인한 증감 유실
+ * 이 서비스는 시간대별 재고 파티션마다 점검 작업을 만들어 병렬로 실행합니다.
+ *
+ * 동작 방식:
+ * - 파티션별로 시간대 재고 행과 Place 집계 행을 각각 스트리밍하여 차이만 수집
+ * - RESERVATION Scope 상품은 별도 작업으로 점검
+ * - 스트리밍(읽기 전용 트랜잭션)이 끝난 뒤 차이를 행 단위로 보정하므로 커서를 연 채 잠금을 잡지 않음
+ * - dry-run이면 차이만 로그/메트릭으로 내보내고 보정하지 않음
+ * - Redis 재고 엔진(inventory.engine=redis)에서는 항상 dry-run으로 실행합니다. 카운터의 원본은 Redis이고
+ *   Postgres는 Write-behind 사본이라, Postgres만 보정하면 다음 Flush가 보정값을 덮어쓰고
+ *   Flush 전의 Postgres 값은 최신 예약을 반영하지 않아 잘못 보정할 수 있기 때문입니다.
+ *
+ * 메트릭 (target, result 태그):
+ * - inventory.reconciliation.drift: 발견된 차이 건수 (result: dry_run, corrected, skipped)
+ */
+@Service
+public class InventoryReconciliationService implements ReconcileInventoryUseCase {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryReconciliationService.class);
+
+	private static final String DRIFT_METRIC = "inventory.reconciliation.drift";
+
+	private final InventoryReconciliationRepository reconciliationRepository;
+	private final MeterRegistry meterRegistry;
+	private final InventoryConfiguration.Reconciliation reconciliationConfiguration;
+	private final boolean redisEngine;
+	private final ExecutorService executor;
+
+	public InventoryReconciliationService(
+			final InventoryReconciliationRepository reconciliationRepository,
+			final MeterRegistry meterRegistry,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.reconciliationRepository = reconciliationRepository;
+		this.meterRegistry = meterRegistry;
+		this.reconciliationConfiguration = inventoryConfiguration.getReconciliation();
+		this.redisEngine = "redis".equals(inventoryConfiguration.getEngine());
+
+		final AtomicInteger threadNumber = new AtomicInteger(1);
+		this.executor = Executors.newFixedThreadPool(
+				Math.max(1, reconciliationConfiguration.getParallelism()),
+				runnable -> {
+					final Thread thread = new Thread(runnable,
+							"inventory-reconciliation-" + threadNumber.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@FunctionalInterface
+	private interface DriftScanner {
+		void scan(Consumer<InventoryDrift> consumer);
+	}
+
+	private record TaskResult(long drifts, long corrected, long skipped) {}
+
+	@Override
+	public InventoryReconciliationResponse reconcile(final boolean requestedDryRun) {
+		final long startedAt = System.currentTimeMillis();
+		if (!requestedDryRun && redisEngine) {
+			logger.warn("Inventory reconciliation corrections are disabled with the redis inventory engine, running dry-run");
+		}
+		final boolean dryRun = requestedDryRun || redisEngine;
+		final LocalDateTime from = LocalDate.now()
+				.minusDays(reconciliationConfiguration.getLookbackDays())
+				.atStartOfDay();
+
+		final List<InventoryPartition> partitions = reconciliationRepository.findTimeSlotPartitions(from);
+		logger.info("Starting inventory reconciliation: dryRun={}, partitions={}, from={}",
+				dryRun, partitions.size(), from);
+
+		final List<String> taskNames = new ArrayList<>();
+		final List<Callable<TaskResult>> tasks = new ArrayList<>();
+		for (final InventoryPartition partition : partitions) {
+			taskNames.add(partition.partitionName());
+			tasks.add(() -> reconcileTarget(
+					consumer -> reconciliationRepository.streamTimeSlotDrifts(partition, consumer), dryRun));
+
+			taskNames.add(partition.partitionName() + " (place aggregate)");
+			tasks.add(() -> reconcileTarget(
+					consumer -> reconciliationRepository.streamPlaceAggregateDrifts(partition, consumer), dryRun));
+		}
+		taskNames.add("reservation scope products");
+		tasks.add(() -> reconcileTarget(reconciliationRepository::streamReservationScopeDrifts, dryRun));
+
+		final List<Future<TaskResult>> futures;
+		try {
+			futures = executor.invokeAll(tasks);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Inventory reconciliation interrupted", e);
+		}
+
+		long driftCount = 0;
+		long correctedCount = 0;
+		long skippedCount = 0;
+		int failedTasks = 0;
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				final TaskResult result = futures.get(i).get();
+				driftCount += result.drifts();
+				correctedCount += result.corrected();
+				skippedCount += result.skipped();
+			} catch (final ExecutionException e) {
+				failedTasks++;
+				logger.error("Inventory reconciliation task failed: task={}", taskNames.get(i), e.getCause());
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Inventory reconciliation interrupted", e);
+			}
+		}
+
+		final InventoryReconciliationResponse response = new InventoryReconciliationResponse(
+				dryRun,
+				partitions.size(),
+				driftCount,
+				correctedCount,
+				skippedCount,
+				failedTasks,
+				System.currentTimeMillis() - startedAt
+		);
+
+		logger.info("Inventory reconciliation completed: dryRun={}, partitions={}, drifts={}, corrected={}, "
+						+ "skipped={}, failedTasks={}, elapsedMillis={}",
+				response.dryRun(), response.partitions(), response.driftCount(), response.correctedCount(),
+				response.skippedCount(), response.failedTasks(), response.elapsedMillis());
+
+		return response;
+	}
+
+	private TaskResult reconcileTarget(final DriftScanner scanner, final boolean dryRun) {
+		// 차이 행만 수집되므로 메모리 사용량은 파티션 크기가 아닌 차이 건수에 비례합니다.
+		final List<InventoryDrift> drifts = new ArrayList<>();
+		scanner.scan(drifts::add);
+
+		long corrected = 0;
+		long skipped = 0;
+		for (final InventoryDrift drift : drifts) {
+			final String result;
+			if (dryRun) {
+				result = "dry_run";
+			} else if (applyCorrection(drift)) {
+				result = "corrected";
+				corrected++;
+			} else {
+				result = "skipped";
+				skipped++;
+			}
+
+			logger.warn("Inventory drift: target={}, productId={}, roomId={}, timeSlot={}, stored={}, expected={}, "
+							+ "result={}",
+					drift.target(), drift.productId(), drift.roomId(), drift.timeSlot(),
+					drift.storedQuantity(), drift.expectedQuantity(), result);
+			driftCounter(drift, result).increment();
+		}
+
+		return new TaskResult(drifts.size(), corrected, skipped);
+	}
+
+	private boolean applyCorrection(final InventoryDrift drift) {
+		try {
+			return reconciliationRepository.applyCorrection(drift);
+		} catch (final RuntimeException e) {
+			logger.error("Failed to correct inventory drift: target={}, productId={}, timeSlot={}",
+					drift.target(), drift.productId(), drift.timeSlot(), e);
+			return false;
+		}
+	}
+
+	private Counter driftCounter(final InventoryDrift drift, final String result) {
+		return Counter.builder(DRIFT_METRIC)
+				.tag("target", drift.target().name().toLowerCase())
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+				executor.shutdownNow();
+			}
+		} catch (final InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
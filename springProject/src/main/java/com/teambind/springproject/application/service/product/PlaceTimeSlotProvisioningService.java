@@ -0,0 +1,80 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.response.PlaceTimeSlotProvisioningResponse;
+import com.teambind.springproject.application.port.in.ProvisionPlaceTimeSlotsUseCase;
+import com.teambind.springproject.application.port.out.InventoryProvisioningRepository;
+import com.teambind.springproject.application.port.out.InventoryProvisioningRepository.PlaceProvisioningTarget;
+import com.teambind.springproject.domain.shared.PlaceId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성 Application Service.
+ * ProvisionPlaceTimeSlotsUseCase를 구현합니다.
+ *
+ * 생성 기간을 월 단위(시간대별 재고 파티션 경계)로 나누어 월마다 별도 트랜잭션으로 생성하므로
+ * 한 트랜잭션이 다루는 행 수와 임시 테이블 크기가 기간과 무관하게 한 달 분량으로 제한됩니다.
+ */
+@Service
+public class PlaceTimeSlotProvisioningService implements ProvisionPlaceTimeSlotsUseCase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(PlaceTimeSlotProvisioningService.class);
+	
+	private static final int MAX_HORIZON_DAYS = 366;
+	
+	private final InventoryProvisioningRepository provisioningRepository;
+	
+	public PlaceTimeSlotProvisioningService(final InventoryProvisioningRepository provisioningRepository) {
+		this.provisioningRepository = provisioningRepository;
+	}
+	
+	@Override
+	public PlaceTimeSlotProvisioningResponse provision(final PlaceId placeId, final int horizonDays) {
+		if (horizonDays <= 0 || horizonDays > MAX_HORIZON_DAYS) {
+			throw new IllegalArgumentException(
+					"Horizon days must be between 1 and " + MAX_HORIZON_DAYS + ": " + horizonDays);
+		}
+		
+		final long startedAt = System.currentTimeMillis();
+		final LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+		final LocalDateTime to = from.toLocalDate().plusDays(horizonDays).atStartOfDay();
+		
+		final List<PlaceProvisioningTarget> targets = provisioningRepository.findPlaceProvisioningTargets(placeId);
+		
+		long insertedRows = 0;
+		if (!targets.isEmpty()) {
+			LocalDateTime chunkStart = from;
+			while (chunkStart.isBefore(to)) {
+				final LocalDateTime nextMonth = chunkStart.toLocalDate()
+						.with(TemporalAdjusters.firstDayOfNextMonth())
+						.atStartOfDay();
+				final LocalDateTime chunkEnd = nextMonth.isBefore(to) ? nextMonth : to;
+				
+				insertedRows += provisioningRepository.provisionPlaceTimeSlots(targets, chunkStart, chunkEnd);
+				chunkStart = chunkEnd;
+			}
+		}
+		
+		final PlaceTimeSlotProvisioningResponse response = new PlaceTimeSlotProvisioningResponse(
+				placeId != null ? placeId.getValue() : null,
+				targets.size(),
+				from,
+				to,
+				insertedRows,
+				System.currentTimeMillis() - startedAt
+		);
+		
+		logger.info("Provisioned place time slot inventory: placeId={}, products={}, from={}, to={}, "
+						+ "insertedRows={}, elapsedMillis={}",
+				response.placeId(), response.products(), response.from(), response.to(),
+				response.insertedRows(), response.elapsedMillis());
+		
+		return response;
+	}
+}
@@ -4,11 +4,13 @@ import com.teambind.springproject.application.dto.request.ProductAvailabilityReq
 import com.teambind.springproject.application.dto.response.AvailableProductDto;
 import com.teambind.springproject.application.dto.response.ProductAvailabilityResponse;
 import com.teambind.springproject.application.port.in.QueryProductAvailabilityUseCase;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
 import com.teambind.springproject.application.port.out.ProductRepository;
-import com.teambind.springproject.application.port.out.ReservationPricingRepository;
 import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.product.availability.ProductAvailabilityService;
+import com.teambind.springproject.domain.product.vo.ProductScope;
 import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
 import com.teambind.springproject.domain.shared.RoomId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,9 +18,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 상품 재고 가용성 조회 Application Service.
+ *
+ * 시간 기반 Scope(ROOM, PLACE) 상품의 사용량은 예약 Aggregate를 로딩하지 않고
+ * 시간대별 재고 카운터를 집계 쿼리 한 번으로 조회합니다.
+ * 인메모리 가용성 인덱스(SlotAvailabilityIndex)가 요청 시간대를 포함하면 DB를 조회하지 않습니다.
+ * RESERVATION Scope는 시간과 무관하므로 기존 Domain Service 계산을 그대로 사용합니다.
  */
 @Service
 @Transactional(readOnly = true)
@@ -28,16 +36,19 @@ public class ProductAvailabilityQueryService implements QueryProductAvailability
 			ProductAvailabilityQueryService.class);
 	
 	private final ProductRepository productRepository;
-	private final ReservationPricingRepository reservationPricingRepository;
+	private final InventoryAvailabilityRepository inventoryAvailabilityRepository;
 	private final ProductAvailabilityService productAvailabilityService;
+	private final SlotAvailabilityIndex slotAvailabilityIndex;
 	
 	public ProductAvailabilityQueryService(
 			final ProductRepository productRepository,
-			final ReservationPricingRepository reservationPricingRepository,
-			final ProductAvailabilityService productAvailabilityService) {
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository,
+			final ProductAvailabilityService productAvailabilityService,
+			final SlotAvailabilityIndex slotAvailabilityIndex) {
 		this.productRepository = productRepository;
-		this.reservationPricingRepository = reservationPricingRepository;
+		this.inventoryAvailabilityRepository = inventoryAvailabilityRepository;
 		this.productAvailabilityService = productAvailabilityService;
+		this.slotAvailabilityIndex = slotAvailabilityIndex;
 	}
 	
 	@Override
@@ -53,18 +64,24 @@ public class ProductAvailabilityQueryService implements QueryProductAvailability
 		// 1. 룸에서 접근 가능한 모든 상품 목록 조회 (PLACE, ROOM, RESERVATION scope)
 		final List<Product> products = productRepository.findAccessibleProducts(placeId, roomId);
 		
-		// 2. 각 상품별 가용 수량 계산
+		// 2. 시간 기반 Scope 상품의 최대 사용 수량을 인메모리 인덱스 또는 집계 쿼리 한 번으로 조회
+		final List<Product> timeScopedProducts = products.stream()
+				.filter(product -> product.getScope() != ProductScope.RESERVATION)
+				.toList();
+		final Map<ProductId, Integer> maxReservedQuantities = slotAvailabilityIndex
+				.findMaxReservedQuantities(timeScopedProducts, request.timeSlots())
+				.orElseGet(() -> inventoryAvailabilityRepository.findMaxReservedQuantities(
+						timeScopedProducts.stream().map(Product::getProductId).toList(),
+						request.timeSlots()));
+		
+		// 3. 각 상품별 가용 수량 계산
 		final List<AvailableProductDto> availableProducts = products.stream()
 				.map(product -> {
-					// Scope별로 overlapping reservations 조회
-					final List<com.teambind.springproject.domain.reservationpricing.ReservationPricing> overlappingReservations =
-							getOverlappingReservations(product, request.timeSlots(), placeId, roomId);
-					
-					final int availableQuantity = productAvailabilityService.calculateAvailableQuantity(
-							product,
-							request.timeSlots(),
-							overlappingReservations
-					);
+					final int availableQuantity = product.getScope() == ProductScope.RESERVATION
+							? productAvailabilityService.calculateAvailableQuantity(
+									product, request.timeSlots(), List.of())
+							: productAvailabilityService.calculateAvailableQuantity(
+									product, maxReservedQuantities.getOrDefault(product.getProductId(), 0));
 					
 					return new AvailableProductDto(
 							product.getProductId().getValue(),
@@ -85,49 +102,4 @@ public class ProductAvailabilityQueryService implements QueryProductAvailability
 				availableProducts
 		);
 	}
-	
-	/**
-	 * 상품의 Scope에 따라 시간대가 겹치는 예약 목록을 조회합니다.
-	 *
-	 * @param product   상품
-	 * @param timeSlots 시간 슬롯 목록
-	 * @param placeId   플레이스 ID
-	 * @param roomId    룸 ID
-	 * @return 겹치는 예약 목록 (RESERVATION Scope인 경우 빈 리스트)
-	 */
-	private List<com.teambind.springproject.domain.reservationpricing.ReservationPricing> getOverlappingReservations(
-			final Product product,
-			final List<java.time.LocalDateTime> timeSlots,
-			final PlaceId placeId,
-			final RoomId roomId) {
-		
-		if (timeSlots == null || timeSlots.isEmpty()) {
-			return List.of();
-		}
-		
-		final java.time.LocalDateTime start = timeSlots.get(0);
-		final java.time.LocalDateTime end = timeSlots.get(timeSlots.size() - 1);
-		
-		return switch (product.getScope()) {
-			case RESERVATION -> List.of();  // RESERVATION Scope는 시간과 무관
-			case PLACE -> reservationPricingRepository.findByPlaceIdAndTimeRange(
-					placeId,
-					start,
-					end,
-					List.of(
-							com.teambind.springproject.domain.shared.ReservationStatus.PENDING,
-							com.teambind.springproject.domain.shared.ReservationStatus.CONFIRMED
-					)
-			);
-			case ROOM -> reservationPricingRepository.findByRoomIdAndTimeRange(
-					roomId,
-					start,
-					end,
-					List.of(
-							com.teambind.springproject.domain.shared.ReservationStatus.PENDING,
-							com.teambind.springproject.domain.shared.ReservationStatus.CONFIRMED
-					)
-			);
-		};
-	}
 }
@@ -0,0 +1,361 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.ReservedSlotChecksum;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryChangeListener;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 인메모리 시간대별 가용성 인덱스.
+ *
+ * (상품, 룸, 날짜)마다 하루 시간대 수 크기의 배열에 예약 수량을 유지하여,
+ * 가용성 조회가 예약/해제가 잠그는 재고 행을 다시 읽지 않도록 합니다.
+ *
+ * - 적재: 시작 시 오늘부터 horizonDays일 동안의 product_time_slot_inventory 행으로 구성합니다.
+ * - 갱신: InventoryReservationExecutor가 커밋 후 통지하는 예약/해제 증감을 반영합니다. 롤백된 작업은 통지되지 않습니다.
+ * - 점검: 주기적으로 DB 체크섬과 비교하여 연속으로 불일치하면 다시 적재합니다.
+ *   다른 인스턴스의 예약/해제와 Reconciliation 보정은 점검 후 재적재로만 반영되므로, 조회 결과는 점검 주기만큼 늦을 수 있습니다.
+ *   최종 재고 판단은 항상 DB의 조건부 UPDATE가 하므로 초과 예약으로 이어지지는 않습니다.
+ *
+ * 적재 범위 밖이거나 시간대 단위에 맞지 않는 시각, 적재 전, 반영하지 못한 증감이 있는 경우에는
+ * 빈 결과를 반환하며 호출자는 DB 집계 쿼리로 조회합니다.
+ */
+@Component
+public class SlotAvailabilityIndex implements InventoryChangeListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(SlotAvailabilityIndex.class);
+
+	private static final String DRIFT_METRIC = "inventory.availability.index.drift";
+
+	/** 체크섬 불일치가 이 횟수만큼 연속되면 재적재 (커밋 직후 반영 전 시점의 일시적 불일치 제외) */
+	private static final int DRIFT_CONFIRMATIONS = 2;
+
+	/** 귀속 룸 표기: PLACE Scope는 예약의 룸에 귀속 */
+	private static final long RESERVATION_ROOM = 0L;
+
+	/** 귀속 룸 표기: RESERVATION Scope는 시간대별 재고가 없으므로 인덱스 대상 아님 */
+	private static final long NOT_TIME_SCOPED = -1L;
+
+	private final InventoryAvailabilityRepository inventoryAvailabilityRepository;
+	private final ProductRepository productRepository;
+	private final Counter driftCounter;
+	private final boolean enabled;
+	private final int horizonDays;
+	private final int slotMinutes;
+	private final int slotsPerDay;
+
+	private volatile Snapshot snapshot;
+	private int consecutiveMismatches;
+
+	public SlotAvailabilityIndex(
+			final InventoryAvailabilityRepository inventoryAvailabilityRepository,
+			final ProductRepository productRepository,
+			final MeterRegistry meterRegistry,
+			final InventoryConfiguration inventoryConfiguration) {
+		final InventoryConfiguration.AvailabilityIndex configuration = inventoryConfiguration.getAvailabilityIndex();
+		if (configuration.getSlotMinutes() <= 0 || 1440 % configuration.getSlotMinutes() != 0) {
+			throw new IllegalArgumentException(
+					"Slot minutes must divide a day: " + configuration.getSlotMinutes());
+		}
+
+		this.inventoryAvailabilityRepository = inventoryAvailabilityRepository;
+		this.productRepository = productRepository;
+		this.driftCounter = Counter.builder(DRIFT_METRIC).register(meterRegistry);
+		// Redis 엔진은 DB 카운터가 Write-behind로 늦게 반영되므로 체크섬 비교가 성립하지 않습니다.
+		this.enabled = configuration.isEnabled() && !"redis".equals(inventoryConfiguration.getEngine());
+		this.horizonDays = configuration.getHorizonDays();
+		this.slotMinutes = configuration.getSlotMinutes();
+		this.slotsPerDay = 1440 / slotMinutes;
+	}
+
+	/**
+	 * (상품, 룸, 날짜) 키. PLACE Scope 합계는 roomId에 RESERVATION_ROOM을 사용합니다.
+	 */
+	private record DayKey(long productId, long roomId, long epochDay) {
+	}
+
+	/**
+	 * 한 번의 적재로 구성된 인덱스. 재적재 시 새 Snapshot으로 교체합니다.
+	 */
+	private static final class Snapshot {
+		private final LocalDate fromDay;
+		private final LocalDate toDay;
+		/** 상품 ID → ROOM Scope는 상품의 룸 ID, PLACE는 RESERVATION_ROOM, RESERVATION은 NOT_TIME_SCOPED */
+		private final Map<Long, Long> attributions = new ConcurrentHashMap<>();
+		/** 룸별 시간대 예약 수량 (product_time_slot_inventory 행과 1:1) */
+		private final Map<DayKey, AtomicIntegerArray> rooms = new ConcurrentHashMap<>();
+		/** PLACE Scope 상품의 룸 합계 */
+		private final Map<DayKey, AtomicIntegerArray> placeTotals = new ConcurrentHashMap<>();
+		private volatile boolean stale;
+
+		private Snapshot(final LocalDate fromDay, final LocalDate toDay) {
+			this.fromDay = fromDay;
+			this.toDay = toDay;
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			rebuild();
+		} catch (final RuntimeException e) {
+			// 적재 전에는 DB 집계 쿼리로 조회하며, 다음 점검에서 다시 적재합니다.
+			logger.error("Failed to load slot availability index", e);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 시간 기반 Scope 상품들의 요청 시간대 중 최대 사용 수량을 인덱스에서 계산합니다.
+	 * InventoryAvailabilityRepository.findMaxReservedQuantities와 같은 값을 반환합니다.
+	 *
+	 * @param products  시간 기반 Scope(ROOM, PLACE) 상품 목록
+	 * @param timeSlots 요청 시간대 목록
+	 * @return 상품 ID별 최대 사용 수량, 인덱스로 응답할 수 없으면 빈 값
+	 */
+	public Optional<Map<ProductId, Integer>> findMaxReservedQuantities(
+			final List<Product> products,
+			final List<LocalDateTime> timeSlots) {
+		final Snapshot current = snapshot;
+		if (current == null || current.stale || !covers(current, timeSlots)) {
+			return Optional.empty();
+		}
+
+		final Map<ProductId, Integer> maxReserved = new HashMap<>();
+		for (final Product product : products) {
+			register(current, product);
+			final long productId = product.getProductId().getValue();
+			final boolean placeScoped = product.getScope() == ProductScope.PLACE;
+
+			int max = 0;
+			for (final LocalDateTime timeSlot : timeSlots) {
+				final DayKey key = placeScoped
+						? new DayKey(productId, RESERVATION_ROOM, timeSlot.toLocalDate().toEpochDay())
+						: new DayKey(productId, product.getRoomId().getValue(), timeSlot.toLocalDate().toEpochDay());
+				final AtomicIntegerArray slots = placeScoped ? current.placeTotals.get(key) : current.rooms.get(key);
+				if (slots != null) {
+					max = Math.max(max, slots.get(slotIndex(timeSlot)));
+				}
+			}
+			maxReserved.put(product.getProductId(), max);
+		}
+		return Optional.of(maxReserved);
+	}
+
+	/**
+	 * 커밋된 예약 증가분을 반영합니다.
+	 * ROOM Scope는 상품의 룸, PLACE Scope는 예약의 룸에 귀속시킵니다.
+	 */
+	@Override
+	public void onReserved(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		final Snapshot current = snapshot;
+		if (!enabled || current == null) {
+			return;
+		}
+		quantities.forEach((productId, quantity) -> {
+			final Long attribution = current.attributions.get(productId.getValue());
+			if (attribution == null) {
+				// 적재 이후 등록된 상품: 귀속 룸을 알 수 없으므로 다음 점검에서 재적재합니다.
+				current.stale = true;
+				return;
+			}
+			if (attribution != NOT_TIME_SCOPED) {
+				final long targetRoomId = attribution == RESERVATION_ROOM ? roomId.getValue() : attribution;
+				apply(current, productId.getValue(), targetRoomId, attribution == RESERVATION_ROOM,
+						timeSlots, quantity);
+			}
+		});
+	}
+
+	/**
+	 * 커밋된 해제 감소분을 반영합니다. RESERVATION Scope 항목은 무시합니다.
+	 */
+	@Override
+	public void onReleased(final List<InventoryReleaseItem> items, final List<LocalDateTime> timeSlots) {
+		final Snapshot current = snapshot;
+		if (!enabled || current == null) {
+			return;
+		}
+		for (final InventoryReleaseItem item : items) {
+			final Product product = item.product();
+			if (product.getScope() == ProductScope.RESERVATION) {
+				continue;
+			}
+			register(current, product);
+			apply(current, product.getProductId().getValue(), item.roomId().getValue(),
+					product.getScope() == ProductScope.PLACE, timeSlots, -item.quantity());
+		}
+	}
+
+	/**
+	 * 인덱스를 DB 체크섬과 비교합니다.
+	 * 적재 전이거나 반영하지 못한 증감이 있거나 날짜가 바뀌었거나, 불일치가 연속되면 재적재합니다.
+	 *
+	 * @return 재적재 여부
+	 */
+	public synchronized boolean verify() {
+		if (!enabled) {
+			return false;
+		}
+
+		final Snapshot current = snapshot;
+		if (current == null || current.stale || !current.fromDay.equals(LocalDate.now())) {
+			rebuild();
+			return true;
+		}
+
+		final ReservedSlotChecksum expected = inventoryAvailabilityRepository.checksumReservedSlots(
+				current.fromDay.atStartOfDay(), current.toDay.atStartOfDay());
+		final ReservedSlotChecksum actual = checksum(current);
+		if (expected.equals(actual)) {
+			consecutiveMismatches = 0;
+			return false;
+		}
+
+		consecutiveMismatches++;
+		logger.warn("Slot availability index checksum mismatch: expected={}, actual={}, consecutive={}",
+				expected, actual, consecutiveMismatches);
+		if (consecutiveMismatches < DRIFT_CONFIRMATIONS) {
+			return false;
+		}
+
+		driftCounter.increment();
+		rebuild();
+		return true;
+	}
+
+	/**
+	 * DB에서 인덱스를 새로 구성하여 교체합니다.
+	 * 구성 중에 커밋된 증감은 이전 인덱스에만 반영될 수 있으며, 다음 점검에서 불일치로 감지됩니다.
+	 */
+	public synchronized void rebuild() {
+		final LocalDate fromDay = LocalDate.now();
+		final Snapshot rebuilt = new Snapshot(fromDay, fromDay.plusDays(horizonDays));
+
+		for (final ProductScope scope : ProductScope.values()) {
+			productRepository.findByScope(scope).forEach(product -> register(rebuilt, product));
+		}
+
+		final int[] rows = {0};
+		inventoryAvailabilityRepository.streamReservedSlots(
+				rebuilt.fromDay.atStartOfDay(),
+				rebuilt.toDay.atStartOfDay(),
+				slot -> {
+					if (isAligned(slot.timeSlot())) {
+						final Long attribution = rebuilt.attributions.get(slot.productId());
+						apply(rebuilt, slot.productId(), slot.roomId(),
+								attribution != null && attribution == RESERVATION_ROOM,
+								List.of(slot.timeSlot()), slot.reserved());
+					} else {
+						rebuilt.stale = true;
+					}
+					rows[0]++;
+				});
+
+		snapshot = rebuilt;
+		consecutiveMismatches = 0;
+		logger.info("Slot availability index loaded: from={}, to={}, products={}, rows={}",
+				rebuilt.fromDay, rebuilt.toDay, rebuilt.attributions.size(), rows[0]);
+	}
+
+	private void apply(
+			final Snapshot target,
+			final long productId,
+			final long roomId,
+			final boolean placeScoped,
+			final List<LocalDateTime> timeSlots,
+			final int delta) {
+		for (final LocalDateTime timeSlot : timeSlots) {
+			final LocalDate day = timeSlot.toLocalDate();
+			if (day.isBefore(target.fromDay) || !day.isBefore(target.toDay)) {
+				continue;
+			}
+			final int slotIndex = slotIndex(timeSlot);
+			target.rooms.computeIfAbsent(new DayKey(productId, roomId, day.toEpochDay()),
+					key -> new AtomicIntegerArray(slotsPerDay)).addAndGet(slotIndex, delta);
+			if (placeScoped) {
+				target.placeTotals.computeIfAbsent(new DayKey(productId, RESERVATION_ROOM, day.toEpochDay()),
+						key -> new AtomicIntegerArray(slotsPerDay)).addAndGet(slotIndex, delta);
+			}
+		}
+	}
+
+	private ReservedSlotChecksum checksum(final Snapshot current) {
+		long totalReserved = 0;
+		long weightedSum = 0;
+		for (final Map.Entry<DayKey, AtomicIntegerArray> entry : current.rooms.entrySet()) {
+			final DayKey key = entry.getKey();
+			final AtomicIntegerArray slots = entry.getValue();
+			final long dayStartMinute = LocalDate.ofEpochDay(key.epochDay()).atStartOfDay()
+					.toEpochSecond(ZoneOffset.UTC) / 60;
+			for (int i = 0; i < slotsPerDay; i++) {
+				final int reserved = slots.get(i);
+				if (reserved != 0) {
+					totalReserved += reserved;
+					weightedSum += reserved * ReservedSlotChecksum.weight(
+							key.productId(), key.roomId(), dayStartMinute + (long) i * slotMinutes);
+				}
+			}
+		}
+		return new ReservedSlotChecksum(totalReserved, weightedSum);
+	}
+
+	private boolean covers(final Snapshot current, final List<LocalDateTime> timeSlots) {
+		for (final LocalDateTime timeSlot : timeSlots) {
+			final LocalDate day = timeSlot.toLocalDate();
+			if (day.isBefore(current.fromDay) || !day.isBefore(current.toDay) || !isAligned(timeSlot)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isAligned(final LocalDateTime timeSlot) {
+		return timeSlot.getSecond() == 0 && timeSlot.getNano() == 0 && timeSlot.getMinute() % slotMinutes == 0;
+	}
+
+	private int slotIndex(final LocalDateTime timeSlot) {
+		return (timeSlot.getHour() * 60 + timeSlot.getMinute()) / slotMinutes;
+	}
+
+	private static void register(final Snapshot target, final Product product) {
+		final long attribution = switch (product.getScope()) {
+			case ROOM -> product.getRoomId().getValue();
+			case PLACE -> RESERVATION_ROOM;
+			case RESERVATION -> NOT_TIME_SCOPED;
+		};
+		target.attributions.putIfAbsent(product.getProductId().getValue(), attribution);
+	}
+}
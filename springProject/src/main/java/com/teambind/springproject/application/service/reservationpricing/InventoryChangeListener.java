@@ -0,0 +1,36 @@
+package com.teambind.springproject.application.service.reservationpricing;
+
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커밋된 재고 예약/해제를 통지받는 리스너.
+ *
+ * InventoryReservationExecutor가 성공한 작업만 트랜잭션 커밋 후에 호출합니다. (트랜잭션 밖이면 즉시)
+ * 롤백된 작업은 통지하지 않으며, 리스너의 예외는 로그만 남기고 다른 리스너 호출을 계속합니다.
+ */
+public interface InventoryChangeListener {
+
+	/**
+	 * 장바구니 예약이 커밋되었습니다.
+	 * ROOM Scope 상품은 상품의 룸, PLACE Scope 상품은 roomId에 귀속됩니다.
+	 *
+	 * @param roomId     예약의 룸 ID
+	 * @param timeSlots  시간대 목록 (오름차순)
+	 * @param quantities 상품별 예약 수량
+	 */
+	void onReserved(RoomId roomId, List<LocalDateTime> timeSlots, Map<ProductId, Integer> quantities);
+
+	/**
+	 * 재고 해제가 커밋되었습니다.
+	 *
+	 * @param items     해제 항목 목록 (roomId는 재고가 귀속된 룸)
+	 * @param timeSlots 시간대 목록 (오름차순)
+	 */
+	void onReleased(List<InventoryReleaseItem> items, List<LocalDateTime> timeSlots);
+}
@@ -0,0 +1,229 @@
+package com.teambind.springproject.application.service.reservationpricing;
+
+import com.teambind.springproject.application.port.out.InventoryHoldRepository;
+import com.teambind.springproject.application.port.out.InventoryHoldRepository.ActiveHoldCounts;
+import com.teambind.springproject.application.port.out.InventoryHoldRepository.InventoryHold;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.reservationpricing.exception.InventoryHoldLimitExceededException;
+import com.teambind.springproject.domain.reservationpricing.exception.ProductNotAvailableException;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가격 미리보기 시점의 단기 재고 홀드 Application Service.
+ *
+ * 홀드는 미리보기에서 요청 수량을 실제 재고 카운터에 예약하고 TTL 동안 기록해 둡니다.
+ * 재고 카운터에 반영되어 있으므로 가용 재고 조회는 활성 홀드를 자동으로 제외합니다.
+ *
+ * - 생성: 요청자별/룸별 활성 홀드 수가 한도에 도달하면 거절하여, 홀드를 반복해 시간대 재고를 묶어 두지 못하게 함
+ * - 예약 생성: 홀드를 삭제하고 홀드 수량을 재검증 없이 예약의 재고로 넘김
+ * - 만료: 스케줄러가 배치 단위로 홀드를 삭제하고 재고를 해제한 뒤 대기열에 할당
+ */
+@Service
+@Transactional
+@RetryOnConcurrencyFailure
+public class InventoryHoldService {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryHoldService.class);
+
+	private final InventoryHoldRepository inventoryHoldRepository;
+	private final ProductRepository productRepository;
+	private final InventoryReservationExecutor inventoryReservationExecutor;
+	private final InventoryWaitlistService inventoryWaitlistService;
+	private final InventoryConfiguration.Hold holdConfiguration;
+
+	public InventoryHoldService(
+			final InventoryHoldRepository inventoryHoldRepository,
+			final ProductRepository productRepository,
+			final InventoryReservationExecutor inventoryReservationExecutor,
+			final InventoryWaitlistService inventoryWaitlistService,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.inventoryHoldRepository = inventoryHoldRepository;
+		this.productRepository = productRepository;
+		this.inventoryReservationExecutor = inventoryReservationExecutor;
+		this.inventoryWaitlistService = inventoryWaitlistService;
+		this.holdConfiguration = inventoryConfiguration.getHold();
+	}
+
+	/**
+	 * 요청 수량을 예약하고 홀드를 생성합니다.
+	 *
+	 * @param holderKey  요청자 키 (nullable이면 룸 한도만 적용)
+	 * @param roomId     예약할 룸 ID
+	 * @param timeSlots  예약 시간대 목록
+	 * @param quantities 상품별 수량
+	 * @return 생성된 홀드
+	 * @throws InventoryHoldLimitExceededException 요청자 또는 룸의 활성 홀드 수가 한도에 도달한 경우
+	 * @throws ProductNotAvailableException        재고가 부족한 경우 (아무것도 예약하지 않음)
+	 */
+	public InventoryHold hold(
+			final String holderKey,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+		checkActiveHoldLimit(holderKey, roomId);
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
+
+		final Map<ProductId, Boolean> results = inventoryReservationExecutor.reserve(roomId, slots, quantities);
+		results.entrySet().stream()
+				.filter(entry -> !entry.getValue())
+				.map(Map.Entry::getKey)
+				.findFirst()
+				.ifPresent(productId -> {
+					throw new ProductNotAvailableException(productId.getValue(), quantities.get(productId));
+				});
+
+		final Map<Long, Integer> holdQuantities = new LinkedHashMap<>();
+		quantities.forEach((productId, quantity) -> holdQuantities.put(productId.getValue(), quantity));
+
+		final InventoryHold hold = inventoryHoldRepository.insert(
+				holderKey,
+				roomId.getValue(),
+				slots,
+				holdQuantities,
+				LocalDateTime.now().plusSeconds(holdConfiguration.getTtlSeconds())
+		);
+
+		logger.info("Inventory hold created: holdId={}, roomId={}, products={}, expiresAt={}",
+				hold.holdId(), roomId.getValue(), holdQuantities.size(), hold.expiresAt());
+		return hold;
+	}
+
+	/**
+	 * 홀드를 예약 재고로 전환합니다. 홀드를 삭제하고 홀드한 수량을 반환합니다.
+	 *
+	 * 만료 정리 전이면 만료 시각이 지난 홀드도 전환합니다 (재고는 아직 예약된 상태).
+	 * 이미 정리된 홀드는 빈 결과를 반환하므로 호출자는 일반 예약처럼 재고를 검증합니다.
+	 *
+	 * @param holdId    홀드 ID (null 허용)
+	 * @param roomId    예약할 룸 ID
+	 * @param timeSlots 예약 시간대 목록
+	 * @return 상품별 홀드 수량
+	 * @throws IllegalArgumentException 예약과 룸 또는 시간대가 다른 경우
+	 */
+	public Map<ProductId, Integer> convert(
+			final Long holdId,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots) {
+		final Map<ProductId, Integer> heldQuantities = new LinkedHashMap<>();
+		if (holdId == null) {
+			return heldQuantities;
+		}
+
+		final InventoryHold hold = inventoryHoldRepository.findByIdForUpdate(holdId).orElse(null);
+		if (hold == null) {
+			logger.info("Inventory hold already released, reserving without hold: holdId={}", holdId);
+			return heldQuantities;
+		}
+
+		if (!hold.roomId().equals(roomId.getValue()) || !hold.timeSlots().equals(normalizeTimeSlots(timeSlots))) {
+			throw new IllegalArgumentException(
+					"Inventory hold does not match reservation room and time slots: holdId=" + holdId);
+		}
+
+		inventoryHoldRepository.deleteAllById(List.of(holdId));
+		hold.quantities().forEach((productId, quantity) -> heldQuantities.put(ProductId.of(productId), quantity));
+
+		logger.debug("Inventory hold converted: holdId={}, products={}", holdId, heldQuantities.size());
+		return heldQuantities;
+	}
+
+	/**
+	 * 만료된 홀드를 배치 단위로 정리합니다.
+	 * 홀드를 삭제하고 재고를 해제한 뒤 해제된 재고를 대기열에 할당합니다.
+	 *
+	 * @return 정리한 홀드 수
+	 */
+	public int sweepExpired() {
+		final List<InventoryHold> holds = inventoryHoldRepository.lockExpired(
+				LocalDateTime.now(), holdConfiguration.getSweepBatchSize());
+		if (holds.isEmpty()) {
+			return 0;
+		}
+
+		// 배치 전체의 상품을 한 번에 조회
+		final List<ProductId> productIds = holds.stream()
+				.flatMap(hold -> hold.quantities().keySet().stream())
+				.distinct()
+				.map(ProductId::of)
+				.toList();
+		final Map<ProductId, Product> productMap = productRepository.findAllById(productIds).stream()
+				.collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+		for (final InventoryHold hold : holds) {
+			final List<InventoryReleaseItem> releaseItems = new ArrayList<>();
+			hold.quantities().forEach((productId, quantity) -> {
+				final Product product = productMap.get(ProductId.of(productId));
+				if (product == null) {
+					throw new IllegalStateException("Product not found: productId=" + productId);
+				}
+				final RoomId releaseRoomId = product.getScope() == ProductScope.ROOM
+						? product.getRoomId()
+						: RoomId.of(hold.roomId());
+				releaseItems.add(new InventoryReleaseItem(product, releaseRoomId, quantity));
+			});
+
+			inventoryReservationExecutor.release(releaseItems, hold.timeSlots());
+			inventoryWaitlistService.allocateReleased(releaseItems, hold.timeSlots());
+		}
+
+		final int deleted = inventoryHoldRepository.deleteAllById(
+				holds.stream().map(InventoryHold::holdId).toList());
+
+		logger.info("Swept expired inventory holds: count={}", deleted);
+		return deleted;
+	}
+
+	/**
+	 * 활성 홀드 수를 한도와 비교합니다.
+	 * 요청자와 룸을 잠근 뒤 세므로, 동시에 들어온 요청도 홀드를 저장하기 전까지 차례로 검사합니다.
+	 */
+	private void checkActiveHoldLimit(final String holderKey, final RoomId roomId) {
+		final int maxPerHolder = holderKey == null ? 0 : holdConfiguration.getMaxActivePerHolder();
+		final int maxPerRoom = holdConfiguration.getMaxActivePerRoom();
+		if (maxPerHolder <= 0 && maxPerRoom <= 0) {
+			return;
+		}
+
+		inventoryHoldRepository.lockHoldQuota(holderKey, roomId.getValue());
+		final ActiveHoldCounts counts = inventoryHoldRepository.countActive(
+				holderKey, roomId.getValue(), LocalDateTime.now());
+
+		if (maxPerHolder > 0 && counts.byHolder() >= maxPerHolder) {
+			logger.warn("Inventory hold rejected: holder limit reached, roomId={}, active={}",
+					roomId.getValue(), counts.byHolder());
+			throw new InventoryHoldLimitExceededException(
+					"Too many active inventory holds for caller: limit=" + maxPerHolder);
+		}
+		if (maxPerRoom > 0 && counts.byRoom() >= maxPerRoom) {
+			logger.warn("Inventory hold rejected: room limit reached, roomId={}, active={}",
+					roomId.getValue(), counts.byRoom());
+			throw new InventoryHoldLimitExceededException(
+					"Too many active inventory holds for room: roomId=" + roomId.getValue() + ", limit=" + maxPerRoom);
+		}
+	}
+
+	private static List<LocalDateTime> normalizeTimeSlots(final List<LocalDateTime> timeSlots) {
+		return timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+	}
+}
@@ -0,0 +1,409 @@
+package com.teambind.springproject.application.service.reservationpricing;
+
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.common.transaction.ConcurrencyFailureReason;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 잠금 순서를 고정한 재고 예약/해제 실행기.
+ *
+ * 동시성 제어 메커니즘:
+ * - 모든 (product, room, slot) 키를 product_id → room_id → time_slot 순서로 정렬한 뒤 행을 잠급니다.
+ *   상품 순서가 다른 두 장바구니도 같은 순서로 잠그므로 교착 상태가 발생하지 않습니다.
+ * - 각 시도는 NESTED 트랜잭션(Savepoint)으로 실행되며, 시도 시작 시 lock_timeout(inventory.retry.lock-timeout-millis)을
+ *   설정하고 성공하면 이전 값으로 되돌립니다. 잠금 대기가 상한을 넘으면 발생하는 잠금 타임아웃(55P03)은
+ *   Savepoint로 되돌린 뒤 Jitter가 적용된 지수 백오프로 재시도합니다.
+ * - 교착 상태(40P01), 직렬화 실패(40001)는 PostgreSQL이 트랜잭션 전체를 희생시키므로 Savepoint 재시도 없이 전파하고,
+ *   바깥 트랜잭션 경계의 {@link RetryOnConcurrencyFailure}가 트랜잭션 전체를 다시 실행합니다.
+ *
+ * 성공한 예약/해제는 커밋 후 InventoryChangeListener(가용성 인덱스 등)에 통지됩니다.
+ *
+ * 메트릭 (operation 태그: reserve / release / adjust):
+ * - inventory.reservation.attempt.duration: 시도별 재고 작업 전체 소요 시간 (outcome 태그: success / 실패 원인)
+ * - inventory.reservation.retries: Savepoint 재시도 횟수 (reason 태그: lock_timeout)
+ * 상품 ID는 카디널리티가 제한되지 않으므로 메트릭 태그로 쓰지 않고, 재시도/실패 로그에 남깁니다.
+ */
+@Component
+public class InventoryReservationExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryReservationExecutor.class);
+
+	private static final String ATTEMPT_DURATION_METRIC = "inventory.reservation.attempt.duration";
+	private static final String RETRY_METRIC = "inventory.reservation.retries";
+
+	private final ProductRepository productRepository;
+	private final List<InventoryChangeListener> changeListeners;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final InventoryConfiguration.Retry retryConfiguration;
+
+	public InventoryReservationExecutor(
+			final ProductRepository productRepository,
+			final List<InventoryChangeListener> changeListeners,
+			final PlatformTransactionManager transactionManager,
+			final MeterRegistry meterRegistry,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.productRepository = productRepository;
+		this.changeListeners = List.copyOf(changeListeners);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+		this.meterRegistry = meterRegistry;
+		this.retryConfiguration = inventoryConfiguration.getRetry();
+	}
+
+	/**
+	 * 해제할 재고 항목.
+	 *
+	 * @param product  상품
+	 * @param roomId   재고가 귀속된 룸 ID (RESERVATION Scope는 예약의 룸 ID로 샤드 선택에 사용)
+	 * @param quantity 해제할 수량
+	 */
+	public record InventoryReleaseItem(
+			Product product,
+			RoomId roomId,
+			int quantity
+	) {}
+
+	/**
+	 * 예약 요청의 모든 상품 재고를 정렬된 순서로 예약합니다.
+	 *
+	 * @param roomId     예약할 룸 ID
+	 * @param timeSlots  예약 시간대 목록
+	 * @param quantities 상품별 예약 수량
+	 * @return 상품별 예약 가능 여부 (입력 순서 유지)
+	 */
+	public Map<ProductId, Boolean> reserve(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
+
+		final Map<ProductId, Integer> orderedQuantities = sortQuantities(quantities);
+		final List<LocalDateTime> orderedSlots = sortTimeSlots(timeSlots);
+
+		final Map<ProductId, Boolean> results = executeWithRetry(
+				"reserve",
+				List.copyOf(orderedQuantities.keySet()),
+				status -> productRepository.reserveCartQuantities(roomId, orderedSlots, orderedQuantities)
+		);
+		if (!orderedQuantities.isEmpty() && results.values().stream().allMatch(Boolean::booleanValue)) {
+			notifyAfterCommit(listener -> listener.onReserved(roomId, orderedSlots, orderedQuantities));
+		}
+
+		// 호출자의 요청 순서로 결과 반환
+		final Map<ProductId, Boolean> orderedResults = new LinkedHashMap<>();
+		quantities.keySet().forEach(productId ->
+				orderedResults.put(productId, results.getOrDefault(productId, false)));
+		return orderedResults;
+	}
+
+	/**
+	 * 여러 상품의 재고를 정렬된 순서로 해제합니다.
+	 * 하나라도 해제에 실패하면 IllegalStateException이 발생하며, 이번 시도의 변경은 모두 되돌려집니다.
+	 *
+	 * @param items     해제할 항목 목록
+	 * @param timeSlots 시간대 목록 (ROOM/PLACE Scope에서 사용)
+	 * @throws IllegalStateException 예약 수량 부족 등으로 해제 실패 시
+	 */
+	public void release(final List<InventoryReleaseItem> items, final List<LocalDateTime> timeSlots) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		final List<InventoryReleaseItem> orderedItems = sortReleaseItems(items);
+		final List<LocalDateTime> orderedSlots = sortTimeSlots(timeSlots);
+		final List<ProductId> productIds = orderedItems.stream()
+				.map(item -> item.product().getProductId())
+				.distinct()
+				.toList();
+
+		executeWithRetry("release", productIds, status -> {
+			orderedItems.forEach(item -> releaseItem(item, orderedSlots));
+			return null;
+		});
+		notifyAfterCommit(listener -> listener.onReleased(orderedItems, orderedSlots));
+	}
+
+	/**
+	 * 예약 상품 변경분(증가분 예약 + 감소분 해제)을 한 번의 NESTED 트랜잭션으로 반영합니다.
+	 * 증가분과 감소분을 합쳐 product_id 순서로 한 번만 훑으므로, 서로 반대로 상품을 바꾸는 두 변경도
+	 * 같은 순서로 행을 잠급니다. 감소분 상품 사이의 연속된 증가분은 한 번의 장바구니 예약으로 묶습니다.
+	 * 증가분 중 하나라도 재고가 부족하면 남은 감소분은 해제하지 않고, 이미 반영한 변경은 Savepoint로 되돌린 뒤
+	 * 결과만 반환합니다. Redis 엔진의 카운터는 바깥 트랜잭션이 롤백될 때 보상되므로,
+	 * 호출자는 실패 결과를 받으면 예외로 트랜잭션을 롤백해야 합니다.
+	 *
+	 * @param roomId     예약의 룸 ID
+	 * @param timeSlots  예약 시간대 목록
+	 * @param increases  상품별 추가 예약 수량
+	 * @param decreases  해제할 항목 목록
+	 * @return 증가분 상품별 예약 가능 여부 (입력 순서 유지)
+	 * @throws IllegalStateException 감소분 해제 실패 시
+	 */
+	public Map<ProductId, Boolean> adjust(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> increases,
+			final List<InventoryReleaseItem> decreases) {
+
+		final Map<ProductId, Integer> orderedIncreases = sortQuantities(increases);
+		final List<InventoryReleaseItem> orderedDecreases = sortReleaseItems(decreases);
+		final List<LocalDateTime> orderedSlots = sortTimeSlots(timeSlots);
+		final Map<ProductId, List<InventoryReleaseItem>> decreasesByProduct = orderedDecreases.stream()
+				.collect(Collectors.groupingBy(
+						item -> item.product().getProductId(), LinkedHashMap::new, Collectors.toList()));
+		final List<ProductId> productIds = Stream.concat(
+						orderedIncreases.keySet().stream(),
+						decreasesByProduct.keySet().stream())
+				.distinct()
+				.sorted(Comparator.comparing(ProductId::getValue))
+				.toList();
+
+		final Map<ProductId, Boolean> results = executeWithRetry("adjust", productIds, status -> {
+			final Map<ProductId, Boolean> reserved = new LinkedHashMap<>();
+			final Map<ProductId, Integer> pendingIncreases = new LinkedHashMap<>();
+			for (final ProductId productId : productIds) {
+				final Integer increase = orderedIncreases.get(productId);
+				if (increase != null) {
+					pendingIncreases.put(productId, increase);
+				}
+				final List<InventoryReleaseItem> productDecreases = decreasesByProduct.get(productId);
+				if (productDecreases == null) {
+					continue;
+				}
+
+				// 감소분 상품보다 앞선 증가분을 먼저 예약해 product_id 순서를 유지
+				reserved.putAll(reservePending(roomId, orderedSlots, pendingIncreases));
+				if (reserved.values().stream().allMatch(Boolean::booleanValue)) {
+					productDecreases.forEach(item -> releaseItem(item, orderedSlots));
+				}
+			}
+			reserved.putAll(reservePending(roomId, orderedSlots, pendingIncreases));
+
+			if (!reserved.values().stream().allMatch(Boolean::booleanValue)) {
+				status.setRollbackOnly();
+			}
+			return reserved;
+		});
+		if (results.values().stream().allMatch(Boolean::booleanValue)) {
+			notifyAfterCommit(listener -> {
+				if (!orderedIncreases.isEmpty()) {
+					listener.onReserved(roomId, orderedSlots, orderedIncreases);
+				}
+				if (!orderedDecreases.isEmpty()) {
+					listener.onReleased(orderedDecreases, orderedSlots);
+				}
+			});
+		}
+
+		final Map<ProductId, Boolean> orderedResults = new LinkedHashMap<>();
+		increases.keySet().forEach(productId ->
+				orderedResults.put(productId, results.getOrDefault(productId, false)));
+		return orderedResults;
+	}
+
+	/**
+	 * 모아 둔 증가분을 한 번의 장바구니 예약으로 반영하고 비웁니다.
+	 */
+	private Map<ProductId, Boolean> reservePending(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> pendingIncreases) {
+		if (pendingIncreases.isEmpty()) {
+			return Map.of();
+		}
+		final Map<ProductId, Boolean> reserved = productRepository.reserveCartQuantities(
+				roomId, timeSlots, new LinkedHashMap<>(pendingIncreases));
+		pendingIncreases.clear();
+		return reserved;
+	}
+
+	private void releaseItem(final InventoryReleaseItem item, final List<LocalDateTime> timeSlots) {
+		final Product product = item.product();
+		final boolean released = switch (product.getScope()) {
+			case RESERVATION -> item.roomId() == null
+					? productRepository.releaseQuantity(product.getProductId(), item.quantity())
+					: productRepository.releaseQuantity(
+							product.getProductId(), item.roomId(), timeSlots, item.quantity());
+			case ROOM, PLACE -> timeSlots.isEmpty() || productRepository.releaseTimeSlotQuantities(
+					product.getProductId(), item.roomId(), timeSlots, item.quantity());
+		};
+
+		if (!released) {
+			logger.error("Failed to release {} product: productId={}, roomId={}, timeSlots={}, quantity={}",
+					product.getScope(),
+					product.getProductId().getValue(),
+					item.roomId() == null ? null : item.roomId().getValue(),
+					timeSlots,
+					item.quantity());
+			throw new IllegalStateException(
+					"Failed to release " + product.getScope() + " product: productId="
+							+ product.getProductId().getValue()
+			);
+		}
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 후, 밖이면 즉시 리스너에 통지합니다.
+	 */
+	private void notifyAfterCommit(final Consumer<InventoryChangeListener> notification) {
+		if (changeListeners.isEmpty()) {
+			return;
+		}
+		final Runnable notifyAll = () -> changeListeners.forEach(listener -> {
+			try {
+				notification.accept(listener);
+			} catch (final RuntimeException e) {
+				logger.error("Inventory change listener failed: listener={}", listener.getClass().getSimpleName(), e);
+			}
+		});
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			notifyAll.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				notifyAll.run();
+			}
+		});
+	}
+
+	/**
+	 * 재고 작업을 NESTED 트랜잭션으로 실행하고, 잠금 타임아웃 시 Savepoint로 되돌린 뒤 재시도합니다.
+	 * 교착 상태 / 직렬화 실패는 트랜잭션 전체 재시도를 위해 그대로 전파합니다.
+	 */
+	private <T> T executeWithRetry(
+			final String operation,
+			final List<ProductId> productIds,
+			final TransactionCallback<T> work) {
+		int attempt = 1;
+		while (true) {
+			final long startedAt = System.nanoTime();
+			try {
+				final T result = transactionTemplate.execute(status -> runWithLockTimeout(status, work));
+				recordAttempt(operation, "success", System.nanoTime() - startedAt);
+				return result;
+			} catch (final ConcurrencyFailureException e) {
+				final ConcurrencyFailureReason reason = ConcurrencyFailureReason.of(e);
+				recordAttempt(operation, reason.tag(), System.nanoTime() - startedAt);
+
+				if (reason != ConcurrencyFailureReason.LOCK_TIMEOUT) {
+					logger.warn("Inventory operation aborted, propagating for transaction retry: operation={}, productIds={}, reason={}",
+							operation, productIds.stream().map(ProductId::getValue).toList(), reason.tag());
+					throw e;
+				}
+				if (attempt >= retryConfiguration.getMaxAttempts()) {
+					logger.error("Inventory operation failed after {} attempts: operation={}, productIds={}, reason={}",
+							attempt, operation, productIds.stream().map(ProductId::getValue).toList(), reason.tag());
+					throw e;
+				}
+
+				retryCounter(operation, reason).increment();
+				logger.warn("Retrying inventory operation: attempt={}, operation={}, productIds={}, reason={}",
+						attempt, operation, productIds.stream().map(ProductId::getValue).toList(), reason.tag());
+
+				backoff(attempt, e);
+				attempt++;
+			}
+		}
+	}
+
+	/**
+	 * 잠금 대기 상한을 설정한 채 작업을 실행합니다.
+	 * 실패하면 Savepoint 롤백으로 설정도 되돌려지므로, 성공한 경우에만 이전 값을 복원합니다.
+	 */
+	private <T> T runWithLockTimeout(final TransactionStatus status, final TransactionCallback<T> work) {
+		final long lockTimeoutMillis = retryConfiguration.getLockTimeoutMillis();
+		if (lockTimeoutMillis <= 0) {
+			return work.doInTransaction(status);
+		}
+		final String previousLockTimeout = productRepository.applyLockTimeout(lockTimeoutMillis + "ms");
+		final T result = work.doInTransaction(status);
+		productRepository.applyLockTimeout(previousLockTimeout);
+		return result;
+	}
+
+	/**
+	 * Full Jitter 지수 백오프: [0, min(max, initial * 2^(attempt-1))] 구간에서 무작위 대기.
+	 */
+	private void backoff(final int attempt, final ConcurrencyFailureException cause) {
+		final long ceiling = Math.min(
+				retryConfiguration.getMaxBackoffMillis(),
+				retryConfiguration.getInitialBackoffMillis() << Math.min(attempt - 1, 20)
+		);
+		final long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+		try {
+			TimeUnit.MILLISECONDS.sleep(sleepMillis);
+		} catch (final InterruptedException interrupted) {
+			Thread.currentThread().interrupt();
+			throw cause;
+		}
+	}
+
+	private void recordAttempt(final String operation, final String outcome, final long elapsedNanos) {
+		Timer.builder(ATTEMPT_DURATION_METRIC)
+				.tag("operation", operation)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Counter retryCounter(final String operation, final ConcurrencyFailureReason reason) {
+		return Counter.builder(RETRY_METRIC)
+				.tag("operation", operation)
+				.tag("reason", reason.tag())
+				.register(meterRegistry);
+	}
+
+	private static Map<ProductId, Integer> sortQuantities(final Map<ProductId, Integer> quantities) {
+		final Map<ProductId, Integer> orderedQuantities = new LinkedHashMap<>();
+		quantities.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey(Comparator.comparing(ProductId::getValue)))
+				.forEach(entry -> orderedQuantities.put(entry.getKey(), entry.getValue()));
+		return orderedQuantities;
+	}
+
+	private static List<InventoryReleaseItem> sortReleaseItems(final List<InventoryReleaseItem> items) {
+		return items.stream()
+				.sorted(Comparator
+						.comparing((InventoryReleaseItem item) -> item.product().getProductId().getValue())
+						.thenComparing(item -> item.roomId() == null ? Long.MIN_VALUE : item.roomId().getValue()))
+				.toList();
+	}
+
+	private static List<LocalDateTime> sortTimeSlots(final List<LocalDateTime> timeSlots) {
+		return timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+	}
+}
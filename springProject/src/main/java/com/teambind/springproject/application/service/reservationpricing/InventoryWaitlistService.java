@@ -0,0 +1,306 @@
+package com.teambind.springproject.application.service.reservationpricing;
+
+import com.teambind.springproject.adapter.out.messaging.kafka.event.WaitlistClaimAllocatedEvent;
+import com.teambind.springproject.application.dto.request.EnqueueWaitlistRequest;
+import com.teambind.springproject.application.dto.response.WaitlistClaimResponse;
+import com.teambind.springproject.application.port.in.ManageWaitlistUseCase;
+import com.teambind.springproject.application.port.out.InventoryWaitlistRepository;
+import com.teambind.springproject.application.port.out.InventoryWaitlistRepository.ClaimStatus;
+import com.teambind.springproject.application.port.out.InventoryWaitlistRepository.WaitlistClaim;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.port.out.publisher.EventPublisher;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.vo.ProductScope;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.ReservationId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 품절 상품 대기열(Waitlist) Application Service.
+ *
+ * 재고가 부족한 클라이언트는 예약을 반복 시도하는 대신 대기 요청을 등록합니다.
+ * 예약 취소/환불/상품 감소로 재고가 해제되면 같은 트랜잭션에서 해당 상품의 가장 오래된 대기 요청부터
+ * 재고를 예약(할당)하고 WaitlistClaimAllocatedEvent로 알립니다. 이벤트는 트랜잭션 커밋 후 발행됩니다.
+ *
+ * 할당된 재고는 대기 요청이 선점한 상태이며, 클라이언트가 할당 만료 전에 대기 요청 ID로 예약을 생성하면
+ * 그 예약의 재고로 넘어갑니다(FULFILLED). 만료되거나 취소되면 재고를 반환하고 다음 대기 요청에 할당합니다.
+ *
+ * 할당은 오래된 순으로 시도하되, 해제된 재고로 채울 수 없는 요청(더 큰 수량, 해제되지 않은 시간대 포함)은
+ * 건너뛰고 다음 요청을 검사합니다.
+ */
+@Service
+@Transactional
+@RetryOnConcurrencyFailure
+public class InventoryWaitlistService implements ManageWaitlistUseCase {
+
+	private static final Logger logger = LoggerFactory.getLogger(InventoryWaitlistService.class);
+
+	private final InventoryWaitlistRepository waitlistRepository;
+	private final ProductRepository productRepository;
+	private final InventoryReservationExecutor inventoryReservationExecutor;
+	private final EventPublisher eventPublisher;
+	private final InventoryConfiguration.Waitlist waitlistConfiguration;
+
+	@Value("${kafka.topics.waitlist-claim-allocated:waitlist-claim-allocated}")
+	private String waitlistClaimAllocatedTopic;
+
+	public InventoryWaitlistService(
+			final InventoryWaitlistRepository waitlistRepository,
+			final ProductRepository productRepository,
+			final InventoryReservationExecutor inventoryReservationExecutor,
+			final EventPublisher eventPublisher,
+			final InventoryConfiguration inventoryConfiguration) {
+		this.waitlistRepository = waitlistRepository;
+		this.productRepository = productRepository;
+		this.inventoryReservationExecutor = inventoryReservationExecutor;
+		this.eventPublisher = eventPublisher;
+		this.waitlistConfiguration = inventoryConfiguration.getWaitlist();
+	}
+
+	@Override
+	public WaitlistClaimResponse enqueue(final EnqueueWaitlistRequest request) {
+		final Product product = productRepository.findById(ProductId.of(request.productId()))
+				.orElseThrow(() -> new NoSuchElementException(
+						"Product not found: productId=" + request.productId()));
+
+		final List<LocalDateTime> timeSlots = normalizeTimeSlots(request.timeSlots());
+		final WaitlistClaim claim = waitlistRepository.insert(
+				request.productId(),
+				request.roomId(),
+				timeSlots,
+				request.quantity(),
+				LocalDateTime.now().plusMinutes(waitlistConfiguration.getWaitTimeoutMinutes())
+		);
+
+		logger.info("Waitlist claim enqueued: claimId={}, productId={}, roomId={}, quantity={}",
+				claim.claimId(), claim.productId(), claim.roomId(), claim.quantity());
+
+		// 지금 남은 재고가 있으면 (앞선 대기 요청부터) 바로 할당
+		allocate(product, scopedTimeSlots(product, timeSlots));
+
+		return toResponse(findClaim(claim.claimId()));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public WaitlistClaimResponse getClaim(final Long claimId) {
+		return toResponse(findClaim(claimId));
+	}
+
+	@Override
+	public WaitlistClaimResponse cancel(final Long claimId) {
+		final WaitlistClaim claim = waitlistRepository.findByIdForUpdate(claimId)
+				.orElseThrow(() -> new NoSuchElementException("Waitlist claim not found: claimId=" + claimId));
+
+		if (claim.status() != ClaimStatus.WAITING && claim.status() != ClaimStatus.ALLOCATED) {
+			throw new IllegalStateException(
+					"Waitlist claim is not active: claimId=" + claimId + ", status=" + claim.status());
+		}
+
+		close(claim, ClaimStatus.CANCELLED);
+		logger.info("Waitlist claim cancelled: claimId={}, previousStatus={}", claimId, claim.status());
+
+		return toResponse(findClaim(claimId));
+	}
+
+	@Override
+	public int expireClaims() {
+		final List<WaitlistClaim> claims = waitlistRepository.lockExpiredClaims(
+				LocalDateTime.now(), waitlistConfiguration.getAllocationBatchSize());
+
+		claims.forEach(claim -> close(claim, ClaimStatus.EXPIRED));
+
+		if (!claims.isEmpty()) {
+			logger.info("Expired waitlist claims: count={}", claims.size());
+		}
+		return claims.size();
+	}
+
+	/**
+	 * 해제된 재고를 대기 요청에 할당합니다. 재고를 해제한 트랜잭션 안에서 호출해야 합니다.
+	 *
+	 * @param releasedItems 해제한 재고 항목
+	 * @param timeSlots     해제한 시간대 목록
+	 */
+	public void allocateReleased(final List<InventoryReleaseItem> releasedItems, final List<LocalDateTime> timeSlots) {
+		final Map<ProductId, Product> products = new LinkedHashMap<>();
+		releasedItems.forEach(item -> products.putIfAbsent(item.product().getProductId(), item.product()));
+
+		products.values().forEach(product -> allocate(product, scopedTimeSlots(product, timeSlots)));
+	}
+
+	/**
+	 * 예약 생성에 사용할 할당된 대기 요청을 잠그고 검증합니다.
+	 * 대기 요청은 예약과 같은 룸, 같은 시간대여야 합니다.
+	 *
+	 * @param claimIds  대기 요청 ID 목록 (null 허용)
+	 * @param roomId    예약할 룸 ID
+	 * @param timeSlots 예약 시간대 목록
+	 * @return 상품별 이미 할당된 수량
+	 * @throws NoSuchElementException   대기 요청이 없는 경우
+	 * @throws IllegalStateException    할당 상태가 아니거나 할당이 만료된 경우
+	 * @throws IllegalArgumentException 예약과 룸 또는 시간대가 다른 경우
+	 */
+	public Map<ProductId, Integer> lockAllocatedClaims(
+			final List<Long> claimIds,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots) {
+		final Map<ProductId, Integer> allocatedQuantities = new LinkedHashMap<>();
+		if (claimIds == null || claimIds.isEmpty()) {
+			return allocatedQuantities;
+		}
+
+		final List<LocalDateTime> slots = normalizeTimeSlots(timeSlots);
+		final LocalDateTime now = LocalDateTime.now();
+		claimIds.stream().distinct().sorted().forEach(claimId -> {
+			final WaitlistClaim claim = waitlistRepository.findByIdForUpdate(claimId)
+					.orElseThrow(() -> new NoSuchElementException("Waitlist claim not found: claimId=" + claimId));
+
+			if (claim.status() != ClaimStatus.ALLOCATED || claim.expiresAt().isBefore(now)) {
+				throw new IllegalStateException(
+						"Waitlist claim is not allocated: claimId=" + claimId + ", status=" + claim.status());
+			}
+			if (!claim.roomId().equals(roomId.getValue()) || !claim.timeSlots().equals(slots)) {
+				throw new IllegalArgumentException(
+						"Waitlist claim does not match reservation room and time slots: claimId=" + claimId);
+			}
+			allocatedQuantities.merge(ProductId.of(claim.productId()), claim.quantity(), Integer::sum);
+		});
+		return allocatedQuantities;
+	}
+
+	/**
+	 * 예약 생성에 사용한 대기 요청을 FULFILLED로 변경합니다.
+	 * 할당된 재고는 해제하지 않고 예약의 재고로 넘어갑니다.
+	 */
+	public void markFulfilled(final List<Long> claimIds, final ReservationId reservationId) {
+		if (claimIds == null) {
+			return;
+		}
+		claimIds.stream().distinct().forEach(claimId -> {
+			if (!waitlistRepository.updateStatus(
+					claimId, ClaimStatus.ALLOCATED, ClaimStatus.FULFILLED, null, reservationId.getValue())) {
+				throw new IllegalStateException("Waitlist claim is not allocated: claimId=" + claimId);
+			}
+		});
+	}
+
+	/**
+	 * 상품의 WAITING 대기 요청에 오래된 순으로 재고를 할당합니다.
+	 *
+	 * @return 할당한 대기 요청 수
+	 */
+	private int allocate(final Product product, final List<LocalDateTime> releasedTimeSlots) {
+		final ProductId productId = product.getProductId();
+		final List<WaitlistClaim> claims = waitlistRepository.lockWaitingClaims(
+				productId.getValue(), releasedTimeSlots, waitlistConfiguration.getAllocationBatchSize());
+
+		final LocalDateTime now = LocalDateTime.now();
+		int allocated = 0;
+		for (final WaitlistClaim claim : claims) {
+			// 대기 만료된 요청은 만료 스케줄러가 정리
+			if (claim.expiresAt().isBefore(now)) {
+				continue;
+			}
+
+			final boolean reserved = inventoryReservationExecutor.reserve(
+					RoomId.of(claim.roomId()),
+					claim.timeSlots(),
+					Map.of(productId, claim.quantity())
+			).getOrDefault(productId, false);
+			if (!reserved) {
+				continue;
+			}
+
+			final LocalDateTime allocationExpiresAt = now.plusMinutes(waitlistConfiguration.getAllocationTimeoutMinutes());
+			waitlistRepository.updateStatus(
+					claim.claimId(), ClaimStatus.WAITING, ClaimStatus.ALLOCATED, allocationExpiresAt, null);
+			publishAllocatedEvent(claim, allocationExpiresAt);
+			allocated++;
+		}
+
+		if (allocated > 0) {
+			logger.info("Allocated released inventory to waitlist claims: productId={}, allocated={}",
+					productId.getValue(), allocated);
+		}
+		return allocated;
+	}
+
+	/**
+	 * 활성 대기 요청을 종료합니다. 할당된 재고가 있으면 반환하고 다음 대기 요청에 할당합니다.
+	 */
+	private void close(final WaitlistClaim claim, final ClaimStatus status) {
+		if (claim.status() == ClaimStatus.WAITING) {
+			waitlistRepository.updateStatus(claim.claimId(), ClaimStatus.WAITING, status, null, null);
+			return;
+		}
+
+		final Product product = productRepository.findById(ProductId.of(claim.productId()))
+				.orElseThrow(() -> new IllegalStateException(
+						"Product not found: productId=" + claim.productId()));
+		final RoomId roomId = product.getScope() == ProductScope.ROOM
+				? product.getRoomId()
+				: RoomId.of(claim.roomId());
+
+		inventoryReservationExecutor.release(
+				List.of(new InventoryReleaseItem(product, roomId, claim.quantity())),
+				claim.timeSlots());
+		waitlistRepository.updateStatus(claim.claimId(), ClaimStatus.ALLOCATED, status, null, null);
+
+		allocate(product, scopedTimeSlots(product, claim.timeSlots()));
+	}
+
+	private void publishAllocatedEvent(final WaitlistClaim claim, final LocalDateTime allocationExpiresAt) {
+		eventPublisher.publish(new WaitlistClaimAllocatedEvent(
+				waitlistClaimAllocatedTopic,
+				null,
+				claim.claimId(),
+				claim.productId(),
+				claim.roomId(),
+				claim.timeSlots(),
+				claim.quantity(),
+				allocationExpiresAt,
+				LocalDateTime.now()
+		));
+	}
+
+	private WaitlistClaim findClaim(final Long claimId) {
+		return waitlistRepository.findById(claimId)
+				.orElseThrow(() -> new NoSuchElementException("Waitlist claim not found: claimId=" + claimId));
+	}
+
+	private WaitlistClaimResponse toResponse(final WaitlistClaim claim) {
+		final Long position = claim.status() == ClaimStatus.WAITING
+				? waitlistRepository.countWaitingAhead(claim) + 1
+				: null;
+		return WaitlistClaimResponse.of(claim, position);
+	}
+
+	/**
+	 * RESERVATION Scope 재고는 시간대와 무관하므로 시간대가 겹치지 않는 대기 요청도 할당 대상입니다.
+	 */
+	private static List<LocalDateTime> scopedTimeSlots(final Product product, final List<LocalDateTime> timeSlots) {
+		return product.getScope() == ProductScope.RESERVATION ? List.of() : timeSlots;
+	}
+
+	private static List<LocalDateTime> normalizeTimeSlots(final List<LocalDateTime> timeSlots) {
+		return timeSlots.stream()
+				.distinct()
+				.sorted()
+				.toList();
+	}
+}
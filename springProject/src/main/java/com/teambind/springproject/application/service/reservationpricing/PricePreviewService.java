@@ -5,8 +5,10 @@ import com.teambind.springproject.application.dto.request.ProductRequest;
 import com.teambind.springproject.application.dto.response.PricePreviewResponse;
 import com.teambind.springproject.application.dto.response.ProductPriceDetail;
 import com.teambind.springproject.application.port.in.CalculateReservationPriceUseCase;
+import com.teambind.springproject.application.port.out.InventoryHoldRepository.InventoryHold;
 import com.teambind.springproject.application.port.out.PricingPolicyRepository;
 import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
 import com.teambind.springproject.domain.pricingpolicy.PricingPolicy;
 import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.product.vo.ProductPriceBreakdown;
@@ -22,7 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -36,12 +40,15 @@ public class PricePreviewService implements CalculateReservationPriceUseCase {
 	
 	private final PricingPolicyRepository pricingPolicyRepository;
 	private final ProductRepository productRepository;
+	private final InventoryHoldService inventoryHoldService;
 	
 	public PricePreviewService(
 			final PricingPolicyRepository pricingPolicyRepository,
-			final ProductRepository productRepository) {
+			final ProductRepository productRepository,
+			final InventoryHoldService inventoryHoldService) {
 		this.pricingPolicyRepository = pricingPolicyRepository;
 		this.productRepository = productRepository;
+		this.inventoryHoldService = inventoryHoldService;
 	}
 	
 	@Override
@@ -83,6 +90,27 @@ public class PricePreviewService implements CalculateReservationPriceUseCase {
 		);
 	}
 	
+	@Override
+	@Transactional
+	@RetryOnConcurrencyFailure
+	public PricePreviewResponse calculatePriceWithHold(
+			final CreateReservationRequest request,
+			final String holderKey) {
+		final PricePreviewResponse preview = calculatePrice(request);
+		
+		final Map<ProductId, Integer> quantities = new LinkedHashMap<>();
+		request.products().forEach(productRequest ->
+				quantities.merge(ProductId.of(productRequest.productId()), productRequest.quantity(), Integer::sum));
+		if (quantities.isEmpty()) {
+			return preview;
+		}
+		
+		final InventoryHold hold = inventoryHoldService.hold(
+				holderKey, RoomId.of(request.roomId()), request.timeSlots(), quantities);
+		
+		return preview.withHold(hold.holdId(), hold.expiresAt());
+	}
+	
 	/**
 	 * 시간대 가격을 계산합니다.
 	 */
@@ -11,18 +11,20 @@ import com.teambind.springproject.application.dto.response.ReservationPricingRes
 import com.teambind.springproject.application.dto.response.ReservationTimePriceDetail;
 import com.teambind.springproject.application.port.in.CreateReservationUseCase;
 import com.teambind.springproject.application.port.in.UpdateReservationProductsUseCase;
-import com.teambind.springproject.application.port.out.InventoryCompensationQueue;
 import com.teambind.springproject.application.port.out.PricingPolicyRepository;
 import com.teambind.springproject.application.port.out.ProductRepository;
 import com.teambind.springproject.application.port.out.ReservationPricingRepository;
 import com.teambind.springproject.application.port.out.publisher.EventPublisher;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
 import com.teambind.springproject.common.config.ReservationConfiguration;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
 import com.teambind.springproject.domain.pricingpolicy.PricingPolicy;
 import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.product.vo.ProductPriceBreakdown;
-import com.teambind.springproject.domain.reservationpricing.InventoryCompensationTask;
+import com.teambind.springproject.domain.product.vo.ProductScope;
 import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
 import com.teambind.springproject.domain.reservationpricing.TimeSlotPriceBreakdown;
+import com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException;
 import com.teambind.springproject.domain.reservationpricing.exception.ProductNotAvailableException;
 import com.teambind.springproject.domain.reservationpricing.exception.ReservationPricingNotFoundException;
 import com.teambind.springproject.domain.shared.*;
@@ -43,6 +45,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -50,6 +53,9 @@ import java.util.stream.Collectors;
 /**
  * 예약 가격 계산 Application Service.
  * CreateReservationUseCase와 UpdateReservationProductsUseCase를 구현합니다.
+ *
+ * 재고를 변경하는 메서드에만 @RetryOnConcurrencyFailure를 붙입니다.
+ * confirmReservation은 멱등하지 않은 외부 확정 요청을 보내므로 재시도 대상에서 제외합니다.
  */
 @Service
 @Transactional
@@ -60,10 +66,12 @@ public class ReservationPricingService implements CreateReservationUseCase,
 	
 	private final PricingPolicyRepository pricingPolicyRepository;
 	private final ProductRepository productRepository;
+	private final InventoryReservationExecutor inventoryReservationExecutor;
 	private final ReservationPricingRepository reservationPricingRepository;
-	private final InventoryCompensationQueue compensationQueue;
 	private final EventPublisher eventPublisher;
 	private final RestTemplate restTemplate;
+	private final InventoryWaitlistService inventoryWaitlistService;
+	private final InventoryHoldService inventoryHoldService;
 	private final long pendingTimeoutMinutes;
 
 	@Value("${kafka.topics.reservation-pending-payment:reservation-pending-payment}")
@@ -81,21 +89,26 @@ public class ReservationPricingService implements CreateReservationUseCase,
 	public ReservationPricingService(
 			final PricingPolicyRepository pricingPolicyRepository,
 			final ProductRepository productRepository,
+			final InventoryReservationExecutor inventoryReservationExecutor,
 			final ReservationPricingRepository reservationPricingRepository,
-			final InventoryCompensationQueue compensationQueue,
 			final EventPublisher eventPublisher,
 			final RestTemplate restTemplate,
+			final InventoryWaitlistService inventoryWaitlistService,
+			final InventoryHoldService inventoryHoldService,
 			final ReservationConfiguration reservationConfiguration) {
 		this.pricingPolicyRepository = pricingPolicyRepository;
 		this.productRepository = productRepository;
+		this.inventoryReservationExecutor = inventoryReservationExecutor;
 		this.reservationPricingRepository = reservationPricingRepository;
-		this.compensationQueue = compensationQueue;
 		this.eventPublisher = eventPublisher;
 		this.restTemplate = restTemplate;
+		this.inventoryWaitlistService = inventoryWaitlistService;
+		this.inventoryHoldService = inventoryHoldService;
 		this.pendingTimeoutMinutes = reservationConfiguration.getPending().getTimeoutMinutes();
 	}
 	
 	@Override
+	@RetryOnConcurrencyFailure
 	public ReservationPricingResponse createReservation(final CreateReservationRequest request) {
 		logger.info("Creating reservation: roomId={}, timeSlots={}, products={}",
 				request.roomId(), request.timeSlots().size(), request.products().size());
@@ -111,7 +124,12 @@ public class ReservationPricingService implements CreateReservationUseCase,
 		final List<Product> products = fetchProducts(request.products());
 
 		// 3. Scope별 재고 예약 (RESERVATION: 원자적 UPDATE, ROOM/PLACE: 시간대별 검증)
-		reserveProducts(products, request.products(), roomId, request.timeSlots());
+		//    미리보기 홀드와 대기열 할당 수량은 이미 예약된 재고이므로 재검증 없이 전환하고 추가 예약에서 제외
+		final Map<ProductId, Integer> preReservedQuantities = new LinkedHashMap<>(
+				inventoryHoldService.convert(request.holdId(), roomId, request.timeSlots()));
+		inventoryWaitlistService.lockAllocatedClaims(request.waitlistClaimIds(), roomId, request.timeSlots())
+				.forEach((productId, quantity) -> preReservedQuantities.merge(productId, quantity, Integer::sum));
+		reserveProducts(products, request.products(), roomId, request.timeSlots(), preReservedQuantities);
 
 		// 4. 시간대별 가격 계산
 		final TimeSlotPriceBreakdown timeSlotBreakdown = calculateTimeSlotBreakdown(
@@ -130,9 +148,10 @@ public class ReservationPricingService implements CreateReservationUseCase,
 				pendingTimeoutMinutes
 		);
 
-		// 7. 저장
+		// 7. 저장 (사용한 대기 요청은 완료 처리, 할당된 재고는 예약의 재고로 넘어감)
 		final ReservationPricing savedReservation = reservationPricingRepository.save(
 				reservationPricing);
+		inventoryWaitlistService.markFulfilled(request.waitlistClaimIds(), savedReservation.getReservationId());
 
 		logger.info("Successfully created reservation: reservationId={}, totalPrice={}",
 				savedReservation.getReservationId().getValue(),
@@ -232,6 +251,7 @@ public class ReservationPricingService implements CreateReservationUseCase,
 	}
 	
 	@Override
+	@RetryOnConcurrencyFailure
 	public ReservationPricingResponse cancelReservation(final Long reservationId) {
 		return cancelReservation(reservationId, "Operator rejected");
 	}
@@ -245,6 +265,7 @@ public class ReservationPricingService implements CreateReservationUseCase,
 	 * @return 취소된 예약 정보
 	 * @throws ReservationPricingNotFoundException 예약을 찾을 수 없는 경우
 	 */
+	@RetryOnConcurrencyFailure
 	public ReservationPricingResponse cancelReservation(final Long reservationId, final String cancelReason) {
 		logger.info("Cancelling reservation: reservationId={}, reason={}", reservationId, cancelReason);
 
@@ -252,19 +273,21 @@ public class ReservationPricingService implements CreateReservationUseCase,
 				.findById(ReservationId.of(reservationId))
 				.orElseThrow(() -> new ReservationPricingNotFoundException(reservationId));
 
-		// 1. 예약된 상품 재고 복구
-		releaseProducts(reservation);
-
-		// 2. 예약 취소 처리
+		// 1. 예약 취소 처리 (조건부 상태 전환, 중복 취소는 재고를 해제하기 전에 실패)
+		final ReservationStatus previousStatus = reservation.getStatus();
 		reservation.cancel();
-		final ReservationPricing savedReservation = reservationPricingRepository.save(reservation);
+		transitionStatus(reservation, previousStatus, "cancel");
+
+		// 2. 예약된 상품 재고 복구 후 대기열에 할당
+		final List<InventoryReleaseItem> releasedItems = releaseProducts(reservation);
+		inventoryWaitlistService.allocateReleased(releasedItems, extractTimeSlots(reservation));
 
 		// 3. 취소 이벤트 발행 (시간관리 서비스에서 시간 락 해제)
-		publishReservationCancelledEvent(savedReservation, cancelReason);
+		publishReservationCancelledEvent(reservation, cancelReason);
 
 		logger.info("Successfully cancelled reservation: reservationId={}", reservationId);
 
-		return ReservationPricingResponse.from(savedReservation);
+		return ReservationPricingResponse.from(reservation);
 	}
 
 	/**
@@ -275,6 +298,7 @@ public class ReservationPricingService implements CreateReservationUseCase,
 	 * @return 환불된 예약 정보
 	 * @throws ReservationPricingNotFoundException 예약을 찾을 수 없는 경우
 	 */
+	@RetryOnConcurrencyFailure
 	public ReservationPricingResponse refundReservation(final Long reservationId) {
 		logger.info("Refunding reservation: reservationId={}", reservationId);
 
@@ -282,19 +306,44 @@ public class ReservationPricingService implements CreateReservationUseCase,
 				.findById(ReservationId.of(reservationId))
 				.orElseThrow(() -> new ReservationPricingNotFoundException(reservationId));
 
-		// 1. 예약된 상품 재고 복구
-		releaseProducts(reservation);
-
-		// 2. 예약 환불 처리 (CONFIRMED → CANCELLED)
+		// 1. 예약 환불 처리 (CONFIRMED → CANCELLED, 조건부 상태 전환)
+		final ReservationStatus previousStatus = reservation.getStatus();
 		reservation.refund();
-		final ReservationPricing savedReservation = reservationPricingRepository.save(reservation);
+		transitionStatus(reservation, previousStatus, "refund");
+
+		// 2. 예약된 상품 재고 복구 후 대기열에 할당
+		final List<InventoryReleaseItem> releasedItems = releaseProducts(reservation);
+		inventoryWaitlistService.allocateReleased(releasedItems, extractTimeSlots(reservation));
 
 		logger.info("Successfully refunded reservation: reservationId={}", reservationId);
 
-		return ReservationPricingResponse.from(savedReservation);
+		return ReservationPricingResponse.from(reservation);
+	}
+
+	/**
+	 * 도메인 규칙으로 전환한 상태를 조건부 UPDATE로 저장합니다.
+	 * 그 사이 다른 요청(중복 이벤트, 만료 처리 등)이 먼저 상태를 바꿨으면 재고를 건드리기 전에 실패합니다.
+	 *
+	 * @param reservation    상태를 전환한 예약
+	 * @param expectedStatus 전환 전 상태
+	 * @param action         전환 동작 이름 (예외 메시지용)
+	 * @throws InvalidReservationStatusException 상태가 이미 바뀐 경우
+	 */
+	private void transitionStatus(
+			final ReservationPricing reservation,
+			final ReservationStatus expectedStatus,
+			final String action) {
+		if (!reservationPricingRepository.transitionStatus(
+				reservation.getReservationId(), expectedStatus, reservation.getStatus())) {
+			throw new InvalidReservationStatusException(
+					"Reservation status changed concurrently: reservationId="
+							+ reservation.getReservationId().getValue()
+							+ ", expected=" + expectedStatus + ", attemptedAction=" + action);
+		}
 	}
 
 	@Override
+	@RetryOnConcurrencyFailure
 	public ReservationPricingResponse updateProducts(
 			final Long reservationId,
 			final UpdateProductsRequest request) {
@@ -307,26 +356,23 @@ public class ReservationPricingService implements CreateReservationUseCase,
 				.findById(ReservationId.of(reservationId))
 				.orElseThrow(() -> new ReservationPricingNotFoundException(reservationId));
 
-		// 2. 기존 상품 재고 복구
-		releaseProducts(reservation);
-
-		// 3. 새 상품 목록 조회
+		// 2. 새 상품 목록 조회
 		final List<Product> products = fetchProducts(request.products());
 
-		// 4. 예약의 시간대 추출
+		// 3. 예약의 시간대 추출
 		final List<LocalDateTime> timeSlots = extractTimeSlots(reservation);
 
-		// 5. 새 상품 재고 예약 (Scope별 처리)
-		reserveProducts(products, request.products(), reservation.getRoomId(), timeSlots);
+		// 4. 기존 상품 대비 순변화량만 재고에 반영 (변경 없는 상품은 건드리지 않음)
+		applyProductQuantityChanges(reservation, products, request.products(), timeSlots);
 
-		// 6. 상품별 가격 계산
+		// 5. 상품별 가격 계산
 		final List<ProductPriceBreakdown> productBreakdowns = calculateProductBreakdowns(
 				products, request.products());
 
-		// 7. 예약 상품 업데이트 (도메인 메서드 호출)
+		// 6. 예약 상품 업데이트 (도메인 메서드 호출)
 		reservation.updateProducts(productBreakdowns);
 
-		// 8. 저장
+		// 7. 저장
 		final ReservationPricing savedReservation = reservationPricingRepository.save(reservation);
 
 		logger.info("Successfully updated products for reservation: reservationId={}, totalPrice={}",
@@ -370,249 +416,254 @@ public class ReservationPricingService implements CreateReservationUseCase,
 				.toList();
 	}
 	
-	/**
-	 * 예약 성공한 상품 정보를 저장하는 레코드.
-	 * 롤백 시 필요한 최소 정보만 포함합니다.
-	 */
-	private record ReservedProductInfo(
-			Product product,
-			int quantity,
-			RoomId roomId,
-			List<LocalDateTime> timeSlots
-	) {}
-
 	/**
 	 * 상품 재고를 예약합니다.
-	 * Scope에 따라 다른 방식으로 재고를 관리합니다.
+	 * 모든 Scope의 상품을 한 번의 DB 호출로 함께 검증하고 예약합니다.
 	 *
-	 * - RESERVATION Scope: 원자적 UPDATE 쿼리로 재고 차감 (시간 무관)
-	 * - ROOM Scope: 시간대별 원자적 재고 예약 (room_id 단위)
-	 * - PLACE Scope: 시간대별 원자적 재고 예약 (전체 place 범위)
+	 * - RESERVATION Scope: 상품 단위 재고 차감 (시간 무관)
+	 * - ROOM Scope: 시간대별 재고 차감 (room_id 단위)
+	 * - PLACE Scope: 시간대별 Place 집계 재고 차감
 	 *
-	 * 중간에 예약 실패 시 이미 예약된 상품들의 재고를 롤백합니다.
+	 * 하나라도 재고가 부족하면 어떤 상품도 예약되지 않으므로 별도의 롤백이 필요 없습니다.
+	 * 잠금 순서 정렬과 교착 상태 재시도는 InventoryReservationExecutor가 담당합니다.
 	 *
 	 * @param products        예약할 상품 목록
 	 * @param productRequests 상품 요청 목록 (수량 포함)
 	 * @param roomId          예약할 룸 ID (PLACE Scope 상품에서 사용)
 	 * @param timeSlots       예약 시간 슬롯 목록 (ROOM/PLACE Scope에서 사용)
+	 * @param preReservedQuantities 홀드/대기열로 이미 예약된 상품별 수량
+	 *                              (요청 수량보다 많으면 남는 수량을 같은 트랜잭션에서 해제)
 	 * @throws ProductNotAvailableException 재고가 부족하여 예약 실패 시
 	 */
 	private void reserveProducts(
 			final List<Product> products,
 			final List<ProductRequest> productRequests,
 			final RoomId roomId,
-			final List<LocalDateTime> timeSlots) {
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> preReservedQuantities) {
 
-		final List<ReservedProductInfo> reservedProducts = new ArrayList<>();
+		final Map<ProductId, Integer> quantities = new LinkedHashMap<>();
+		for (int i = 0; i < products.size(); i++) {
+			quantities.merge(products.get(i).getProductId(), productRequests.get(i).quantity(), Integer::sum);
+		}
 
-		try {
-			for (int i = 0; i < products.size(); i++) {
-				final Product product = products.get(i);
-				final ProductRequest productRequest = productRequests.get(i);
-
-				switch (product.getScope()) {
-					case RESERVATION -> reserveReservationProduct(product, productRequest.quantity());
-					case ROOM -> reserveRoomProduct(product, productRequest.quantity(), timeSlots);
-					case PLACE -> reservePlaceProduct(product, productRequest.quantity(), roomId, timeSlots);
+		final Map<ProductId, Integer> surplusQuantities = new LinkedHashMap<>();
+		preReservedQuantities.forEach((productId, preReserved) -> {
+			final int requested = quantities.getOrDefault(productId, 0);
+			if (requested <= preReserved) {
+				quantities.remove(productId);
+				if (requested < preReserved) {
+					surplusQuantities.put(productId, preReserved - requested);
 				}
-
-				// 예약 성공 시 목록에 추가
-				reservedProducts.add(new ReservedProductInfo(
-						product, productRequest.quantity(), roomId, timeSlots));
+			} else {
+				quantities.put(productId, requested - preReserved);
 			}
-		} catch (final ProductNotAvailableException e) {
-			// 예약 실패 시 지금까지 성공한 예약들을 롤백
-			logger.warn("Product reservation failed, rolling back {} previously reserved products",
-					reservedProducts.size());
-			rollbackReservations(reservedProducts);
-			throw e;
+		});
+
+		if (!quantities.isEmpty()) {
+			reserveAdditionalProducts(roomId, timeSlots, quantities);
+		}
+		if (!surplusQuantities.isEmpty()) {
+			releasePreReservedSurplus(products, roomId, timeSlots, surplusQuantities);
 		}
 	}
 
 	/**
-	 * 예약 실패 시 지금까지 예약된 상품들의 재고를 복구합니다.
-	 * Best Effort 방식으로 동작하며, 롤백 중 일부 실패하면 보상 트랜잭션 큐에 추가합니다.
+	 * 홀드/대기열로 확보한 수량을 넘는 요청분을 추가 예약합니다.
 	 *
-	 * @param reservedProducts 롤백할 예약 목록
+	 * @throws ProductNotAvailableException 재고가 부족하여 예약 실패 시
 	 */
-	private void rollbackReservations(final List<ReservedProductInfo> reservedProducts) {
-		if (reservedProducts.isEmpty()) {
-			return;
-		}
-
-		logger.info("Starting rollback for {} reserved products", reservedProducts.size());
-
-		int successCount = 0;
-		int failedCount = 0;
+	private void reserveAdditionalProducts(
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> quantities) {
 
-		// 역순으로 롤백 (LIFO - Last In First Out)
-		for (int i = reservedProducts.size() - 1; i >= 0; i--) {
-			final ReservedProductInfo info = reservedProducts.get(i);
+		final Map<ProductId, Boolean> results = inventoryReservationExecutor.reserve(
+				roomId, timeSlots, quantities);
 
-			try {
-				switch (info.product().getScope()) {
-					case RESERVATION -> releaseReservationProduct(info.product(), info.quantity());
-					case ROOM -> releaseTimeSlotProduct(
-							info.product(), info.quantity(), info.product().getRoomId(), info.timeSlots());
-					case PLACE -> releaseTimeSlotProduct(
-							info.product(), info.quantity(), info.roomId(), info.timeSlots());
-				}
+		final List<ProductId> unavailableProductIds = results.entrySet().stream()
+				.filter(entry -> !entry.getValue())
+				.map(Map.Entry::getKey)
+				.toList();
 
-				successCount++;
-				logger.debug("Rollback successful: productId={}, scope={}, quantity={}",
-						info.product().getProductId().getValue(),
-						info.product().getScope(),
-						info.quantity());
-
-			} catch (final Exception rollbackException) {
-				failedCount++;
-
-				// 롤백 실패 시 보상 트랜잭션 큐에 추가
-				logger.error("Rollback failed, adding to compensation queue: productId={}, scope={}, quantity={}, error={}",
-						info.product().getProductId().getValue(),
-						info.product().getScope(),
-						info.quantity(),
-						rollbackException.getMessage());
-
-				final InventoryCompensationTask task = new InventoryCompensationTask(
-						info.product(),
-						info.quantity(),
-						info.roomId(),
-						info.timeSlots(),
-						rollbackException.getMessage()
-				);
-				compensationQueue.enqueue(task);
-
-				// TODO: 알람 발송 (Slack, PagerDuty, Email 등)
-				// alertService.sendWarning("Inventory rollback failed", task);
-			}
+		if (!unavailableProductIds.isEmpty()) {
+			logger.warn("Failed to reserve products: roomId={}, timeSlots={}, unavailableProductIds={}",
+					roomId.getValue(),
+					timeSlots.size(),
+					unavailableProductIds.stream().map(ProductId::getValue).toList());
+			final ProductId firstUnavailable = unavailableProductIds.get(0);
+			throw new ProductNotAvailableException(
+					firstUnavailable.getValue(),
+					quantities.get(firstUnavailable)
+			);
 		}
 
-		logger.info("Rollback completed: {} succeeded, {} failed and queued for compensation out of {} total",
-				successCount, failedCount, reservedProducts.size());
-
-		// 롤백 실패가 있더라도 예외를 던지지 않음
-		// 실패한 롤백은 보상 트랜잭션 큐에서 재시도됨
+		logger.debug("Successfully reserved products: roomId={}, products={}, timeSlots={}",
+				roomId.getValue(), quantities.size(), timeSlots.size());
 	}
 
 	/**
-	 * RESERVATION Scope 상품의 재고를 원자적으로 예약합니다.
-	 * WHERE 조건에서 재고 검증과 차감을 동시에 수행하여 Race Condition을 방지합니다.
+	 * 홀드/대기열로 확보했지만 예약에서 요청하지 않은 수량을 해제하고 대기열에 할당합니다.
+	 * 요청이 홀드보다 적다고 거절하면 홀드가 만료될 때까지 더 적은 수량으로도 예약할 수 없으므로, 남는 수량만 돌려줍니다.
 	 *
-	 * @param product  예약할 상품
-	 * @param quantity 예약할 수량
-	 * @throws ProductNotAvailableException 재고가 부족하여 예약 실패 시
+	 * @param products          요청 상품 목록
+	 * @param roomId            예약할 룸 ID
+	 * @param timeSlots         예약 시간 슬롯 목록
+	 * @param surplusQuantities 상품별 남는 수량
 	 */
-	private void reserveReservationProduct(final Product product, final int quantity) {
-		final boolean reserved = productRepository.reserveQuantity(
-				product.getProductId(),
-				quantity
-		);
-
-		if (!reserved) {
-			logger.warn("Failed to reserve RESERVATION product: productId={}, quantity={}",
-					product.getProductId().getValue(), quantity);
-			throw new ProductNotAvailableException(
-					product.getProductId().getValue(),
-					quantity
-			);
+	private void releasePreReservedSurplus(
+			final List<Product> products,
+			final RoomId roomId,
+			final List<LocalDateTime> timeSlots,
+			final Map<ProductId, Integer> surplusQuantities) {
+
+		// 요청에서 빠진 상품만 추가 조회
+		final Map<ProductId, Product> productMap = new HashMap<>();
+		products.forEach(product -> productMap.put(product.getProductId(), product));
+		final List<ProductId> missingProductIds = surplusQuantities.keySet().stream()
+				.filter(productId -> !productMap.containsKey(productId))
+				.toList();
+		if (!missingProductIds.isEmpty()) {
+			productRepository.findAllById(missingProductIds)
+					.forEach(product -> productMap.put(product.getProductId(), product));
 		}
 
-		logger.debug("Successfully reserved RESERVATION product: productId={}, quantity={}",
-				product.getProductId().getValue(), quantity);
+		final List<InventoryReleaseItem> releaseItems = new ArrayList<>();
+		surplusQuantities.forEach((productId, quantity) -> {
+			final Product product = productMap.get(productId);
+			if (product == null) {
+				throw new IllegalStateException("Product not found: productId=" + productId.getValue());
+			}
+			final RoomId releaseRoomId = product.getScope() == ProductScope.ROOM ? product.getRoomId() : roomId;
+			releaseItems.add(new InventoryReleaseItem(product, releaseRoomId, quantity));
+		});
+
+		inventoryReservationExecutor.release(releaseItems, timeSlots);
+		inventoryWaitlistService.allocateReleased(releaseItems, timeSlots);
+
+		logger.info("Released pre-reserved surplus: roomId={}, products={}",
+				roomId.getValue(), surplusQuantities.size());
 	}
 
 	/**
-	 * ROOM Scope 상품의 시간대별 재고를 원자적으로 예약합니다.
-	 * product_time_slot_inventory 테이블에 UPSERT + 원자적 UPDATE를 수행합니다.
+	 * 예약 상품 변경 시 상품별 순변화량만 재고에 반영합니다.
+	 * 전체 해제 후 재예약하면 변경 없는 상품까지 다시 잠그고, 그 사이 다른 사용자가 재고를 가져갈 수 있으므로
+	 * 증가분은 추가 예약하고 감소분(제거 포함)만 해제합니다.
 	 *
-	 * @param product   예약할 상품
-	 * @param quantity  예약할 수량
-	 * @param timeSlots 예약 시간 슬롯 목록
-	 * @throws ProductNotAvailableException 재고가 부족하여 예약 실패 시
+	 * @param reservation     변경할 예약
+	 * @param products        새 상품 목록
+	 * @param productRequests 새 상품 요청 목록 (수량 포함)
+	 * @param timeSlots       예약 시간 슬롯 목록
+	 * @throws ProductNotAvailableException 증가분의 재고가 부족한 경우
 	 */
-	private void reserveRoomProduct(
-			final Product product,
-			final int quantity,
+	private void applyProductQuantityChanges(
+			final ReservationPricing reservation,
+			final List<Product> products,
+			final List<ProductRequest> productRequests,
 			final List<LocalDateTime> timeSlots) {
 
-		for (final LocalDateTime timeSlot : timeSlots) {
-			final boolean reserved = productRepository.reserveRoomTimeSlotQuantity(
-					product.getProductId(),
-					product.getRoomId(),
-					timeSlot,
-					quantity
-			);
+		final Map<ProductId, Integer> currentQuantities = new LinkedHashMap<>();
+		reservation.getProductBreakdowns().forEach(breakdown ->
+				currentQuantities.merge(breakdown.productId(), breakdown.quantity(), Integer::sum));
+
+		final Map<ProductId, Integer> requestedQuantities = new LinkedHashMap<>();
+		for (int i = 0; i < products.size(); i++) {
+			requestedQuantities.merge(products.get(i).getProductId(), productRequests.get(i).quantity(), Integer::sum);
+		}
+
+		final Map<ProductId, Integer> increases = new LinkedHashMap<>();
+		requestedQuantities.forEach((productId, quantity) -> {
+			final int delta = quantity - currentQuantities.getOrDefault(productId, 0);
+			if (delta > 0) {
+				increases.put(productId, delta);
+			}
+		});
 
-			if (!reserved) {
-				logger.warn("Failed to reserve ROOM product: productId={}, roomId={}, timeSlot={}, quantity={}",
-						product.getProductId().getValue(),
-						product.getRoomId().getValue(),
-						timeSlot,
-						quantity);
-				throw new ProductNotAvailableException(
-						product.getProductId().getValue(),
-						quantity
-				);
+		final Map<ProductId, Integer> decreases = new LinkedHashMap<>();
+		currentQuantities.forEach((productId, quantity) -> {
+			final int delta = quantity - requestedQuantities.getOrDefault(productId, 0);
+			if (delta > 0) {
+				decreases.put(productId, delta);
 			}
+		});
+
+		if (increases.isEmpty() && decreases.isEmpty()) {
+			logger.debug("No product quantity changes: reservationId={}",
+					reservation.getReservationId().getValue());
+			return;
 		}
 
-		logger.debug("Successfully reserved ROOM product: productId={}, quantity={}, timeSlots={}",
-				product.getProductId().getValue(), quantity, timeSlots.size());
-	}
+		// 감소분 상품 조회 (새 목록에 없는 제거 상품만 추가 조회)
+		final Map<ProductId, Product> productMap = new HashMap<>();
+		products.forEach(product -> productMap.put(product.getProductId(), product));
+		final List<ProductId> removedProductIds = decreases.keySet().stream()
+				.filter(productId -> !productMap.containsKey(productId))
+				.toList();
+		if (!removedProductIds.isEmpty()) {
+			productRepository.findAllById(removedProductIds)
+					.forEach(product -> productMap.put(product.getProductId(), product));
+		}
 
-	/**
-	 * PLACE Scope 상품의 시간대별 재고를 원자적으로 예약합니다.
-	 * 전체 Place 범위의 모든 룸에 걸쳐 재고를 검증하고 예약합니다.
-	 *
-	 * @param product   예약할 상품
-	 * @param quantity  예약할 수량
-	 * @param roomId    예약할 룸 ID (product_time_slot_inventory 테이블에 기록)
-	 * @param timeSlots 예약 시간 슬롯 목록
-	 * @throws ProductNotAvailableException 재고가 부족하여 예약 실패 시
-	 */
-	private void reservePlaceProduct(
-			final Product product,
-			final int quantity,
-			final RoomId roomId,
-			final List<LocalDateTime> timeSlots) {
+		final List<InventoryReleaseItem> releaseItems = new ArrayList<>();
+		decreases.forEach((productId, quantity) -> {
+			final Product product = productMap.get(productId);
+			if (product == null) {
+				throw new IllegalStateException("Product not found: productId=" + productId.getValue());
+			}
+			releaseItems.add(new InventoryReleaseItem(product, releaseRoomId(product, reservation), quantity));
+		});
+
+		// 증가분 예약 + 감소분 해제를 한 번에 반영
+		final Map<ProductId, Boolean> results = inventoryReservationExecutor.adjust(
+				reservation.getRoomId(), timeSlots, increases, releaseItems);
 
-		for (final LocalDateTime timeSlot : timeSlots) {
-			final boolean reserved = productRepository.reservePlaceTimeSlotQuantity(
-					product.getProductId(),
-					roomId,
-					timeSlot,
-					quantity
+		final List<ProductId> unavailableProductIds = results.entrySet().stream()
+				.filter(entry -> !entry.getValue())
+				.map(Map.Entry::getKey)
+				.toList();
+
+		if (!unavailableProductIds.isEmpty()) {
+			logger.warn("Failed to reserve additional products: reservationId={}, unavailableProductIds={}",
+					reservation.getReservationId().getValue(),
+					unavailableProductIds.stream().map(ProductId::getValue).toList());
+			final ProductId firstUnavailable = unavailableProductIds.get(0);
+			throw new ProductNotAvailableException(
+					firstUnavailable.getValue(),
+					requestedQuantities.get(firstUnavailable)
 			);
+		}
 
-			if (!reserved) {
-				logger.warn("Failed to reserve PLACE product: productId={}, placeId={}, roomId={}, timeSlot={}, quantity={}",
-						product.getProductId().getValue(),
-						product.getPlaceId().getValue(),
-						roomId.getValue(),
-						timeSlot,
-						quantity);
-				throw new ProductNotAvailableException(
-						product.getProductId().getValue(),
-						quantity
-				);
-			}
+		// 감소분을 대기열에 할당
+		if (!releaseItems.isEmpty()) {
+			inventoryWaitlistService.allocateReleased(releaseItems, timeSlots);
 		}
 
-		logger.debug("Successfully reserved PLACE product: productId={}, roomId={}, quantity={}, timeSlots={}",
-				product.getProductId().getValue(), roomId.getValue(), quantity, timeSlots.size());
+		logger.debug("Applied product quantity changes: reservationId={}, increased={}, decreased={}",
+				reservation.getReservationId().getValue(), increases.size(), decreases.size());
+	}
+
+	/**
+	 * 재고가 귀속된 룸 ID를 반환합니다.
+	 * ROOM Scope는 상품의 룸, RESERVATION/PLACE Scope는 예약의 룸을 기준으로 합니다.
+	 */
+	private RoomId releaseRoomId(final Product product, final ReservationPricing reservation) {
+		return switch (product.getScope()) {
+			case ROOM -> product.getRoomId();
+			case RESERVATION, PLACE -> reservation.getRoomId();
+		};
 	}
 
 	/**
 	 * 예약된 상품 재고를 복구합니다.
-	 * Scope별로 다른 방식으로 재고를 해제합니다.
+	 * Scope별로 다른 방식으로 재고를 해제하며, 잠금 순서는 InventoryReservationExecutor가 정렬합니다.
 	 *
 	 * - RESERVATION Scope: 원자적 재고 해제
 	 * - ROOM/PLACE Scope: 시간대별 재고 해제
 	 *
 	 * @param reservation 재고를 복구할 예약
+	 * @return 해제한 재고 항목
 	 */
-	private void releaseProducts(final ReservationPricing reservation) {
+	private List<InventoryReleaseItem> releaseProducts(final ReservationPricing reservation) {
 		final List<ProductPriceBreakdown> productBreakdowns = reservation.getProductBreakdowns();
 		final List<LocalDateTime> timeSlots = extractTimeSlots(reservation);
 
@@ -627,7 +678,7 @@ public class ReservationPricingService implements CreateReservationUseCase,
 		final java.util.Map<ProductId, Product> productMap = products.stream()
 				.collect(java.util.stream.Collectors.toMap(Product::getProductId, p -> p));
 
-		// 상품별 재고 해제
+		final List<InventoryReleaseItem> releaseItems = new ArrayList<>();
 		for (final ProductPriceBreakdown breakdown : productBreakdowns) {
 			final Product product = productMap.get(breakdown.productId());
 
@@ -636,76 +687,15 @@ public class ReservationPricingService implements CreateReservationUseCase,
 						"Product not found: productId=" + breakdown.productId().getValue());
 			}
 
-			switch (product.getScope()) {
-				case RESERVATION -> releaseReservationProduct(product, breakdown.quantity());
-				case ROOM -> releaseTimeSlotProduct(product, breakdown.quantity(), product.getRoomId(), timeSlots);
-				case PLACE -> releaseTimeSlotProduct(product, breakdown.quantity(), reservation.getRoomId(), timeSlots);
-			}
-		}
-	}
-
-	/**
-	 * RESERVATION Scope 상품의 재고를 해제합니다.
-	 *
-	 * @param product  상품
-	 * @param quantity 해제할 수량
-	 */
-	private void releaseReservationProduct(final Product product, final int quantity) {
-		final boolean released = productRepository.releaseQuantity(
-				product.getProductId(),
-				quantity
-		);
-
-		if (!released) {
-			logger.error("Failed to release RESERVATION product: productId={}, quantity={}",
-					product.getProductId().getValue(), quantity);
-			throw new IllegalStateException(
-					"Failed to release RESERVATION product: productId=" + product.getProductId().getValue()
-			);
+			releaseItems.add(new InventoryReleaseItem(
+					product, releaseRoomId(product, reservation), breakdown.quantity()));
 		}
 
-		logger.debug("Successfully released RESERVATION product: productId={}, quantity={}",
-				product.getProductId().getValue(), quantity);
+		// 상품별 재고 해제 (정렬된 잠금 순서 + 잠금 충돌 재시도)
+		inventoryReservationExecutor.release(releaseItems, timeSlots);
+		return releaseItems;
 	}
 
-	/**
-	 * ROOM/PLACE Scope 상품의 시간대별 재고를 해제합니다.
-	 *
-	 * @param product   상품
-	 * @param quantity  해제할 수량
-	 * @param roomId    룸 ID (예약 시 저장된 roomId)
-	 * @param timeSlots 시간 슬롯 목록
-	 */
-	private void releaseTimeSlotProduct(
-			final Product product,
-			final int quantity,
-			final RoomId roomId,
-			final List<LocalDateTime> timeSlots) {
-
-		for (final LocalDateTime timeSlot : timeSlots) {
-			final boolean released = productRepository.releaseTimeSlotQuantity(
-					product.getProductId(),
-					roomId,
-					timeSlot,
-					quantity
-			);
-
-			if (!released) {
-				logger.error("Failed to release time-slot product: productId={}, roomId={}, timeSlot={}, quantity={}",
-						product.getProductId().getValue(),
-						roomId.getValue(),
-						timeSlot,
-						quantity);
-				throw new IllegalStateException(
-						"Failed to release time-slot product: productId=" + product.getProductId().getValue()
-				);
-			}
-		}
-
-		logger.debug("Successfully released {} product: productId={}, roomId={}, quantity={}, timeSlots={}",
-				product.getScope(), product.getProductId().getValue(), roomId.getValue(), quantity, timeSlots.size());
-	}
-	
 	/**
 	 * 시간대별 가격 내역을 계산합니다.
 	 */
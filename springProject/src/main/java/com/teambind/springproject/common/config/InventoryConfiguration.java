@@ -0,0 +1,580 @@
+package com.teambind.springproject.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재고 예약/해제 관련 설정을 관리하는 Configuration 클래스.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "inventory")
+public class InventoryConfiguration {
+	
+	private String engine = "postgres";
+	private Retry retry = new Retry();
+	private Ledger ledger = new Ledger();
+	private Reconciliation reconciliation = new Reconciliation();
+	private Provisioning provisioning = new Provisioning();
+	private Redis redis = new Redis();
+	private Waitlist waitlist = new Waitlist();
+	private Hold hold = new Hold();
+	private AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+	private AvailabilityStream availabilityStream = new AvailabilityStream();
+	private AvailabilityEvents availabilityEvents = new AvailabilityEvents();
+	
+	public String getEngine() {
+		return engine;
+	}
+	
+	public void setEngine(final String engine) {
+		this.engine = engine;
+	}
+	
+	public Retry getRetry() {
+		return retry;
+	}
+	
+	public void setRetry(final Retry retry) {
+		this.retry = retry;
+	}
+	
+	public Ledger getLedger() {
+		return ledger;
+	}
+	
+	public void setLedger(final Ledger ledger) {
+		this.ledger = ledger;
+	}
+	
+	public Reconciliation getReconciliation() {
+		return reconciliation;
+	}
+	
+	public void setReconciliation(final Reconciliation reconciliation) {
+		this.reconciliation = reconciliation;
+	}
+	
+	public Provisioning getProvisioning() {
+		return provisioning;
+	}
+	
+	public void setProvisioning(final Provisioning provisioning) {
+		this.provisioning = provisioning;
+	}
+	
+	public Redis getRedis() {
+		return redis;
+	}
+	
+	public void setRedis(final Redis redis) {
+		this.redis = redis;
+	}
+	
+	public Waitlist getWaitlist() {
+		return waitlist;
+	}
+	
+	public void setWaitlist(final Waitlist waitlist) {
+		this.waitlist = waitlist;
+	}
+	
+	public Hold getHold() {
+		return hold;
+	}
+	
+	public void setHold(final Hold hold) {
+		this.hold = hold;
+	}
+	
+	public AvailabilityIndex getAvailabilityIndex() {
+		return availabilityIndex;
+	}
+	
+	public void setAvailabilityIndex(final AvailabilityIndex availabilityIndex) {
+		this.availabilityIndex = availabilityIndex;
+	}
+	
+	public AvailabilityStream getAvailabilityStream() {
+		return availabilityStream;
+	}
+	
+	public void setAvailabilityStream(final AvailabilityStream availabilityStream) {
+		this.availabilityStream = availabilityStream;
+	}
+	
+	public AvailabilityEvents getAvailabilityEvents() {
+		return availabilityEvents;
+	}
+	
+	public void setAvailabilityEvents(final AvailabilityEvents availabilityEvents) {
+		this.availabilityEvents = availabilityEvents;
+	}
+	
+	/**
+	 * 교착 상태(Deadlock) / 직렬화 실패 / 잠금 타임아웃 시 재시도 설정.
+	 * lockTimeoutMillis는 재고 작업 시도마다 적용되는 잠금 대기 상한이며, 0 이하이면 설정하지 않습니다.
+	 */
+	public static class Retry {
+		private int maxAttempts = 3;
+		private long initialBackoffMillis = 20;
+		private long maxBackoffMillis = 200;
+		private long lockTimeoutMillis = 1000;
+		
+		public int getMaxAttempts() {
+			return maxAttempts;
+		}
+		
+		public void setMaxAttempts(final int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+		}
+		
+		public long getInitialBackoffMillis() {
+			return initialBackoffMillis;
+		}
+		
+		public void setInitialBackoffMillis(final long initialBackoffMillis) {
+			this.initialBackoffMillis = initialBackoffMillis;
+		}
+		
+		public long getMaxBackoffMillis() {
+			return maxBackoffMillis;
+		}
+		
+		public void setMaxBackoffMillis(final long maxBackoffMillis) {
+			this.maxBackoffMillis = maxBackoffMillis;
+		}
+		
+		public long getLockTimeoutMillis() {
+			return lockTimeoutMillis;
+		}
+		
+		public void setLockTimeoutMillis(final long lockTimeoutMillis) {
+			this.lockTimeoutMillis = lockTimeoutMillis;
+		}
+	}
+	
+	/**
+	 * 재고 원장(inventory_movements) Compaction 및 보존 설정.
+	 */
+	public static class Ledger {
+		private long compactionIntervalMillis = 5000;
+		private int compactionBatchSize = 500;
+		private int retentionDays = 90;
+		
+		public long getCompactionIntervalMillis() {
+			return compactionIntervalMillis;
+		}
+		
+		public void setCompactionIntervalMillis(final long compactionIntervalMillis) {
+			this.compactionIntervalMillis = compactionIntervalMillis;
+		}
+		
+		public int getCompactionBatchSize() {
+			return compactionBatchSize;
+		}
+		
+		public void setCompactionBatchSize(final int compactionBatchSize) {
+			this.compactionBatchSize = compactionBatchSize;
+		}
+		
+		public int getRetentionDays() {
+			return retentionDays;
+		}
+		
+		public void setRetentionDays(final int retentionDays) {
+			this.retentionDays = retentionDays;
+		}
+	}
+	
+	/**
+	 * 재고 카운터와 활성 예약(PENDING/CONFIRMED) 간 정합성 점검(Reconciliation) 설정.
+	 */
+	public static class Reconciliation {
+		private boolean enabled = true;
+		private boolean dryRun = true;
+		private String cron = "0 30 3 * * *";
+		private int parallelism = 4;
+		private int fetchSize = 1000;
+		private int lookbackDays = 31;
+		
+		public boolean isEnabled() {
+			return enabled;
+		}
+		
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+		
+		public boolean isDryRun() {
+			return dryRun;
+		}
+		
+		public void setDryRun(final boolean dryRun) {
+			this.dryRun = dryRun;
+		}
+		
+		public String getCron() {
+			return cron;
+		}
+		
+		public void setCron(final String cron) {
+			this.cron = cron;
+		}
+		
+		public int getParallelism() {
+			return parallelism;
+		}
+		
+		public void setParallelism(final int parallelism) {
+			this.parallelism = parallelism;
+		}
+		
+		public int getFetchSize() {
+			return fetchSize;
+		}
+		
+		public void setFetchSize(final int fetchSize) {
+			this.fetchSize = fetchSize;
+		}
+		
+		public int getLookbackDays() {
+			return lookbackDays;
+		}
+		
+		public void setLookbackDays(final int lookbackDays) {
+			this.lookbackDays = lookbackDays;
+		}
+	}
+	
+	/**
+	 * PLACE Scope 상품 시간대별 재고 행 사전 생성(Provisioning) 설정.
+	 */
+	public static class Provisioning {
+		private boolean enabled = true;
+		private String cron = "0 0 2 * * *";
+		private int horizonDays = 90;
+		
+		public boolean isEnabled() {
+			return enabled;
+		}
+		
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+		
+		public String getCron() {
+			return cron;
+		}
+		
+		public void setCron(final String cron) {
+			this.cron = cron;
+		}
+		
+		public int getHorizonDays() {
+			return horizonDays;
+		}
+		
+		public void setHorizonDays(final int horizonDays) {
+			this.horizonDays = horizonDays;
+		}
+	}
+	
+	/**
+	 * Redis 재고 엔진(inventory.engine=redis)의 Write-behind 및 재적재 설정.
+	 */
+	public static class Redis {
+		private long flushIntervalMillis = 1000;
+		private int flushBatchSize = 500;
+		private boolean rehydrateOnStartup = true;
+		
+		public long getFlushIntervalMillis() {
+			return flushIntervalMillis;
+		}
+		
+		public void setFlushIntervalMillis(final long flushIntervalMillis) {
+			this.flushIntervalMillis = flushIntervalMillis;
+		}
+		
+		public int getFlushBatchSize() {
+			return flushBatchSize;
+		}
+		
+		public void setFlushBatchSize(final int flushBatchSize) {
+			this.flushBatchSize = flushBatchSize;
+		}
+		
+		public boolean isRehydrateOnStartup() {
+			return rehydrateOnStartup;
+		}
+		
+		public void setRehydrateOnStartup(final boolean rehydrateOnStartup) {
+			this.rehydrateOnStartup = rehydrateOnStartup;
+		}
+	}
+	
+	/**
+	 * 품절 상품 대기열 설정.
+	 */
+	public static class Waitlist {
+		private long waitTimeoutMinutes = 30;
+		private long allocationTimeoutMinutes = 10;
+		private int allocationBatchSize = 20;
+		
+		public long getWaitTimeoutMinutes() {
+			return waitTimeoutMinutes;
+		}
+		
+		public void setWaitTimeoutMinutes(final long waitTimeoutMinutes) {
+			this.waitTimeoutMinutes = waitTimeoutMinutes;
+		}
+		
+		public long getAllocationTimeoutMinutes() {
+			return allocationTimeoutMinutes;
+		}
+		
+		public void setAllocationTimeoutMinutes(final long allocationTimeoutMinutes) {
+			this.allocationTimeoutMinutes = allocationTimeoutMinutes;
+		}
+		
+		public int getAllocationBatchSize() {
+			return allocationBatchSize;
+		}
+		
+		public void setAllocationBatchSize(final int allocationBatchSize) {
+			this.allocationBatchSize = allocationBatchSize;
+		}
+	}
+	
+	/**
+	 * 가격 미리보기 시점의 단기 재고 홀드 설정.
+	 * 활성 홀드 한도(요청자별, 룸별)는 0 이하이면 제한하지 않습니다.
+	 */
+	public static class Hold {
+		private long ttlSeconds = 120;
+		private long sweepIntervalMillis = 30000;
+		private int sweepBatchSize = 500;
+		private int maxActivePerHolder = 3;
+		private int maxActivePerRoom = 20;
+		
+		public long getTtlSeconds() {
+			return ttlSeconds;
+		}
+		
+		public void setTtlSeconds(final long ttlSeconds) {
+			this.ttlSeconds = ttlSeconds;
+		}
+		
+		public long getSweepIntervalMillis() {
+			return sweepIntervalMillis;
+		}
+		
+		public void setSweepIntervalMillis(final long sweepIntervalMillis) {
+			this.sweepIntervalMillis = sweepIntervalMillis;
+		}
+		
+		public int getSweepBatchSize() {
+			return sweepBatchSize;
+		}
+		
+		public void setSweepBatchSize(final int sweepBatchSize) {
+			this.sweepBatchSize = sweepBatchSize;
+		}
+		
+		public int getMaxActivePerHolder() {
+			return maxActivePerHolder;
+		}
+		
+		public void setMaxActivePerHolder(final int maxActivePerHolder) {
+			this.maxActivePerHolder = maxActivePerHolder;
+		}
+		
+		public int getMaxActivePerRoom() {
+			return maxActivePerRoom;
+		}
+		
+		public void setMaxActivePerRoom(final int maxActivePerRoom) {
+			this.maxActivePerRoom = maxActivePerRoom;
+		}
+	}
+	
+	/**
+	 * 인메모리 시간대별 가용성 인덱스 설정.
+	 */
+	public static class AvailabilityIndex {
+		private boolean enabled = false;
+		private int horizonDays = 31;
+		private int slotMinutes = 30;
+		private long checksumIntervalMillis = 60000;
+		
+		public boolean isEnabled() {
+			return enabled;
+		}
+		
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+		
+		public int getHorizonDays() {
+			return horizonDays;
+		}
+		
+		public void setHorizonDays(final int horizonDays) {
+			this.horizonDays = horizonDays;
+		}
+		
+		public int getSlotMinutes() {
+			return slotMinutes;
+		}
+		
+		public void setSlotMinutes(final int slotMinutes) {
+			this.slotMinutes = slotMinutes;
+		}
+		
+		public long getChecksumIntervalMillis() {
+			return checksumIntervalMillis;
+		}
+		
+		public void setChecksumIntervalMillis(final long checksumIntervalMillis) {
+			this.checksumIntervalMillis = checksumIntervalMillis;
+		}
+	}
+	
+	/**
+	 * 가용성 변경 SSE 스트림 설정.
+	 * 구독자마다 subscriberQueueCapacity개의 변경 묶음을 대기시키며, 넘치면 느린 구독자로 보고 구독을 끊습니다.
+	 */
+	public static class AvailabilityStream {
+		private long coalesceWindowMillis = 500;
+		private int maxSubscribers = 1000;
+		private int maxSubscribersPerPlace = 200;
+		private long emitterTimeoutMillis = 300000;
+		private int subscriberQueueCapacity = 16;
+		private int deliveryThreads = 2;
+		
+		public long getCoalesceWindowMillis() {
+			return coalesceWindowMillis;
+		}
+		
+		public void setCoalesceWindowMillis(final long coalesceWindowMillis) {
+			this.coalesceWindowMillis = coalesceWindowMillis;
+		}
+		
+		public int getMaxSubscribers() {
+			return maxSubscribers;
+		}
+		
+		public void setMaxSubscribers(final int maxSubscribers) {
+			this.maxSubscribers = maxSubscribers;
+		}
+		
+		public int getMaxSubscribersPerPlace() {
+			return maxSubscribersPerPlace;
+		}
+		
+		public void setMaxSubscribersPerPlace(final int maxSubscribersPerPlace) {
+			this.maxSubscribersPerPlace = maxSubscribersPerPlace;
+		}
+		
+		public long getEmitterTimeoutMillis() {
+			return emitterTimeoutMillis;
+		}
+		
+		public void setEmitterTimeoutMillis(final long emitterTimeoutMillis) {
+			this.emitterTimeoutMillis = emitterTimeoutMillis;
+		}
+		
+		public int getSubscriberQueueCapacity() {
+			return subscriberQueueCapacity;
+		}
+		
+		public void setSubscriberQueueCapacity(final int subscriberQueueCapacity) {
+			this.subscriberQueueCapacity = subscriberQueueCapacity;
+		}
+		
+		public int getDeliveryThreads() {
+			return deliveryThreads;
+		}
+		
+		public void setDeliveryThreads(final int deliveryThreads) {
+			this.deliveryThreads = deliveryThreads;
+		}
+	}
+	
+	/**
+	 * 가용성 변경 Kafka 이벤트 발행 설정.
+	 */
+	public static class AvailabilityEvents {
+		private boolean enabled = false;
+		private long debounceMillis = 1000;
+		private long maxDelayMillis = 10000;
+		private long flushIntervalMillis = 500;
+		private int slotMinutes = 30;
+		private String snapshotCron = "-";
+		private int snapshotHorizonDays = 31;
+		private int snapshotBatchSize = 200;
+		
+		public boolean isEnabled() {
+			return enabled;
+		}
+		
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+		
+		public long getDebounceMillis() {
+			return debounceMillis;
+		}
+		
+		public void setDebounceMillis(final long debounceMillis) {
+			this.debounceMillis = debounceMillis;
+		}
+		
+		public long getMaxDelayMillis() {
+			return maxDelayMillis;
+		}
+		
+		public void setMaxDelayMillis(final long maxDelayMillis) {
+			this.maxDelayMillis = maxDelayMillis;
+		}
+		
+		public long getFlushIntervalMillis() {
+			return flushIntervalMillis;
+		}
+		
+		public void setFlushIntervalMillis(final long flushIntervalMillis) {
+			this.flushIntervalMillis = flushIntervalMillis;
+		}
+		
+		public int getSlotMinutes() {
+			return slotMinutes;
+		}
+		
+		public void setSlotMinutes(final int slotMinutes) {
+			this.slotMinutes = slotMinutes;
+		}
+		
+		public String getSnapshotCron() {
+			return snapshotCron;
+		}
+		
+		public void setSnapshotCron(final String snapshotCron) {
+			this.snapshotCron = snapshotCron;
+		}
+		
+		public int getSnapshotHorizonDays() {
+			return snapshotHorizonDays;
+		}
+		
+		public void setSnapshotHorizonDays(final int snapshotHorizonDays) {
+			this.snapshotHorizonDays = snapshotHorizonDays;
+		}
+		
+		public int getSnapshotBatchSize() {
+			return snapshotBatchSize;
+		}
+		
+		public void setSnapshotBatchSize(final int snapshotBatchSize) {
+			this.snapshotBatchSize = snapshotBatchSize;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.teambind.springproject.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간 기준 월별 파티션 테이블 관리 설정.
+ * pg_partman이 설정되지 않은 테이블은 애플리케이션이 직접 파티션을 생성하고 보존 기간을 적용합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "partition")
+public class PartitionConfiguration {
+	
+	private boolean enabled = true;
+	private int premakeMonths = 3;
+	private boolean retentionEnabled = true;
+	private String archiveSchema = "partition_archive";
+	private List<ManagedTable> tables = new ArrayList<>();
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	public int getPremakeMonths() {
+		return premakeMonths;
+	}
+	
+	public void setPremakeMonths(final int premakeMonths) {
+		this.premakeMonths = premakeMonths;
+	}
+	
+	public boolean isRetentionEnabled() {
+		return retentionEnabled;
+	}
+	
+	public void setRetentionEnabled(final boolean retentionEnabled) {
+		this.retentionEnabled = retentionEnabled;
+	}
+	
+	public String getArchiveSchema() {
+		return archiveSchema;
+	}
+	
+	public void setArchiveSchema(final String archiveSchema) {
+		this.archiveSchema = archiveSchema;
+	}
+	
+	public List<ManagedTable> getTables() {
+		return tables;
+	}
+	
+	public void setTables(final List<ManagedTable> tables) {
+		this.tables = tables;
+	}
+	
+	/**
+	 * 보존 기간이 지난 파티션 처리 방식.
+	 */
+	public enum RetentionAction {
+		/**
+		 * 파티션을 분리한 뒤 삭제
+		 */
+		DROP,
+		/**
+		 * 파티션을 분리한 뒤 보관 스키마(archive-schema)로 이동
+		 */
+		ARCHIVE
+	}
+	
+	/**
+	 * 관리 대상 파티션 테이블.
+	 */
+	public static class ManagedTable {
+		private String name;
+		private int retentionMonths = 12;
+		private RetentionAction retentionAction = RetentionAction.DROP;
+		private String referenceKey;
+		private List<String> referencingTables = new ArrayList<>();
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(final String name) {
+			this.name = name;
+		}
+		
+		public int getRetentionMonths() {
+			return retentionMonths;
+		}
+		
+		public void setRetentionMonths(final int retentionMonths) {
+			this.retentionMonths = retentionMonths;
+		}
+		
+		public RetentionAction getRetentionAction() {
+			return retentionAction;
+		}
+		
+		public void setRetentionAction(final RetentionAction retentionAction) {
+			this.retentionAction = retentionAction;
+		}
+		
+		public String getReferenceKey() {
+			return referenceKey;
+		}
+		
+		public void setReferenceKey(final String referenceKey) {
+			this.referenceKey = referenceKey;
+		}
+		
+		/**
+		 * 외래 키 없이 referenceKey로 이 테이블의 행을 참조하는 테이블.
+		 * 보존 기간이 지난 파티션을 삭제/보관할 때 파티션 행을 참조하는 행을 함께 삭제합니다.
+		 */
+		public List<String> getReferencingTables() {
+			return referencingTables;
+		}
+		
+		public void setReferencingTables(final List<String> referencingTables) {
+			this.referencingTables = referencingTables;
+		}
+	}
+}
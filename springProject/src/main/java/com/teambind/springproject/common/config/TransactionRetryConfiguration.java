@@ -0,0 +1,40 @@
+package com.teambind.springproject.common.config;
+
+import com.teambind.springproject.common.transaction.ConcurrencyFailureRetryInterceptor;
+import com.teambind.springproject.common.transaction.RetryOnConcurrencyFailure;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * 트랜잭션 전체 재시도 설정.
+ *
+ * {@link RetryOnConcurrencyFailure}가 붙은 클래스/메서드에 재시도 Advisor를 적용합니다.
+ * 트랜잭션 Advisor(LOWEST_PRECEDENCE)보다 먼저 실행되도록 순서를 지정하여, 각 시도가 새 트랜잭션에서 실행됩니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TransactionRetryConfiguration {
+	
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public static Advisor concurrencyFailureRetryAdvisor(
+			@Lazy final InventoryConfiguration inventoryConfiguration,
+			@Lazy final MeterRegistry meterRegistry) {
+		final ComposablePointcut pointcut = new ComposablePointcut(
+				new AnnotationMatchingPointcut(RetryOnConcurrencyFailure.class, true))
+				.union(AnnotationMatchingPointcut.forMethodAnnotation(RetryOnConcurrencyFailure.class));
+		
+		final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+				pointcut, new ConcurrencyFailureRetryInterceptor(inventoryConfiguration, meterRegistry));
+		advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+		return advisor;
+	}
+}
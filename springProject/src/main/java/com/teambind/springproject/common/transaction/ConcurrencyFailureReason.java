@@ -0,0 +1,53 @@
+package com.teambind.springproject.common.transaction;
+
+import org.springframework.core.NestedExceptionUtils;
+
+import java.sql.SQLException;
+
+/**
+ * 동시성 실패 원인 분류.
+ *
+ * 예외 체인의 가장 안쪽 SQLException SQLState로 원인을 판별합니다.
+ * - 잠금 타임아웃(55P03)은 Savepoint 단위로 재시도할 수 있습니다.
+ * - 교착 상태(40P01)와 직렬화 실패(40001)는 PostgreSQL이 트랜잭션 전체를 희생시키므로 트랜잭션 전체를 다시 실행해야 합니다.
+ */
+public enum ConcurrencyFailureReason {
+	
+	DEADLOCK("deadlock"),
+	SERIALIZATION("serialization"),
+	LOCK_TIMEOUT("lock_timeout"),
+	OTHER("other");
+	
+	private final String tag;
+	
+	ConcurrencyFailureReason(final String tag) {
+		this.tag = tag;
+	}
+	
+	public static ConcurrencyFailureReason of(final Throwable throwable) {
+		final Throwable rootCause = NestedExceptionUtils.getMostSpecificCause(throwable);
+		if (rootCause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+			return switch (sqlException.getSQLState()) {
+				case "40P01" -> DEADLOCK;
+				case "40001" -> SERIALIZATION;
+				case "55P03" -> LOCK_TIMEOUT;
+				default -> OTHER;
+			};
+		}
+		return OTHER;
+	}
+	
+	/**
+	 * 트랜잭션 전체를 다시 실행해야 하는 실패인지 여부.
+	 */
+	public boolean requiresTransactionRetry() {
+		return this == DEADLOCK || this == SERIALIZATION;
+	}
+	
+	/**
+	 * 메트릭 태그 값.
+	 */
+	public String tag() {
+		return tag;
+	}
+}
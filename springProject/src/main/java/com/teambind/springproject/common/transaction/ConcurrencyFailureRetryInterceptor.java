@@ -0,0 +1,102 @@
+package com.teambind.springproject.common.transaction;
+
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RetryOnConcurrencyFailure} 메서드를 교착 상태 / 직렬화 실패 시 새 트랜잭션으로 다시 실행하는 인터셉터.
+ *
+ * 트랜잭션 인터셉터보다 바깥에 배치되어, 실패한 시도의 트랜잭션이 롤백된 뒤 다음 시도가 새 트랜잭션에서 시작됩니다.
+ * 커밋 후 동작(이벤트 발행, 가용성 통지)은 TransactionSynchronization으로 등록되므로 롤백된 시도에서는 실행되지 않습니다.
+ *
+ * 메트릭:
+ * - transaction.retries: 재시도 횟수 (method / reason 태그)
+ */
+public class ConcurrencyFailureRetryInterceptor implements MethodInterceptor {
+	
+	private static final Logger logger = LoggerFactory.getLogger(ConcurrencyFailureRetryInterceptor.class);
+	
+	private static final String RETRY_METRIC = "transaction.retries";
+	
+	private final InventoryConfiguration inventoryConfiguration;
+	private final MeterRegistry meterRegistry;
+	
+	public ConcurrencyFailureRetryInterceptor(
+			final InventoryConfiguration inventoryConfiguration,
+			final MeterRegistry meterRegistry) {
+		this.inventoryConfiguration = inventoryConfiguration;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Object invoke(final MethodInvocation invocation) throws Throwable {
+		// 바깥 트랜잭션 안에서 호출되면 부분 재실행이 불가능하므로 바깥 경계에 맡긴다
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				|| !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+			return invocation.proceed();
+		}
+		
+		final String method = invocation.getMethod().getDeclaringClass().getSimpleName()
+				+ "." + invocation.getMethod().getName();
+		final InventoryConfiguration.Retry retryConfiguration = inventoryConfiguration.getRetry();
+		int attempt = 1;
+		while (true) {
+			try {
+				return proxyInvocation.invocableClone().proceed();
+			} catch (final RuntimeException e) {
+				final ConcurrencyFailureReason reason = ConcurrencyFailureReason.of(e);
+				if (!reason.requiresTransactionRetry()) {
+					throw e;
+				}
+				if (attempt >= retryConfiguration.getMaxAttempts()) {
+					logger.error("Transaction failed after {} attempts: method={}, reason={}",
+							attempt, method, reason.tag());
+					throw e;
+				}
+				
+				retryCounter(method, reason).increment();
+				logger.warn("Retrying transaction: attempt={}, method={}, reason={}", attempt, method, reason.tag());
+				
+				backoff(retryConfiguration, attempt, e);
+				attempt++;
+			}
+		}
+	}
+	
+	/**
+	 * Full Jitter 지수 백오프: [0, min(max, initial * 2^(attempt-1))] 구간에서 무작위 대기.
+	 */
+	private static void backoff(
+			final InventoryConfiguration.Retry retryConfiguration,
+			final int attempt,
+			final RuntimeException cause) {
+		final long ceiling = Math.min(
+				retryConfiguration.getMaxBackoffMillis(),
+				retryConfiguration.getInitialBackoffMillis() << Math.min(attempt - 1, 20)
+		);
+		final long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+		try {
+			TimeUnit.MILLISECONDS.sleep(sleepMillis);
+		} catch (final InterruptedException interrupted) {
+			Thread.currentThread().interrupt();
+			throw cause;
+		}
+	}
+	
+	private Counter retryCounter(final String method, final ConcurrencyFailureReason reason) {
+		return Counter.builder(RETRY_METRIC)
+				.tag("method", method)
+				.tag("reason", reason.tag())
+				.register(meterRegistry);
+	}
+}
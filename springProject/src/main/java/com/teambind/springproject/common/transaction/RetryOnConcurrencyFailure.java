@@ -0,0 +1,21 @@
+package com.teambind.springproject.common.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 교착 상태(40P01) / 직렬화 실패(40001) 시 트랜잭션 전체를 다시 실행합니다.
+ *
+ * 트랜잭션 경계(@Transactional)보다 바깥에서 동작하며, 호출 시점에 이미 트랜잭션이 진행 중이면
+ * 재시도하지 않고 예외를 바깥 경계로 전파합니다. 따라서 가장 바깥의 트랜잭션 경계에서만 재시도됩니다.
+ *
+ * 재시도 횟수와 백오프는 inventory.retry 설정을 따릅니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConcurrencyFailure {
+}
@@ -88,6 +88,18 @@ public class ProductAvailabilityService {
 		return checker.calculateAvailableQuantity(product, requestedSlots, overlappingReservations);
 	}
 	
+	/**
+	 * 이미 집계된 최대 사용 수량으로 시간 기반 Scope 상품의 가용 수량을 계산합니다.
+	 * 재고 카운터에서 사용량을 조회한 경우 예약 목록 없이 사용합니다.
+	 *
+	 * @param product         확인할 상품
+	 * @param maxUsedQuantity 요청 시간대 중 최대 사용 수량
+	 * @return 가용한 수량 (0 이상)
+	 */
+	public int calculateAvailableQuantity(final Product product, final int maxUsedQuantity) {
+		return Math.max(0, product.getTotalQuantity() - maxUsedQuantity);
+	}
+	
 	/**
 	 * 요청 수량이 유효한지 검증합니다.
 	 *
@@ -0,0 +1,97 @@
+package com.teambind.springproject.domain.product.availability;
+
+import com.teambind.springproject.domain.product.vo.ProductPriceBreakdown;
+import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
+import com.teambind.springproject.domain.shared.ProductId;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 시간대별 상품 사용 수량 테이블.
+ *
+ * <p>겹치는 예약 목록을 한 번만 순회하여 (상품 → 시간대별 사용 수량) 구조로 미리 집계합니다.
+ * 요청 시간대는 인덱스로 변환되고 상품별 사용 수량은 int 배열에 저장되므로,
+ * 시간대별 조회는 박싱 없는 배열 접근 한 번입니다.
+ *
+ * <p>TimeScopedChecker만 사용하며, 가용성 확인 호출마다 한 번 만듭니다.
+ */
+final class SlotUsageTable {
+	
+	private static final int[] NO_USAGE = new int[0];
+	
+	private final Map<LocalDateTime, Integer> slotIndexes;
+	private final Map<ProductId, int[]> usageByProduct;
+	
+	private SlotUsageTable(
+			final Map<LocalDateTime, Integer> slotIndexes,
+			final Map<ProductId, int[]> usageByProduct) {
+		this.slotIndexes = slotIndexes;
+		this.usageByProduct = usageByProduct;
+	}
+	
+	/**
+	 * 예약 목록을 한 번 순회하여 요청 시간대의 상품별 사용 수량 테이블을 만듭니다.
+	 * 요청 시간대에 속하지 않는 예약 시간대는 무시합니다.
+	 *
+	 * @param requestedSlots          요청 시간 슬롯 목록
+	 * @param overlappingReservations 시간대가 겹치는 예약 목록 (null이면 예약 없음)
+	 * @return 사용 수량 테이블
+	 */
+	static SlotUsageTable build(
+			final List<LocalDateTime> requestedSlots,
+			final List<ReservationPricing> overlappingReservations) {
+		
+		final Map<LocalDateTime, Integer> slotIndexes = new HashMap<>();
+		for (final LocalDateTime slot : requestedSlots) {
+			slotIndexes.putIfAbsent(slot, slotIndexes.size());
+		}
+		
+		final int slotCount = slotIndexes.size();
+		final Map<ProductId, int[]> usageByProduct = new HashMap<>();
+		if (overlappingReservations == null) {
+			return new SlotUsageTable(slotIndexes, usageByProduct);
+		}
+		
+		// 예약이 차지하는 요청 시간대 인덱스 (예약마다 재사용)
+		final int[] coveredIndexes = new int[slotCount];
+		for (final ReservationPricing reservation : overlappingReservations) {
+			int coveredCount = 0;
+			for (final LocalDateTime slot : reservation.getTimeSlotBreakdown().slotPrices().keySet()) {
+				final Integer index = slotIndexes.get(slot);
+				if (index != null) {
+					coveredIndexes[coveredCount++] = index;
+				}
+			}
+			if (coveredCount == 0) {
+				continue;
+			}
+			
+			for (final ProductPriceBreakdown breakdown : reservation.getProductBreakdowns()) {
+				final int[] usage = usageByProduct.computeIfAbsent(
+						breakdown.productId(), productId -> new int[slotCount]);
+				for (int i = 0; i < coveredCount; i++) {
+					usage[coveredIndexes[i]] += breakdown.quantity();
+				}
+			}
+		}
+		
+		return new SlotUsageTable(slotIndexes, usageByProduct);
+	}
+	
+	/**
+	 * 요청 시간대 중 상품의 최대 사용 수량을 반환합니다.
+	 *
+	 * @param productId 상품 ID
+	 * @return 최대 사용 수량 (사용 내역이 없으면 0)
+	 */
+	int maxUsed(final ProductId productId) {
+		int max = 0;
+		for (final int used : usageByProduct.getOrDefault(productId, NO_USAGE)) {
+			max = Math.max(max, used);
+		}
+		return max;
+	}
+}
@@ -1,9 +1,7 @@
 package com.teambind.springproject.domain.product.availability;
 
 import com.teambind.springproject.domain.product.Product;
-import com.teambind.springproject.domain.product.vo.ProductPriceBreakdown;
 import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
-import com.teambind.springproject.domain.shared.ProductId;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +11,11 @@ import java.util.List;
  *
  * <p>PLACE와 ROOM Scope는 동일한 시간 기반 재고 계산 로직을 사용합니다.
  * 요청 시간대별로 사용 중인 최대 수량을 계산하여 가용 여부를 판단합니다.
+ *
+ * <p>시간대별 사용 수량은 호출마다 SlotUsageTable로 예약 목록을 한 번만 순회하여 집계하므로,
+ * 시간대별 조회는 O(1)입니다.
+ *
+ * @see SlotUsageTable
  */
 public class TimeScopedChecker implements ScopedAvailabilityChecker {
 	
@@ -25,16 +28,10 @@ public class TimeScopedChecker implements ScopedAvailabilityChecker {
 		
 		validateTimeSlots(requestedSlots);
 		
-		// 각 슬롯별 최대 사용량 계산
-		final int maxUsedQuantity = requestedSlots.stream()
-				.mapToInt(slot -> calculateUsedAtSlot(
-						overlappingReservations,
-						product.getProductId(),
-						slot))
-				.max()
-				.orElse(0);
-		
-		return maxUsedQuantity + requestedQuantity <= product.getTotalQuantity();
+		return isAvailable(
+				product,
+				requestedQuantity,
+				SlotUsageTable.build(requestedSlots, overlappingReservations));
 	}
 	
 	@Override
@@ -45,36 +42,24 @@ public class TimeScopedChecker implements ScopedAvailabilityChecker {
 		
 		validateTimeSlots(requestedSlots);
 		
-		final int maxUsedQuantity = requestedSlots.stream()
-				.mapToInt(slot -> calculateUsedAtSlot(
-						overlappingReservations,
-						product.getProductId(),
-						slot))
-				.max()
-				.orElse(0);
+		return calculateAvailableQuantity(
+				product,
+				SlotUsageTable.build(requestedSlots, overlappingReservations));
+	}
+	
+	private boolean isAvailable(
+			final Product product,
+			final int requestedQuantity,
+			final SlotUsageTable usageTable) {
 		
-		return Math.max(0, product.getTotalQuantity() - maxUsedQuantity);
+		return usageTable.maxUsed(product.getProductId()) + requestedQuantity <= product.getTotalQuantity();
 	}
 	
-	/**
-	 * 특정 시간 슬롯에서 해당 상품이 사용 중인 수량을 계산합니다.
-	 *
-	 * @param reservations 예약 목록
-	 * @param productId    상품 ID
-	 * @param slot         확인할 시간 슬롯
-	 * @return 사용 중인 수량
-	 */
-	private int calculateUsedAtSlot(
-			final List<ReservationPricing> reservations,
-			final ProductId productId,
-			final LocalDateTime slot) {
+	private int calculateAvailableQuantity(
+			final Product product,
+			final SlotUsageTable usageTable) {
 		
-		return reservations.stream()
-				.filter(reservation -> reservation.getTimeSlotBreakdown().slotPrices().containsKey(slot))
-				.flatMap(reservation -> reservation.getProductBreakdowns().stream())
-				.filter(breakdown -> breakdown.productId().equals(productId))
-				.mapToInt(ProductPriceBreakdown::quantity)
-				.sum();
+		return Math.max(0, product.getTotalQuantity() - usageTable.maxUsed(product.getProductId()));
 	}
 	
 	/**
@@ -160,11 +160,23 @@ public class ReservationPricing {
 	 * PENDING 상태에서만 CONFIRMED로 전환 가능합니다.
 	 */
 	public void confirm() {
-		if (status != ReservationStatus.PENDING) {
+		this.status = confirmedFrom(status);
+	}
+	
+	/**
+	 * 확정 전환 규칙을 검증하고 전환 후 상태를 반환합니다.
+	 * 상태만 조회/변경하는 경로(결제 완료 처리 등)에서 Aggregate 전체를 로딩하지 않고 같은 규칙을 적용할 때 사용합니다.
+	 *
+	 * @param current 현재 상태
+	 * @return CONFIRMED
+	 * @throws com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException PENDING 상태가 아닌 경우
+	 */
+	public static ReservationStatus confirmedFrom(final ReservationStatus current) {
+		if (current != ReservationStatus.PENDING) {
 			throw new com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException(
-					status, "confirm");
+					current, "confirm");
 		}
-		this.status = ReservationStatus.CONFIRMED;
+		return ReservationStatus.CONFIRMED;
 	}
 	
 	/**
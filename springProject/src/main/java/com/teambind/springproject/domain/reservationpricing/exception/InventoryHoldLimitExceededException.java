@@ -0,0 +1,16 @@
+package com.teambind.springproject.domain.reservationpricing.exception;
+
+/**
+ * 요청자 또는 룸의 활성 재고 홀드 수가 한도에 도달했을 때 발생하는 예외.
+ */
+public class InventoryHoldLimitExceededException extends ReservationPricingException {
+	
+	public InventoryHoldLimitExceededException(final String message) {
+		super(ReservationPricingErrorCode.INVENTORY_HOLD_LIMIT_EXCEEDED, message);
+	}
+	
+	@Override
+	public String getExceptionType() {
+		return "InventoryHoldLimitExceededException";
+	}
+}
@@ -19,6 +19,8 @@ public enum ReservationPricingErrorCode {
 			HttpStatus.NOT_FOUND),
 	PRODUCT_NOT_FOUND("RESERVATION_005", "Product not found",
 			HttpStatus.NOT_FOUND),
+	INVENTORY_HOLD_LIMIT_EXCEEDED("RESERVATION_006", "Too many active inventory holds",
+			HttpStatus.TOO_MANY_REQUESTS),
 	;
 	
 	private final String errCode;
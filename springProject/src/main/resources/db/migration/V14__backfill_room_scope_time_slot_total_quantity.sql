@@ -0,0 +1,10 @@
+-- Backfill total_quantity for ROOM scope time-slot inventory rows
+-- V13 이전에 생성된 ROOM Scope 행은 total_quantity가 0(DEFAULT)으로 남아 있습니다.
+-- 다중 시간대 일괄 예약은 행의 total_quantity를 기준으로 검증하므로 상품 총 재고로 채웁니다.
+
+UPDATE product_time_slot_inventory i
+SET total_quantity = p.total_quantity
+FROM products p
+WHERE i.product_id = p.product_id
+  AND p.scope = 'ROOM'
+  AND i.total_quantity = 0;
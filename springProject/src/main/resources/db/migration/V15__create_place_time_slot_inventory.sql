@@ -0,0 +1,64 @@
+-- PLACE Scope 상품의 (product, time_slot) 단위 집계 재고 테이블
+-- 기존 방식은 모든 룸의 행을 FOR UPDATE로 잠근 뒤 합산하여 Place 전체 예약이 직렬화되었습니다.
+-- 집계 행 하나에 대한 조건부 UPDATE(WHERE total_quantity - reserved_quantity >= ?)로 대체하고,
+-- product_time_slot_inventory의 룸별 행은 귀속(attribution) 기록으로만 유지합니다.
+
+-- 1. 집계 테이블 생성 (product_time_slot_inventory와 같은 time_slot 기준 월별 파티셔닝)
+CREATE TABLE place_time_slot_inventory (
+    product_id BIGINT NOT NULL,
+    time_slot TIMESTAMP NOT NULL,
+    total_quantity INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (product_id, time_slot),
+    CONSTRAINT chk_place_time_slot_total_non_negative CHECK (total_quantity >= 0),
+    CONSTRAINT chk_place_time_slot_reserved_non_negative CHECK (reserved_quantity >= 0),
+    CONSTRAINT fk_place_time_slot_inventory_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+) PARTITION BY RANGE (time_slot);
+
+-- 과거 데이터 정리용
+CREATE INDEX idx_place_time_slot_inventory_time_slot
+    ON place_time_slot_inventory(time_slot);
+
+-- 2. 월별 파티션 생성
+-- 데이터가 있는 월과 2025-01(product_time_slot_inventory 파티션 시작 월) 중 이른 달부터 현재 월 + 3개월까지 만들고,
+-- 이후 월은 애플리케이션 파티션 관리(partition.tables)가 product_time_slot_inventory와 같은 규칙으로 생성/보존합니다.
+DO $$
+DECLARE
+    month_start TIMESTAMP := LEAST(
+        DATE_TRUNC('month', (SELECT MIN(time_slot) FROM product_time_slot_inventory)),
+        TIMESTAMP '2025-01-01 00:00:00');
+    last_month TIMESTAMP := DATE_TRUNC('month', GREATEST(
+        LOCALTIMESTAMP,
+        (SELECT MAX(time_slot) FROM product_time_slot_inventory))) + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE FORMAT(
+            'CREATE TABLE %I PARTITION OF place_time_slot_inventory FOR VALUES FROM (%L) TO (%L)',
+            'place_time_slot_inventory_' || TO_CHAR(month_start, 'YYYY_MM'),
+            month_start,
+            month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- 3. 기존 PLACE Scope 룸별 행으로부터 집계 행 백필
+INSERT INTO place_time_slot_inventory (product_id, time_slot, total_quantity, reserved_quantity)
+SELECT i.product_id, i.time_slot, MAX(i.total_quantity), SUM(i.reserved_quantity)
+FROM product_time_slot_inventory i
+JOIN products p ON p.product_id = i.product_id
+WHERE p.scope = 'PLACE'
+GROUP BY i.product_id, i.time_slot
+ON CONFLICT (product_id, time_slot) DO NOTHING;
+
+-- 4. 코멘트 추가
+COMMENT ON TABLE place_time_slot_inventory IS
+    'PLACE Scope 상품의 시간대별 Place 전체 재고 집계 (예약 시 유일한 Row Lock 대상, time_slot 기준 월별 파티션)';
+
+COMMENT ON COLUMN place_time_slot_inventory.total_quantity IS
+    '해당 시간대의 Place 전체 총 재고 수량 (상품 총 재고 변경 시 이후 시간대에 동기화)';
+
+COMMENT ON COLUMN place_time_slot_inventory.reserved_quantity IS
+    '해당 시간대의 Place 전체 예약 수량 (룸별 product_time_slot_inventory.reserved_quantity의 합)';
@@ -0,0 +1,135 @@
+-- 장바구니(예약 요청) 전체 상품 재고를 한 번의 DB 호출로 원자적으로 예약하는 함수
+-- 기존에는 상품별로 예약 후 실패 시 애플리케이션에서 롤백(보상 트랜잭션)을 수행했습니다.
+-- 이 함수는 RESERVATION / ROOM / PLACE Scope 상품을 모든 시간대에 대해 함께 검증 및 예약하고,
+-- 하나라도 실패하면 함수 내 서브 트랜잭션을 롤백하여 아무것도 변경하지 않습니다.
+--
+-- 반환값: 상품별 예약 가능 여부 (result_product_id, result_reserved)
+-- 잠금 순서: product_id 오름차순, 각 상품 내에서는 time_slot 오름차순
+
+CREATE OR REPLACE FUNCTION reserve_inventory_cart(
+    p_room_id BIGINT,
+    p_time_slots TIMESTAMP[],
+    p_product_ids BIGINT[],
+    p_quantities INTEGER[]
+)
+RETURNS TABLE (result_product_id BIGINT, result_reserved BOOLEAN)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slot_count INTEGER := COALESCE(array_length(p_time_slots, 1), 0);
+    v_product_ids BIGINT[] := '{}';
+    v_results BOOLEAN[] := '{}';
+    v_all_reserved BOOLEAN := TRUE;
+    v_item RECORD;
+    v_reserved BOOLEAN;
+    v_rows INTEGER;
+BEGIN
+    BEGIN
+        FOR v_item IN
+            SELECT c.cart_product_id, c.cart_quantity, p.scope, p.room_id AS product_room_id
+            FROM unnest(p_product_ids, p_quantities) AS c(cart_product_id, cart_quantity)
+            LEFT JOIN products p ON p.product_id = c.cart_product_id
+            ORDER BY c.cart_product_id
+        LOOP
+            v_reserved := FALSE;
+
+            IF v_item.scope = 'RESERVATION' THEN
+                UPDATE products
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity
+                WHERE product_id = v_item.cart_product_id
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows > 0;
+
+            ELSIF v_item.scope = 'ROOM' THEN
+                INSERT INTO product_time_slot_inventory
+                    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                SELECT p.product_id, v_item.product_room_id, s.time_slot, p.total_quantity, 0
+                FROM products p
+                CROSS JOIN unnest(p_time_slots) AS s(time_slot)
+                WHERE p.product_id = v_item.cart_product_id
+                ON CONFLICT (product_id, room_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE product_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+            ELSIF v_item.scope = 'PLACE' THEN
+                INSERT INTO place_time_slot_inventory
+                    (product_id, time_slot, total_quantity, reserved_quantity)
+                SELECT product_id, time_slot, MAX(total_quantity), SUM(reserved_quantity)
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                GROUP BY product_id, time_slot
+                ON CONFLICT (product_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM place_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE place_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+                IF v_reserved AND v_slot_count > 0 THEN
+                    INSERT INTO product_time_slot_inventory
+                        (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                    SELECT a.product_id, p_room_id, a.time_slot, a.total_quantity, v_item.cart_quantity
+                    FROM place_time_slot_inventory a
+                    WHERE a.product_id = v_item.cart_product_id
+                      AND a.time_slot = ANY (p_time_slots)
+                    ON CONFLICT (product_id, room_id, time_slot)
+                    DO UPDATE SET
+                        reserved_quantity = product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity,
+                        updated_at = NOW();
+                END IF;
+            END IF;
+
+            v_product_ids := array_append(v_product_ids, v_item.cart_product_id);
+            v_results := array_append(v_results, v_reserved);
+            v_all_reserved := v_all_reserved AND v_reserved;
+        END LOOP;
+
+        -- 하나라도 실패하면 블록 내 모든 변경을 롤백 (결과 배열은 PL/pgSQL 변수이므로 유지됨)
+        IF NOT v_all_reserved THEN
+            RAISE EXCEPTION 'reserve_inventory_cart rejected' USING ERRCODE = 'P0001';
+        END IF;
+    EXCEPTION
+        WHEN raise_exception THEN
+            NULL;
+    END;
+
+    RETURN QUERY
+        SELECT r.product_id, r.reserved
+        FROM unnest(v_product_ids, v_results) AS r(product_id, reserved);
+END;
+$$;
+
+COMMENT ON FUNCTION reserve_inventory_cart(BIGINT, TIMESTAMP[], BIGINT[], INTEGER[]) IS
+    '예약 요청의 모든 상품 재고를 All-or-Nothing으로 예약하고 상품별 성공 여부를 반환';
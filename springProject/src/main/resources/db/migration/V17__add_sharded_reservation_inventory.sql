@@ -0,0 +1,342 @@
+-- RESERVATION Scope 인기 상품을 위한 샤딩된 재고 카운터 (Opt-in)
+-- 인기 부가 상품은 products 행 하나에 모든 예약이 몰려 Row Lock 대기열이 생깁니다.
+-- 총 재고를 N개의 샤드 행으로 분할하여 동시 예약이 서로 다른 행을 갱신하도록 합니다.
+--
+-- - 샤드 행이 있는 상품만 샤딩 모드로 동작 (없으면 기존 products 단일 행 방식)
+-- - 샤드 선택: 호출자가 전달한 shard key의 해시 → 실패 시 다른 샤드 탐색(SKIP LOCKED) → 최후에 여러 샤드로 분할
+-- - 해제는 같은 shard key로 예약 시와 동일한 샤드부터 되돌립니다
+-- - 예약 수량 조회는 샤드 합계를 사용합니다 (products.reserved_quantity는 샤딩 설정 시점의 스냅샷)
+
+-- 1. 샤드 테이블
+CREATE TABLE product_inventory_shards (
+    product_id BIGINT NOT NULL,
+    shard_no INTEGER NOT NULL,
+    total_quantity INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (product_id, shard_no),
+    CONSTRAINT chk_inventory_shard_no_non_negative CHECK (shard_no >= 0),
+    CONSTRAINT chk_inventory_shard_reserved_range
+        CHECK (reserved_quantity >= 0 AND reserved_quantity <= total_quantity),
+    CONSTRAINT fk_inventory_shard_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE product_inventory_shards IS
+    'RESERVATION Scope 상품의 샤딩된 재고 카운터 (행이 있으면 products.reserved_quantity 대신 사용)';
+
+-- 2. 샤드 예약: 선호 샤드 → 다른 샤드 탐색 → 여러 샤드 분할 순으로 시도
+-- 반환값: 샤딩되지 않은 상품이면 NULL, 그 외 예약 성공 여부
+CREATE OR REPLACE FUNCTION reserve_inventory_shard(
+    p_product_id BIGINT,
+    p_quantity INTEGER,
+    p_shard_key INTEGER
+)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_shard_count INTEGER;
+    v_preferred INTEGER;
+    v_rows INTEGER;
+BEGIN
+    SELECT COUNT(*) INTO v_shard_count
+    FROM product_inventory_shards
+    WHERE product_id = p_product_id;
+
+    IF v_shard_count = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    v_preferred := ((p_shard_key % v_shard_count) + v_shard_count) % v_shard_count;
+
+    -- 2-1. 선호 샤드
+    UPDATE product_inventory_shards
+    SET reserved_quantity = reserved_quantity + p_quantity,
+        updated_at = NOW()
+    WHERE product_id = p_product_id
+      AND shard_no = v_preferred
+      AND (total_quantity - reserved_quantity) >= p_quantity;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    IF v_rows > 0 THEN
+        RETURN TRUE;
+    END IF;
+
+    -- 2-2. 다른 샤드 탐색 (다른 트랜잭션이 잠근 샤드는 건너뜀)
+    UPDATE product_inventory_shards s
+    SET reserved_quantity = s.reserved_quantity + p_quantity,
+        updated_at = NOW()
+    WHERE s.product_id = p_product_id
+      AND s.shard_no = (
+          SELECT c.shard_no
+          FROM product_inventory_shards c
+          WHERE c.product_id = p_product_id
+            AND (c.total_quantity - c.reserved_quantity) >= p_quantity
+          ORDER BY (c.shard_no - v_preferred + v_shard_count) % v_shard_count
+          LIMIT 1
+          FOR UPDATE SKIP LOCKED
+      )
+      AND (s.total_quantity - s.reserved_quantity) >= p_quantity;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    IF v_rows > 0 THEN
+        RETURN TRUE;
+    END IF;
+
+    -- 2-3. 단일 샤드로 부족하면 모든 샤드를 shard_no 순서로 잠그고 분할 예약
+    WITH locked AS MATERIALIZED (
+        SELECT shard_no, total_quantity - reserved_quantity AS available
+        FROM product_inventory_shards
+        WHERE product_id = p_product_id
+        ORDER BY shard_no
+        FOR UPDATE
+    ),
+    allocation AS (
+        SELECT shard_no,
+               LEAST(available, GREATEST(p_quantity - (SUM(available) OVER (ORDER BY shard_no) - available), 0)) AS take
+        FROM locked
+    ),
+    feasibility AS (
+        SELECT COALESCE(SUM(available), 0) >= p_quantity AS all_available
+        FROM locked
+    )
+    UPDATE product_inventory_shards s
+    SET reserved_quantity = s.reserved_quantity + a.take,
+        updated_at = NOW()
+    FROM allocation a, feasibility f
+    WHERE f.all_available
+      AND s.product_id = p_product_id
+      AND s.shard_no = a.shard_no
+      AND a.take > 0;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows > 0;
+END;
+$$;
+
+-- 3. 샤드 해제: 예약과 동일한 순서(선호 샤드 → 탐색 → 분할)로 되돌림
+-- 반환값: 샤딩되지 않은 상품이면 NULL, 그 외 해제 성공 여부
+CREATE OR REPLACE FUNCTION release_inventory_shard(
+    p_product_id BIGINT,
+    p_quantity INTEGER,
+    p_shard_key INTEGER
+)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_shard_count INTEGER;
+    v_preferred INTEGER;
+    v_rows INTEGER;
+BEGIN
+    SELECT COUNT(*) INTO v_shard_count
+    FROM product_inventory_shards
+    WHERE product_id = p_product_id;
+
+    IF v_shard_count = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    v_preferred := ((p_shard_key % v_shard_count) + v_shard_count) % v_shard_count;
+
+    UPDATE product_inventory_shards
+    SET reserved_quantity = reserved_quantity - p_quantity,
+        updated_at = NOW()
+    WHERE product_id = p_product_id
+      AND shard_no = v_preferred
+      AND reserved_quantity >= p_quantity;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    IF v_rows > 0 THEN
+        RETURN TRUE;
+    END IF;
+
+    UPDATE product_inventory_shards s
+    SET reserved_quantity = s.reserved_quantity - p_quantity,
+        updated_at = NOW()
+    WHERE s.product_id = p_product_id
+      AND s.shard_no = (
+          SELECT c.shard_no
+          FROM product_inventory_shards c
+          WHERE c.product_id = p_product_id
+            AND c.reserved_quantity >= p_quantity
+          ORDER BY (c.shard_no - v_preferred + v_shard_count) % v_shard_count
+          LIMIT 1
+          FOR UPDATE SKIP LOCKED
+      )
+      AND s.reserved_quantity >= p_quantity;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    IF v_rows > 0 THEN
+        RETURN TRUE;
+    END IF;
+
+    WITH locked AS MATERIALIZED (
+        SELECT shard_no, reserved_quantity
+        FROM product_inventory_shards
+        WHERE product_id = p_product_id
+        ORDER BY shard_no
+        FOR UPDATE
+    ),
+    allocation AS (
+        SELECT shard_no,
+               LEAST(reserved_quantity,
+                     GREATEST(p_quantity - (SUM(reserved_quantity) OVER (ORDER BY shard_no) - reserved_quantity), 0)) AS take
+        FROM locked
+    ),
+    feasibility AS (
+        SELECT COALESCE(SUM(reserved_quantity), 0) >= p_quantity AS all_releasable
+        FROM locked
+    )
+    UPDATE product_inventory_shards s
+    SET reserved_quantity = s.reserved_quantity - a.take,
+        updated_at = NOW()
+    FROM allocation a, feasibility f
+    WHERE f.all_releasable
+      AND s.product_id = p_product_id
+      AND s.shard_no = a.shard_no
+      AND a.take > 0;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows > 0;
+END;
+$$;
+
+-- 4. 장바구니 예약 함수가 샤딩된 RESERVATION 상품을 처리하도록 재정의 (shard key 파라미터 추가)
+DROP FUNCTION IF EXISTS reserve_inventory_cart(BIGINT, TIMESTAMP[], BIGINT[], INTEGER[]);
+
+CREATE OR REPLACE FUNCTION reserve_inventory_cart(
+    p_room_id BIGINT,
+    p_time_slots TIMESTAMP[],
+    p_product_ids BIGINT[],
+    p_quantities INTEGER[],
+    p_shard_key INTEGER
+)
+RETURNS TABLE (result_product_id BIGINT, result_reserved BOOLEAN)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slot_count INTEGER := COALESCE(array_length(p_time_slots, 1), 0);
+    v_product_ids BIGINT[] := '{}';
+    v_results BOOLEAN[] := '{}';
+    v_all_reserved BOOLEAN := TRUE;
+    v_item RECORD;
+    v_reserved BOOLEAN;
+    v_rows INTEGER;
+BEGIN
+    BEGIN
+        FOR v_item IN
+            SELECT c.cart_product_id, c.cart_quantity, p.scope, p.room_id AS product_room_id
+            FROM unnest(p_product_ids, p_quantities) AS c(cart_product_id, cart_quantity)
+            LEFT JOIN products p ON p.product_id = c.cart_product_id
+            ORDER BY c.cart_product_id
+        LOOP
+            v_reserved := FALSE;
+
+            IF v_item.scope = 'RESERVATION' THEN
+                -- 샤딩된 상품은 샤드 행에서, 그 외에는 products 행에서 차감
+                v_reserved := reserve_inventory_shard(v_item.cart_product_id, v_item.cart_quantity, p_shard_key);
+
+                IF v_reserved IS NULL THEN
+                    UPDATE products
+                    SET reserved_quantity = reserved_quantity + v_item.cart_quantity
+                    WHERE product_id = v_item.cart_product_id
+                      AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                    GET DIAGNOSTICS v_rows = ROW_COUNT;
+                    v_reserved := v_rows > 0;
+                END IF;
+
+            ELSIF v_item.scope = 'ROOM' THEN
+                INSERT INTO product_time_slot_inventory
+                    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                SELECT p.product_id, v_item.product_room_id, s.time_slot, p.total_quantity, 0
+                FROM products p
+                CROSS JOIN unnest(p_time_slots) AS s(time_slot)
+                WHERE p.product_id = v_item.cart_product_id
+                ON CONFLICT (product_id, room_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE product_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+            ELSIF v_item.scope = 'PLACE' THEN
+                INSERT INTO place_time_slot_inventory
+                    (product_id, time_slot, total_quantity, reserved_quantity)
+                SELECT product_id, time_slot, MAX(total_quantity), SUM(reserved_quantity)
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                GROUP BY product_id, time_slot
+                ON CONFLICT (product_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM place_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE place_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+                IF v_reserved AND v_slot_count > 0 THEN
+                    INSERT INTO product_time_slot_inventory
+                        (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                    SELECT a.product_id, p_room_id, a.time_slot, a.total_quantity, v_item.cart_quantity
+                    FROM place_time_slot_inventory a
+                    WHERE a.product_id = v_item.cart_product_id
+                      AND a.time_slot = ANY (p_time_slots)
+                    ON CONFLICT (product_id, room_id, time_slot)
+                    DO UPDATE SET
+                        reserved_quantity = product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity,
+                        updated_at = NOW();
+                END IF;
+            END IF;
+
+            v_product_ids := array_append(v_product_ids, v_item.cart_product_id);
+            v_results := array_append(v_results, v_reserved);
+            v_all_reserved := v_all_reserved AND v_reserved;
+        END LOOP;
+
+        -- 하나라도 실패하면 블록 내 모든 변경을 롤백 (결과 배열은 PL/pgSQL 변수이므로 유지됨)
+        IF NOT v_all_reserved THEN
+            RAISE EXCEPTION 'reserve_inventory_cart rejected' USING ERRCODE = 'P0001';
+        END IF;
+    EXCEPTION
+        WHEN raise_exception THEN
+            NULL;
+    END;
+
+    RETURN QUERY
+        SELECT r.product_id, r.reserved
+        FROM unnest(v_product_ids, v_results) AS r(product_id, reserved);
+END;
+$$;
+
+COMMENT ON FUNCTION reserve_inventory_cart(BIGINT, TIMESTAMP[], BIGINT[], INTEGER[], INTEGER) IS
+    '예약 요청의 모든 상품 재고를 All-or-Nothing으로 예약하고 상품별 성공 여부를 반환 (p_shard_key: 샤드 선택 키)';
@@ -0,0 +1,438 @@
+-- RESERVATION Scope 상품을 위한 Append-only 재고 원장 (Opt-in)
+-- 예약/해제마다 products 행을 제자리 UPDATE하면 dead tuple과 HOT 업데이트가 누적되고 변경 이력이 남지 않습니다.
+-- 원장 모드 상품은 예약/해제를 inventory_movements에 INSERT만 하고,
+-- 백그라운드 Compactor가 주기적으로 미반영 이동분을 inventory_ledger_balances에 합산합니다.
+--
+-- - inventory_ledger_balances 행이 있는 상품만 원장 모드로 동작 (없으면 기존 샤드/단일 행 방식)
+-- - 예약 가능 여부: total_quantity - (balance.reserved_quantity + last_movement_id 이후 이동분 합계)
+-- - 원장 쓰기는 상품 단위로 직렬화하지 않습니다 (Bounded Escrow).
+--   각 쓰기는 상품별 에스크로 슬롯(escrow_slots개의 Advisory Lock) 하나만 잡고 이동분을 INSERT하므로
+--   최대 escrow_slots개의 쓰기가 동시에 진행됩니다.
+--   동시에 진행 중인 다른 쓰기는 최대 (escrow_slots - 1)개 × escrow_unit이므로,
+--   잔여 재고(또는 예약 수량)가 그만큼의 여유(headroom)를 넘을 때만 슬롯 하나로 처리하고,
+--   여유 이하(품절 임박)이거나 escrow_unit보다 큰 수량은 모든 슬롯을 잡아 정확히 확인합니다
+-- - Compaction은 모든 슬롯을 잡으므로, Compaction 시점에는 last_movement_id 이하의 모든 이동분이 커밋 완료 상태입니다
+-- - Compaction 후에도 이동분은 보존 기간 동안 남아 재고 불일치(drift) 추적에 사용됩니다
+-- - products.inventory_counter_mode에 카운터 방식(ROW/SHARDED/LEDGER)을 기록하여,
+--   상품 조회 시 샤드/원장 모드 상품만 샤드 합계와 원장 잔액을 추가로 조회합니다
+
+-- 1. 재고 이동 원장 (Append-only)
+CREATE TABLE inventory_movements (
+    movement_id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    quantity_delta INTEGER NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_inventory_movement_delta_non_zero CHECK (quantity_delta <> 0),
+    CONSTRAINT chk_inventory_movement_type CHECK (movement_type IN ('RESERVE', 'RELEASE')),
+    CONSTRAINT fk_inventory_movement_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+);
+
+-- 미반영 이동분 합계 조회 (product_id, movement_id > watermark)를 Index-Only Scan으로 처리
+CREATE INDEX idx_inventory_movements_product_movement
+    ON inventory_movements(product_id, movement_id) INCLUDE (quantity_delta);
+
+-- 보존 기간 정리용
+CREATE INDEX idx_inventory_movements_created_at
+    ON inventory_movements(created_at);
+
+COMMENT ON TABLE inventory_movements IS
+    '원장 모드 RESERVATION 상품의 재고 이동 이력 (양수: 예약, 음수: 해제)';
+
+-- 2. Compaction된 잔액
+CREATE TABLE inventory_ledger_balances (
+    product_id BIGINT PRIMARY KEY,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    last_movement_id BIGINT NOT NULL DEFAULT 0,
+    escrow_slots INTEGER NOT NULL DEFAULT 8,
+    escrow_unit INTEGER NOT NULL DEFAULT 5,
+    compacted_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_inventory_ledger_reserved_non_negative CHECK (reserved_quantity >= 0),
+    CONSTRAINT chk_inventory_ledger_escrow_positive CHECK (escrow_slots > 0 AND escrow_unit > 0),
+    CONSTRAINT fk_inventory_ledger_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE inventory_ledger_balances IS
+    '원장 모드 상품의 Compaction된 예약 수량과 반영 완료 지점(last_movement_id)';
+
+COMMENT ON COLUMN inventory_ledger_balances.escrow_slots IS
+    '동시에 진행할 수 있는 원장 쓰기 수 (상품별 에스크로 슬롯 Advisory Lock 수)';
+
+COMMENT ON COLUMN inventory_ledger_balances.escrow_unit IS
+    '슬롯 하나로 처리할 수 있는 최대 수량 (품절 임박 판단 여유 = (escrow_slots - 1) × escrow_unit)';
+
+-- 3. 상품별 재고 카운터 방식 (샤드 행/원장 잔액 행 유무를 조회 없이 판별)
+ALTER TABLE products
+    ADD COLUMN inventory_counter_mode VARCHAR(10) NOT NULL DEFAULT 'ROW',
+    ADD CONSTRAINT chk_products_inventory_counter_mode
+        CHECK (inventory_counter_mode IN ('ROW', 'SHARDED', 'LEDGER'));
+
+UPDATE products
+SET inventory_counter_mode = 'SHARDED'
+WHERE product_id IN (SELECT DISTINCT product_id FROM product_inventory_shards);
+
+-- 4. 에스크로 슬롯 Advisory Lock (트랜잭션 종료 시 자동 해제)
+-- 슬롯 키: (상품별 해시, 슬롯 번호)
+CREATE OR REPLACE FUNCTION inventory_ledger_lock_key(p_product_id BIGINT)
+RETURNS INTEGER
+LANGUAGE sql
+IMMUTABLE
+AS $$
+    SELECT hashtext('inventory_ledger:' || p_product_id);
+$$;
+
+-- 모든 슬롯을 순서대로 잠가 진행 중인 원장 쓰기가 끝나기를 기다림 (Compaction, 모드 전환, 품절 임박 예약/해제)
+CREATE OR REPLACE FUNCTION lock_inventory_ledger(p_product_id BIGINT)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slots INTEGER;
+BEGIN
+    SELECT escrow_slots INTO v_slots
+    FROM inventory_ledger_balances
+    WHERE product_id = p_product_id;
+
+    FOR v_slot IN 0 .. COALESCE(v_slots, 0) - 1 LOOP
+        PERFORM pg_advisory_xact_lock(inventory_ledger_lock_key(p_product_id), v_slot);
+    END LOOP;
+    RETURN TRUE;
+END;
+$$;
+
+-- 비어 있는 슬롯 하나를 기다리지 않고 잡음 (임의의 슬롯부터 탐색)
+CREATE OR REPLACE FUNCTION try_acquire_inventory_ledger_slot(p_product_id BIGINT, p_slots INTEGER)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_offset INTEGER := floor(random() * p_slots)::INTEGER;
+BEGIN
+    FOR v_i IN 0 .. p_slots - 1 LOOP
+        IF pg_try_advisory_xact_lock(inventory_ledger_lock_key(p_product_id), (v_offset + v_i) % p_slots) THEN
+            RETURN TRUE;
+        END IF;
+    END LOOP;
+    RETURN FALSE;
+END;
+$$;
+
+-- 원장 모드 상품의 현재 예약 수량 (잔액 + 미반영 이동분), 원장 모드가 아니면 NULL
+CREATE OR REPLACE FUNCTION inventory_ledger_reserved(p_product_id BIGINT)
+RETURNS INTEGER
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT (b.reserved_quantity + COALESCE((
+        SELECT SUM(m.quantity_delta)
+        FROM inventory_movements m
+        WHERE m.product_id = b.product_id
+          AND m.movement_id > b.last_movement_id
+    ), 0))::INTEGER
+    FROM inventory_ledger_balances b
+    WHERE b.product_id = p_product_id;
+$$;
+
+-- 5. 원장 예약
+-- 반환값: 원장 모드가 아니면 NULL, 그 외 예약 성공 여부
+-- 슬롯을 잡은 뒤 여유가 사라졌으면 40001로 실패시켜 트랜잭션 재시도 후 품절 임박 경로로 처리합니다
+-- (슬롯을 쥔 채 모든 슬롯을 기다리면 같은 처지의 쓰기와 교착 상태가 됩니다)
+CREATE OR REPLACE FUNCTION reserve_inventory_ledger(
+    p_product_id BIGINT,
+    p_quantity INTEGER
+)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slots INTEGER;
+    v_unit INTEGER;
+    v_headroom INTEGER;
+    v_total INTEGER;
+    v_reserved INTEGER;
+BEGIN
+    SELECT escrow_slots, escrow_unit INTO v_slots, v_unit
+    FROM inventory_ledger_balances
+    WHERE product_id = p_product_id;
+
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+
+    v_headroom := (v_slots - 1) * v_unit;
+
+    SELECT total_quantity INTO v_total
+    FROM products
+    WHERE product_id = p_product_id;
+
+    v_reserved := inventory_ledger_reserved(p_product_id);
+
+    IF p_quantity <= v_unit
+       AND v_total - v_reserved - p_quantity >= v_headroom
+       AND try_acquire_inventory_ledger_slot(p_product_id, v_slots) THEN
+        -- 슬롯 획득 후 다시 확인 (잠금 대기 중 원장 모드가 해제되었거나 여유가 줄었을 수 있음)
+        v_reserved := inventory_ledger_reserved(p_product_id);
+        IF v_reserved IS NULL THEN
+            RETURN NULL;
+        END IF;
+        IF v_total - v_reserved - p_quantity < v_headroom THEN
+            RAISE EXCEPTION 'inventory ledger escrow headroom exhausted: product_id=%', p_product_id
+                USING ERRCODE = '40001';
+        END IF;
+    ELSE
+        -- 품절 임박 또는 큰 수량: 진행 중인 원장 쓰기가 모두 끝난 뒤 정확히 확인
+        PERFORM lock_inventory_ledger(p_product_id);
+
+        v_reserved := inventory_ledger_reserved(p_product_id);
+        IF v_reserved IS NULL THEN
+            RETURN NULL;
+        END IF;
+        IF v_total - v_reserved < p_quantity THEN
+            RETURN FALSE;
+        END IF;
+    END IF;
+
+    INSERT INTO inventory_movements (product_id, quantity_delta, movement_type)
+    VALUES (p_product_id, p_quantity, 'RESERVE');
+
+    RETURN TRUE;
+END;
+$$;
+
+-- 6. 원장 해제
+-- 반환값: 원장 모드가 아니면 NULL, 그 외 해제 성공 여부
+-- 예약 수량이 여유 이하로 남은 경우에만 모든 슬롯을 잡아 음수 잔액을 막습니다
+CREATE OR REPLACE FUNCTION release_inventory_ledger(
+    p_product_id BIGINT,
+    p_quantity INTEGER
+)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slots INTEGER;
+    v_unit INTEGER;
+    v_headroom INTEGER;
+    v_reserved INTEGER;
+BEGIN
+    SELECT escrow_slots, escrow_unit INTO v_slots, v_unit
+    FROM inventory_ledger_balances
+    WHERE product_id = p_product_id;
+
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+
+    v_headroom := (v_slots - 1) * v_unit;
+    v_reserved := inventory_ledger_reserved(p_product_id);
+
+    IF p_quantity <= v_unit
+       AND v_reserved - p_quantity >= v_headroom
+       AND try_acquire_inventory_ledger_slot(p_product_id, v_slots) THEN
+        v_reserved := inventory_ledger_reserved(p_product_id);
+        IF v_reserved IS NULL THEN
+            RETURN NULL;
+        END IF;
+        IF v_reserved - p_quantity < v_headroom THEN
+            RAISE EXCEPTION 'inventory ledger escrow headroom exhausted: product_id=%', p_product_id
+                USING ERRCODE = '40001';
+        END IF;
+    ELSE
+        PERFORM lock_inventory_ledger(p_product_id);
+
+        v_reserved := inventory_ledger_reserved(p_product_id);
+        IF v_reserved IS NULL THEN
+            RETURN NULL;
+        END IF;
+        IF v_reserved < p_quantity THEN
+            RETURN FALSE;
+        END IF;
+    END IF;
+
+    INSERT INTO inventory_movements (product_id, quantity_delta, movement_type)
+    VALUES (p_product_id, -p_quantity, 'RELEASE');
+
+    RETURN TRUE;
+END;
+$$;
+
+-- 7. Compaction: 미반영 이동분을 잔액에 합산하고 반영 지점을 전진
+-- 반환값: 반영한 이동 건수
+CREATE OR REPLACE FUNCTION compact_inventory_ledger(p_product_id BIGINT)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_last_movement_id BIGINT;
+    v_max_movement_id BIGINT;
+    v_delta INTEGER;
+    v_count INTEGER;
+BEGIN
+    PERFORM lock_inventory_ledger(p_product_id);
+
+    SELECT last_movement_id INTO v_last_movement_id
+    FROM inventory_ledger_balances
+    WHERE product_id = p_product_id
+    FOR UPDATE;
+
+    IF NOT FOUND THEN
+        RETURN 0;
+    END IF;
+
+    SELECT MAX(movement_id), COALESCE(SUM(quantity_delta), 0), COUNT(*)
+    INTO v_max_movement_id, v_delta, v_count
+    FROM inventory_movements
+    WHERE product_id = p_product_id
+      AND movement_id > v_last_movement_id;
+
+    IF v_count = 0 THEN
+        RETURN 0;
+    END IF;
+
+    UPDATE inventory_ledger_balances
+    SET reserved_quantity = reserved_quantity + v_delta,
+        last_movement_id = v_max_movement_id,
+        compacted_at = NOW()
+    WHERE product_id = p_product_id;
+
+    RETURN v_count;
+END;
+$$;
+
+-- 8. 장바구니 예약 함수가 원장 모드 RESERVATION 상품을 처리하도록 재정의 (원장 → 샤드 → 단일 행 순)
+CREATE OR REPLACE FUNCTION reserve_inventory_cart(
+    p_room_id BIGINT,
+    p_time_slots TIMESTAMP[],
+    p_product_ids BIGINT[],
+    p_quantities INTEGER[],
+    p_shard_key INTEGER
+)
+RETURNS TABLE (result_product_id BIGINT, result_reserved BOOLEAN)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_slot_count INTEGER := COALESCE(array_length(p_time_slots, 1), 0);
+    v_product_ids BIGINT[] := '{}';
+    v_results BOOLEAN[] := '{}';
+    v_all_reserved BOOLEAN := TRUE;
+    v_item RECORD;
+    v_reserved BOOLEAN;
+    v_rows INTEGER;
+BEGIN
+    BEGIN
+        FOR v_item IN
+            SELECT c.cart_product_id, c.cart_quantity, p.scope, p.room_id AS product_room_id
+            FROM unnest(p_product_ids, p_quantities) AS c(cart_product_id, cart_quantity)
+            LEFT JOIN products p ON p.product_id = c.cart_product_id
+            ORDER BY c.cart_product_id
+        LOOP
+            v_reserved := FALSE;
+
+            IF v_item.scope = 'RESERVATION' THEN
+                -- 원장 모드 상품은 이동분 INSERT, 샤딩된 상품은 샤드 행, 그 외에는 products 행에서 차감
+                v_reserved := reserve_inventory_ledger(v_item.cart_product_id, v_item.cart_quantity);
+
+                IF v_reserved IS NULL THEN
+                    v_reserved := reserve_inventory_shard(v_item.cart_product_id, v_item.cart_quantity, p_shard_key);
+                END IF;
+
+                IF v_reserved IS NULL THEN
+                    UPDATE products
+                    SET reserved_quantity = reserved_quantity + v_item.cart_quantity
+                    WHERE product_id = v_item.cart_product_id
+                      AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                    GET DIAGNOSTICS v_rows = ROW_COUNT;
+                    v_reserved := v_rows > 0;
+                END IF;
+
+            ELSIF v_item.scope = 'ROOM' THEN
+                INSERT INTO product_time_slot_inventory
+                    (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                SELECT p.product_id, v_item.product_room_id, s.time_slot, p.total_quantity, 0
+                FROM products p
+                CROSS JOIN unnest(p_time_slots) AS s(time_slot)
+                WHERE p.product_id = v_item.cart_product_id
+                ON CONFLICT (product_id, room_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE product_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND room_id = v_item.product_room_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+            ELSIF v_item.scope = 'PLACE' THEN
+                INSERT INTO place_time_slot_inventory
+                    (product_id, time_slot, total_quantity, reserved_quantity)
+                SELECT product_id, time_slot, MAX(total_quantity), SUM(reserved_quantity)
+                FROM product_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                GROUP BY product_id, time_slot
+                ON CONFLICT (product_id, time_slot) DO NOTHING;
+
+                PERFORM 1
+                FROM place_time_slot_inventory
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                ORDER BY time_slot
+                FOR UPDATE;
+
+                UPDATE place_time_slot_inventory
+                SET reserved_quantity = reserved_quantity + v_item.cart_quantity,
+                    updated_at = NOW()
+                WHERE product_id = v_item.cart_product_id
+                  AND time_slot = ANY (p_time_slots)
+                  AND (total_quantity - reserved_quantity) >= v_item.cart_quantity;
+
+                GET DIAGNOSTICS v_rows = ROW_COUNT;
+                v_reserved := v_rows = v_slot_count;
+
+                IF v_reserved AND v_slot_count > 0 THEN
+                    INSERT INTO product_time_slot_inventory
+                        (product_id, room_id, time_slot, total_quantity, reserved_quantity)
+                    SELECT a.product_id, p_room_id, a.time_slot, a.total_quantity, v_item.cart_quantity
+                    FROM place_time_slot_inventory a
+                    WHERE a.product_id = v_item.cart_product_id
+                      AND a.time_slot = ANY (p_time_slots)
+                    ON CONFLICT (product_id, room_id, time_slot)
+                    DO UPDATE SET
+                        reserved_quantity = product_time_slot_inventory.reserved_quantity + EXCLUDED.reserved_quantity,
+                        updated_at = NOW();
+                END IF;
+            END IF;
+
+            v_product_ids := array_append(v_product_ids, v_item.cart_product_id);
+            v_results := array_append(v_results, v_reserved);
+            v_all_reserved := v_all_reserved AND v_reserved;
+        END LOOP;
+
+        -- 하나라도 실패하면 블록 내 모든 변경을 롤백 (결과 배열은 PL/pgSQL 변수이므로 유지됨)
+        IF NOT v_all_reserved THEN
+            RAISE EXCEPTION 'reserve_inventory_cart rejected' USING ERRCODE = 'P0001';
+        END IF;
+    EXCEPTION
+        WHEN raise_exception THEN
+            NULL;
+    END;
+
+    RETURN QUERY
+        SELECT r.product_id, r.reserved
+        FROM unnest(v_product_ids, v_results) AS r(product_id, reserved);
+END;
+$$;
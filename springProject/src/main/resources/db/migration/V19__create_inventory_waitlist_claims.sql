@@ -0,0 +1,43 @@
+-- 품절 상품 대기열 (Waitlist)
+-- 재고 부족으로 예약에 실패한 클라이언트가 재시도 루프를 도는 대신 (상품, 시간대, 수량) 대기 요청을 등록합니다.
+-- 재고가 해제되면 같은 트랜잭션에서 가장 오래된 대기 요청부터 재고를 할당(선점)하고 이벤트로 알립니다.
+--
+-- 상태 전이:
+--   WAITING   → ALLOCATED (재고 할당) / EXPIRED (대기 시간 초과) / CANCELLED
+--   ALLOCATED → FULFILLED (예약 생성에 사용) / EXPIRED (할당 유효 시간 초과, 재고 반환) / CANCELLED (재고 반환)
+-- expires_at은 WAITING이면 대기 만료 시각, ALLOCATED이면 할당 만료 시각입니다.
+
+CREATE TABLE inventory_waitlist_claims (
+    claim_id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    time_slots TIMESTAMP[] NOT NULL,
+    quantity INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    reservation_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    allocated_at TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_waitlist_quantity_positive CHECK (quantity > 0),
+    CONSTRAINT chk_waitlist_status
+        CHECK (status IN ('WAITING', 'ALLOCATED', 'FULFILLED', 'EXPIRED', 'CANCELLED')),
+    CONSTRAINT fk_waitlist_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+);
+
+-- 재고 해제 시 상품별 가장 오래된 대기 요청 조회
+CREATE INDEX idx_waitlist_waiting_product
+    ON inventory_waitlist_claims(product_id, created_at, claim_id)
+    WHERE status = 'WAITING';
+
+-- 대기/할당 만료 처리
+CREATE INDEX idx_waitlist_active_expires_at
+    ON inventory_waitlist_claims(expires_at)
+    WHERE status IN ('WAITING', 'ALLOCATED');
+
+COMMENT ON TABLE inventory_waitlist_claims IS
+    '품절 상품 대기 요청 (재고 해제 시 오래된 순으로 할당)';
+COMMENT ON COLUMN inventory_waitlist_claims.time_slots IS
+    '대기 시간대 목록 (ROOM/PLACE Scope 재고 키, RESERVATION Scope는 샤드 선택에만 사용)';
+COMMENT ON COLUMN inventory_waitlist_claims.expires_at IS
+    'WAITING: 대기 만료 시각, ALLOCATED: 할당 만료 시각';
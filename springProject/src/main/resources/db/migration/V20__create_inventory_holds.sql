@@ -0,0 +1,35 @@
+-- 가격 미리보기 시점의 단기 재고 홀드 (Soft Hold)
+-- 미리보기와 예약 생성 사이에 재고가 소진되어 결제 화면에서 늦게 실패하는 문제를 줄이기 위해,
+-- 미리보기에서 요청 수량을 짧은 TTL(기본 2분)로 미리 예약합니다.
+--
+-- 홀드는 재고 카운터(reserved_quantity)를 실제로 증가시키므로 모든 가용 재고 조회에 자동으로 반영됩니다.
+-- 예약 생성 시 홀드를 삭제하고 홀드한 수량은 재고 재검증 없이 예약의 재고로 넘깁니다.
+-- 만료된 홀드는 스케줄러가 배치 단위로 삭제하고 재고를 해제합니다.
+
+CREATE TABLE inventory_holds (
+    hold_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL,
+    time_slots TIMESTAMP[] NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE inventory_hold_items (
+    hold_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    PRIMARY KEY (hold_id, product_id),
+    CONSTRAINT chk_hold_item_quantity_positive CHECK (quantity > 0),
+    CONSTRAINT fk_hold_item_hold
+        FOREIGN KEY (hold_id) REFERENCES inventory_holds(hold_id) ON DELETE CASCADE,
+    CONSTRAINT fk_hold_item_product
+        FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
+);
+
+-- 만료 홀드 일괄 정리
+CREATE INDEX idx_inventory_holds_expires_at ON inventory_holds(expires_at);
+
+COMMENT ON TABLE inventory_holds IS
+    '가격 미리보기 단기 재고 홀드 (예약 생성 시 예약 재고로 전환, 만료 시 해제)';
+COMMENT ON TABLE inventory_hold_items IS
+    '홀드한 상품별 수량';
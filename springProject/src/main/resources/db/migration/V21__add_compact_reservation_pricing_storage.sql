@@ -0,0 +1,85 @@
+-- 예약 가격 스냅샷의 압축 저장 형식
+-- 기존에는 시간대 가격(reservation_pricing_slots)과 상품 내역(reservation_pricing_products)을
+-- 별도 테이블에 저장하여, 12개 슬롯 + 3개 상품 예약 하나가 16행 쓰기와 조인 조회를 필요로 했습니다.
+--
+-- 압축 형식은 reservation_pricings 한 행에 모두 저장합니다.
+-- - slot_start_at: 첫 슬롯 시각, slot_end_at: 마지막 슬롯 시각 (시간 범위 조회용)
+-- - slot_prices: slot_start_at부터 슬롯 단위(time_slot) 간격의 가격 배열 (빈 슬롯은 NULL)
+-- - product_breakdowns: 상품 내역 jsonb 배열
+--
+-- 전환 절차:
+-- 1. 이 마이그레이션이 기존 행을 압축 형식으로 채우되, 기존 테이블의 행은 그대로 둡니다.
+--    (기존 테이블만 읽는 이전 버전 인스턴스가 배포 중에도 동작하도록)
+-- 2. 애플리케이션은 slot_start_at이 있으면 압축 형식을, 없으면 기존 테이블을 읽습니다 (Dual-read).
+--    배포 기간에는 reservation.storage.legacy-write-enabled=true로 기존 테이블에도 함께 기록할 수 있습니다.
+-- 3. 모든 인스턴스가 전환된 뒤 후속 마이그레이션에서 압축된 행의 기존 테이블 데이터를 삭제합니다.
+
+ALTER TABLE reservation_pricings
+    ADD COLUMN slot_start_at TIMESTAMP,
+    ADD COLUMN slot_end_at TIMESTAMP,
+    ADD COLUMN slot_prices NUMERIC(12, 2)[],
+    ADD COLUMN product_breakdowns JSONB;
+
+-- 슬롯이 슬롯 단위 간격에 맞는 기존 예약만 압축 형식으로 채움 (맞지 않는 예약은 기존 테이블에서 계속 읽음)
+WITH bounds AS (
+    SELECT s.reservation_id,
+           MIN(s.slot_time) AS start_at,
+           MAX(s.slot_time) AS end_at,
+           CASE rp.time_slot WHEN 'HALFHOUR' THEN 30 ELSE 60 END AS unit_minutes
+    FROM reservation_pricing_slots s
+    JOIN reservation_pricings rp ON rp.reservation_id = s.reservation_id
+    GROUP BY s.reservation_id, rp.time_slot
+),
+aligned AS (
+    SELECT b.*
+    FROM bounds b
+    WHERE NOT EXISTS (
+        SELECT 1
+        FROM reservation_pricing_slots s
+        WHERE s.reservation_id = b.reservation_id
+          AND (EXTRACT(EPOCH FROM (s.slot_time - b.start_at))::BIGINT % (b.unit_minutes * 60)) <> 0
+    )
+),
+compact AS (
+    SELECT a.reservation_id,
+           a.start_at,
+           a.end_at,
+           ARRAY_AGG(s.slot_price ORDER BY g.idx) AS prices
+    FROM aligned a
+    CROSS JOIN LATERAL generate_series(
+        0, (EXTRACT(EPOCH FROM (a.end_at - a.start_at))::BIGINT / (a.unit_minutes * 60))::INT) AS g(idx)
+    LEFT JOIN reservation_pricing_slots s
+        ON s.reservation_id = a.reservation_id
+       AND s.slot_time = a.start_at + g.idx * a.unit_minutes * INTERVAL '1 minute'
+    GROUP BY a.reservation_id, a.start_at, a.end_at
+)
+UPDATE reservation_pricings rp
+SET slot_start_at = c.start_at,
+    slot_end_at = c.end_at,
+    slot_prices = c.prices,
+    product_breakdowns = COALESCE((
+        SELECT JSONB_AGG(JSONB_BUILD_OBJECT(
+            'productId', p.product_id,
+            'productName', p.product_name,
+            'quantity', p.quantity,
+            'unitPrice', p.unit_price,
+            'totalPrice', p.total_price,
+            'pricingType', p.pricing_type))
+        FROM reservation_pricing_products p
+        WHERE p.reservation_id = rp.reservation_id
+    ), '[]'::JSONB)
+FROM compact c
+WHERE rp.reservation_id = c.reservation_id;
+
+-- 압축 형식 행의 시간 범위 조회
+CREATE INDEX idx_reservation_pricings_place_slot_start
+    ON reservation_pricings (place_id, slot_start_at);
+CREATE INDEX idx_reservation_pricings_room_slot_start
+    ON reservation_pricings (room_id, slot_start_at);
+
+COMMENT ON COLUMN reservation_pricings.slot_start_at IS
+    '첫 슬롯 시각 (NULL이면 reservation_pricing_slots/products 테이블에 저장된 기존 형식)';
+COMMENT ON COLUMN reservation_pricings.slot_end_at IS '마지막 슬롯 시각';
+COMMENT ON COLUMN reservation_pricings.slot_prices IS
+    'slot_start_at부터 슬롯 단위 간격의 가격 배열 (빈 슬롯은 NULL)';
+COMMENT ON COLUMN reservation_pricings.product_breakdowns IS '상품별 가격 내역 (jsonb 배열)';
@@ -0,0 +1,8 @@
+-- 예약 상태 조건부 전환(Compare-and-set)용 버전 컬럼
+-- 상태 전환은 UPDATE ... WHERE reservation_id = ? AND status = ? 한 문장으로 수행하고 버전을 올립니다.
+-- 엔티티 전체를 저장하는 경로(@Version)는 그 사이에 상태가 바뀌었으면 낙관적 잠금 예외로 실패합니다.
+
+ALTER TABLE reservation_pricings
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reservation_pricings.version IS '낙관적 잠금 버전 (상태 전환/저장 시 증가)';
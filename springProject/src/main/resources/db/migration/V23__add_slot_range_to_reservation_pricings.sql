@@ -0,0 +1,29 @@
+-- 예약 슬롯 기간의 범위 타입 컬럼과 GiST 인덱스
+-- 시간 범위 조회는 (place_id/room_id, slot_start_at) B-tree 인덱스로 slot_start_at <= :end 만 좁히고
+-- slot_end_at >= :start 는 행마다 확인하므로, 과거 예약이 쌓일수록 읽는 인덱스 구간이 길어집니다.
+--
+-- slot_range는 slot_start_at ~ slot_end_at(마지막 슬롯 시각)의 닫힌 범위이며, 생성 컬럼이므로 쓰기 시 DB가 함께 갱신합니다.
+-- (place_id/room_id, slot_range) GiST 인덱스로 겹침 연산자(&&) 조회를 인덱스 안에서 끝냅니다.
+-- 압축 형식이 없는 기존 행(slot_start_at IS NULL)은 NULL이며, 조회 시 reservation_pricing_slots로 따로 거릅니다.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE reservation_pricings
+    ADD COLUMN slot_range TSRANGE GENERATED ALWAYS AS (
+        CASE
+            WHEN slot_start_at IS NULL THEN NULL
+            ELSE TSRANGE(slot_start_at, slot_end_at, '[]')
+        END
+    ) STORED;
+
+CREATE INDEX idx_reservation_pricings_place_slot_range
+    ON reservation_pricings USING GIST (place_id, slot_range);
+CREATE INDEX idx_reservation_pricings_room_slot_range
+    ON reservation_pricings USING GIST (room_id, slot_range);
+
+-- slot_range 인덱스로 대체
+DROP INDEX IF EXISTS idx_reservation_pricings_place_slot_start;
+DROP INDEX IF EXISTS idx_reservation_pricings_room_slot_start;
+
+COMMENT ON COLUMN reservation_pricings.slot_range IS
+    '첫 슬롯 시각 ~ 마지막 슬롯 시각의 닫힌 범위 (slot_start_at/slot_end_at에서 생성, 기존 형식 행은 NULL)';
@@ -0,0 +1,172 @@
+-- 예약 가격 테이블의 월별 파티션 (예약 시작 시각 기준)
+-- reservation_pricings / reservation_pricing_slots / reservation_pricing_products는 보존 기간 없이 계속 쌓여,
+-- 만료/시간 범위 조회가 수년치 취소 이력까지 포함한 인덱스를 탐색합니다.
+--
+-- 파티션 키:
+-- - reservation_pricings: slot_start_at (예약 시작 시각, 생성 후 바뀌지 않음)
+--   calculated_at은 상품 변경 시 갱신되어 파티션 간 행 이동이 생기므로 사용하지 않습니다.
+-- - reservation_pricing_slots: slot_time (각 슬롯 시각, 예약 시작 시각과 같은 달이거나 그 이후)
+-- - reservation_pricing_products: 시각 컬럼이 없으므로 파티션하지 않습니다.
+--   모든 예약의 상품 내역을 product_breakdowns(jsonb)로 옮기고, product_breakdowns에 같은 요소가 있는
+--   (이관이 확인된) 행만 삭제합니다. 확인되지 않은 행은 남겨 두며 V21의 Dual-read는 그대로 유지됩니다.
+--   이후에는 reservation.storage.legacy-write-enabled가 켜진 경우에만 기록됩니다.
+--
+-- 압축 형식 구분을 slot_start_at에서 slot_prices로 바꿉니다.
+-- slot_start_at/slot_end_at은 기존 형식 행을 포함한 모든 행에 채워지므로 (슬롯이 없으면 calculated_at),
+-- 이 마이그레이션은 모든 인스턴스를 이 버전으로 교체하는 점검 시간에 적용해야 합니다.
+--
+-- 파티션은 데이터가 있는 월과 2025-01(재고 파티션 시작 월) 중 이른 달부터 현재 월 + 3개월까지 만들고,
+-- 이후 월은 애플리케이션 파티션 관리(partition.tables)가 product_time_slot_inventory와 같은 규칙으로 생성/보존합니다.
+-- 범위 밖 시각의 행은 DEFAULT 파티션에 저장되어 INSERT가 실패하지 않으며,
+-- 파티션 관리가 해당 월 파티션을 만들 때 DEFAULT 파티션의 행을 옮깁니다.
+--
+-- 기본 키는 (reservation_id, slot_start_at)이므로 예약 ID만으로 조회하면 모든 파티션을 탐색합니다.
+-- 예약 ID → slot_start_at 조회 테이블(reservation_pricing_keys)로 시작 시각을 먼저 찾아 한 파티션만 읽고,
+-- 이 테이블의 기본 키가 예약 ID의 유일성을 보장합니다.
+--
+-- 파티션 테이블은 파티션 키 없이 예약 ID만 참조할 수 없으므로 하위 테이블의 외래 키는 제거하고,
+-- 참조 무결성은 애플리케이션이 보장합니다.
+-- (하위 테이블 행과 reservation_pricing_keys 행은 애플리케이션이 예약과 함께 기록하고, 예약 삭제 시 함께 삭제합니다)
+-- 보존 기간이 지난 reservation_pricings 파티션을 삭제/보관할 때도 ON DELETE CASCADE가 없으므로,
+-- 파티션 관리(partition.tables[].referencing-tables)가 같은 트랜잭션에서 reservation_pricing_keys /
+-- reservation_pricing_products 행을 삭제합니다. reservation_pricing_slots는 자체 보존 기간으로 정리됩니다.
+
+-- 1. 기존 형식 행의 슬롯 기간과 상품 내역을 채움
+UPDATE reservation_pricings rp
+SET slot_start_at = b.start_at,
+    slot_end_at = b.end_at
+FROM (
+    SELECT reservation_id, MIN(slot_time) AS start_at, MAX(slot_time) AS end_at
+    FROM reservation_pricing_slots
+    GROUP BY reservation_id
+) b
+WHERE rp.reservation_id = b.reservation_id
+  AND rp.slot_start_at IS NULL;
+
+UPDATE reservation_pricings
+SET slot_start_at = calculated_at,
+    slot_end_at = calculated_at
+WHERE slot_start_at IS NULL;
+
+UPDATE reservation_pricings rp
+SET product_breakdowns = COALESCE((
+    SELECT JSONB_AGG(JSONB_BUILD_OBJECT(
+        'productId', p.product_id,
+        'productName', p.product_name,
+        'quantity', p.quantity,
+        'unitPrice', p.unit_price,
+        'totalPrice', p.total_price,
+        'pricingType', p.pricing_type))
+    FROM reservation_pricing_products p
+    WHERE p.reservation_id = rp.reservation_id
+), '[]'::JSONB)
+WHERE rp.product_breakdowns IS NULL;
+
+-- 2. 압축 형식으로 옮겨진 기존 테이블 데이터 삭제 (V21 전환 절차 3단계)
+DELETE FROM reservation_pricing_slots s
+USING reservation_pricings rp
+WHERE rp.reservation_id = s.reservation_id
+  AND rp.slot_prices IS NOT NULL;
+
+DELETE FROM reservation_pricing_products p
+USING reservation_pricings rp
+WHERE rp.reservation_id = p.reservation_id
+  AND rp.product_breakdowns @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT(
+        'productId', p.product_id,
+        'productName', p.product_name,
+        'quantity', p.quantity,
+        'unitPrice', p.unit_price,
+        'totalPrice', p.total_price,
+        'pricingType', p.pricing_type));
+
+ALTER TABLE reservation_pricing_slots DROP CONSTRAINT fk_reservation_pricing_slots;
+ALTER TABLE reservation_pricing_products DROP CONSTRAINT fk_reservation_pricing_products;
+
+-- 3. 파티션 테이블로 교체
+ALTER TABLE reservation_pricings RENAME TO reservation_pricings_unpartitioned;
+ALTER TABLE reservation_pricing_slots RENAME TO reservation_pricing_slots_unpartitioned;
+
+CREATE TABLE reservation_pricings (
+    LIKE reservation_pricings_unpartitioned
+        INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED INCLUDING COMMENTS
+) PARTITION BY RANGE (slot_start_at);
+
+CREATE TABLE reservation_pricing_slots (
+    LIKE reservation_pricing_slots_unpartitioned
+        INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS
+) PARTITION BY RANGE (slot_time);
+
+DO $$
+DECLARE
+    month_start TIMESTAMP := LEAST(
+        DATE_TRUNC('month', (SELECT MIN(slot_start_at) FROM reservation_pricings_unpartitioned)),
+        TIMESTAMP '2025-01-01 00:00:00');
+    last_month TIMESTAMP := DATE_TRUNC('month', GREATEST(
+        LOCALTIMESTAMP,
+        (SELECT MAX(slot_end_at) FROM reservation_pricings_unpartitioned),
+        (SELECT MAX(slot_time) FROM reservation_pricing_slots_unpartitioned))) + INTERVAL '3 months';
+    table_name TEXT;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        FOREACH table_name IN ARRAY ARRAY['reservation_pricings', 'reservation_pricing_slots'] LOOP
+            EXECUTE FORMAT(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                table_name || '_' || TO_CHAR(month_start, 'YYYY_MM'),
+                table_name,
+                month_start,
+                month_start + INTERVAL '1 month');
+        END LOOP;
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+CREATE TABLE reservation_pricings_default PARTITION OF reservation_pricings DEFAULT;
+CREATE TABLE reservation_pricing_slots_default PARTITION OF reservation_pricing_slots DEFAULT;
+
+INSERT INTO reservation_pricings (
+    reservation_id, room_id, place_id, status, time_slot, total_price, calculated_at, expires_at,
+    slot_start_at, slot_end_at, slot_prices, product_breakdowns, version)
+SELECT reservation_id, room_id, place_id, status, time_slot, total_price, calculated_at, expires_at,
+       slot_start_at, slot_end_at, slot_prices, product_breakdowns, version
+FROM reservation_pricings_unpartitioned;
+
+INSERT INTO reservation_pricing_slots (reservation_id, slot_time, slot_price)
+SELECT reservation_id, slot_time, slot_price
+FROM reservation_pricing_slots_unpartitioned;
+
+-- 예약 ID → 파티션 키 조회 테이블 (파티션하지 않음)
+CREATE TABLE reservation_pricing_keys (
+    reservation_id BIGINT PRIMARY KEY,
+    slot_start_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO reservation_pricing_keys (reservation_id, slot_start_at)
+SELECT reservation_id, slot_start_at
+FROM reservation_pricings_unpartitioned;
+
+DROP TABLE reservation_pricings_unpartitioned;
+DROP TABLE reservation_pricing_slots_unpartitioned;
+
+-- 4. 제약 조건과 인덱스 (파티션마다 생성됨)
+ALTER TABLE reservation_pricings
+    ALTER COLUMN slot_end_at SET NOT NULL,
+    ADD PRIMARY KEY (reservation_id, slot_start_at);
+ALTER TABLE reservation_pricing_slots
+    ADD PRIMARY KEY (reservation_id, slot_time);
+
+CREATE INDEX idx_reservation_pricings_room_status ON reservation_pricings (room_id, status);
+CREATE INDEX idx_reservation_pricings_place_status ON reservation_pricings (place_id, status);
+CREATE INDEX idx_reservation_pricings_status ON reservation_pricings (status);
+CREATE INDEX idx_reservation_pricings_status_expires_at
+    ON reservation_pricings (status, expires_at) WHERE status = 'PENDING';
+CREATE INDEX idx_reservation_pricings_place_slot_range
+    ON reservation_pricings USING GIST (place_id, slot_range);
+CREATE INDEX idx_reservation_pricings_room_slot_range
+    ON reservation_pricings USING GIST (room_id, slot_range);
+
+COMMENT ON TABLE reservation_pricings IS '예약 가격 스냅샷 (slot_start_at 기준 월별 파티션)';
+COMMENT ON TABLE reservation_pricing_slots IS '기존 형식 시간대 가격 (slot_time 기준 월별 파티션)';
+COMMENT ON TABLE reservation_pricing_keys IS '예약 ID별 파티션 키 (예약 ID 유일성 보장, 예약 ID 조회 시 한 파티션만 읽기 위함)';
+COMMENT ON COLUMN reservation_pricings.slot_start_at IS '첫 슬롯 시각 (파티션 키, 슬롯이 없으면 계산 시각)';
+COMMENT ON COLUMN reservation_pricings.slot_prices IS
+    'slot_start_at부터 슬롯 단위 간격의 가격 배열 (빈 슬롯은 NULL, 배열이 NULL이면 reservation_pricing_slots에 저장된 기존 형식)';
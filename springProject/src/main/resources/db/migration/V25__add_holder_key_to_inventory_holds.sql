@@ -0,0 +1,13 @@
+-- 재고 홀드 요청자 키
+-- 미리보기 홀드는 TTL 동안 실제 재고를 예약하므로, 한 요청자나 한 룸이 가질 수 있는 활성 홀드 수를 제한합니다.
+-- 요청자 키는 클라이언트 IP이며, 기존 홀드는 요청자를 알 수 없으므로 NULL로 둡니다 (룸 한도에만 포함).
+
+ALTER TABLE inventory_holds ADD COLUMN holder_key VARCHAR(64);
+
+-- 요청자별/룸별 활성 홀드 수 조회
+CREATE INDEX idx_inventory_holds_holder_expires_at ON inventory_holds(holder_key, expires_at)
+    WHERE holder_key IS NOT NULL;
+CREATE INDEX idx_inventory_holds_room_expires_at ON inventory_holds(room_id, expires_at);
+
+COMMENT ON COLUMN inventory_holds.holder_key IS
+    '홀드 요청자 키 (클라이언트 IP, 요청자별 활성 홀드 수 제한에 사용)';
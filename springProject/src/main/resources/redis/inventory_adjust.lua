@@ -0,0 +1,31 @@
+-- 재고 카운터 원자적 증감 (장바구니 전체를 한 번에 처리)
+-- KEYS[1]         : Write-behind 대상 키 집합 (dirty set)
+-- KEYS[i + 1]     : 카운터 해시 키 (필드: total, reserved)
+-- ARGV[2i - 1]    : KEYS[i + 1]의 예약 수량 증감량
+-- ARGV[2i]        : 한도 검사 여부 (1: reserved >= 0, 증가 시 reserved <= total 검사 / 0: 검사 없음)
+-- 반환            : 한도를 벗어난 카운터 인덱스 목록 (비어 있으면 전체 반영, 하나라도 있으면 전체 미반영)
+local failed = {}
+local counters = #KEYS - 1
+
+for i = 1, counters do
+    if ARGV[2 * i] == '1' then
+        local key = KEYS[i + 1]
+        local delta = tonumber(ARGV[2 * i - 1])
+        local total = redis.call('HGET', key, 'total')
+        local reserved = tonumber(redis.call('HGET', key, 'reserved') or '0') + delta
+        if reserved < 0 or (delta > 0 and (not total or reserved > tonumber(total))) then
+            failed[#failed + 1] = i
+        end
+    end
+end
+
+if #failed > 0 then
+    return failed
+end
+
+for i = 1, counters do
+    redis.call('HINCRBY', KEYS[i + 1], 'reserved', ARGV[2 * i - 1])
+    redis.call('SADD', KEYS[1], KEYS[i + 1])
+end
+
+return failed
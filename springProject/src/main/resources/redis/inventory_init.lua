@@ -0,0 +1,15 @@
+-- 재고 카운터 초기화 (Postgres 값 적재)
+-- KEYS[i]       : 카운터 해시 키 (1 <= i <= n, n = #KEYS / 2)
+-- KEYS[n + i]   : KEYS[i] 상품의 적재된 카운터 키 집합 (총 수량 변경 시 갱신 대상)
+-- ARGV[2i - 1]  : 총 수량
+-- ARGV[2i]      : 예약 수량
+-- 이미 있는 필드는 덮어쓰지 않습니다. Redis 값이 아직 Flush되지 않은 최신 값일 수 있기 때문입니다.
+local counters = #KEYS / 2
+
+for i = 1, counters do
+    redis.call('HSETNX', KEYS[i], 'total', ARGV[2 * i - 1])
+    redis.call('HSETNX', KEYS[i], 'reserved', ARGV[2 * i])
+    redis.call('SADD', KEYS[counters + i], KEYS[i])
+end
+
+return counters
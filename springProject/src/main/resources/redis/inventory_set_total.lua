@@ -0,0 +1,18 @@
+-- 상품 총 수량 변경 반영
+-- KEYS[1]       : 상품의 적재된 카운터 키 집합
+-- KEYS[i + 1]   : 총 수량을 갱신할 카운터 해시 키
+-- ARGV[1]       : 새 총 수량
+-- 총 수량이 적재된 카운터만 갱신하고, 이미 사라진 키는 집합에서 제거합니다.
+-- 예약 수량은 그대로 두므로 총 수량이 예약 수량보다 작아지면 추가 예약만 거절됩니다.
+local updated = 0
+
+for i = 2, #KEYS do
+    if redis.call('HEXISTS', KEYS[i], 'total') == 1 then
+        redis.call('HSET', KEYS[i], 'total', ARGV[1])
+        updated = updated + 1
+    elseif redis.call('EXISTS', KEYS[i]) == 0 then
+        redis.call('SREM', KEYS[1], KEYS[i])
+    end
+end
+
+return updated
@@ -0,0 +1,66 @@
+package com.teambind.springproject.adapter.in.web.product;
+
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase;
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase.Subscription;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AvailabilityStreamController.class)
+@Import(InventoryConfiguration.class)
+@DisplayName("AvailabilityStreamController 통합 테스트")
+class AvailabilityStreamControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private SubscribeAvailabilityChangesUseCase subscribeAvailabilityChangesUseCase;
+
+	@Test
+	@DisplayName("구독에 성공하면 SSE 스트림을 연다")
+	void openStream() throws Exception {
+		// given
+		when(subscribeAvailabilityChangesUseCase.subscribe(eq(100L), isNull(), any(), any()))
+				.thenReturn(Optional.of(mock(Subscription.class)));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/products/availability/stream")
+						.param("placeId", "100")
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isOk())
+				.andExpect(request().asyncStarted());
+	}
+
+	@Test
+	@DisplayName("구독자 수 한도를 넘으면 SSE 요청에도 409를 반환한다")
+	void conflictOverCapacity() throws Exception {
+		// given
+		when(subscribeAvailabilityChangesUseCase.subscribe(eq(100L), eq(10L), any(), any()))
+				.thenReturn(Optional.empty());
+
+		// when & then
+		mockMvc.perform(get("/api/v1/products/availability/stream")
+						.param("placeId", "100")
+						.param("roomId", "10")
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isConflict());
+	}
+}
@@ -55,6 +55,9 @@ class ProductControllerTest {
 	@MockBean
 	private QueryProductAvailabilityUseCase queryProductAvailabilityUseCase;
 	
+	@MockBean
+	private QueryAvailabilityHeatmapUseCase queryAvailabilityHeatmapUseCase;
+	
 	@Nested
 	@DisplayName("POST /api/products - 상품 등록")
 	class RegisterProductTests {
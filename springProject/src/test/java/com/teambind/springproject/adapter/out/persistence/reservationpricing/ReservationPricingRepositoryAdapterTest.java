@@ -14,7 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -46,6 +48,12 @@ class ReservationPricingRepositoryAdapterTest {
 	@Autowired
 	private com.teambind.springproject.common.util.generator.PrimaryKeyGenerator idGenerator;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	private RoomId testRoomId;
 	private PlaceId testPlaceId;
 	
@@ -535,4 +543,278 @@ class ReservationPricingRepositoryAdapterTest {
 			assertThat(found.get().getCalculatedAt()).isEqualTo(originalCalculatedAt);
 		}
 	}
+	
+	@Nested
+	@DisplayName("압축 저장 형식 테스트")
+	class CompactStorageTests {
+		
+		@Test
+		@DisplayName("시간대 가격과 상품 내역을 reservation_pricings 한 행에 저장하고 빈 슬롯까지 복원한다")
+		void saveAsSingleRow() {
+			// given - 10:00, 12:00 슬롯 (11:00은 빈 슬롯)
+			final Map<LocalDateTime, Money> slotPrices = new HashMap<>();
+			slotPrices.put(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000));
+			slotPrices.put(LocalDateTime.of(2025, 1, 15, 12, 0), Money.of(15000));
+			
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(slotPrices, TimeSlot.HOUR),
+					List.of(new ProductPriceBreakdown(
+							ProductId.of(101L), "빔 프로젝터", 2,
+							Money.of(5000), Money.of(10000), PricingType.SIMPLE_STOCK)),
+					10L
+			);
+			
+			// when
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			entityManager.clear();
+			
+			// then
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT COUNT(*) FROM reservation_pricing_slots", Integer.class)).isZero();
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT COUNT(*) FROM reservation_pricing_products", Integer.class)).isZero();
+			
+			final ReservationPricing found = repository.findById(saved.getReservationId()).orElseThrow();
+			assertThat(found.getTimeSlotBreakdown().slotPrices()).isEqualTo(pricing.getTimeSlotBreakdown().slotPrices());
+			assertThat(found.getProductBreakdowns()).isEqualTo(pricing.getProductBreakdowns());
+			
+			// 빈 슬롯(11:00)만 포함하는 범위는 조회되지 않음
+			assertThat(repository.findByRoomIdAndTimeRange(
+					testRoomId,
+					LocalDateTime.of(2025, 1, 15, 11, 0),
+					LocalDateTime.of(2025, 1, 15, 11, 30),
+					List.of(ReservationStatus.PENDING))).isEmpty();
+		}
+		
+		@Test
+		@DisplayName("슬롯 단위 간격에 맞지 않는 슬롯은 기존 테이블에 저장하고 그대로 읽는다")
+		void fallbackToLegacyTables() {
+			// given - HOUR 단위인데 30분 간격 슬롯
+			final Map<LocalDateTime, Money> slotPrices = new HashMap<>();
+			slotPrices.put(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000));
+			slotPrices.put(LocalDateTime.of(2025, 1, 15, 10, 30), Money.of(10000));
+			
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(slotPrices, TimeSlot.HOUR),
+					List.of(),
+					10L
+			);
+			
+			// when
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			entityManager.clear();
+			
+			// then
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT COUNT(*) FROM reservation_pricing_slots", Integer.class)).isEqualTo(2);
+			// 파티션 키인 슬롯 기간은 저장 형식과 관계없이 채움
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT slot_start_at FROM reservation_pricings WHERE reservation_id = ?",
+					LocalDateTime.class, saved.getReservationId().getValue()))
+					.isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 0));
+			
+			final List<ReservationPricing> found = repository.findByPlaceIdAndTimeRange(
+					testPlaceId,
+					LocalDateTime.of(2025, 1, 15, 10, 30),
+					LocalDateTime.of(2025, 1, 15, 11, 0),
+					List.of(ReservationStatus.PENDING)
+			);
+			assertThat(found).hasSize(1);
+			assertThat(found.get(0).getReservationId()).isEqualTo(saved.getReservationId());
+			assertThat(found.get(0).getTimeSlotBreakdown().getSlotCount()).isEqualTo(2);
+		}
+	}
+	
+	@Nested
+	@DisplayName("상태 전용 조회/변경 테스트")
+	class StatusOnlyTests {
+		
+		@Test
+		@DisplayName("예약 상태만 조회하고 조건부로 변경한다")
+		void findAndUpdateStatus() {
+			// given
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			);
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			
+			// when
+			final ReservationStatus current = repository.findStatusById(saved.getReservationId()).orElseThrow();
+			final boolean transitioned = repository.transitionStatus(
+					saved.getReservationId(), current, ReservationPricing.confirmedFrom(current));
+			
+			// then
+			assertThat(current).isEqualTo(ReservationStatus.PENDING);
+			assertThat(transitioned).isTrue();
+			assertThat(repository.findStatusById(saved.getReservationId())).contains(ReservationStatus.CONFIRMED);
+			assertThat(repository.findById(saved.getReservationId()).orElseThrow().getTotalPrice())
+					.isEqualTo(Money.of(10000));
+			assertThat(repository.findStatusById(ReservationId.of(idGenerator.generateLongKey()))).isEmpty();
+		}
+		
+		@Test
+		@DisplayName("기대 상태가 아니면 전환하지 않는다")
+		void rejectStaleTransition() {
+			// given
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			);
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			assertThat(repository.transitionStatus(
+					saved.getReservationId(), ReservationStatus.PENDING, ReservationStatus.CONFIRMED)).isTrue();
+			
+			// when - 같은 전환을 한 번 더 시도 (중복 이벤트)
+			final boolean duplicated = repository.transitionStatus(
+					saved.getReservationId(), ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+			
+			// then
+			assertThat(duplicated).isFalse();
+			assertThat(repository.findStatusById(saved.getReservationId())).contains(ReservationStatus.CONFIRMED);
+		}
+		
+		@Test
+		@DisplayName("상태 전환은 전환한 예약만 분리하고 다른 영속 엔티티는 그대로 둔다")
+		void refreshOnlyTransitionedReservation() {
+			// given
+			final ReservationPricing target = repository.save(ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			));
+			final ReservationPricing other = repository.save(ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(LocalDateTime.of(2025, 1, 15, 12, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			));
+			repository.flush();
+			final ReservationPricingEntity otherEntity = entityManager.find(
+					ReservationPricingEntity.class, other.getReservationId().getValue());
+			
+			// when
+			final boolean transitioned = repository.transitionStatus(
+					target.getReservationId(), ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+			
+			// then
+			assertThat(transitioned).isTrue();
+			assertThat(entityManager.getEntityManager().contains(otherEntity)).isTrue();
+			final ReservationPricing reloaded = repository.findById(target.getReservationId()).orElseThrow();
+			assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+			
+			// 갱신된 버전으로 이후 저장이 낙관적 잠금 충돌 없이 반영된다
+			repository.save(reloaded);
+			repository.flush();
+		}
+	}
+	
+	@Nested
+	@DisplayName("파티션 키 조회와 최대 예약 기간 테스트")
+	class PartitionKeyTests {
+		
+		@Test
+		@DisplayName("예약을 저장하면 예약 ID별 파티션 키를 함께 기록한다")
+		void recordPartitionKey() {
+			// given
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(
+									LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000),
+									LocalDateTime.of(2025, 1, 15, 11, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			);
+			
+			// when
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			
+			// then
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT slot_start_at FROM reservation_pricing_keys WHERE reservation_id = ?",
+					LocalDateTime.class,
+					saved.getReservationId().getValue()))
+					.isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 0));
+		}
+		
+		@Test
+		@DisplayName("최대 예약 기간을 넘는 예약은 저장하지 않는다")
+		void rejectReservationLongerThanMaxSpan() {
+			// given - 기본 최대 기간 7일을 넘는 슬롯
+			final ReservationPricing pricing = ReservationPricing.calculate(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					new TimeSlotPriceBreakdown(
+							Map.of(
+									LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000),
+									LocalDateTime.of(2025, 1, 23, 10, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					10L
+			);
+			
+			// when & then
+			assertThatThrownBy(() -> repository.save(pricing))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("span");
+		}
+		
+		@Test
+		@DisplayName("만료된 PENDING 예약은 시작 시각이 오래되어도 조회한다")
+		void findExpiredPendingRegardlessOfSlotStart() {
+			// given - 오래전에 시작한 슬롯, 만료 시각이 지난 PENDING 예약
+			final LocalDateTime calculatedAt = LocalDateTime.now().minusHours(1);
+			final ReservationPricing pricing = ReservationPricing.restore(
+					ReservationId.of(idGenerator.generateLongKey()),
+					testRoomId,
+					ReservationStatus.PENDING,
+					new TimeSlotPriceBreakdown(
+							Map.of(LocalDateTime.of(2025, 1, 15, 10, 0), Money.of(10000)),
+							TimeSlot.HOUR),
+					List.of(),
+					Money.of(10000),
+					calculatedAt,
+					calculatedAt.plusMinutes(10)
+			);
+			final ReservationPricing saved = repository.save(pricing);
+			repository.flush();
+			
+			// when
+			final List<ReservationPricing> expired = repository.findExpiredPendingReservations();
+			
+			// then
+			assertThat(expired)
+					.extracting(ReservationPricing::getReservationId)
+					.contains(saved.getReservationId());
+		}
+	}
 }
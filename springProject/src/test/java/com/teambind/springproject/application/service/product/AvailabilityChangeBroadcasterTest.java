@@ -0,0 +1,182 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.response.AvailabilityDeltaDto;
+import com.teambind.springproject.application.port.in.SubscribeAvailabilityChangesUseCase.Subscription;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.pricing.PricingStrategy;
+import com.teambind.springproject.domain.shared.Money;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityChangeBroadcaster 단위 테스트")
+class AvailabilityChangeBroadcasterTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private InventoryAvailabilityRepository inventoryAvailabilityRepository;
+
+	private AvailabilityChangeBroadcaster broadcaster;
+	private InventoryConfiguration configuration;
+	private final List<Runnable> pendingDeliveries = new ArrayList<>();
+
+	private final PlaceId placeId = PlaceId.of(100L);
+	private final RoomId roomId = RoomId.of(10L);
+	private final RoomId otherRoomId = RoomId.of(11L);
+	private final LocalDateTime slot = LocalDateTime.of(2025, 11, 15, 10, 0);
+
+	private Product roomProduct;
+	private Product placeProduct;
+
+	@BeforeEach
+	void setUp() {
+		configuration = new InventoryConfiguration();
+		configuration.getAvailabilityStream().setMaxSubscribers(3);
+		configuration.getAvailabilityStream().setMaxSubscribersPerPlace(2);
+		broadcaster = new AvailabilityChangeBroadcaster(
+				productRepository, inventoryAvailabilityRepository, configuration, Runnable::run);
+
+		roomProduct = Product.createRoomScoped(ProductId.of(1L), placeId, otherRoomId, "화이트보드",
+				PricingStrategy.oneTime(Money.of(BigDecimal.valueOf(15000))), 3);
+		placeProduct = Product.createPlaceScoped(ProductId.of(2L), placeId, "빔 프로젝터",
+				PricingStrategy.simpleStock(Money.of(BigDecimal.valueOf(10000))), 5);
+	}
+
+	@Test
+	@DisplayName("같은 (상품, 시간대) 변경은 하나로 병합하고 룸 구독자에게는 해당 룸과 PLACE 상품만 전달한다")
+	void coalesceAndFilterByRoom() {
+		// given
+		final List<List<AvailabilityDeltaDto>> placeEvents = new ArrayList<>();
+		final List<List<AvailabilityDeltaDto>> roomEvents = new ArrayList<>();
+		broadcaster.subscribe(placeId.getValue(), null, placeEvents::add, () -> { });
+		broadcaster.subscribe(placeId.getValue(), roomId.getValue(), roomEvents::add, () -> { });
+
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		broadcaster.onReleased(List.of(new InventoryReleaseItem(roomProduct, otherRoomId, 1)), List.of(slot));
+
+		when(productRepository.findAllById(anyList())).thenReturn(List.of(roomProduct, placeProduct));
+		when(inventoryAvailabilityRepository.findReservedQuantitiesBySlot(anyList(), anyList()))
+				.thenReturn(Map.of(placeProduct.getProductId(), Map.of(slot, 2)));
+
+		// when
+		final int delivered = broadcaster.flush();
+
+		// then
+		assertThat(delivered).isEqualTo(2);
+		assertThat(placeEvents).containsExactly(List.of(
+				new AvailabilityDeltaDto(1L, otherRoomId.getValue(), slot, 3),
+				new AvailabilityDeltaDto(2L, null, slot, 3)));
+		assertThat(roomEvents).containsExactly(List.of(new AvailabilityDeltaDto(2L, null, slot, 3)));
+		assertThat(broadcaster.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("구독자가 없으면 변경을 모으지 않고 DB를 조회하지 않는다")
+	void skipWithoutSubscribers() {
+		// given
+		final Subscription subscription = broadcaster.subscribe(placeId.getValue(), null, deltas -> { }, () -> { })
+				.orElseThrow();
+		subscription.cancel();
+
+		// when
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+
+		// then
+		assertThat(broadcaster.flush()).isZero();
+		verify(productRepository, never()).findAllById(any());
+	}
+
+	@Test
+	@DisplayName("플레이스별 구독자 수 한도를 넘으면 구독을 거절한다")
+	void rejectOverCapacity() {
+		// given
+		broadcaster.subscribe(placeId.getValue(), null, deltas -> { }, () -> { });
+		broadcaster.subscribe(placeId.getValue(), roomId.getValue(), deltas -> { }, () -> { });
+
+		// when & then
+		assertThat(broadcaster.subscribe(placeId.getValue(), null, deltas -> { }, () -> { })).isEmpty();
+		assertThat(broadcaster.subscribe(200L, null, deltas -> { }, () -> { })).isPresent();
+	}
+
+	@Test
+	@DisplayName("전달이 밀려 구독자 대기열이 넘치면 flush 스레드를 막지 않고 그 구독자를 끊는다")
+	void dropSlowSubscriberOnOverflow() {
+		// given - 전달 태스크를 실행하지 않는 executor, 대기열 1개
+		configuration.getAvailabilityStream().setSubscriberQueueCapacity(1);
+		broadcaster = new AvailabilityChangeBroadcaster(
+				productRepository, inventoryAvailabilityRepository, configuration, pendingDeliveries::add);
+		final List<List<AvailabilityDeltaDto>> events = new ArrayList<>();
+		final AtomicInteger dropped = new AtomicInteger();
+		broadcaster.subscribe(placeId.getValue(), null, events::add, dropped::incrementAndGet);
+		broadcaster.subscribe(placeId.getValue(), roomId.getValue(), deltas -> { }, () -> { });
+
+		when(productRepository.findAllById(anyList())).thenReturn(List.of(placeProduct));
+		when(inventoryAvailabilityRepository.findReservedQuantitiesBySlot(anyList(), anyList()))
+				.thenReturn(Map.of());
+
+		// when
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		broadcaster.flush();
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		broadcaster.flush();
+
+		// then - 첫 변경 묶음만 대기열에 들어가고, 두 번째에서 넘쳐 구독이 해지된다
+		assertThat(dropped).hasValue(1);
+		assertThat(events).isEmpty();
+		assertThat(broadcaster.subscribe(placeId.getValue(), null, deltas -> { }, () -> { })).isPresent();
+
+		pendingDeliveries.forEach(Runnable::run);
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	@DisplayName("수신자가 예외를 던지면 구독을 해지하고 해지 콜백을 호출한다")
+	void dropSubscriberWhenListenerFails() {
+		// given
+		final AtomicInteger dropped = new AtomicInteger();
+		broadcaster.subscribe(placeId.getValue(), null, deltas -> {
+			throw new IllegalStateException("client disconnected");
+		}, dropped::incrementAndGet);
+
+		when(productRepository.findAllById(anyList())).thenReturn(List.of(placeProduct));
+		when(inventoryAvailabilityRepository.findReservedQuantitiesBySlot(anyList(), anyList()))
+				.thenReturn(Map.of());
+
+		// when
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		broadcaster.flush();
+
+		// then - 구독자가 없으므로 이후 변경은 모으지 않는다
+		assertThat(dropped).hasValue(1);
+		broadcaster.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		assertThat(broadcaster.flush()).isZero();
+	}
+}
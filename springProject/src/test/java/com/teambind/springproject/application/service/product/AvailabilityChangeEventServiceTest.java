@@ -0,0 +1,126 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent;
+import com.teambind.springproject.adapter.out.messaging.kafka.event.InventoryAvailabilityChangedEvent.SlotAvailability;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.BucketUsage;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.port.out.publisher.EventPublisher;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.pricing.PricingStrategy;
+import com.teambind.springproject.domain.shared.Money;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityChangeEventService 단위 테스트")
+class AvailabilityChangeEventServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private InventoryAvailabilityRepository inventoryAvailabilityRepository;
+
+	@Mock
+	private EventPublisher eventPublisher;
+
+	private InventoryConfiguration configuration;
+	private AvailabilityChangeEventService service;
+
+	private final PlaceId placeId = PlaceId.of(100L);
+	private final RoomId roomId = RoomId.of(10L);
+	private final LocalDateTime slot = LocalDateTime.of(2025, 11, 15, 10, 0);
+
+	private Product placeProduct;
+
+	@BeforeEach
+	void setUp() {
+		configuration = new InventoryConfiguration();
+		configuration.getAvailabilityEvents().setEnabled(true);
+		configuration.getAvailabilityEvents().setDebounceMillis(0);
+		service = new AvailabilityChangeEventService(
+				productRepository, inventoryAvailabilityRepository, eventPublisher, configuration);
+
+		placeProduct = Product.createPlaceScoped(ProductId.of(2L), placeId, "빔 프로젝터",
+				PricingStrategy.simpleStock(Money.of(BigDecimal.valueOf(10000))), 5);
+	}
+
+	@Test
+	@DisplayName("같은 (상품, 날짜)의 여러 변경은 그날 상태 이벤트 하나로 발행한다")
+	void coalescePerProductAndDay() {
+		// given
+		service.onReserved(roomId, List.of(slot, slot.plusMinutes(30)), Map.of(placeProduct.getProductId(), 1));
+		service.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+
+		when(productRepository.findAllById(anyList())).thenReturn(List.of(placeProduct));
+		when(inventoryAvailabilityRepository.findMaxReservedByBucket(anyList(), any(), any(), anyInt()))
+				.thenReturn(List.of(
+						new BucketUsage(placeProduct.getProductId(), slot.toLocalDate(), 21, 1),
+						new BucketUsage(placeProduct.getProductId(), slot.toLocalDate(), 20, 2)));
+
+		// when
+		final int published = service.flush();
+
+		// then
+		assertThat(published).isEqualTo(1);
+		final ArgumentCaptor<InventoryAvailabilityChangedEvent> captor =
+				ArgumentCaptor.forClass(InventoryAvailabilityChangedEvent.class);
+		verify(eventPublisher, times(1)).publish(captor.capture());
+		final InventoryAvailabilityChangedEvent event = captor.getValue();
+		assertThat(event.getKey()).isEqualTo("2:PLACE:2025-11-15");
+		assertThat(event.getRoomId()).isNull();
+		assertThat(event.getSlots()).containsExactly(
+				new SlotAvailability(slot, 3),
+				new SlotAvailability(slot.plusMinutes(30), 4));
+		assertThat(service.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("debounce 구간이 끝나지 않은 변경은 발행하지 않는다")
+	void holdUntilDebounceElapsed() {
+		// given
+		configuration.getAvailabilityEvents().setDebounceMillis(60_000);
+		service.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+
+		// when & then
+		assertThat(service.flush()).isZero();
+		verify(eventPublisher, never()).publish(any());
+	}
+
+	@Test
+	@DisplayName("비활성화 상태에서는 변경을 모으지 않는다")
+	void skipWhenDisabled() {
+		// given
+		configuration.getAvailabilityEvents().setEnabled(false);
+		service.onReserved(roomId, List.of(slot), Map.of(placeProduct.getProductId(), 1));
+		configuration.getAvailabilityEvents().setEnabled(true);
+
+		// when & then
+		assertThat(service.flush()).isZero();
+		verify(productRepository, never()).findAllById(any());
+	}
+}
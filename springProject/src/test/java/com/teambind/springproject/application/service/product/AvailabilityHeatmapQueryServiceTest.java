@@ -0,0 +1,178 @@
+package com.teambind.springproject.application.service.product;
+
+import com.teambind.springproject.application.dto.request.AvailabilityHeatmapRequest;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse;
+import com.teambind.springproject.application.dto.response.AvailabilityHeatmapResponse.ProductHeatmap;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.BucketUsage;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.pricing.PricingStrategy;
+import com.teambind.springproject.domain.shared.Money;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityHeatmapQueryService 단위 테스트")
+class AvailabilityHeatmapQueryServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private InventoryAvailabilityRepository inventoryAvailabilityRepository;
+
+	@InjectMocks
+	private AvailabilityHeatmapQueryService service;
+
+	private final PlaceId placeId = PlaceId.of(100L);
+	private final LocalDate startDate = LocalDate.of(2025, 1, 15);
+
+	@Nested
+	@DisplayName("queryHeatmap 메서드는")
+	class QueryHeatmapMethod {
+
+		@Test
+		@DisplayName("버킷 사용량을 날짜 우선 인덱스에 총 재고 대비 가용 수량으로 채운다")
+		void fillCellsInDayMajorOrder() {
+			// given - 2일, 6시간 버킷(하루 4개)
+			final Product board = Product.createPlaceScoped(
+					ProductId.of(1L), placeId, "화이트보드", PricingStrategy.simpleStock(Money.of(3000)), 5);
+			when(productRepository.findAllById(List.of(ProductId.of(1L)))).thenReturn(List.of(board));
+			when(inventoryAvailabilityRepository.findAccessibleRoomIds(placeId, List.of(ProductId.of(1L))))
+					.thenReturn(Map.of(ProductId.of(1L), List.of(200L, 201L)));
+			when(inventoryAvailabilityRepository.findMaxReservedByBucket(
+					List.of(ProductId.of(1L)),
+					startDate.atStartOfDay(),
+					startDate.plusDays(2).atStartOfDay(),
+					360))
+					.thenReturn(List.of(
+							new BucketUsage(ProductId.of(1L), startDate, 1, 2),
+							new BucketUsage(ProductId.of(1L), startDate.plusDays(1), 3, 7)));
+
+			// when
+			final AvailabilityHeatmapResponse response = service.queryHeatmap(
+					request(List.of(1L), startDate.plusDays(1), 360));
+
+			// then - 인덱스 = 일수 * 4 + 버킷, 예약 수량이 총 재고를 넘으면 0
+			assertThat(response.bucketsPerDay()).isEqualTo(4);
+			final ProductHeatmap heatmap = response.products().get(0);
+			assertThat(heatmap.roomIds()).containsExactly(200L, 201L);
+			assertThat(heatmap.minAvailable()).containsExactly(
+					5, 3, 5, 5,
+					5, 5, 5, 0);
+		}
+
+		@Test
+		@DisplayName("버킷 크기로 하루의 버킷 수를 계산하고, 사용 내역이 없는 상품은 총 재고로 채운다")
+		void computeBucketsPerDay() {
+			// given
+			final Product projector = Product.createRoomScoped(
+					ProductId.of(2L), placeId, RoomId.of(200L), "프로젝터",
+					PricingStrategy.simpleStock(Money.of(5000)), 3);
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(projector));
+			when(inventoryAvailabilityRepository.findAccessibleRoomIds(any(), anyList())).thenReturn(Map.of());
+			when(inventoryAvailabilityRepository.findMaxReservedByBucket(anyList(), any(), any(), anyInt()))
+					.thenReturn(List.of());
+
+			// when
+			final AvailabilityHeatmapResponse response = service.queryHeatmap(
+					request(List.of(2L, 2L), startDate, 30));
+
+			// then
+			assertThat(response.bucketsPerDay()).isEqualTo(48);
+			assertThat(response.products()).hasSize(1);
+			final ProductHeatmap heatmap = response.products().get(0);
+			assertThat(heatmap.roomIds()).isEmpty();
+			assertThat(heatmap.minAvailable()).hasSize(48).containsOnly(3);
+			verify(inventoryAvailabilityRepository).findMaxReservedByBucket(
+					eq(List.of(ProductId.of(2L))), any(), any(), eq(30));
+		}
+
+		@Test
+		@DisplayName("RESERVATION Scope 상품이 포함되면 예외가 발생한다")
+		void rejectReservationScope() {
+			// given
+			final Product drink = Product.createReservationScoped(
+					ProductId.of(3L), "음료수", PricingStrategy.simpleStock(Money.of(2000)), 100);
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(drink));
+
+			// when & then
+			assertThatThrownBy(() -> service.queryHeatmap(request(List.of(3L), startDate, 60)))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("productId=3");
+			verifyNoInteractions(inventoryAvailabilityRepository);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 상품이 있으면 예외가 발생한다")
+		void rejectMissingProduct() {
+			// given
+			when(productRepository.findAllById(anyList())).thenReturn(List.of());
+
+			// when & then
+			assertThatThrownBy(() -> service.queryHeatmap(request(List.of(1L), startDate, 60)))
+					.isInstanceOf(NoSuchElementException.class);
+		}
+
+		@Test
+		@DisplayName("31일까지 조회할 수 있고, 그보다 긴 기간은 예외가 발생한다")
+		void limitRangeTo31Days() {
+			// given
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(Product.createPlaceScoped(
+					ProductId.of(1L), placeId, "화이트보드", PricingStrategy.simpleStock(Money.of(3000)), 5)));
+			when(inventoryAvailabilityRepository.findMaxReservedByBucket(anyList(), any(), any(), anyInt()))
+					.thenReturn(List.of());
+
+			// when & then
+			assertThat(service.queryHeatmap(request(List.of(1L), startDate.plusDays(30), 1440))
+					.products().get(0).minAvailable()).hasSize(31);
+			assertThatThrownBy(() -> service.queryHeatmap(request(List.of(1L), startDate.plusDays(31), 1440)))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("31 days");
+		}
+
+		@Test
+		@DisplayName("종료 날짜가 시작 날짜보다 앞서거나 버킷이 하루를 나누지 못하면 예외가 발생한다")
+		void rejectInvalidRangeOrBucket() {
+			// when & then
+			assertThatThrownBy(() -> service.queryHeatmap(request(List.of(1L), startDate.minusDays(1), 60)))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("End date");
+			assertThatThrownBy(() -> service.queryHeatmap(request(List.of(1L), startDate, 7)))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("Bucket minutes");
+			verifyNoInteractions(productRepository, inventoryAvailabilityRepository);
+		}
+	}
+
+	private AvailabilityHeatmapRequest request(
+			final List<Long> productIds,
+			final LocalDate endDate,
+			final int bucketMinutes) {
+		return new AvailabilityHeatmapRequest(placeId.getValue(), productIds, startDate, endDate, bucketMinutes);
+	}
+}
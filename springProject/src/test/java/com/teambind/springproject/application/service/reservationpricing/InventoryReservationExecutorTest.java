@@ -0,0 +1,349 @@
+package com.teambind.springproject.application.service.reservationpricing;
+
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.product.pricing.PricingStrategy;
+import com.teambind.springproject.domain.shared.Money;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryReservationExecutor 단위 테스트")
+class InventoryReservationExecutorTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private InventoryChangeListener changeListener;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SimpleTransactionStatus transactionStatus;
+	private InventoryReservationExecutor executor;
+
+	private final RoomId roomId = RoomId.of(10L);
+	private final LocalDateTime slot1 = LocalDateTime.of(2025, 11, 15, 10, 0);
+	private final LocalDateTime slot2 = LocalDateTime.of(2025, 11, 15, 11, 0);
+
+	@BeforeEach
+	void setUp() {
+		final InventoryConfiguration configuration = new InventoryConfiguration();
+		configuration.getRetry().setMaxAttempts(3);
+		configuration.getRetry().setInitialBackoffMillis(0);
+		configuration.getRetry().setMaxBackoffMillis(0);
+
+		meterRegistry = new SimpleMeterRegistry();
+		transactionStatus = new SimpleTransactionStatus();
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+		executor = new InventoryReservationExecutor(
+				productRepository, List.of(changeListener), transactionManager, meterRegistry, configuration);
+	}
+
+	@Nested
+	@DisplayName("reserve 테스트")
+	class ReserveTests {
+
+		@Test
+		@DisplayName("상품 ID와 시간대를 정렬한 순서로 예약을 요청하고, 결과는 요청 순서로 반환한다")
+		@SuppressWarnings("unchecked")
+		void reserveInCanonicalOrder() {
+			// given
+			final Map<ProductId, Integer> quantities = new LinkedHashMap<>();
+			quantities.put(ProductId.of(30L), 1);
+			quantities.put(ProductId.of(10L), 2);
+			quantities.put(ProductId.of(20L), 3);
+
+			final ArgumentCaptor<Map<ProductId, Integer>> quantitiesCaptor = ArgumentCaptor.forClass(Map.class);
+			when(productRepository.reserveCartQuantities(eq(roomId), eq(List.of(slot1, slot2)), quantitiesCaptor.capture()))
+					.thenReturn(Map.of(
+							ProductId.of(10L), true,
+							ProductId.of(20L), true,
+							ProductId.of(30L), false));
+
+			// when
+			final Map<ProductId, Boolean> results = executor.reserve(
+					roomId, List.of(slot2, slot1, slot2), quantities);
+
+			// then
+			assertThat(quantitiesCaptor.getValue().keySet())
+					.containsExactly(ProductId.of(10L), ProductId.of(20L), ProductId.of(30L));
+			assertThat(results.keySet())
+					.containsExactly(ProductId.of(30L), ProductId.of(10L), ProductId.of(20L));
+			assertThat(results).containsEntry(ProductId.of(30L), false);
+			verify(changeListener, never()).onReserved(any(), anyList(), any());
+		}
+
+		@Test
+		@DisplayName("장바구니 전체가 예약되면 정렬된 시간대로 변경 리스너에 통지한다")
+		void notifyReservedToChangeListeners() {
+			// given
+			final Map<ProductId, Integer> quantities = Map.of(ProductId.of(10L), 2);
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenReturn(Map.of(ProductId.of(10L), true));
+
+			// when
+			executor.reserve(roomId, List.of(slot2, slot1), quantities);
+
+			// then
+			verify(changeListener).onReserved(roomId, List.of(slot1, slot2), quantities);
+		}
+
+		@Test
+		@DisplayName("잠금 타임아웃으로 실패하면 Savepoint 단위로 재시도하고 재시도 횟수를 기록한다")
+		void retryOnLockTimeout() {
+			// given
+			final Map<ProductId, Integer> quantities = Map.of(ProductId.of(10L), 1);
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenThrow(lockFailure("55P03"))
+					.thenReturn(Map.of(ProductId.of(10L), true));
+
+			// when
+			final Map<ProductId, Boolean> results = executor.reserve(roomId, List.of(slot1), quantities);
+
+			// then
+			assertThat(results).containsEntry(ProductId.of(10L), true);
+			verify(productRepository, times(2)).reserveCartQuantities(any(), anyList(), any());
+			assertThat(meterRegistry.get("inventory.reservation.retries")
+					.tag("operation", "reserve")
+					.tag("reason", "lock_timeout")
+					.counter()
+					.count()).isEqualTo(1.0);
+			assertThat(meterRegistry.get("inventory.reservation.attempt.duration")
+					.tag("operation", "reserve")
+					.timers()).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("시도마다 잠금 대기 상한을 설정하고, 성공하면 이전 값으로 되돌린다")
+		void applyLockTimeoutPerAttempt() {
+			// given
+			when(productRepository.applyLockTimeout("1000ms")).thenReturn("0");
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenReturn(Map.of(ProductId.of(10L), true));
+
+			// when
+			executor.reserve(roomId, List.of(slot1), Map.of(ProductId.of(10L), 1));
+
+			// then
+			final InOrder order = inOrder(productRepository);
+			order.verify(productRepository).applyLockTimeout("1000ms");
+			order.verify(productRepository).reserveCartQuantities(any(), anyList(), any());
+			order.verify(productRepository).applyLockTimeout("0");
+		}
+
+		@Test
+		@DisplayName("교착 상태와 직렬화 실패는 Savepoint에서 재시도하지 않고 바깥 트랜잭션으로 전파한다")
+		void propagateTransactionAbortingFailures() {
+			// given
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenThrow(lockFailure("40P01"))
+					.thenThrow(lockFailure("40001"));
+
+			// when & then
+			assertThatThrownBy(() -> executor.reserve(roomId, List.of(slot1), Map.of(ProductId.of(10L), 1)))
+					.isInstanceOf(CannotAcquireLockException.class);
+			assertThatThrownBy(() -> executor.reserve(roomId, List.of(slot1), Map.of(ProductId.of(10L), 1)))
+					.isInstanceOf(CannotAcquireLockException.class);
+			verify(productRepository, times(2)).reserveCartQuantities(any(), anyList(), any());
+			assertThat(meterRegistry.find("inventory.reservation.retries").counters()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("최대 시도 횟수를 초과하면 예외를 그대로 던진다")
+		void giveUpAfterMaxAttempts() {
+			// given
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenThrow(lockFailure("55P03"));
+
+			// when & then
+			assertThatThrownBy(() -> executor.reserve(roomId, List.of(slot1), Map.of(ProductId.of(10L), 1)))
+					.isInstanceOf(CannotAcquireLockException.class);
+			verify(productRepository, times(3)).reserveCartQuantities(any(), anyList(), any());
+			assertThat(meterRegistry.get("inventory.reservation.retries")
+					.tag("reason", "lock_timeout")
+					.counter()
+					.count()).isEqualTo(2.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("release 테스트")
+	class ReleaseTests {
+
+		@Test
+		@DisplayName("상품 ID 순서로 재고를 해제한다")
+		void releaseInCanonicalOrder() {
+			// given
+			final Product placeProduct = Product.createPlaceScoped(
+					ProductId.of(20L), PlaceId.of(1L), "빔 프로젝터",
+					PricingStrategy.oneTime(Money.of(new BigDecimal("10000"))), 5);
+			final Product reservationProduct = Product.createReservationScoped(
+					ProductId.of(10L), "앰프",
+					PricingStrategy.oneTime(Money.of(new BigDecimal("5000"))), 5);
+
+			when(productRepository.releaseTimeSlotQuantities(any(), any(), anyList(), anyInt())).thenReturn(true);
+			when(productRepository.releaseQuantity(any(), anyInt())).thenReturn(true);
+
+			// when
+			executor.release(List.of(
+					new InventoryReleaseItem(placeProduct, roomId, 1),
+					new InventoryReleaseItem(reservationProduct, null, 2)
+			), List.of(slot2, slot1));
+
+			// then
+			final InOrder order = inOrder(productRepository);
+			order.verify(productRepository).releaseQuantity(ProductId.of(10L), 2);
+			order.verify(productRepository).releaseTimeSlotQuantities(
+					ProductId.of(20L), roomId, List.of(slot1, slot2), 1);
+		}
+
+		@Test
+		@DisplayName("해제에 실패하면 IllegalStateException이 발생한다")
+		void throwsWhenReleaseFails() {
+			// given
+			final Product reservationProduct = Product.createReservationScoped(
+					ProductId.of(10L), "앰프",
+					PricingStrategy.oneTime(Money.of(new BigDecimal("5000"))), 5);
+			when(productRepository.releaseQuantity(any(), anyInt())).thenReturn(false);
+
+			// when & then
+			assertThatThrownBy(() -> executor.release(
+					List.of(new InventoryReleaseItem(reservationProduct, null, 2)), List.of(slot1)))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessageContaining("productId=10");
+		}
+	}
+
+	@Nested
+	@DisplayName("adjust 테스트")
+	class AdjustTests {
+
+		private final Product reservationProduct = Product.createReservationScoped(
+				ProductId.of(10L), "앰프",
+				PricingStrategy.oneTime(Money.of(new BigDecimal("5000"))), 5);
+
+		@Test
+		@DisplayName("증가분과 감소분을 합쳐 상품 ID 순서로 반영한다")
+		void applyChangesInProductIdOrder() {
+			// given
+			final Product laterReservationProduct = Product.createReservationScoped(
+					ProductId.of(40L), "스탠드",
+					PricingStrategy.oneTime(Money.of(new BigDecimal("3000"))), 5);
+			when(productRepository.reserveCartQuantities(roomId, List.of(slot1), Map.of(ProductId.of(5L), 1)))
+					.thenReturn(Map.of(ProductId.of(5L), true));
+			when(productRepository.reserveCartQuantities(roomId, List.of(slot1), Map.of(ProductId.of(30L), 1)))
+					.thenReturn(Map.of(ProductId.of(30L), true));
+			when(productRepository.releaseQuantity(any(), any(), anyList(), anyInt())).thenReturn(true);
+
+			final Map<ProductId, Integer> increases = new LinkedHashMap<>();
+			increases.put(ProductId.of(30L), 1);
+			increases.put(ProductId.of(5L), 1);
+
+			// when
+			final Map<ProductId, Boolean> results = executor.adjust(
+					roomId,
+					List.of(slot1),
+					increases,
+					List.of(
+							new InventoryReleaseItem(laterReservationProduct, roomId, 1),
+							new InventoryReleaseItem(reservationProduct, roomId, 2)));
+
+			// then
+			assertThat(results.keySet()).containsExactly(ProductId.of(30L), ProductId.of(5L));
+			assertThat(results.values()).containsOnly(true);
+			final InOrder order = inOrder(productRepository);
+			order.verify(productRepository).reserveCartQuantities(roomId, List.of(slot1), Map.of(ProductId.of(5L), 1));
+			order.verify(productRepository).releaseQuantity(ProductId.of(10L), roomId, List.of(slot1), 2);
+			order.verify(productRepository).reserveCartQuantities(roomId, List.of(slot1), Map.of(ProductId.of(30L), 1));
+			order.verify(productRepository).releaseQuantity(ProductId.of(40L), roomId, List.of(slot1), 1);
+			assertThat(transactionStatus.isRollbackOnly()).isFalse();
+		}
+
+		@Test
+		@DisplayName("앞선 증가분 예약이 실패하면 뒤따르는 감소분을 해제하지 않는다")
+		void skipReleaseWhenIncreaseFails() {
+			// given
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenReturn(Map.of(ProductId.of(5L), false));
+
+			// when
+			final Map<ProductId, Boolean> results = executor.adjust(
+					roomId,
+					List.of(slot1),
+					Map.of(ProductId.of(5L), 1),
+					List.of(new InventoryReleaseItem(reservationProduct, roomId, 2)));
+
+			// then
+			assertThat(results).containsEntry(ProductId.of(5L), false);
+			verify(productRepository, never()).releaseQuantity(any(), any(), anyList(), anyInt());
+			verify(changeListener, never()).onReleased(anyList(), anyList());
+		}
+
+		@Test
+		@DisplayName("감소분 해제 뒤 증가분 예약이 실패하면 Savepoint로 되돌린다")
+		void rollbackReleasedWhenLaterIncreaseFails() {
+			// given
+			when(productRepository.releaseQuantity(any(), any(), anyList(), anyInt())).thenReturn(true);
+			when(productRepository.reserveCartQuantities(any(), anyList(), any()))
+					.thenReturn(Map.of(ProductId.of(30L), false));
+
+			// when
+			final Map<ProductId, Boolean> results = executor.adjust(
+					roomId,
+					List.of(slot1),
+					Map.of(ProductId.of(30L), 1),
+					List.of(new InventoryReleaseItem(reservationProduct, roomId, 2)));
+
+			// then
+			assertThat(results).containsEntry(ProductId.of(30L), false);
+			final InOrder order = inOrder(productRepository);
+			order.verify(productRepository).releaseQuantity(ProductId.of(10L), roomId, List.of(slot1), 2);
+			order.verify(productRepository).reserveCartQuantities(any(), anyList(), any());
+			assertThat(transactionStatus.isRollbackOnly()).isTrue();
+			verify(changeListener, never()).onReleased(anyList(), anyList());
+		}
+	}
+
+	private static CannotAcquireLockException lockFailure(final String sqlState) {
+		return new CannotAcquireLockException("lock failure", new SQLException("lock failure", sqlState));
+	}
+}
@@ -2,8 +2,8 @@ package com.teambind.springproject.application.service.reservationpricing;
 
 import com.teambind.springproject.application.dto.request.CreateReservationRequest;
 import com.teambind.springproject.application.dto.request.ProductRequest;
+import com.teambind.springproject.application.dto.request.UpdateProductsRequest;
 import com.teambind.springproject.application.dto.response.ReservationPricingResponse;
-import com.teambind.springproject.application.port.out.InventoryCompensationQueue;
 import com.teambind.springproject.application.port.out.PricingPolicyRepository;
 import com.teambind.springproject.application.port.out.ProductRepository;
 import com.teambind.springproject.application.port.out.ReservationPricingRepository;
@@ -12,8 +12,10 @@ import com.teambind.springproject.common.config.ReservationConfiguration;
 import com.teambind.springproject.domain.pricingpolicy.PricingPolicy;
 import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.product.pricing.PricingStrategy;
+import com.teambind.springproject.domain.product.vo.ProductPriceBreakdown;
 import com.teambind.springproject.domain.reservationpricing.ReservationPricing;
 import com.teambind.springproject.domain.reservationpricing.TimeSlotPriceBreakdown;
+import com.teambind.springproject.domain.reservationpricing.exception.InvalidReservationStatusException;
 import com.teambind.springproject.domain.reservationpricing.exception.ProductNotAvailableException;
 import com.teambind.springproject.domain.reservationpricing.exception.ReservationPricingNotFoundException;
 import com.teambind.springproject.domain.shared.*;
@@ -33,6 +35,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,14 +50,20 @@ class ReservationPricingServiceTest {
 	@Mock
 	private ProductRepository productRepository;
 
+	@Mock
+	private InventoryReservationExecutor inventoryReservationExecutor;
+
 	@Mock
 	private ReservationPricingRepository reservationPricingRepository;
 
 	@Mock
-	private ReservationConfiguration reservationConfiguration;
+	private InventoryWaitlistService inventoryWaitlistService;
+
+	@Mock
+	private InventoryHoldService inventoryHoldService;
 
 	@Mock
-	private InventoryCompensationQueue compensationQueue;
+	private ReservationConfiguration reservationConfiguration;
 
 	@Mock
 	private EventPublisher eventPublisher;
@@ -79,10 +89,12 @@ class ReservationPricingServiceTest {
 		reservationPricingService = new ReservationPricingService(
 				pricingPolicyRepository,
 				productRepository,
+				inventoryReservationExecutor,
 				reservationPricingRepository,
-				compensationQueue,
 				eventPublisher,
 				restTemplate,
+				inventoryWaitlistService,
+				inventoryHoldService,
 				reservationConfiguration
 		);
 
@@ -127,9 +139,9 @@ class ReservationPricingServiceTest {
 
 			when(pricingPolicyRepository.findById(roomId)).thenReturn(Optional.of(pricingPolicy));
 			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
-			when(productRepository.reserveRoomTimeSlotQuantity(
-					eq(product.getProductId()), eq(roomId), any(LocalDateTime.class), eq(2)))
-					.thenReturn(true);
+			when(inventoryReservationExecutor.reserve(
+					roomId, timeSlots, java.util.Map.of(product.getProductId(), 2)))
+					.thenReturn(java.util.Map.of(product.getProductId(), true));
 
 			final java.util.Map<LocalDateTime, Money> slotPriceMap = pricingPolicy
 					.calculatePriceBreakdown(startTime, endTime)
@@ -169,8 +181,8 @@ class ReservationPricingServiceTest {
 
 			verify(pricingPolicyRepository).findById(roomId);
 			verify(productRepository).findAllById(anyList());
-			verify(productRepository, org.mockito.Mockito.atLeastOnce())
-					.reserveRoomTimeSlotQuantity(eq(product.getProductId()), eq(roomId), any(LocalDateTime.class), eq(2));
+			verify(inventoryReservationExecutor)
+					.reserve(roomId, timeSlots, java.util.Map.of(product.getProductId(), 2));
 			verify(reservationPricingRepository).save(any(ReservationPricing.class));
 		}
 
@@ -234,9 +246,9 @@ class ReservationPricingServiceTest {
 
 			when(pricingPolicyRepository.findById(roomId)).thenReturn(Optional.of(pricingPolicy));
 			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
-			when(productRepository.reserveRoomTimeSlotQuantity(
-					eq(product.getProductId()), eq(roomId), any(LocalDateTime.class), eq(100)))
-					.thenReturn(false);
+			when(inventoryReservationExecutor.reserve(
+					roomId, timeSlots, java.util.Map.of(product.getProductId(), 100)))
+					.thenReturn(java.util.Map.of(product.getProductId(), false));
 
 			// when & then
 			assertThatThrownBy(() -> reservationPricingService.createReservation(request))
@@ -245,8 +257,50 @@ class ReservationPricingServiceTest {
 
 			verify(pricingPolicyRepository).findById(roomId);
 			verify(productRepository).findAllById(anyList());
-			verify(productRepository).reserveRoomTimeSlotQuantity(
-					eq(product.getProductId()), eq(roomId), any(LocalDateTime.class), eq(100));
+			verify(inventoryReservationExecutor).reserve(
+					roomId, timeSlots, java.util.Map.of(product.getProductId(), 100));
+		}
+
+		@Test
+		@DisplayName("홀드 수량보다 적게 요청하면 남는 수량을 해제하고 예약을 생성한다")
+		void releaseHoldSurplus() {
+			// given - 3개 홀드, 2개 예약 요청
+			final List<LocalDateTime> timeSlots = List.of(startTime);
+			final CreateReservationRequest request = new CreateReservationRequest(
+					1L,
+					timeSlots,
+					List.of(new ProductRequest(1L, 2)),
+					null,
+					7L
+			);
+
+			when(pricingPolicyRepository.findById(roomId)).thenReturn(Optional.of(pricingPolicy));
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+			when(inventoryHoldService.convert(7L, roomId, timeSlots))
+					.thenReturn(java.util.Map.of(product.getProductId(), 3));
+
+			final ReservationPricing savedReservation = ReservationPricing.calculate(
+					ReservationId.of(1L),
+					roomId,
+					new TimeSlotPriceBreakdown(
+							java.util.Map.of(startTime, Money.of(new BigDecimal("10000"))),
+							pricingPolicy.getTimeSlot()),
+					List.of(product.calculatePrice(2)),
+					10L
+			);
+			when(reservationPricingRepository.save(any(ReservationPricing.class)))
+					.thenReturn(savedReservation);
+
+			// when
+			final ReservationPricingResponse response = reservationPricingService.createReservation(request);
+
+			// then - 추가 예약 없이 남는 1개만 해제하고 대기열에 할당
+			assertThat(response.reservationId()).isEqualTo(1L);
+			final List<InventoryReservationExecutor.InventoryReleaseItem> surplus = List.of(
+					new InventoryReservationExecutor.InventoryReleaseItem(product, roomId, 1));
+			verify(inventoryReservationExecutor, never()).reserve(any(), anyList(), anyMap());
+			verify(inventoryReservationExecutor).release(surplus, timeSlots);
+			verify(inventoryWaitlistService).allocateReleased(surplus, timeSlots);
 		}
 	}
 
@@ -322,6 +376,120 @@ class ReservationPricingServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("updateProducts 테스트")
+	class UpdateProductsTests {
+
+		private final Long reservationId = 1L;
+		private final Product reservationProduct = Product.createReservationScoped(
+				ProductId.of(2L),
+				"앰프",
+				PricingStrategy.oneTime(Money.of(new BigDecimal("3000"))),
+				10
+		);
+
+		@Test
+		@DisplayName("수량이 늘어난 상품은 증가분만 추가 예약한다")
+		void reserveOnlyIncreasedQuantity() {
+			// given
+			givenReservationWith(List.of(product.calculatePrice(1)));
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+			when(inventoryReservationExecutor.adjust(
+					eq(roomId), anyList(), eq(java.util.Map.of(product.getProductId(), 2)), eq(List.of())))
+					.thenReturn(java.util.Map.of(product.getProductId(), true));
+
+			// when
+			final ReservationPricingResponse response = reservationPricingService.updateProducts(
+					reservationId, new UpdateProductsRequest(List.of(new ProductRequest(1L, 3))));
+
+			// then
+			assertThat(response).isNotNull();
+			verify(inventoryReservationExecutor, never()).release(anyList(), anyList());
+		}
+
+		@Test
+		@DisplayName("수량이 같은 상품은 재고를 건드리지 않는다")
+		void skipUnchangedProducts() {
+			// given
+			givenReservationWith(List.of(product.calculatePrice(2)));
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+
+			// when
+			reservationPricingService.updateProducts(
+					reservationId, new UpdateProductsRequest(List.of(new ProductRequest(1L, 2))));
+
+			// then
+			verify(inventoryReservationExecutor, never()).adjust(any(), anyList(), any(), anyList());
+			verify(inventoryReservationExecutor, never()).release(anyList(), anyList());
+		}
+
+		@Test
+		@DisplayName("제거된 상품은 해제하고 새 상품은 예약한다")
+		void releaseRemovedAndReserveAdded() {
+			// given
+			givenReservationWith(List.of(product.calculatePrice(2)));
+			when(productRepository.findAllById(List.of(reservationProduct.getProductId())))
+					.thenReturn(List.of(reservationProduct));
+			when(productRepository.findAllById(List.of(product.getProductId())))
+					.thenReturn(List.of(product));
+			when(inventoryReservationExecutor.adjust(
+					eq(roomId),
+					anyList(),
+					eq(java.util.Map.of(reservationProduct.getProductId(), 1)),
+					eq(List.of(new InventoryReservationExecutor.InventoryReleaseItem(product, roomId, 2)))))
+					.thenReturn(java.util.Map.of(reservationProduct.getProductId(), true));
+
+			// when
+			final ReservationPricingResponse response = reservationPricingService.updateProducts(
+					reservationId, new UpdateProductsRequest(List.of(new ProductRequest(2L, 1))));
+
+			// then
+			assertThat(response).isNotNull();
+		}
+
+		@Test
+		@DisplayName("증가분의 재고가 부족하면 예외 발생")
+		void throwsExceptionWhenIncreaseNotAvailable() {
+			// given
+			givenReservationWith(List.of(product.calculatePrice(1)));
+			when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+			when(inventoryReservationExecutor.adjust(any(), anyList(), any(), anyList()))
+					.thenReturn(java.util.Map.of(product.getProductId(), false));
+
+			// when & then
+			assertThatThrownBy(() -> reservationPricingService.updateProducts(
+					reservationId, new UpdateProductsRequest(List.of(new ProductRequest(1L, 5)))))
+					.isInstanceOf(ProductNotAvailableException.class);
+			verify(reservationPricingRepository, never()).save(any(ReservationPricing.class));
+		}
+
+		private void givenReservationWith(final List<ProductPriceBreakdown> productBreakdowns) {
+			final java.util.Map<LocalDateTime, Money> slotPriceMap = pricingPolicy
+					.calculatePriceBreakdown(startTime, endTime)
+					.getSlotPrices()
+					.stream()
+					.collect(
+							java.util.stream.Collectors.toMap(
+									PricingPolicy.SlotPrice::slotTime,
+									PricingPolicy.SlotPrice::price
+							)
+					);
+
+			final ReservationPricing reservation = ReservationPricing.calculate(
+					ReservationId.of(reservationId),
+					roomId,
+					new TimeSlotPriceBreakdown(slotPriceMap, pricingPolicy.getTimeSlot()),
+					productBreakdowns,
+					10L
+			);
+
+			when(reservationPricingRepository.findById(ReservationId.of(reservationId)))
+					.thenReturn(Optional.of(reservation));
+			lenient().when(reservationPricingRepository.save(any(ReservationPricing.class)))
+					.thenAnswer(invocation -> invocation.getArgument(0));
+		}
+	}
+
 	@Nested
 	@DisplayName("cancelReservation 테스트")
 	class CancelReservationTests {
@@ -356,13 +524,11 @@ class ReservationPricingServiceTest {
 
 			when(reservationPricingRepository.findById(ReservationId.of(reservationId)))
 					.thenReturn(Optional.of(reservation));
-			when(reservationPricingRepository.save(any(ReservationPricing.class)))
-					.thenAnswer(invocation -> invocation.getArgument(0));
+			when(reservationPricingRepository.transitionStatus(
+					ReservationId.of(reservationId), ReservationStatus.PENDING, ReservationStatus.CANCELLED))
+					.thenReturn(true);
 			when(productRepository.findAllById(anyList()))
 					.thenReturn(List.of(product));
-			when(productRepository.releaseTimeSlotQuantity(
-					eq(product.getProductId()), eq(roomId), any(LocalDateTime.class), eq(1)))
-					.thenReturn(true);
 
 			// when
 			final ReservationPricingResponse response = reservationPricingService.cancelReservation(
@@ -373,7 +539,38 @@ class ReservationPricingServiceTest {
 			assertThat(response.status()).isEqualTo(ReservationStatus.CANCELLED);
 
 			verify(reservationPricingRepository).findById(ReservationId.of(reservationId));
-			verify(reservationPricingRepository).save(any(ReservationPricing.class));
+			verify(reservationPricingRepository).transitionStatus(
+					ReservationId.of(reservationId), ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+			verify(reservationPricingRepository, never()).save(any(ReservationPricing.class));
+			verify(inventoryReservationExecutor).release(
+					eq(List.of(new InventoryReservationExecutor.InventoryReleaseItem(product, roomId, 1))),
+					anyList());
+		}
+
+		@Test
+		@DisplayName("다른 요청이 먼저 상태를 바꿨으면 재고를 해제하지 않고 실패한다")
+		void failFastWhenStatusChangedConcurrently() {
+			// given
+			final Long reservationId = 2L;
+			final ReservationPricing reservation = ReservationPricing.calculate(
+					ReservationId.of(reservationId),
+					roomId,
+					new TimeSlotPriceBreakdown(
+							java.util.Map.of(startTime, Money.of(10000)), pricingPolicy.getTimeSlot()),
+					List.of(product.calculatePrice(1)),
+					10L
+			);
+			when(reservationPricingRepository.findById(ReservationId.of(reservationId)))
+					.thenReturn(Optional.of(reservation));
+			when(reservationPricingRepository.transitionStatus(
+					ReservationId.of(reservationId), ReservationStatus.PENDING, ReservationStatus.CANCELLED))
+					.thenReturn(false);
+
+			// when & then
+			assertThatThrownBy(() -> reservationPricingService.cancelReservation(reservationId))
+					.isInstanceOf(InvalidReservationStatusException.class);
+
+			verify(inventoryReservationExecutor, never()).release(anyList(), anyList());
 		}
 
 		@Test
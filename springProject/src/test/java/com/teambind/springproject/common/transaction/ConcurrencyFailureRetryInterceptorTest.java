@@ -0,0 +1,138 @@
+package com.teambind.springproject.common.transaction;
+
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyFailureRetryInterceptor 단위 테스트")
+class ConcurrencyFailureRetryInterceptorTest {
+	
+	private SimpleMeterRegistry meterRegistry;
+	private InventoryConfiguration configuration;
+	
+	@BeforeEach
+	void setUp() {
+		configuration = new InventoryConfiguration();
+		configuration.getRetry().setMaxAttempts(3);
+		configuration.getRetry().setInitialBackoffMillis(0);
+		configuration.getRetry().setMaxBackoffMillis(0);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+	
+	@Test
+	@DisplayName("교착 상태로 실패하면 메서드 전체를 다시 실행하고 재시도 횟수를 기록한다")
+	void retryWholeInvocationOnDeadlock() {
+		// given
+		final FlakyOperation target = new FlakyOperation(lockFailure("40P01"));
+		
+		// when
+		final String result = proxy(target).run();
+		
+		// then
+		assertThat(result).isEqualTo("done");
+		assertThat(target.invocations).isEqualTo(2);
+		assertThat(meterRegistry.get("transaction.retries")
+				.tag("method", "FlakyOperation.run")
+				.tag("reason", "deadlock")
+				.counter()
+				.count()).isEqualTo(1.0);
+	}
+	
+	@Test
+	@DisplayName("다른 예외로 감싼 직렬화 실패도 원인 SQLState로 판별하여 재시도한다")
+	void retryWrappedSerializationFailure() {
+		// given
+		final FlakyOperation target = new FlakyOperation(
+				new RuntimeException("handler failed", lockFailure("40001")));
+		
+		// when
+		final String result = proxy(target).run();
+		
+		// then
+		assertThat(result).isEqualTo("done");
+		assertThat(target.invocations).isEqualTo(2);
+	}
+	
+	@Test
+	@DisplayName("잠금 타임아웃은 Savepoint 재시도 대상이므로 트랜잭션 단위로 재시도하지 않는다")
+	void doNotRetryLockTimeout() {
+		// given
+		final FlakyOperation target = new FlakyOperation(lockFailure("55P03"));
+		
+		// when & then
+		assertThatThrownBy(() -> proxy(target).run()).isInstanceOf(CannotAcquireLockException.class);
+		assertThat(target.invocations).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("이미 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 경계로 전파한다")
+	void propagateInsideActiveTransaction() {
+		// given
+		final FlakyOperation target = new FlakyOperation(lockFailure("40P01"));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		
+		// when & then
+		assertThatThrownBy(() -> proxy(target).run()).isInstanceOf(CannotAcquireLockException.class);
+		assertThat(target.invocations).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("최대 시도 횟수를 초과하면 예외를 그대로 던진다")
+	void giveUpAfterMaxAttempts() {
+		// given
+		final FlakyOperation target = new FlakyOperation(
+				lockFailure("40001"), lockFailure("40001"), lockFailure("40001"));
+		
+		// when & then
+		assertThatThrownBy(() -> proxy(target).run()).isInstanceOf(CannotAcquireLockException.class);
+		assertThat(target.invocations).isEqualTo(3);
+	}
+	
+	private FlakyOperation proxy(final FlakyOperation target) {
+		final ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(new ConcurrencyFailureRetryInterceptor(configuration, meterRegistry));
+		return (FlakyOperation) proxyFactory.getProxy();
+	}
+	
+	private static CannotAcquireLockException lockFailure(final String sqlState) {
+		return new CannotAcquireLockException("lock failure", new SQLException("lock failure", sqlState));
+	}
+	
+	static class FlakyOperation {
+		
+		private final Deque<RuntimeException> failures = new ArrayDeque<>();
+		private int invocations;
+		
+		FlakyOperation(final RuntimeException... failures) {
+			this.failures.addAll(List.of(failures));
+		}
+		
+		public String run() {
+			invocations++;
+			if (!failures.isEmpty()) {
+				throw failures.poll();
+			}
+			return "done";
+		}
+	}
+}
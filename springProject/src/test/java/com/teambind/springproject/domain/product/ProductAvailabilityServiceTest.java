@@ -453,4 +453,84 @@ class ProductAvailabilityServiceTest {
 					.hasMessageContaining("Requested time slots cannot be null or empty");
 		}
 	}
+	
+	@Nested
+	@DisplayName("시간대 사용량 집계 테스트")
+	class SlotUsageTests {
+		
+		private final LocalDateTime slot1 = LocalDateTime.of(2025, 1, 15, 10, 0);
+		private final LocalDateTime slot2 = LocalDateTime.of(2025, 1, 15, 11, 0);
+		private final LocalDateTime slot3 = LocalDateTime.of(2025, 1, 15, 12, 0);
+		
+		@Test
+		@DisplayName("여러 상품이 담긴 예약에서 상품별로 요청 시간대의 최대 사용 수량만 집계한다")
+		void aggregateUsagePerProductWithinRequestedSlots() {
+			// given
+			final ProductId boardId = ProductId.of(1L);
+			final ProductId projectorId = ProductId.of(2L);
+			final Product board = Product.createPlaceScoped(
+					boardId, PlaceId.of(100L), "화이트보드", PricingStrategy.simpleStock(Money.of(3000)), 10);
+			final Product projector = Product.createRoomScoped(
+					projectorId, PlaceId.of(100L), RoomId.of(200L), "프로젝터",
+					PricingStrategy.simpleStock(Money.of(5000)), 3);
+			
+			// slot1~2: 화이트보드 2개 + 프로젝터 1개, slot2~3: 화이트보드 3개
+			final List<ReservationPricing> reservations = List.of(
+					reservation(List.of(slot1, slot2), productBreakdown(boardId, 2), productBreakdown(projectorId, 1)),
+					reservation(List.of(slot2, slot3), productBreakdown(boardId, 3))
+			);
+			final List<LocalDateTime> requestedSlots = List.of(slot1, slot2);
+			
+			// when & then - slot2의 화이트보드 5개가 최대 사용 수량
+			assertThat(service.calculateAvailableQuantity(board, requestedSlots, reservations)).isEqualTo(5);
+			assertThat(service.calculateAvailableQuantity(projector, requestedSlots, reservations)).isEqualTo(2);
+			assertThat(service.isAvailable(projector, requestedSlots, 2, reservations)).isTrue();
+			assertThat(service.isAvailable(projector, requestedSlots, 3, reservations)).isFalse();
+		}
+		
+		@Test
+		@DisplayName("요청하지 않은 시간대의 사용 수량은 집계하지 않는다")
+		void ignoreUsageOutsideRequestedSlots() {
+			// given
+			final ProductId productId = ProductId.of(1L);
+			final Product product = Product.createPlaceScoped(
+					productId, PlaceId.of(100L), "화이트보드", PricingStrategy.simpleStock(Money.of(3000)), 4);
+			final List<ReservationPricing> reservations = List.of(
+					reservation(List.of(slot1), productBreakdown(productId, 1)),
+					reservation(List.of(slot1, slot2), productBreakdown(productId, 2))
+			);
+			
+			// when & then
+			assertThat(service.calculateAvailableQuantity(product, List.of(slot1, slot2, slot3), reservations))
+					.isEqualTo(1);
+			assertThat(service.calculateAvailableQuantity(product, List.of(slot3), reservations))
+					.isEqualTo(4);
+		}
+		
+		private ReservationPricing reservation(
+				final List<LocalDateTime> slots,
+				final ProductPriceBreakdown... productBreakdowns) {
+			final Map<LocalDateTime, Money> slotPrices = new HashMap<>();
+			slots.forEach(slot -> slotPrices.put(slot, Money.of(10000)));
+			
+			return ReservationPricing.calculate(
+					ReservationId.of(null),
+					RoomId.of(200L),
+					new TimeSlotPriceBreakdown(slotPrices, TimeSlot.HOUR),
+					List.of(productBreakdowns),
+					10L
+			);
+		}
+		
+		private ProductPriceBreakdown productBreakdown(final ProductId productId, final int quantity) {
+			return new ProductPriceBreakdown(
+					productId,
+					"상품",
+					quantity,
+					Money.of(1000),
+					Money.of(1000L * quantity),
+					PricingType.SIMPLE_STOCK
+			);
+		}
+	}
 }
@@ -0,0 +1,234 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository;
+import com.teambind.springproject.application.port.out.InventoryAvailabilityRepository.BucketUsage;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.product.SlotAvailabilityIndex;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.shared.PlaceId;
+import com.teambind.springproject.domain.shared.ProductId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 카운터 기반 가용성 집계 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - ROOM Scope는 상품 룸의 행만 집계
+ * - PLACE Scope는 시간대별로 모든 룸의 행을 합산
+ * - 상품별로 요청 시간대 중 최댓값을 반환
+ * - 히트맵용 (상품, 날짜, 버킷)별 최댓값 집계와 상품별 접근 가능 룸 조회
+ * - 인메모리 가용성 인덱스가 집계 쿼리와 같은 값을 반환하고, 체크섬 불일치 시 재적재
+ */
+@DisplayName("재고 가용성 집계 통합 테스트")
+public class InventoryAvailabilityIntegrationTest extends BaseConcurrencyTest {
+
+	private static final long PLACE_ID = 100L;
+	private static final long ROOM_ID = 10L;
+	private static final long OTHER_ROOM_ID = 11L;
+	private static final LocalDateTime SLOT_10 = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0)
+			.withSecond(0).withNano(0);
+	private static final LocalDateTime SLOT_11 = SLOT_10.plusHours(1);
+
+	@Autowired
+	private InventoryAvailabilityRepository inventoryAvailabilityRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private ProductId roomProductId;
+	private ProductId placeProductId;
+	private ProductId emptyProductId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+
+		final long baseId = System.currentTimeMillis();
+		roomProductId = ProductId.of(baseId);
+		placeProductId = ProductId.of(baseId + 1);
+		emptyProductId = ProductId.of(baseId + 2);
+
+		insertProduct(roomProductId, "ROOM", ROOM_ID);
+		insertProduct(placeProductId, "PLACE", null);
+		insertProduct(emptyProductId, "PLACE", null);
+	}
+
+	@Test
+	@DisplayName("모든 시간 기반 상품의 최대 사용 수량을 한 번에 집계한다")
+	void findMaxReservedQuantities() {
+		// given
+		insertInventoryRow(roomProductId, ROOM_ID, SLOT_10, 2);
+		insertInventoryRow(roomProductId, ROOM_ID, SLOT_11, 4);
+		insertInventoryRow(roomProductId, OTHER_ROOM_ID, SLOT_11, 9);  // 다른 룸 행은 무시
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10, 1);
+		insertInventoryRow(placeProductId, OTHER_ROOM_ID, SLOT_10, 3);
+		insertInventoryRow(placeProductId, OTHER_ROOM_ID, SLOT_11, 2);
+
+		// when
+		final Map<ProductId, Integer> result = inventoryAvailabilityRepository.findMaxReservedQuantities(
+				List.of(roomProductId, placeProductId, emptyProductId), List.of(SLOT_10, SLOT_11));
+
+		// then
+		assertThat(result).containsEntry(roomProductId, 4);
+		assertThat(result).containsEntry(placeProductId, 4);
+		assertThat(result).doesNotContainKey(emptyProductId);
+	}
+
+	@Test
+	@DisplayName("기간 내 시간대별 합계를 (상품, 날짜, 버킷)별 최댓값으로 집계한다")
+	void findMaxReservedByBucket() {
+		// given - 3시간 버킷: 10시/11시 → 버킷 3, 13시 → 버킷 4
+		final LocalDate day = SLOT_10.toLocalDate();
+		insertInventoryRow(roomProductId, ROOM_ID, SLOT_10, 2);
+		insertInventoryRow(roomProductId, ROOM_ID, SLOT_11, 4);
+		insertInventoryRow(roomProductId, OTHER_ROOM_ID, SLOT_11, 9);  // 다른 룸 행은 무시
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10, 1);
+		insertInventoryRow(placeProductId, OTHER_ROOM_ID, SLOT_10, 3);
+		insertInventoryRow(placeProductId, OTHER_ROOM_ID, SLOT_11, 2);
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10.plusHours(3), 5);
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10.plusDays(1), 7);  // 기간 밖
+		insertInventoryRow(emptyProductId, ROOM_ID, SLOT_10, 0);  // 사용 내역 없음
+
+		// when
+		final List<BucketUsage> result = inventoryAvailabilityRepository.findMaxReservedByBucket(
+				List.of(roomProductId, placeProductId, emptyProductId),
+				day.atStartOfDay(),
+				day.plusDays(1).atStartOfDay(),
+				180);
+
+		// then
+		assertThat(result).containsExactlyInAnyOrder(
+				new BucketUsage(roomProductId, day, 3, 4),
+				new BucketUsage(placeProductId, day, 3, 4),
+				new BucketUsage(placeProductId, day, 4, 5));
+	}
+
+	@Test
+	@DisplayName("플레이스의 룸 중 ROOM 상품은 상품의 룸, PLACE 상품은 허용된 룸만 반환한다")
+	void findAccessibleRoomIds() {
+		// given - PLACE 상품은 OTHER_ROOM_ID에만 허용, 다른 플레이스의 룸은 제외
+		insertPricingPolicy(ROOM_ID, PLACE_ID);
+		insertPricingPolicy(OTHER_ROOM_ID, PLACE_ID);
+		insertPricingPolicy(OTHER_ROOM_ID + 1, PLACE_ID + 1);
+		jdbcTemplate.update(
+				"INSERT INTO room_allowed_products (room_id, product_id, created_at) VALUES (?, ?, NOW())",
+				OTHER_ROOM_ID, placeProductId.getValue());
+		jdbcTemplate.update(
+				"INSERT INTO room_allowed_products (room_id, product_id, created_at) VALUES (?, ?, NOW())",
+				OTHER_ROOM_ID + 1, placeProductId.getValue());
+
+		// when
+		final Map<ProductId, List<Long>> result = inventoryAvailabilityRepository.findAccessibleRoomIds(
+				PlaceId.of(PLACE_ID), List.of(roomProductId, placeProductId, emptyProductId));
+
+		// then
+		assertThat(result).containsEntry(roomProductId, List.of(ROOM_ID));
+		assertThat(result).containsEntry(placeProductId, List.of(OTHER_ROOM_ID));
+		assertThat(result).doesNotContainKey(emptyProductId);
+	}
+
+	@Test
+	@DisplayName("인메모리 가용성 인덱스는 집계 쿼리와 같은 최대 사용 수량을 반환한다")
+	void availabilityIndexMatchesAggregateQuery() {
+		// given
+		insertInventoryRow(roomProductId, ROOM_ID, SLOT_10, 2);
+		insertInventoryRow(roomProductId, OTHER_ROOM_ID, SLOT_11, 9);
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10, 1);
+		insertInventoryRow(placeProductId, OTHER_ROOM_ID, SLOT_10, 3);
+		final SlotAvailabilityIndex index = enabledIndex();
+		final List<Product> products = productRepository.findAllById(
+				List.of(roomProductId, placeProductId, emptyProductId));
+
+		// when
+		index.rebuild();
+		final Map<ProductId, Integer> result = index.findMaxReservedQuantities(products, List.of(SLOT_10, SLOT_11))
+				.orElseThrow();
+
+		// then
+		assertThat(result).containsEntry(roomProductId, 2);
+		assertThat(result).containsEntry(placeProductId, 4);
+		assertThat(result).containsEntry(emptyProductId, 0);
+		assertThat(index.verify()).isFalse();
+	}
+
+	@Test
+	@DisplayName("DB와 인덱스의 체크섬이 연속으로 다르면 인덱스를 다시 적재한다")
+	void availabilityIndexReloadsOnDrift() {
+		// given
+		insertInventoryRow(placeProductId, ROOM_ID, SLOT_10, 1);
+		final SlotAvailabilityIndex index = enabledIndex();
+		index.rebuild();
+		final List<Product> products = productRepository.findAllById(List.of(placeProductId));
+
+		// when - 다른 인스턴스의 예약처럼 인덱스를 거치지 않고 카운터 변경
+		jdbcTemplate.update(
+				"UPDATE product_time_slot_inventory SET reserved_quantity = 5 WHERE product_id = ?",
+				placeProductId.getValue());
+
+		// then
+		assertThat(index.verify()).isFalse();
+		assertThat(index.verify()).isTrue();
+		assertThat(index.findMaxReservedQuantities(products, List.of(SLOT_10)).orElseThrow())
+				.containsEntry(placeProductId, 5);
+	}
+
+	@Test
+	@DisplayName("적재 범위 밖 시간대는 인덱스로 응답하지 않는다")
+	void availabilityIndexOutsideHorizon() {
+		// given
+		final SlotAvailabilityIndex index = enabledIndex();
+		index.rebuild();
+
+		// when & then
+		assertThat(index.findMaxReservedQuantities(List.of(), List.of(SLOT_10.plusDays(60)))).isEmpty();
+		assertThat(index.findMaxReservedQuantities(List.of(), List.of(SLOT_10.withMinute(15)))).isEmpty();
+	}
+
+	private SlotAvailabilityIndex enabledIndex() {
+		final InventoryConfiguration configuration = new InventoryConfiguration();
+		configuration.getAvailabilityIndex().setEnabled(true);
+		return new SlotAvailabilityIndex(
+				inventoryAvailabilityRepository, productRepository, new SimpleMeterRegistry(), configuration);
+	}
+
+	private void insertProduct(final ProductId productId, final String scope, final Long roomId) {
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, ?, ?, 'SIMPLE_STOCK', 1000, 10, 0)
+				""",
+				productId.getValue(), PLACE_ID, roomId, scope + " 상품", scope);
+	}
+
+	private void insertPricingPolicy(final long roomId, final long placeId) {
+		jdbcTemplate.update(
+				"INSERT INTO pricing_policies (room_id, place_id, time_slot, default_price) VALUES (?, ?, 'HOUR', 10000)",
+				roomId, placeId);
+	}
+
+	private void insertInventoryRow(
+			final ProductId productId,
+			final long roomId,
+			final LocalDateTime timeSlot,
+			final int reservedQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO product_time_slot_inventory
+				(product_id, room_id, time_slot, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, 10, ?)
+				""",
+				productId.getValue(), roomId, Timestamp.valueOf(timeSlot), reservedQuantity);
+	}
+}
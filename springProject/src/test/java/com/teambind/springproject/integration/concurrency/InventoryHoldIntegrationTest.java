@@ -0,0 +1,198 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.port.out.InventoryHoldRepository.InventoryHold;
+import com.teambind.springproject.application.service.reservationpricing.InventoryHoldService;
+import com.teambind.springproject.common.config.InventoryConfiguration;
+import com.teambind.springproject.domain.reservationpricing.exception.InventoryHoldLimitExceededException;
+import com.teambind.springproject.domain.reservationpricing.exception.ProductNotAvailableException;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가격 미리보기 단기 재고 홀드 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - 홀드는 재고 카운터에 반영되어 다른 요청의 가용 재고에서 제외
+ * - 재고가 부족하면 홀드 시점에 실패
+ * - 요청자별/룸별 활성 홀드 수 한도
+ * - 예약 전환 시 홀드 수량을 재검증 없이 반환하고 홀드 삭제
+ * - 만료 홀드 일괄 정리 시 재고 해제
+ */
+@DisplayName("재고 홀드 통합 테스트")
+public class InventoryHoldIntegrationTest extends BaseConcurrencyTest {
+
+	private static final long ROOM_ID = 10L;
+	private static final String HOLDER = "10.0.0.1";
+	private static final LocalDateTime SLOT_10 = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0)
+			.withSecond(0).withNano(0);
+
+	@Autowired
+	private InventoryHoldService inventoryHoldService;
+
+	@Autowired
+	private InventoryConfiguration inventoryConfiguration;
+
+	private ProductId productId;
+	private int originalMaxActivePerHolder;
+	private int originalMaxActivePerRoom;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+		originalMaxActivePerHolder = inventoryConfiguration.getHold().getMaxActivePerHolder();
+		originalMaxActivePerRoom = inventoryConfiguration.getHold().getMaxActivePerRoom();
+
+		productId = ProductId.of(System.currentTimeMillis());
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, NULL, NULL, '홀드 상품', 'RESERVATION', 'SIMPLE_STOCK', 1000, 3, 0)
+				""",
+				productId.getValue());
+	}
+
+	@AfterEach
+	void restoreHoldLimits() {
+		inventoryConfiguration.getHold().setMaxActivePerHolder(originalMaxActivePerHolder);
+		inventoryConfiguration.getHold().setMaxActivePerRoom(originalMaxActivePerRoom);
+	}
+
+	@Nested
+	@DisplayName("홀드 생성 테스트")
+	class HoldTests {
+
+		@Test
+		@DisplayName("홀드한 수량은 다른 요청이 예약할 수 없다")
+		void holdReservesInventory() {
+			// when
+			final InventoryHold hold = hold(2);
+
+			// then
+			assertThat(hold.holdId()).isNotNull();
+			assertThat(getReservedQuantity()).isEqualTo(2);
+			assertThatThrownBy(() -> hold(2))
+					.isInstanceOf(ProductNotAvailableException.class);
+			assertThat(getReservedQuantity()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("요청자의 활성 홀드 수가 한도에 도달하면 재고를 예약하지 않고 거절한다")
+		void rejectOverHolderLimit() {
+			// given
+			inventoryConfiguration.getHold().setMaxActivePerHolder(2);
+			inventoryConfiguration.getHold().setMaxActivePerRoom(0);
+			hold(1);
+			hold(1);
+
+			// when & then
+			assertThatThrownBy(() -> hold(1))
+					.isInstanceOf(InventoryHoldLimitExceededException.class);
+			assertThat(getReservedQuantity()).isEqualTo(2);
+			assertThat(hold("10.0.0.2", 1).holdId()).isNotNull();
+		}
+
+		@Test
+		@DisplayName("룸의 활성 홀드 수가 한도에 도달하면 다른 요청자의 홀드도 거절하고, 만료된 홀드는 세지 않는다")
+		void rejectOverRoomLimit() {
+			// given
+			inventoryConfiguration.getHold().setMaxActivePerHolder(0);
+			inventoryConfiguration.getHold().setMaxActivePerRoom(1);
+			final InventoryHold first = hold(1);
+
+			// when & then
+			assertThatThrownBy(() -> hold("10.0.0.2", 1))
+					.isInstanceOf(InventoryHoldLimitExceededException.class);
+
+			jdbcTemplate.update(
+					"UPDATE inventory_holds SET expires_at = NOW() - INTERVAL '1 minute' WHERE hold_id = ?",
+					first.holdId());
+			assertThat(hold("10.0.0.2", 1).holdId()).isNotNull();
+			assertThat(getReservedQuantity()).isEqualTo(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("홀드 전환 및 정리 테스트")
+	class ConvertAndSweepTests {
+
+		@Test
+		@DisplayName("홀드를 전환하면 홀드 수량을 반환하고 재고는 유지한다")
+		void convertHold() {
+			// given
+			final InventoryHold hold = hold(2);
+
+			// when
+			final Map<ProductId, Integer> converted = inventoryHoldService.convert(
+					hold.holdId(), RoomId.of(ROOM_ID), List.of(SLOT_10));
+
+			// then
+			assertThat(converted).containsEntry(productId, 2);
+			assertThat(getReservedQuantity()).isEqualTo(2);
+			assertThat(countHolds()).isZero();
+		}
+
+		@Test
+		@DisplayName("이미 정리된 홀드는 빈 결과를 반환한다")
+		void convertReleasedHold() {
+			// when
+			final Map<ProductId, Integer> converted = inventoryHoldService.convert(
+					999L, RoomId.of(ROOM_ID), List.of(SLOT_10));
+
+			// then
+			assertThat(converted).isEmpty();
+		}
+
+		@Test
+		@DisplayName("만료된 홀드를 일괄 정리하면 재고를 해제한다")
+		void sweepExpiredHolds() {
+			// given
+			hold(1);
+			hold(1);
+			final InventoryHold active = hold(1);
+			jdbcTemplate.update(
+					"UPDATE inventory_holds SET expires_at = NOW() - INTERVAL '1 minute' WHERE hold_id <> ?",
+					active.holdId());
+
+			// when
+			final int swept = inventoryHoldService.sweepExpired();
+
+			// then
+			assertThat(swept).isEqualTo(2);
+			assertThat(getReservedQuantity()).isEqualTo(1);
+			assertThat(countHolds()).isEqualTo(1);
+		}
+	}
+
+	private InventoryHold hold(final int quantity) {
+		return hold(HOLDER, quantity);
+	}
+
+	private InventoryHold hold(final String holderKey, final int quantity) {
+		return inventoryHoldService.hold(
+				holderKey, RoomId.of(ROOM_ID), List.of(SLOT_10), Map.of(productId, quantity));
+	}
+
+	private Integer getReservedQuantity() {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				productId.getValue());
+	}
+
+	private Integer countHolds() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_holds", Integer.class);
+	}
+}
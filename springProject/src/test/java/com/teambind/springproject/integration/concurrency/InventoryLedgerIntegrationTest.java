@@ -0,0 +1,300 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RESERVATION Scope 상품 재고 원장(inventory_movements) 모드 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - 원장 모드 예약/해제는 products 행을 갱신하지 않고 이동분만 추가
+ * - 잔액 + 미반영 이동분 기준으로 재고를 검증 (동시 예약 시 초과 예약 없음)
+ * - 여유 재고가 충분하면 에스크로 슬롯 하나만 잡고 동시에 이동분 추가
+ * - products.inventory_counter_mode 전환
+ * - Compaction 후 잔액과 반영 지점 전진
+ * - 원장 모드 해제 시 products.reserved_quantity 동기화
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("RESERVATION Scope 재고 원장 모드 통합 테스트")
+public class InventoryLedgerIntegrationTest extends BaseConcurrencyTest {
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private ProductId testProductId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+
+		final long productIdValue = System.currentTimeMillis();
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, NULL, NULL, ?, 'RESERVATION', 'ONE_TIME', 5000, 40, 5)
+				""",
+				productIdValue,
+				"앰프 대여"
+		);
+		testProductId = ProductId.of(productIdValue);
+	}
+
+	@Nested
+	@DisplayName("원장 모드 설정 테스트")
+	class ConfigureLedgerTests {
+
+		@Test
+		@DisplayName("원장 모드를 켜면 기존 예약 수량이 잔액으로 이관된다")
+		void enableMigratesReservedQuantity() {
+			// when
+			final boolean configured = productRepository.configureInventoryLedger(testProductId, true);
+
+			// then
+			assertThat(configured).isTrue();
+			assertThat(getBalanceReservedQuantity()).isEqualTo(5);
+			assertThat(getCounterMode()).isEqualTo("LEDGER");
+			assertThat(productRepository.findById(testProductId).orElseThrow().getReservedQuantity())
+					.isEqualTo(5);
+		}
+
+		@Test
+		@DisplayName("원장 모드를 끄면 미반영 이동분까지 합산하여 products 행으로 되돌린다")
+		void disableFoldsPendingMovements() {
+			// given
+			productRepository.configureInventoryLedger(testProductId, true);
+			productRepository.reserveQuantity(testProductId, 3);
+			productRepository.releaseQuantity(testProductId, 1);
+
+			// when
+			productRepository.configureInventoryLedger(testProductId, false);
+
+			// then
+			assertThat(getProductReservedQuantity()).isEqualTo(7);
+			assertThat(countBalances()).isZero();
+			assertThat(countMovements()).isEqualTo(2);  // 이동 이력은 보존
+			assertThat(getCounterMode()).isEqualTo("ROW");
+		}
+
+		@Test
+		@DisplayName("샤딩된 상품에는 원장 모드를 켤 수 없다")
+		void rejectShardedProduct() {
+			// given
+			productRepository.configureInventoryShards(testProductId, 4);
+
+			// when & then
+			assertThatThrownBy(() -> productRepository.configureInventoryLedger(testProductId, true))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("원장 예약/해제 테스트")
+	class LedgerReservationTests {
+
+		@BeforeEach
+		void enableLedger() {
+			productRepository.configureInventoryLedger(testProductId, true);
+		}
+
+		@Test
+		@DisplayName("예약과 해제는 products 행을 갱신하지 않고 이동분을 추가한다")
+		void appendMovementsWithoutUpdatingProduct() {
+			// when
+			final boolean reserved = productRepository.reserveQuantity(testProductId, 10);
+			final boolean released = productRepository.releaseQuantity(testProductId, 4);
+
+			// then
+			assertThat(reserved).isTrue();
+			assertThat(released).isTrue();
+			assertThat(getProductReservedQuantity()).isEqualTo(5);
+			assertThat(countMovements()).isEqualTo(2);
+			assertThat(productRepository.findById(testProductId).orElseThrow().getReservedQuantity())
+					.isEqualTo(11);
+		}
+
+		@Test
+		@DisplayName("잔액과 미반영 이동분 합계가 총 재고를 넘으면 예약이 거절된다")
+		void rejectWhenPendingMovementsExhaustStock() {
+			// given - 40개 중 5개 예약된 상태
+			productRepository.reserveQuantity(testProductId, 30);
+
+			// when
+			final boolean overbooked = productRepository.reserveQuantity(testProductId, 6);
+			final boolean exact = productRepository.reserveQuantity(testProductId, 5);
+
+			// then
+			assertThat(overbooked).isFalse();
+			assertThat(exact).isTrue();
+		}
+
+		@Test
+		@DisplayName("장바구니 예약도 원장 모드 상품을 이동분으로 처리한다")
+		void cartReservationUsesLedger() {
+			// when
+			final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+					RoomId.of(200L),
+					List.of(LocalDateTime.of(2025, 11, 15, 10, 0)),
+					Map.of(testProductId, 2));
+
+			// then
+			assertThat(results).containsEntry(testProductId, true);
+			assertThat(countMovements()).isEqualTo(1);
+			assertThat(getProductReservedQuantity()).isEqualTo(5);
+		}
+
+		@Test
+		@DisplayName("Compaction은 미반영 이동분을 잔액에 합산하고 반영 지점을 전진시킨다")
+		void compactionFoldsMovements() {
+			// given
+			productRepository.reserveQuantity(testProductId, 3);
+			productRepository.reserveQuantity(testProductId, 2);
+			assertThat(productRepository.findProductIdsWithPendingMovements(10)).containsExactly(testProductId);
+
+			// when
+			final int compacted = productRepository.compactInventoryLedger(testProductId);
+
+			// then
+			assertThat(compacted).isEqualTo(2);
+			assertThat(getBalanceReservedQuantity()).isEqualTo(10);
+			assertThat(productRepository.findProductIdsWithPendingMovements(10)).isEmpty();
+			assertThat(productRepository.findById(testProductId).orElseThrow().getReservedQuantity())
+					.isEqualTo(10);
+		}
+
+		@Test
+		@DisplayName("동시 예약과 Compaction이 섞여도 총 재고를 초과하지 않는다")
+		void concurrentReservationsWithCompaction() throws InterruptedException {
+			// given - 잔여 재고 35개
+			final int threadCount = 100;
+			final ExecutorService executorService = Executors.newFixedThreadPool(20);
+			final CountDownLatch latch = new CountDownLatch(threadCount);
+			final AtomicInteger successCount = new AtomicInteger(0);
+
+			// when
+			for (int i = 0; i < threadCount; i++) {
+				final boolean compactFirst = i % 10 == 0;
+				executorService.submit(() -> {
+					try {
+						if (compactFirst) {
+							productRepository.compactInventoryLedger(testProductId);
+						}
+						if (productRepository.reserveQuantity(testProductId, 1)) {
+							successCount.incrementAndGet();
+						}
+					} catch (Exception e) {
+						// 실패는 successCount에 반영되지 않음
+					} finally {
+						latch.countDown();
+					}
+				});
+			}
+
+			latch.await(30, TimeUnit.SECONDS);
+			executorService.shutdown();
+			productRepository.compactInventoryLedger(testProductId);
+
+			// then
+			assertThat(successCount.get()).isEqualTo(35);
+			assertThat(getBalanceReservedQuantity()).isEqualTo(40);
+		}
+
+		@Test
+		@DisplayName("여유 재고가 충분하면 동시 예약이 모두 에스크로 슬롯 경로로 성공한다")
+		void concurrentReservationsWithinHeadroom() throws InterruptedException {
+			// given - 총 재고 1000개, 잔여 995개 (여유 기준 (8 - 1) * 5 = 35개보다 충분히 큼)
+			jdbcTemplate.update(
+					"UPDATE products SET total_quantity = 1000 WHERE product_id = ?",
+					testProductId.getValue());
+			final int threadCount = 100;
+			final ExecutorService executorService = Executors.newFixedThreadPool(20);
+			final CountDownLatch latch = new CountDownLatch(threadCount);
+			final AtomicInteger successCount = new AtomicInteger(0);
+
+			// when
+			for (int i = 0; i < threadCount; i++) {
+				executorService.submit(() -> {
+					try {
+						if (productRepository.reserveQuantity(testProductId, 2)) {
+							successCount.incrementAndGet();
+						}
+					} catch (Exception e) {
+						// 실패는 successCount에 반영되지 않음
+					} finally {
+						latch.countDown();
+					}
+				});
+			}
+
+			latch.await(30, TimeUnit.SECONDS);
+			executorService.shutdown();
+			productRepository.compactInventoryLedger(testProductId);
+
+			// then
+			assertThat(successCount.get()).isEqualTo(threadCount);
+			assertThat(getBalanceReservedQuantity()).isEqualTo(5 + threadCount * 2);
+		}
+	}
+
+	private Integer getProductReservedQuantity() {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				testProductId.getValue()
+		);
+	}
+
+	private Integer getBalanceReservedQuantity() {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM inventory_ledger_balances WHERE product_id = ?",
+				Integer.class,
+				testProductId.getValue()
+		);
+	}
+
+	private String getCounterMode() {
+		return jdbcTemplate.queryForObject(
+				"SELECT inventory_counter_mode FROM products WHERE product_id = ?",
+				String.class,
+				testProductId.getValue()
+		);
+	}
+
+	private Integer countBalances() {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM inventory_ledger_balances WHERE product_id = ?",
+				Integer.class,
+				testProductId.getValue()
+		);
+	}
+
+	private Integer countMovements() {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM inventory_movements WHERE product_id = ?",
+				Integer.class,
+				testProductId.getValue()
+		);
+	}
+}
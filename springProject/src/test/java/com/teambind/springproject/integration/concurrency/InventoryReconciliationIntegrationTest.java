@@ -0,0 +1,362 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.dto.response.InventoryReconciliationResponse;
+import com.teambind.springproject.application.port.in.ReconcileInventoryUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 카운터 정합성 점검(Reconciliation) 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - 활성 예약(PENDING/CONFIRMED) 기준 기대 수량과 다른 카운터 탐지 (취소된 예약은 제외)
+ * - dry-run은 카운터를 변경하지 않음
+ * - 보정 모드는 차이를 기대 수량으로 갱신하고, 누락된 시간대 행을 생성
+ * - 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀
+ * - 예약 행이 없는 미리보기 홀드와 대기열 할당(ALLOCATED)도 기대 수량에 포함
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("재고 정합성 점검 통합 테스트")
+public class InventoryReconciliationIntegrationTest extends BaseConcurrencyTest {
+
+	private static final long PLACE_ID = 100L;
+	private static final long ROOM_ID = 10L;
+	private static final long OTHER_ROOM_ID = 11L;
+	private static final LocalDateTime SLOT_10 = LocalDateTime.of(2025, 11, 15, 10, 0);
+	private static final LocalDateTime SLOT_11 = LocalDateTime.of(2025, 11, 15, 11, 0);
+
+	@Autowired
+	private ReconcileInventoryUseCase reconcileInventoryUseCase;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private long roomProductId;
+	private long placeProductId;
+	private long reservationProductId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+
+		final long baseId = System.currentTimeMillis();
+		roomProductId = baseId;
+		placeProductId = baseId + 1;
+		reservationProductId = baseId + 2;
+
+		insertProduct(roomProductId, "ROOM", PLACE_ID, ROOM_ID, 0);
+		insertProduct(placeProductId, "PLACE", PLACE_ID, null, 0);
+		insertProduct(reservationProductId, "RESERVATION", null, null, 7);
+
+		// 활성 예약: ROOM 2개, PLACE 1개, RESERVATION 3개 (10시, 11시)
+		insertReservation(baseId, ROOM_ID, "PENDING");
+		insertReservationProduct(baseId, roomProductId, 2);
+		insertReservationProduct(baseId, placeProductId, 1);
+		insertReservationProduct(baseId, reservationProductId, 3);
+
+		// 취소된 예약: 보상 태스크 유실로 PLACE 5개가 해제되지 않은 상태
+		insertReservation(baseId + 1, OTHER_ROOM_ID, "CANCELLED");
+		insertReservationProduct(baseId + 1, placeProductId, 5);
+
+		// 저장된 카운터: ROOM 10시 4개(차이), 11시 2개(정상)
+		insertTimeSlotRow(roomProductId, ROOM_ID, SLOT_10, 4);
+		insertTimeSlotRow(roomProductId, ROOM_ID, SLOT_11, 2);
+		// PLACE 귀속 행: 룸 10은 정상, 룸 11은 취소분이 남아 있음(차이)
+		insertTimeSlotRow(placeProductId, ROOM_ID, SLOT_10, 1);
+		insertTimeSlotRow(placeProductId, ROOM_ID, SLOT_11, 1);
+		insertTimeSlotRow(placeProductId, OTHER_ROOM_ID, SLOT_10, 5);
+		insertTimeSlotRow(placeProductId, OTHER_ROOM_ID, SLOT_11, 5);
+		// PLACE 집계 행: 6개(차이, 기대 1개)
+		insertPlaceAggregateRow(placeProductId, SLOT_10, 6);
+		insertPlaceAggregateRow(placeProductId, SLOT_11, 6);
+	}
+
+	@Nested
+	@DisplayName("Dry-run 테스트")
+	class DryRunTests {
+
+		@Test
+		@DisplayName("차이를 보고하지만 카운터는 변경하지 않는다")
+		void reportWithoutCorrection() {
+			// when
+			final InventoryReconciliationResponse response = reconcileInventoryUseCase.reconcile(true);
+
+			// then - ROOM 1건 + PLACE 귀속 2건 + PLACE 집계 2건 + RESERVATION 1건
+			assertThat(response.dryRun()).isTrue();
+			assertThat(response.partitions()).isPositive();
+			assertThat(response.driftCount()).isEqualTo(6);
+			assertThat(response.correctedCount()).isZero();
+			assertThat(response.failedTasks()).isZero();
+
+			assertThat(getTimeSlotReserved(roomProductId, ROOM_ID, SLOT_10)).isEqualTo(4);
+			assertThat(getPlaceAggregateReserved(placeProductId, SLOT_10)).isEqualTo(6);
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(7);
+		}
+	}
+
+	@Nested
+	@DisplayName("보정 테스트")
+	class CorrectionTests {
+
+		@Test
+		@DisplayName("차이가 있는 카운터를 활성 예약 기준 기대 수량으로 보정한다")
+		void correctDrifts() {
+			// when
+			final InventoryReconciliationResponse response = reconcileInventoryUseCase.reconcile(false);
+
+			// then
+			assertThat(response.driftCount()).isEqualTo(6);
+			assertThat(response.correctedCount()).isEqualTo(6);
+
+			assertThat(getTimeSlotReserved(roomProductId, ROOM_ID, SLOT_10)).isEqualTo(2);
+			assertThat(getTimeSlotReserved(placeProductId, OTHER_ROOM_ID, SLOT_10)).isZero();
+			assertThat(getTimeSlotReserved(placeProductId, OTHER_ROOM_ID, SLOT_11)).isZero();
+			assertThat(getPlaceAggregateReserved(placeProductId, SLOT_10)).isEqualTo(1);
+			assertThat(getPlaceAggregateReserved(placeProductId, SLOT_11)).isEqualTo(1);
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(3);
+
+			// 보정 후 재점검 시 차이 없음
+			assertThat(reconcileInventoryUseCase.reconcile(true).driftCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("활성 예약이 있는데 시간대 행이 없으면 기대 수량으로 행을 생성한다")
+		void insertMissingRow() {
+			// given
+			jdbcTemplate.update(
+					"DELETE FROM product_time_slot_inventory WHERE product_id = ? AND time_slot = ?",
+					roomProductId, Timestamp.valueOf(SLOT_11));
+
+			// when
+			reconcileInventoryUseCase.reconcile(false);
+
+			// then
+			assertThat(getTimeSlotReserved(roomProductId, ROOM_ID, SLOT_11)).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛴다")
+		void skipLockedRow() throws Exception {
+			// given - 다른 트랜잭션이 RESERVATION 상품 행을 잠근 상태
+			final CountDownLatch locked = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			final CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+					transactionTemplate.executeWithoutResult(status -> {
+						jdbcTemplate.queryForList(
+								"SELECT product_id FROM products WHERE product_id = ? FOR UPDATE",
+								reservationProductId);
+						locked.countDown();
+						try {
+							release.await(30, TimeUnit.SECONDS);
+						} catch (final InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}));
+			assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// when
+			final InventoryReconciliationResponse response;
+			try {
+				response = reconcileInventoryUseCase.reconcile(false);
+			} finally {
+				release.countDown();
+				holder.get(10, TimeUnit.SECONDS);
+			}
+
+			// then - 잠긴 상품 행만 건너뛰고 나머지는 보정
+			assertThat(response.correctedCount()).isEqualTo(5);
+			assertThat(response.skippedCount()).isEqualTo(1);
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(7);
+		}
+	}
+
+	@Nested
+	@DisplayName("홀드 및 대기열 할당 테스트")
+	class HoldAndWaitlistTests {
+
+		@Test
+		@DisplayName("활성 홀드와 대기열 할당이 점유한 수량은 차이로 보고하거나 되돌리지 않는다")
+		void keepHeldAndAllocatedQuantities() {
+			// given - 룸 10 홀드: ROOM 1개, PLACE 1개 (10시, 11시)
+			insertHold(ROOM_ID, Map.of(roomProductId, 1, placeProductId, 1), SLOT_10, SLOT_11);
+			// 대기열 할당: RESERVATION 4개, ROOM 11시 1개 / 대기 중인 요청은 재고를 점유하지 않음
+			insertClaim(reservationProductId, ROOM_ID, "ALLOCATED", 4, SLOT_10, SLOT_11);
+			insertClaim(roomProductId, ROOM_ID, "ALLOCATED", 1, SLOT_11);
+			insertClaim(reservationProductId, ROOM_ID, "WAITING", 5, SLOT_10, SLOT_11);
+
+			// 카운터는 예약 + 홀드 + 할당 수량을 반영한 상태 (룸 11 PLACE 귀속 행의 취소분만 차이)
+			updateTimeSlotReserved(roomProductId, ROOM_ID, SLOT_10, 3);
+			updateTimeSlotReserved(roomProductId, ROOM_ID, SLOT_11, 4);
+			updateTimeSlotReserved(placeProductId, ROOM_ID, SLOT_10, 2);
+			updateTimeSlotReserved(placeProductId, ROOM_ID, SLOT_11, 2);
+			jdbcTemplate.update("UPDATE place_time_slot_inventory SET reserved_quantity = 2 WHERE product_id = ?",
+					placeProductId);
+
+			// when
+			final InventoryReconciliationResponse dryRun = reconcileInventoryUseCase.reconcile(true);
+			final InventoryReconciliationResponse response = reconcileInventoryUseCase.reconcile(false);
+
+			// then - PLACE 귀속 행(룸 11) 2건만 차이
+			assertThat(dryRun.driftCount()).isEqualTo(2);
+			assertThat(response.correctedCount()).isEqualTo(2);
+
+			assertThat(getTimeSlotReserved(roomProductId, ROOM_ID, SLOT_10)).isEqualTo(3);
+			assertThat(getTimeSlotReserved(roomProductId, ROOM_ID, SLOT_11)).isEqualTo(4);
+			assertThat(getTimeSlotReserved(placeProductId, ROOM_ID, SLOT_10)).isEqualTo(2);
+			assertThat(getTimeSlotReserved(placeProductId, OTHER_ROOM_ID, SLOT_10)).isZero();
+			assertThat(getPlaceAggregateReserved(placeProductId, SLOT_10)).isEqualTo(2);
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(7);
+			assertThat(reconcileInventoryUseCase.reconcile(true).driftCount()).isZero();
+		}
+	}
+
+	private void insertProduct(
+			final long productId,
+			final String scope,
+			final Long placeId,
+			final Long roomId,
+			final int reservedQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, ?, ?, 'SIMPLE_STOCK', 1000, 20, ?)
+				""",
+				productId, placeId, roomId, scope + " 상품", scope, reservedQuantity);
+	}
+
+	private void insertReservation(final long reservationId, final long roomId, final String status) {
+		jdbcTemplate.update("""
+				INSERT INTO reservation_pricings
+				(reservation_id, room_id, place_id, status, time_slot, total_price, calculated_at, expires_at,
+				 slot_start_at, slot_end_at)
+				VALUES (?, ?, ?, ?, 'HOUR', 10000, NOW(), NOW() + INTERVAL '10 minutes', ?, ?)
+				""",
+				reservationId, roomId, PLACE_ID, status, Timestamp.valueOf(SLOT_10), Timestamp.valueOf(SLOT_11));
+		for (final LocalDateTime slot : new LocalDateTime[]{SLOT_10, SLOT_11}) {
+			jdbcTemplate.update(
+					"INSERT INTO reservation_pricing_slots (reservation_id, slot_time, slot_price) VALUES (?, ?, 5000)",
+					reservationId, Timestamp.valueOf(slot));
+		}
+	}
+
+	private void insertReservationProduct(final long reservationId, final long productId, final int quantity) {
+		jdbcTemplate.update("""
+				INSERT INTO reservation_pricing_products
+				(reservation_id, product_id, product_name, quantity, unit_price, total_price, pricing_type)
+				VALUES (?, ?, '상품', ?, 1000, ?, 'SIMPLE_STOCK')
+				""",
+				reservationId, productId, quantity, quantity * 1000);
+	}
+
+	private void insertTimeSlotRow(
+			final long productId,
+			final long roomId,
+			final LocalDateTime timeSlot,
+			final int reservedQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO product_time_slot_inventory
+				(product_id, room_id, time_slot, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, 20, ?)
+				""",
+				productId, roomId, Timestamp.valueOf(timeSlot), reservedQuantity);
+	}
+
+	private void insertPlaceAggregateRow(
+			final long productId,
+			final LocalDateTime timeSlot,
+			final int reservedQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO place_time_slot_inventory
+				(product_id, time_slot, total_quantity, reserved_quantity)
+				VALUES (?, ?, 20, ?)
+				""",
+				productId, Timestamp.valueOf(timeSlot), reservedQuantity);
+	}
+
+	private void insertHold(final long roomId, final Map<Long, Integer> quantities, final LocalDateTime... timeSlots) {
+		final Long holdId = jdbcTemplate.queryForObject("""
+				INSERT INTO inventory_holds (room_id, time_slots, expires_at)
+				VALUES (?, CAST(? AS timestamp[]), NOW() + INTERVAL '2 minutes')
+				RETURNING hold_id
+				""",
+				Long.class,
+				roomId, toTimestampArrayLiteral(timeSlots));
+		quantities.forEach((productId, quantity) -> jdbcTemplate.update(
+				"INSERT INTO inventory_hold_items (hold_id, product_id, quantity) VALUES (?, ?, ?)",
+				holdId, productId, quantity));
+	}
+
+	private void insertClaim(
+			final long productId,
+			final long roomId,
+			final String status,
+			final int quantity,
+			final LocalDateTime... timeSlots) {
+		jdbcTemplate.update("""
+				INSERT INTO inventory_waitlist_claims (product_id, room_id, time_slots, quantity, status, expires_at)
+				VALUES (?, ?, CAST(? AS timestamp[]), ?, ?, NOW() + INTERVAL '10 minutes')
+				""",
+				productId, roomId, toTimestampArrayLiteral(timeSlots), quantity, status);
+	}
+
+	private static String toTimestampArrayLiteral(final LocalDateTime... timeSlots) {
+		return Arrays.stream(timeSlots)
+				.map(slot -> "\"" + Timestamp.valueOf(slot) + "\"")
+				.collect(Collectors.joining(",", "{", "}"));
+	}
+
+	private void updateTimeSlotReserved(
+			final long productId,
+			final long roomId,
+			final LocalDateTime timeSlot,
+			final int reservedQuantity) {
+		jdbcTemplate.update(
+				"UPDATE product_time_slot_inventory SET reserved_quantity = ? "
+						+ "WHERE product_id = ? AND room_id = ? AND time_slot = ?",
+				reservedQuantity, productId, roomId, Timestamp.valueOf(timeSlot));
+	}
+
+	private Integer getTimeSlotReserved(final long productId, final long roomId, final LocalDateTime timeSlot) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM product_time_slot_inventory "
+						+ "WHERE product_id = ? AND room_id = ? AND time_slot = ?",
+				Integer.class,
+				productId, roomId, Timestamp.valueOf(timeSlot));
+	}
+
+	private Integer getPlaceAggregateReserved(final long productId, final LocalDateTime timeSlot) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM place_time_slot_inventory WHERE product_id = ? AND time_slot = ?",
+				Integer.class,
+				productId, Timestamp.valueOf(timeSlot));
+	}
+
+	private Integer getProductReserved(final long productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				productId);
+	}
+}
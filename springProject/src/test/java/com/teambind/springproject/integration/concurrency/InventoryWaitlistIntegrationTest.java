@@ -0,0 +1,183 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.adapter.out.messaging.kafka.event.WaitlistClaimAllocatedEvent;
+import com.teambind.springproject.application.dto.request.EnqueueWaitlistRequest;
+import com.teambind.springproject.application.dto.response.WaitlistClaimResponse;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor;
+import com.teambind.springproject.application.service.reservationpricing.InventoryReservationExecutor.InventoryReleaseItem;
+import com.teambind.springproject.application.service.reservationpricing.InventoryWaitlistService;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 품절 상품 대기열 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - 품절 상품 대기 요청은 WAITING으로 대기
+ * - 재고 해제 시 같은 트랜잭션에서 가장 오래된 대기 요청에 할당하고 이벤트 발행
+ * - 해제된 재고로 채울 수 없는 요청은 건너뛰고 다음 요청에 할당
+ * - 할당 만료/취소 시 재고를 반환하고 다음 대기 요청에 할당
+ */
+@DisplayName("품절 상품 대기열 통합 테스트")
+public class InventoryWaitlistIntegrationTest extends BaseConcurrencyTest {
+
+	private static final long ROOM_ID = 10L;
+	private static final LocalDateTime SLOT_10 = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0)
+			.withSecond(0).withNano(0);
+
+	@Autowired
+	private InventoryWaitlistService waitlistService;
+
+	@Autowired
+	private InventoryReservationExecutor inventoryReservationExecutor;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private ProductId productId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+
+		productId = ProductId.of(System.currentTimeMillis());
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, NULL, NULL, '대기열 상품', 'RESERVATION', 'SIMPLE_STOCK', 1000, 2, 2)
+				""",
+				productId.getValue());
+	}
+
+	@Nested
+	@DisplayName("대기 및 할당 테스트")
+	class AllocationTests {
+
+		@Test
+		@DisplayName("품절 상품 대기 요청은 WAITING 상태로 순번을 받는다")
+		void waitWhenSoldOut() {
+			// when
+			final WaitlistClaimResponse first = enqueue(1);
+			final WaitlistClaimResponse second = enqueue(1);
+
+			// then
+			assertThat(first.status()).isEqualTo("WAITING");
+			assertThat(first.position()).isEqualTo(1L);
+			assertThat(second.position()).isEqualTo(2L);
+			verify(eventPublisher, never()).publish(any(WaitlistClaimAllocatedEvent.class));
+		}
+
+		@Test
+		@DisplayName("재고가 해제되면 가장 오래된 대기 요청에 할당하고 이벤트를 발행한다")
+		void allocateToOldestClaim() {
+			// given
+			final WaitlistClaimResponse first = enqueue(1);
+			final WaitlistClaimResponse second = enqueue(1);
+
+			// when
+			release(1);
+
+			// then
+			assertThat(waitlistService.getClaim(first.claimId()).status()).isEqualTo("ALLOCATED");
+			assertThat(waitlistService.getClaim(second.claimId()).status()).isEqualTo("WAITING");
+			assertThat(waitlistService.getClaim(second.claimId()).position()).isEqualTo(1L);
+			assertThat(getReservedQuantity()).isEqualTo(2);
+			verify(eventPublisher, times(1)).publish(any(WaitlistClaimAllocatedEvent.class));
+		}
+
+		@Test
+		@DisplayName("해제된 재고로 채울 수 없는 요청은 건너뛰고 다음 요청에 할당한다")
+		void skipClaimThatDoesNotFit() {
+			// given
+			final WaitlistClaimResponse large = enqueue(2);
+			final WaitlistClaimResponse small = enqueue(1);
+
+			// when
+			release(1);
+
+			// then
+			assertThat(waitlistService.getClaim(large.claimId()).status()).isEqualTo("WAITING");
+			assertThat(waitlistService.getClaim(small.claimId()).status()).isEqualTo("ALLOCATED");
+		}
+	}
+
+	@Nested
+	@DisplayName("만료 및 취소 테스트")
+	class ExpiryTests {
+
+		@Test
+		@DisplayName("할당이 만료되면 재고를 반환하고 다음 대기 요청에 할당한다")
+		void expireAllocation() {
+			// given
+			final WaitlistClaimResponse first = enqueue(1);
+			final WaitlistClaimResponse second = enqueue(1);
+			release(1);
+			jdbcTemplate.update(
+					"UPDATE inventory_waitlist_claims SET expires_at = NOW() - INTERVAL '1 minute' WHERE claim_id = ?",
+					first.claimId());
+
+			// when
+			final int expired = waitlistService.expireClaims();
+
+			// then
+			assertThat(expired).isEqualTo(1);
+			assertThat(waitlistService.getClaim(first.claimId()).status()).isEqualTo("EXPIRED");
+			assertThat(waitlistService.getClaim(second.claimId()).status()).isEqualTo("ALLOCATED");
+			assertThat(getReservedQuantity()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("할당된 대기 요청을 취소하면 재고를 반환한다")
+		void cancelAllocatedClaim() {
+			// given
+			final WaitlistClaimResponse claim = enqueue(1);
+			release(1);
+
+			// when
+			final WaitlistClaimResponse cancelled = waitlistService.cancel(claim.claimId());
+
+			// then
+			assertThat(cancelled.status()).isEqualTo("CANCELLED");
+			assertThat(getReservedQuantity()).isEqualTo(1);
+		}
+	}
+
+	private WaitlistClaimResponse enqueue(final int quantity) {
+		return waitlistService.enqueue(
+				new EnqueueWaitlistRequest(ROOM_ID, List.of(SLOT_10), productId.getValue(), quantity));
+	}
+
+	/**
+	 * 예약 취소와 같은 순서로 재고를 해제한 뒤 대기열에 할당합니다.
+	 */
+	private void release(final int quantity) {
+		final Product product = productRepository.findById(productId).orElseThrow();
+		final List<InventoryReleaseItem> items =
+				List.of(new InventoryReleaseItem(product, RoomId.of(ROOM_ID), quantity));
+		inventoryReservationExecutor.release(items, List.of(SLOT_10));
+		waitlistService.allocateReleased(items, List.of(SLOT_10));
+	}
+
+	private Integer getReservedQuantity() {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				productId.getValue());
+	}
+}
@@ -0,0 +1,203 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.dto.response.PartitionStatusResponse;
+import com.teambind.springproject.application.port.out.PartitionRepository;
+import com.teambind.springproject.application.service.partition.PartitionManagementService;
+import com.teambind.springproject.common.config.PartitionConfiguration;
+import com.teambind.springproject.common.config.PartitionConfiguration.ManagedTable;
+import com.teambind.springproject.common.config.PartitionConfiguration.RetentionAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션 파티션 관리(pg_partman 미설정 환경) 통합 테스트.
+ * <p>
+ * 테스트 전용 파티션 테이블을 만들어 검증합니다.
+ * - 현재 월 ~ premake 개월 뒤까지 빈 월 파티션 생성 (기존 파티션과 겹치는 월은 건너뜀)
+ * - 보존 기간이 지난 파티션 삭제(DROP) / 보관 스키마 이동(ARCHIVE)
+ * - 보존 처리 시 외래 키 없이 파티션 행을 참조하는 행 삭제
+ * - DEFAULT 파티션에 쌓인 행을 새 월 파티션으로 이동
+ * - 파티션 준비 범위 기반 상태 보고
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("애플리케이션 파티션 관리 통합 테스트")
+public class PartitionManagementIntegrationTest extends BaseConcurrencyTest {
+
+	private static final String TABLE = "partition_test_events";
+	private static final String OLD_PARTITION = "partition_test_events_old";
+	private static final String ARCHIVE_SCHEMA = "partition_test_archive";
+	private static final String REFERENCING_TABLE = "partition_test_event_refs";
+
+	@Autowired
+	private PartitionRepository partitionRepository;
+
+	@BeforeEach
+	void setUp() {
+		tearDown();
+		jdbcTemplate.execute("CREATE TABLE " + TABLE
+				+ " (event_id BIGINT NOT NULL, occurred_at TIMESTAMP NOT NULL) PARTITION BY RANGE (occurred_at)");
+
+		// 24개월 전 파티션 (보존 기간 12개월 경과)
+		final YearMonth oldMonth = YearMonth.now().minusMonths(24);
+		jdbcTemplate.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+				OLD_PARTITION, TABLE, oldMonth.atDay(1).atStartOfDay(), oldMonth.plusMonths(1).atDay(1).atStartOfDay()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE + " CASCADE");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_PARTITION);
+		jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + ARCHIVE_SCHEMA + " CASCADE");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + REFERENCING_TABLE);
+	}
+
+	@Test
+	@DisplayName("현재 월부터 premake 개월 뒤까지 월 파티션을 생성하고 상태를 정상으로 보고한다")
+	void createPremakePartitions() {
+		// given
+		final PartitionManagementService service = createService(RetentionAction.DROP, false);
+		assertThat(service.getPartitionStatuses().get(0).healthy()).isFalse();
+
+		// when
+		service.maintainPartitions();
+
+		// then - 기존 1개 + 현재 월 포함 4개
+		final YearMonth currentMonth = YearMonth.now();
+		final List<PartitionRepository.TablePartition> partitions = partitionRepository.findPartitions(TABLE);
+		assertThat(partitions).hasSize(5);
+		assertThat(partitions.get(partitions.size() - 1).rangeEnd())
+				.isEqualTo(currentMonth.plusMonths(4).atDay(1).atStartOfDay());
+
+		final PartitionStatusResponse status = service.getPartitionStatuses().get(0);
+		assertThat(status.managedBy()).isEqualTo("application");
+		assertThat(status.monthsAhead()).isEqualTo(4);
+		assertThat(status.healthy()).isTrue();
+	}
+
+	@Test
+	@DisplayName("이미 범위를 덮는 파티션이 있는 월은 새로 만들지 않는다")
+	void skipOverlappingMonth() {
+		// given - 현재 월을 덮는 다른 이름의 파티션
+		final YearMonth currentMonth = YearMonth.now();
+		jdbcTemplate.execute(String.format("CREATE TABLE %s_custom PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+				TABLE, TABLE, currentMonth.atDay(1).atStartOfDay(), currentMonth.plusMonths(1).atDay(1).atStartOfDay()));
+
+		// when
+		createService(RetentionAction.DROP, false).maintainPartitions();
+
+		// then
+		assertThat(partitionRepository.findPartitions(TABLE)).hasSize(5);
+	}
+
+	@Test
+	@DisplayName("DEFAULT 파티션에 있던 새 월 범위의 행을 새 파티션으로 옮긴다")
+	void moveRowsOutOfDefaultPartition() {
+		// given - 파티션이 없는 현재 월의 행은 DEFAULT 파티션에 저장됨
+		jdbcTemplate.execute("CREATE TABLE " + TABLE + "_default PARTITION OF " + TABLE + " DEFAULT");
+		final YearMonth currentMonth = YearMonth.now();
+		jdbcTemplate.update("INSERT INTO " + TABLE + " (event_id, occurred_at) VALUES (1, ?), (2, ?)",
+				currentMonth.atDay(1).atTime(10, 0),
+				currentMonth.plusMonths(12).atDay(1).atTime(10, 0));
+
+		// when
+		createService(RetentionAction.DROP, false).maintainPartitions();
+
+		// then - 현재 월 행은 새 파티션으로, 범위 밖 행은 DEFAULT 파티션에 남음
+		final String currentPartition = TABLE + "_" + String.format("%d_%02d",
+				currentMonth.getYear(), currentMonth.getMonthValue());
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT event_id FROM " + currentPartition, Long.class)).isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT event_id FROM " + TABLE + "_default", Long.class)).isEqualTo(2L);
+		assertThat(partitionRepository.findPartitions(TABLE)).hasSize(5);
+	}
+
+	@Test
+	@DisplayName("보존 기간이 지난 파티션을 삭제한다")
+	void dropExpiredPartition() {
+		// when
+		createService(RetentionAction.DROP, true).maintainPartitions();
+
+		// then
+		assertThat(partitionRepository.findPartitions(TABLE))
+				.extracting(PartitionRepository.TablePartition::partitionName)
+				.doesNotContain(OLD_PARTITION);
+		assertThat(tableExists("public." + OLD_PARTITION)).isFalse();
+	}
+
+	@Test
+	@DisplayName("ARCHIVE 설정 시 보존 기간이 지난 파티션을 보관 스키마로 이동한다")
+	void archiveExpiredPartition() {
+		// when
+		createService(RetentionAction.ARCHIVE, true).maintainPartitions();
+
+		// then
+		assertThat(partitionRepository.findPartitions(TABLE))
+				.extracting(PartitionRepository.TablePartition::partitionName)
+				.doesNotContain(OLD_PARTITION);
+		assertThat(tableExists(ARCHIVE_SCHEMA + "." + OLD_PARTITION)).isTrue();
+	}
+
+	@Test
+	@DisplayName("보존 처리한 파티션의 행을 참조하는 행을 함께 삭제한다")
+	void deleteRowsReferencingExpiredPartition() {
+		// given - 보존 기간이 지난 파티션의 행(1)과 다른 행(2)을 참조하는 행
+		final YearMonth oldMonth = YearMonth.now().minusMonths(24);
+		jdbcTemplate.update("INSERT INTO " + TABLE + " (event_id, occurred_at) VALUES (1, ?)",
+				oldMonth.atDay(1).atTime(10, 0));
+		jdbcTemplate.execute("CREATE TABLE " + REFERENCING_TABLE + " (event_id BIGINT NOT NULL, note TEXT)");
+		jdbcTemplate.execute("INSERT INTO " + REFERENCING_TABLE + " (event_id, note) VALUES (1, 'old'), (2, 'current')");
+
+		// when
+		createService(RetentionAction.ARCHIVE, true, List.of(REFERENCING_TABLE)).maintainPartitions();
+
+		// then - 보관된 파티션의 행만 참조 테이블에서 삭제되고, 보관 파티션에는 원래 행이 남음
+		assertThat(jdbcTemplate.queryForList("SELECT event_id FROM " + REFERENCING_TABLE, Long.class))
+				.containsExactly(2L);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT event_id FROM " + ARCHIVE_SCHEMA + "." + OLD_PARTITION, Long.class)).isEqualTo(1L);
+	}
+
+	private PartitionManagementService createService(
+			final RetentionAction retentionAction,
+			final boolean retentionEnabled) {
+		return createService(retentionAction, retentionEnabled, List.of());
+	}
+
+	private PartitionManagementService createService(
+			final RetentionAction retentionAction,
+			final boolean retentionEnabled,
+			final List<String> referencingTables) {
+		final ManagedTable table = new ManagedTable();
+		table.setName(TABLE);
+		table.setRetentionMonths(12);
+		table.setRetentionAction(retentionAction);
+		table.setReferenceKey("event_id");
+		table.setReferencingTables(referencingTables);
+
+		final PartitionConfiguration configuration = new PartitionConfiguration();
+		configuration.setPremakeMonths(3);
+		configuration.setRetentionEnabled(retentionEnabled);
+		configuration.setArchiveSchema(ARCHIVE_SCHEMA);
+		configuration.setTables(List.of(table));
+		return new PartitionManagementService(partitionRepository, configuration);
+	}
+
+	private boolean tableExists(final String qualifiedName) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+				"SELECT to_regclass(?) IS NOT NULL", Boolean.class, qualifiedName));
+	}
+}
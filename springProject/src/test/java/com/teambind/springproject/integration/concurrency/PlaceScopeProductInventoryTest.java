@@ -1,6 +1,7 @@
 package com.teambind.springproject.integration.concurrency;
 
 import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.shared.ProductId;
 import com.teambind.springproject.domain.shared.RoomId;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -228,6 +231,255 @@ public class PlaceScopeProductInventoryTest extends BaseConcurrencyTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("다중 시간대 일괄 예약/해제 테스트")
+	class BatchTimeSlotQuantityTests {
+
+		@Test
+		@DisplayName("여러 시간대를 한 번에 예약한다")
+		void reserveMultipleTimeSlots_success() {
+			// given
+			final List<LocalDateTime> timeSlots = List.of(
+					testTimeSlot, testTimeSlot.plusHours(1), testTimeSlot.plusHours(2));
+			timeSlots.forEach(slot -> initializeInventory(testProductId, testRoomId, slot, 10));
+
+			// when
+			final boolean result = productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, timeSlots, 4);
+
+			// then
+			assertThat(result).isTrue();
+			timeSlots.forEach(slot ->
+					assertThat(getReservedQuantity(testProductId, testRoomId, slot)).isEqualTo(4));
+		}
+
+		@Test
+		@DisplayName("한 시간대라도 재고가 부족하면 어떤 시간대도 예약되지 않는다")
+		void reserveMultipleTimeSlots_allOrNothing() {
+			// given - 두 번째 시간대만 재고 3개
+			final LocalDateTime secondSlot = testTimeSlot.plusHours(1);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+			initializeInventory(testProductId, testRoomId, secondSlot, 3);
+
+			// when
+			final boolean result = productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, List.of(testTimeSlot, secondSlot), 5);
+
+			// then
+			assertThat(result).isFalse();
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(0);
+			assertThat(getReservedQuantity(testProductId, testRoomId, secondSlot)).isEqualTo(0);
+		}
+
+		@Test
+		@DisplayName("재고가 설정되지 않은 시간대가 포함되면 예약에 실패한다")
+		void reserveMultipleTimeSlots_missingInventory() {
+			// given - 첫 시간대만 재고 설정
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+
+			// when
+			final boolean result = productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, List.of(testTimeSlot, testTimeSlot.plusHours(1)), 1);
+
+			// then
+			assertThat(result).isFalse();
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(0);
+		}
+
+		@Test
+		@DisplayName("다른 룸의 예약 수량을 합산하여 시간대별로 검증한다")
+		void reserveMultipleTimeSlots_aggregatesOtherRooms() {
+			// given - 다른 룸에서 두 번째 시간대 8개 선점
+			final RoomId otherRoomId = RoomId.of(201L);
+			final LocalDateTime secondSlot = testTimeSlot.plusHours(1);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+			initializeInventory(testProductId, testRoomId, secondSlot, 10);
+			productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, otherRoomId, List.of(secondSlot), 8);
+
+			// when
+			final boolean result = productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, List.of(testTimeSlot, secondSlot), 3);
+
+			// then
+			assertThat(result).isFalse();
+			assertThat(getReservedQuantity(testProductId, otherRoomId, secondSlot)).isEqualTo(8);
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(0);
+		}
+
+		@Test
+		@DisplayName("여러 시간대를 한 번에 해제한다")
+		void releaseMultipleTimeSlots_success() {
+			// given
+			final List<LocalDateTime> timeSlots = List.of(testTimeSlot, testTimeSlot.plusHours(1));
+			timeSlots.forEach(slot -> initializeInventory(testProductId, testRoomId, slot, 10));
+			productRepository.reservePlaceTimeSlotQuantities(testProductId, testRoomId, timeSlots, 6);
+
+			// when
+			final boolean result = productRepository.releaseTimeSlotQuantities(
+					testProductId, testRoomId, timeSlots, 6);
+
+			// then
+			assertThat(result).isTrue();
+			timeSlots.forEach(slot ->
+					assertThat(getReservedQuantity(testProductId, testRoomId, slot)).isEqualTo(0));
+		}
+
+		@Test
+		@DisplayName("예약 수량보다 많이 해제하려 하면 어떤 시간대도 변경되지 않는다")
+		void releaseMultipleTimeSlots_allOrNothing() {
+			// given
+			final LocalDateTime secondSlot = testTimeSlot.plusHours(1);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+			initializeInventory(testProductId, testRoomId, secondSlot, 10);
+			productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, List.of(testTimeSlot), 5);
+			productRepository.reservePlaceTimeSlotQuantities(
+					testProductId, testRoomId, List.of(secondSlot), 2);
+
+			// when
+			final boolean result = productRepository.releaseTimeSlotQuantities(
+					testProductId, testRoomId, List.of(testTimeSlot, secondSlot), 3);
+
+			// then
+			assertThat(result).isFalse();
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(5);
+			assertThat(getReservedQuantity(testProductId, testRoomId, secondSlot)).isEqualTo(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("Place 집계 재고 테스트")
+	class PlaceAggregateInventoryTests {
+
+		@Test
+		@DisplayName("여러 룸의 예약이 Place 집계 행에 합산된다")
+		void reserve_accumulatesIntoAggregate() {
+			// given
+			final RoomId otherRoomId = RoomId.of(201L);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+
+			// when
+			productRepository.reservePlaceTimeSlotQuantity(testProductId, testRoomId, testTimeSlot, 3);
+			productRepository.reservePlaceTimeSlotQuantity(testProductId, otherRoomId, testTimeSlot, 4);
+
+			// then - 집계 행은 합계, 룸별 행은 귀속 수량을 유지
+			assertThat(getPlaceReservedQuantity(testProductId, testTimeSlot)).isEqualTo(7);
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(3);
+			assertThat(getReservedQuantity(testProductId, otherRoomId, testTimeSlot)).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("해제 시 룸별 행과 Place 집계 행이 함께 감소한다")
+		void release_decrementsAggregate() {
+			// given
+			final RoomId otherRoomId = RoomId.of(201L);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+			productRepository.reservePlaceTimeSlotQuantity(testProductId, testRoomId, testTimeSlot, 3);
+			productRepository.reservePlaceTimeSlotQuantity(testProductId, otherRoomId, testTimeSlot, 4);
+
+			// when
+			final boolean result = productRepository.releaseTimeSlotQuantity(
+					testProductId, otherRoomId, testTimeSlot, 4);
+
+			// then
+			assertThat(result).isTrue();
+			assertThat(getPlaceReservedQuantity(testProductId, testTimeSlot)).isEqualTo(3);
+			assertThat(getReservedQuantity(testProductId, otherRoomId, testTimeSlot)).isEqualTo(0);
+		}
+
+		@Test
+		@DisplayName("상품 총 재고를 변경하면 이후 시간대의 Place 집계 행 총 재고가 함께 변경된다")
+		void updateTotalQuantity_syncsFutureAggregates() {
+			// given - 지난 시간대와 이후 시간대의 집계 행
+			final LocalDateTime futureTimeSlot = LocalDateTime.now().plusDays(1)
+					.withHour(10).withMinute(0).withSecond(0).withNano(0);
+			jdbcTemplate.update(
+					"INSERT INTO place_time_slot_inventory (product_id, time_slot, total_quantity, reserved_quantity) "
+							+ "VALUES (?, ?, 10, 0), (?, ?, 10, 0)",
+					testProductId.getValue(), testTimeSlot,
+					testProductId.getValue(), futureTimeSlot);
+
+			// when
+			final Product product = productRepository.findById(testProductId).orElseThrow();
+			product.updateTotalQuantity(15);
+			productRepository.save(product);
+
+			// then
+			assertThat(getPlaceTotalQuantity(testProductId, futureTimeSlot)).isEqualTo(15);
+			assertThat(getPlaceTotalQuantity(testProductId, testTimeSlot)).isEqualTo(10);
+		}
+	}
+
+	@Nested
+	@DisplayName("장바구니 일괄 예약 테스트")
+	class CartReservationTests {
+
+		@Test
+		@DisplayName("모든 상품이 가용하면 한 번의 호출로 함께 예약된다")
+		void reserveCart_success() {
+			// given
+			final ProductId reservationProductId = insertReservationProduct(3);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+
+			// when
+			final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+					testRoomId,
+					List.of(testTimeSlot),
+					Map.of(testProductId, 4, reservationProductId, 2)
+			);
+
+			// then
+			assertThat(results).containsEntry(testProductId, true)
+					.containsEntry(reservationProductId, true);
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(4);
+			assertThat(getProductReservedQuantity(reservationProductId)).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("하나라도 부족하면 실패한 상품을 알려주고 어떤 재고도 변경하지 않는다")
+		void reserveCart_allOrNothing() {
+			// given - RESERVATION 상품 재고 1개
+			final ProductId reservationProductId = insertReservationProduct(1);
+			initializeInventory(testProductId, testRoomId, testTimeSlot, 10);
+
+			// when
+			final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+					testRoomId,
+					List.of(testTimeSlot),
+					Map.of(testProductId, 4, reservationProductId, 2)
+			);
+
+			// then
+			assertThat(results).containsEntry(testProductId, true)
+					.containsEntry(reservationProductId, false);
+			assertThat(getReservedQuantity(testProductId, testRoomId, testTimeSlot)).isEqualTo(0);
+			assertThat(getProductReservedQuantity(reservationProductId)).isEqualTo(0);
+		}
+
+		private ProductId insertReservationProduct(final int totalQuantity) {
+			final long productIdValue = testProductId.getValue() + 1;
+			jdbcTemplate.update("""
+					INSERT INTO products
+					(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+					VALUES (?, NULL, NULL, ?, 'RESERVATION', 'ONE_TIME', 5000, ?, 0)
+					""",
+					productIdValue,
+					"앰프 대여",
+					totalQuantity
+			);
+			return ProductId.of(productIdValue);
+		}
+
+		private Integer getProductReservedQuantity(final ProductId productId) {
+			return jdbcTemplate.queryForObject(
+					"SELECT reserved_quantity FROM products WHERE product_id = ?",
+					Integer.class,
+					productId.getValue()
+			);
+		}
+	}
+
 	@Nested
 	@DisplayName("동시성 제어 테스트")
 	class ConcurrencyTests {
@@ -457,6 +709,36 @@ public class PlaceScopeProductInventoryTest extends BaseConcurrencyTest {
 		);
 	}
 
+	/**
+	 * Place 집계 행의 예약 수량을 조회합니다.
+	 */
+	private Integer getPlaceReservedQuantity(
+			final ProductId productId,
+			final LocalDateTime timeSlot
+	) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM place_time_slot_inventory WHERE product_id = ? AND time_slot = ?",
+				Integer.class,
+				productId.getValue(),
+				timeSlot
+		);
+	}
+
+	/**
+	 * Place 집계 행의 총 재고 수량을 조회합니다.
+	 */
+	private Integer getPlaceTotalQuantity(
+			final ProductId productId,
+			final LocalDateTime timeSlot
+	) {
+		return jdbcTemplate.queryForObject(
+				"SELECT total_quantity FROM place_time_slot_inventory WHERE product_id = ? AND time_slot = ?",
+				Integer.class,
+				productId.getValue(),
+				timeSlot
+		);
+	}
+
 	/**
 	 * 시간대에 해당하는 파티션 테이블 이름을 반환합니다.
 	 */
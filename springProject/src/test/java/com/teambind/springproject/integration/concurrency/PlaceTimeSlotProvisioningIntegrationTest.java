@@ -0,0 +1,127 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.dto.response.PlaceTimeSlotProvisioningResponse;
+import com.teambind.springproject.application.port.in.ProvisionPlaceTimeSlotsUseCase;
+import com.teambind.springproject.domain.shared.PlaceId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PLACE Scope 상품 시간대별 재고 행 사전 생성(COPY) 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - horizon 기간의 모든 시간대 집계 행 생성 (HALFHOUR 룸이 있는 Place는 30분 간격)
+ * - 재실행 시 새 행을 만들지 않고 기존 예약 수량을 보존 (멱등성)
+ * - 지정한 Place의 상품만 생성
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("PLACE Scope 시간대별 재고 사전 생성 통합 테스트")
+public class PlaceTimeSlotProvisioningIntegrationTest extends BaseConcurrencyTest {
+
+	private static final long HOUR_PLACE_ID = 100L;
+	private static final long HALFHOUR_PLACE_ID = 200L;
+
+	@Autowired
+	private ProvisionPlaceTimeSlotsUseCase provisionPlaceTimeSlotsUseCase;
+
+	private long hourProductId;
+	private long halfHourProductId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+
+		final long baseId = System.currentTimeMillis();
+		hourProductId = baseId;
+		halfHourProductId = baseId + 1;
+
+		insertPlaceProduct(hourProductId, HOUR_PLACE_ID);
+		insertPlaceProduct(halfHourProductId, HALFHOUR_PLACE_ID);
+		jdbcTemplate.update(
+				"INSERT INTO pricing_policies (room_id, place_id, time_slot, default_price) VALUES (?, ?, 'HALFHOUR', 10000)",
+				baseId, HALFHOUR_PLACE_ID);
+	}
+
+	@Test
+	@DisplayName("horizon 기간의 모든 시간대 집계 행을 시간 단위에 맞춰 생성한다")
+	void provisionAllSlots() {
+		// when
+		final PlaceTimeSlotProvisioningResponse response = provisionPlaceTimeSlotsUseCase.provision(null, 2);
+
+		// then
+		final long hours = Duration.between(response.from(), response.to()).toHours();
+		assertThat(response.products()).isEqualTo(2);
+		assertThat(countRows(hourProductId)).isEqualTo(hours);
+		assertThat(countRows(halfHourProductId)).isEqualTo(hours * 2);
+		assertThat(response.insertedRows()).isEqualTo(hours * 3);
+	}
+
+	@Test
+	@DisplayName("재실행해도 새 행을 만들지 않고 기존 예약 수량을 보존한다")
+	void idempotent() {
+		// given
+		final PlaceTimeSlotProvisioningResponse first = provisionPlaceTimeSlotsUseCase.provision(null, 2);
+		jdbcTemplate.update(
+				"UPDATE place_time_slot_inventory SET reserved_quantity = 3 WHERE product_id = ? AND time_slot = ?",
+				hourProductId, Timestamp.valueOf(first.from()));
+
+		// when
+		final PlaceTimeSlotProvisioningResponse second = provisionPlaceTimeSlotsUseCase.provision(null, 2);
+
+		// then
+		assertThat(second.insertedRows()).isZero();
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM place_time_slot_inventory WHERE product_id = ? AND time_slot = ?",
+				Integer.class,
+				hourProductId, Timestamp.valueOf(first.from())))
+				.isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Place를 지정하면 해당 Place의 상품만 생성한다")
+	void provisionSinglePlace() {
+		// when
+		provisionPlaceTimeSlotsUseCase.provision(PlaceId.of(HOUR_PLACE_ID), 1);
+
+		// then
+		assertThat(countRows(hourProductId)).isPositive();
+		assertThat(countRows(halfHourProductId)).isZero();
+	}
+
+	@Test
+	@DisplayName("horizon이 허용 범위를 벗어나면 IllegalArgumentException이 발생한다")
+	void rejectInvalidHorizon() {
+		// when & then
+		assertThatThrownBy(() -> provisionPlaceTimeSlotsUseCase.provision(null, 400))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void insertPlaceProduct(final long productId, final long placeId) {
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, ?, NULL, '빔프로젝터', 'PLACE', 'SIMPLE_STOCK', 10000, 5, 0)
+				""",
+				productId, placeId);
+	}
+
+	private long countRows(final long productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM place_time_slot_inventory WHERE product_id = ? AND total_quantity = 5",
+				Long.class,
+				productId);
+	}
+}
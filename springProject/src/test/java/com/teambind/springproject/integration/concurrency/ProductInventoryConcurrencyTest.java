@@ -2,8 +2,10 @@ package com.teambind.springproject.integration.concurrency;
 
 import com.teambind.springproject.application.dto.request.CreateReservationRequest;
 import com.teambind.springproject.application.dto.request.ProductRequest;
+import com.teambind.springproject.application.dto.request.UpdateProductsRequest;
 import com.teambind.springproject.application.dto.response.ReservationPricingResponse;
 import com.teambind.springproject.application.port.in.CreateReservationUseCase;
+import com.teambind.springproject.application.port.in.UpdateReservationProductsUseCase;
 import com.teambind.springproject.application.port.out.PricingPolicyRepository;
 import com.teambind.springproject.application.port.out.ProductRepository;
 import com.teambind.springproject.application.port.out.ReservationPricingRepository;
@@ -11,6 +13,8 @@ import com.teambind.springproject.domain.pricingpolicy.PricingPolicy;
 import com.teambind.springproject.domain.product.Product;
 import com.teambind.springproject.domain.product.pricing.PricingStrategy;
 import com.teambind.springproject.domain.shared.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +65,12 @@ public class ProductInventoryConcurrencyTest extends BaseConcurrencyTest {
 	@Autowired
 	private ReservationPricingRepository reservationPricingRepository;
 
+	@Autowired
+	private UpdateReservationProductsUseCase updateReservationProductsUseCase;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	private Long testPlaceId;
 	private Long testRoomId;
 	private Long productId;
@@ -281,4 +292,74 @@ public class ProductInventoryConcurrencyTest extends BaseConcurrencyTest {
 		assertThat(successCount.get()).isEqualTo(2);  // 취소한 2개만 예약 가능
 		assertThat(failCount.get()).isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("두 예약이 서로의 상품으로 동시에 바꿔도 교착 상태 없이 모두 반영된다")
+	void mirroredProductUpdatesWithoutDeadlock() throws InterruptedException {
+		// given - 예약 1은 상품 A, 예약 2는 상품 B를 보유
+		final Long otherProductId = productRepository.save(Product.createReservationScoped(
+				ProductId.of(null),
+				"교차 변경 테스트 상품",
+				PricingStrategy.simpleStock(Money.of(1000)),
+				5
+		)).getProductId().getValue();
+		final Long firstReservationId = createReservationUseCase.createReservation(new CreateReservationRequest(
+				testRoomId, testTimeSlots, List.of(new ProductRequest(productId, 2)))).reservationId();
+		final Long secondReservationId = createReservationUseCase.createReservation(new CreateReservationRequest(
+				testRoomId, testTimeSlots, List.of(new ProductRequest(otherProductId, 2)))).reservationId();
+
+		final int rounds = 20;
+		final double deadlocksBefore = deadlockRetries();
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		final ExecutorService executorService = Executors.newFixedThreadPool(2);
+		final CountDownLatch latch = new CountDownLatch(2);
+		final AtomicInteger failCount = new AtomicInteger(0);
+
+		// when - 매 라운드마다 두 예약이 서로의 상품으로 동시에 교체 (증가분/감소분 상품이 반대)
+		for (final Long reservationId : List.of(firstReservationId, secondReservationId)) {
+			final boolean startsWithFirstProduct = reservationId.equals(firstReservationId);
+			executorService.submit(() -> {
+				try {
+					for (int round = 0; round < rounds; round++) {
+						final boolean holdsFirstProduct = startsWithFirstProduct == (round % 2 == 0);
+						final Long nextProductId = holdsFirstProduct ? otherProductId : productId;
+						barrier.await(10, TimeUnit.SECONDS);
+						try {
+							updateReservationProductsUseCase.updateProducts(reservationId,
+									new UpdateProductsRequest(List.of(new ProductRequest(nextProductId, 2))));
+						} catch (Exception e) {
+							failCount.incrementAndGet();
+						}
+					}
+				} catch (Exception e) {
+					failCount.incrementAndGet();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+
+		latch.await(60, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then - 모든 변경이 성공하고, 짝수 라운드 후 원래 상품 구성으로 돌아옴
+		assertThat(failCount.get()).isZero();
+		assertThat(deadlockRetries() - deadlocksBefore).isZero();
+		assertThat(reservedQuantity(productId)).isEqualTo(2);
+		assertThat(reservedQuantity(otherProductId)).isEqualTo(2);
+	}
+
+	private double deadlockRetries() {
+		return meterRegistry.find("transaction.retries")
+				.tag("reason", "deadlock")
+				.counters()
+				.stream()
+				.mapToDouble(Counter::count)
+				.sum();
+	}
+
+	private int reservedQuantity(final Long targetProductId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?", Integer.class, targetProductId);
+	}
 }
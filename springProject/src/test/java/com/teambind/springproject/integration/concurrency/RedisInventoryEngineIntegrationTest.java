@@ -0,0 +1,457 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.adapter.out.redis.RedisInventoryWriteBehind;
+import com.teambind.springproject.application.dto.response.InventoryReconciliationResponse;
+import com.teambind.springproject.application.port.in.ReconcileInventoryUseCase;
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재고 엔진(inventory.engine=redis) 통합 테스트.
+ * <p>
+ * 주요 검증 사항:
+ * - 장바구니 전체를 원자적으로 예약 (한 상품이라도 실패하면 전체 미반영)
+ * - 동시 예약 시 총 재고를 초과하지 않음
+ * - Write-behind Flush로 Postgres에 저장
+ * - 시작 시 Postgres 재고를 Redis에 재적재 (Redis 값은 덮어쓰지 않음)
+ * - 샤딩/원장 모드 상품은 샤드/원장에 Flush하여 재적재 후에도 예약 수량 보존
+ * - 트랜잭션 롤백 시 Redis 카운터 보상
+ * - 상품 총 수량 변경이 이미 적재된 카운터에 반영
+ * - 재고 정합성 점검은 Postgres 사본을 보정하지 않음 (항상 dry-run)
+ */
+@Tag("integration")
+@SpringBootTest(properties = {
+		"inventory.engine=redis",
+		"inventory.redis.flush-interval-millis=3600000",
+		"inventory.redis.rehydrate-on-startup=false"
+})
+@ActiveProfiles("integration")
+@DisplayName("Redis 재고 엔진 통합 테스트")
+public class RedisInventoryEngineIntegrationTest extends BaseConcurrencyTest {
+
+	private static final GenericContainer<?> REDIS_CONTAINER =
+			new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	static {
+		REDIS_CONTAINER.start();
+	}
+
+	private static final long PLACE_ID = 100L;
+	private static final long ROOM_ID = 10L;
+	private static final LocalDateTime SLOT_10 = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0)
+			.withSecond(0).withNano(0);
+	private static final LocalDateTime SLOT_11 = SLOT_10.plusHours(1);
+
+	@DynamicPropertySource
+	static void configureRedis(final DynamicPropertyRegistry registry) {
+		registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
+		registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379));
+	}
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private RedisInventoryWriteBehind writeBehind;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReconcileInventoryUseCase reconcileInventoryUseCase;
+
+	private ProductId reservationProductId;
+	private ProductId roomProductId;
+	private ProductId placeProductId;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+		flushRedis();
+
+		final long baseId = System.currentTimeMillis();
+		reservationProductId = ProductId.of(baseId);
+		roomProductId = ProductId.of(baseId + 1);
+		placeProductId = ProductId.of(baseId + 2);
+
+		insertProduct(reservationProductId, "RESERVATION", null, null, 40);
+		insertProduct(roomProductId, "ROOM", PLACE_ID, ROOM_ID, 5);
+		insertProduct(placeProductId, "PLACE", PLACE_ID, null, 3);
+	}
+
+	@Nested
+	@DisplayName("장바구니 예약 테스트")
+	class CartTests {
+
+		@Test
+		@DisplayName("모든 상품의 재고가 충분하면 장바구니 전체를 예약한다")
+		void reserveWholeCart() {
+			// given
+			insertPlaceAggregateRow(placeProductId, SLOT_10, 3, 0);
+			insertPlaceAggregateRow(placeProductId, SLOT_11, 3, 0);
+
+			// when
+			final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+					RoomId.of(ROOM_ID), List.of(SLOT_10, SLOT_11), cart(2, 2, 1));
+
+			// then
+			assertThat(results).containsValues(true).doesNotContainValue(false);
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isEqualTo(2);
+			assertThat(reserved(placeKey(placeProductId, SLOT_10))).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("한 상품이라도 재고가 부족하면 아무것도 예약하지 않고 실패한 상품만 보고한다")
+		void rejectWholeCart() {
+			// given - PLACE 상품 11시 집계 행 없음, 룸별 행도 없음 (NO FALLBACK)
+			insertPlaceAggregateRow(placeProductId, SLOT_10, 3, 0);
+
+			// when
+			final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+					RoomId.of(ROOM_ID), List.of(SLOT_10, SLOT_11), cart(2, 2, 1));
+
+			// then
+			assertThat(results.get(placeProductId)).isFalse();
+			assertThat(results.get(reservationProductId)).isTrue();
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isZero();
+			assertThat(reserved(placeKey(placeProductId, SLOT_10))).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("동시성 테스트")
+	class ConcurrencyTests {
+
+		@Test
+		@DisplayName("100개 스레드가 동시에 예약해도 총 재고 40개만 성공한다")
+		void concurrentReservations() throws Exception {
+			// given
+			final int threadCount = 100;
+			final ExecutorService executor = Executors.newFixedThreadPool(32);
+			final CountDownLatch start = new CountDownLatch(1);
+			final CountDownLatch done = new CountDownLatch(threadCount);
+			final AtomicInteger successCount = new AtomicInteger();
+
+			// when
+			for (int i = 0; i < threadCount; i++) {
+				executor.submit(() -> {
+					try {
+						start.await();
+						if (productRepository.reserveQuantity(reservationProductId, 1)) {
+							successCount.incrementAndGet();
+						}
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			start.countDown();
+			assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+			executor.shutdown();
+
+			// then
+			assertThat(successCount.get()).isEqualTo(40);
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isEqualTo(40);
+		}
+	}
+
+	@Nested
+	@DisplayName("Write-behind 및 재적재 테스트")
+	class PersistenceTests {
+
+		@Test
+		@DisplayName("Flush하면 변경된 카운터를 Postgres에 저장한다")
+		void flushToPostgres() {
+			// given
+			productRepository.reserveQuantity(reservationProductId, 7);
+			productRepository.reserveRoomTimeSlotQuantities(
+					roomProductId, RoomId.of(ROOM_ID), List.of(SLOT_10, SLOT_11), 2);
+			assertThat(getProductReserved(reservationProductId)).isZero();
+
+			// when
+			final int flushed = writeBehind.flush();
+
+			// then
+			assertThat(flushed).isEqualTo(3);
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(7);
+			assertThat(getTimeSlotReserved(roomProductId, SLOT_10)).isEqualTo(2);
+			assertThat(getTimeSlotReserved(roomProductId, SLOT_11)).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("재적재는 Postgres 값을 적재하되 Redis에 있는 값은 덮어쓰지 않는다")
+		void rehydrate() {
+			// given
+			insertPlaceAggregateRow(placeProductId, SLOT_10, 3, 2);
+			jdbcTemplate.update("UPDATE products SET reserved_quantity = 5 WHERE product_id = ?",
+					reservationProductId.getValue());
+			redisTemplate.opsForHash().put(placeKey(placeProductId, SLOT_10), "total", "3");
+			redisTemplate.opsForHash().put(placeKey(placeProductId, SLOT_10), "reserved", "1");
+
+			// when
+			writeBehind.rehydrate();
+
+			// then
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isEqualTo(5);
+			assertThat(reserved(placeKey(placeProductId, SLOT_10))).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("샤딩된 상품은 샤드에 Flush하여 Redis를 비운 뒤 재적재해도 예약 수량을 잃지 않는다")
+		void flushAndRehydrateShardedProduct() {
+			// given
+			assertThat(productRepository.configureInventoryShards(reservationProductId, 4)).isTrue();
+			assertThat(productRepository.reserveQuantity(reservationProductId, 7)).isTrue();
+
+			// when - Flush 후 Redis 재시작(키 유실)
+			writeBehind.flush();
+			flushRedis();
+			writeBehind.rehydrate();
+
+			// then - 샤드 합계와 Redis 카운터 모두 7, 남은 33개만 예약 가능
+			assertThat(getShardReservedSum(reservationProductId)).isEqualTo(7);
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isEqualTo(7);
+			assertThat(productRepository.reserveQuantity(reservationProductId, 34)).isFalse();
+			assertThat(productRepository.reserveQuantity(reservationProductId, 33)).isTrue();
+		}
+
+		@Test
+		@DisplayName("원장 모드 상품은 잔액과의 차이를 이동분으로 Flush하여 재적재해도 예약 수량을 잃지 않는다")
+		void flushAndRehydrateLedgerProduct() {
+			// given
+			assertThat(productRepository.configureInventoryLedger(reservationProductId, true)).isTrue();
+			assertThat(productRepository.reserveQuantity(reservationProductId, 5)).isTrue();
+			writeBehind.flush();
+			assertThat(productRepository.releaseQuantity(reservationProductId, 2)).isTrue();
+
+			// when
+			writeBehind.flush();
+			flushRedis();
+			writeBehind.rehydrate();
+
+			// then
+			assertThat(getLedgerReserved(reservationProductId)).isEqualTo(3);
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isEqualTo(3);
+		}
+	}
+
+	@Nested
+	@DisplayName("롤백 보상 테스트")
+	class CompensationTests {
+
+		@Test
+		@DisplayName("트랜잭션이 롤백되면 Redis 카운터 증감을 되돌린다")
+		void compensateOnRollback() {
+			// given
+			final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+			// when
+			transactionTemplate.executeWithoutResult(status -> {
+				assertThat(productRepository.reserveQuantity(reservationProductId, 3)).isTrue();
+				status.setRollbackOnly();
+			});
+
+			// then
+			assertThat(reserved("{inventory}:product:" + reservationProductId.getValue())).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("총 수량 변경 테스트")
+	class TotalQuantityTests {
+
+		@Test
+		@DisplayName("상품 총 수량을 바꾸면 적재된 상품/시간대/Place 집계 카운터의 총 수량도 바뀐다")
+		void updateLoadedTotals() {
+			// given - 세 카운터 모두 총 수량까지 예약하여 적재
+			insertPlaceAggregateRow(placeProductId, SLOT_10, 3, 0);
+			assertThat(productRepository.reserveQuantity(reservationProductId, 2)).isTrue();
+			assertThat(productRepository.reserveRoomTimeSlotQuantities(
+					roomProductId, RoomId.of(ROOM_ID), List.of(SLOT_10), 5)).isTrue();
+			assertThat(productRepository.reservePlaceTimeSlotQuantities(
+					placeProductId, RoomId.of(ROOM_ID), List.of(SLOT_10), 3)).isTrue();
+
+			// when - RESERVATION 40 → 3, ROOM 5 → 8, PLACE 3 → 4
+			updateTotalQuantity(reservationProductId, 3);
+			updateTotalQuantity(roomProductId, 8);
+			updateTotalQuantity(placeProductId, 4);
+
+			// then
+			assertThat(redisTemplate.opsForHash().get("{inventory}:product:" + reservationProductId.getValue(), "total"))
+					.isEqualTo("3");
+			assertThat(redisTemplate.opsForHash().get(placeKey(placeProductId, SLOT_10), "total")).isEqualTo("4");
+
+			assertThat(productRepository.reserveQuantity(reservationProductId, 2)).isFalse();
+			assertThat(productRepository.reserveQuantity(reservationProductId, 1)).isTrue();
+			assertThat(productRepository.reserveRoomTimeSlotQuantities(
+					roomProductId, RoomId.of(ROOM_ID), List.of(SLOT_10), 3)).isTrue();
+			assertThat(productRepository.reservePlaceTimeSlotQuantities(
+					placeProductId, RoomId.of(ROOM_ID), List.of(SLOT_10), 1)).isTrue();
+			assertThat(productRepository.reservePlaceTimeSlotQuantities(
+					placeProductId, RoomId.of(ROOM_ID), List.of(SLOT_10), 1)).isFalse();
+		}
+
+		@Test
+		@DisplayName("롤백된 총 수량 변경은 Redis 카운터에 반영하지 않는다")
+		void ignoreRolledBackTotal() {
+			// given
+			assertThat(productRepository.reserveQuantity(reservationProductId, 2)).isTrue();
+			final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+			// when
+			transactionTemplate.executeWithoutResult(status -> {
+				updateTotalQuantity(reservationProductId, 3);
+				status.setRollbackOnly();
+			});
+
+			// then
+			assertThat(redisTemplate.opsForHash().get("{inventory}:product:" + reservationProductId.getValue(), "total"))
+					.isEqualTo("40");
+		}
+	}
+
+	@Nested
+	@DisplayName("정합성 점검 테스트")
+	class ReconciliationTests {
+
+		@Test
+		@DisplayName("보정을 요청해도 dry-run으로 실행하여 Flush 전 Postgres 카운터를 되돌리지 않는다")
+		void reconcileAsDryRun() {
+			// given - Flush 전이라 Postgres 예약 수량은 Redis보다 뒤처진 상태
+			jdbcTemplate.update("UPDATE products SET reserved_quantity = 5 WHERE product_id = ?",
+					reservationProductId.getValue());
+
+			// when
+			final InventoryReconciliationResponse response = reconcileInventoryUseCase.reconcile(false);
+
+			// then
+			assertThat(response.dryRun()).isTrue();
+			assertThat(response.correctedCount()).isZero();
+			assertThat(getProductReserved(reservationProductId)).isEqualTo(5);
+		}
+	}
+
+	private void flushRedis() {
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+	}
+
+	private Map<ProductId, Integer> cart(final int reservationQuantity, final int roomQuantity, final int placeQuantity) {
+		final Map<ProductId, Integer> cart = new LinkedHashMap<>();
+		cart.put(reservationProductId, reservationQuantity);
+		cart.put(roomProductId, roomQuantity);
+		cart.put(placeProductId, placeQuantity);
+		return cart;
+	}
+
+	private void updateTotalQuantity(final ProductId productId, final int totalQuantity) {
+		final Product product = productRepository.findById(productId).orElseThrow();
+		product.updateTotalQuantity(totalQuantity);
+		productRepository.save(product);
+	}
+
+	private static String placeKey(final ProductId productId, final LocalDateTime timeSlot) {
+		return String.format("{inventory}:place:%d:%04d%02d%02d%02d%02d",
+				productId.getValue(),
+				timeSlot.getYear(), timeSlot.getMonthValue(), timeSlot.getDayOfMonth(),
+				timeSlot.getHour(), timeSlot.getMinute());
+	}
+
+	private int reserved(final String key) {
+		final Object value = redisTemplate.opsForHash().get(key, "reserved");
+		return value != null ? Integer.parseInt((String) value) : 0;
+	}
+
+	private void insertProduct(
+			final ProductId productId,
+			final String scope,
+			final Long placeId,
+			final Long roomId,
+			final int totalQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, ?, ?, 'SIMPLE_STOCK', 1000, ?, 0)
+				""",
+				productId.getValue(), placeId, roomId, scope + " 상품", scope, totalQuantity);
+	}
+
+	private void insertPlaceAggregateRow(
+			final ProductId productId,
+			final LocalDateTime timeSlot,
+			final int totalQuantity,
+			final int reservedQuantity) {
+		jdbcTemplate.update("""
+				INSERT INTO place_time_slot_inventory
+				(product_id, time_slot, total_quantity, reserved_quantity)
+				VALUES (?, ?, ?, ?)
+				""",
+				productId.getValue(), Timestamp.valueOf(timeSlot), totalQuantity, reservedQuantity);
+	}
+
+	private Integer getProductReserved(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				productId.getValue());
+	}
+
+	private Integer getShardReservedSum(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT SUM(reserved_quantity) FROM product_inventory_shards WHERE product_id = ?",
+				Integer.class,
+				productId.getValue());
+	}
+
+	private Integer getLedgerReserved(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT inventory_ledger_reserved(?)",
+				Integer.class,
+				productId.getValue());
+	}
+
+	private Integer getTimeSlotReserved(final ProductId productId, final LocalDateTime timeSlot) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM product_time_slot_inventory "
+						+ "WHERE product_id = ? AND room_id = ? AND time_slot = ?",
+				Integer.class,
+				productId.getValue(), ROOM_ID, Timestamp.valueOf(timeSlot));
+	}
+}
@@ -0,0 +1,353 @@
+package com.teambind.springproject.integration.concurrency;
+
+import com.teambind.springproject.application.port.out.ProductRepository;
+import com.teambind.springproject.domain.product.Product;
+import com.teambind.springproject.domain.shared.ProductId;
+import com.teambind.springproject.domain.shared.RoomId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RESERVATION Scope 상품의 샤드 재고 카운터 통합 테스트 및 벤치마크.
+ * <p>
+ * 주요 검증 사항:
+ * - 샤드 구성 시 기존 예약 수량 보존
+ * - 총 재고 변경 시 샤드 총 재고 재분할
+ * - 샤드 합계가 총 재고를 초과하지 않음 (동시 예약)
+ * - 단일 행 UPDATE 대비 샤드 카운터의 처리량/지연 시간 비교
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("RESERVATION Scope 샤드 재고 카운터 통합 테스트")
+public class ShardedInventoryBenchmarkTest extends BaseConcurrencyTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardedInventoryBenchmarkTest.class);
+
+	private static final int SHARD_COUNT = 8;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private long productIdSeed;
+	private LocalDateTime testTimeSlot;
+
+	@BeforeEach
+	void setUp() {
+		cleanDatabase();
+		productIdSeed = System.currentTimeMillis();
+		testTimeSlot = LocalDateTime.of(2025, 11, 15, 10, 0);
+	}
+
+	@Nested
+	@DisplayName("샤드 구성 테스트")
+	class ConfigureShardsTests {
+
+		@Test
+		@DisplayName("샤드를 구성하면 기존 예약 수량이 샤드에 분배되고 합계가 유지된다")
+		void configurePreservesReservedQuantity() {
+			// given
+			final ProductId productId = insertReservationProduct(100);
+			assertThat(productRepository.reserveQuantity(productId, 30)).isTrue();
+
+			// when
+			final boolean configured = productRepository.configureInventoryShards(productId, 4);
+
+			// then
+			assertThat(configured).isTrue();
+			assertThat(countShards(productId)).isEqualTo(4);
+			assertThat(sumShardTotal(productId)).isEqualTo(100);
+			assertThat(sumShardReserved(productId)).isEqualTo(30);
+			assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity())
+					.isEqualTo(30);
+		}
+
+		@Test
+		@DisplayName("샤드 수를 1로 되돌리면 샤드가 제거되고 단일 행 카운터로 복귀한다")
+		void collapseToSingleRow() {
+			// given
+			final ProductId productId = insertReservationProduct(100);
+			productRepository.configureInventoryShards(productId, 4);
+			assertThat(productRepository.reserveQuantity(productId, 7)).isTrue();
+
+			// when
+			final boolean configured = productRepository.configureInventoryShards(productId, 1);
+
+			// then
+			assertThat(configured).isTrue();
+			assertThat(countShards(productId)).isZero();
+			assertThat(getProductReservedQuantity(productId)).isEqualTo(7);
+		}
+
+		@Test
+		@DisplayName("한 샤드의 잔여 재고보다 큰 수량도 여러 샤드에 나누어 예약하고 해제할 수 있다")
+		void reserveAndReleaseAcrossShards() {
+			// given - 샤드당 재고 5개
+			final ProductId productId = insertReservationProduct(20);
+			productRepository.configureInventoryShards(productId, 4);
+
+			// when
+			final boolean reserved = productRepository.reserveQuantity(productId, 12);
+			final boolean overbooked = productRepository.reserveQuantity(productId, 9);
+			final boolean released = productRepository.releaseQuantity(productId, 12);
+
+			// then
+			assertThat(reserved).isTrue();
+			assertThat(overbooked).isFalse();
+			assertThat(released).isTrue();
+			assertThat(sumShardReserved(productId)).isZero();
+		}
+
+		@Test
+		@DisplayName("총 재고를 변경하면 같은 트랜잭션에서 샤드 총 재고를 다시 분할하고 예약 합계는 유지한다")
+		void resplitShardsOnTotalQuantityChange() {
+			// given
+			final ProductId productId = insertReservationProduct(100);
+			productRepository.configureInventoryShards(productId, 4);
+			assertThat(productRepository.reserveQuantity(productId, 30)).isTrue();
+			final Product product = productRepository.findById(productId).orElseThrow();
+
+			// when
+			product.updateTotalQuantity(60);
+			final Product saved = productRepository.save(product);
+
+			// then
+			assertThat(countShards(productId)).isEqualTo(4);
+			assertThat(sumShardTotal(productId)).isEqualTo(60);
+			assertThat(sumShardReserved(productId)).isEqualTo(30);
+			assertThat(saved.getReservedQuantity()).isEqualTo(30);
+			assertThat(productRepository.reserveQuantity(productId, 31)).isFalse();
+			assertThat(productRepository.reserveQuantity(productId, 30)).isTrue();
+		}
+
+		@Test
+		@DisplayName("상품 저장 시 조회 시점의 샤드 합계가 products 행의 예약 수량에 기록되지 않는다")
+		void saveDoesNotPersistShardOverlay() {
+			// given
+			final ProductId productId = insertReservationProduct(100);
+			productRepository.configureInventoryShards(productId, 4);
+			assertThat(productRepository.reserveQuantity(productId, 10)).isTrue();
+			final Product product = productRepository.findById(productId).orElseThrow();
+			assertThat(product.getReservedQuantity()).isEqualTo(10);
+
+			// when
+			productRepository.save(product);
+
+			// then
+			assertThat(getProductReservedQuantity(productId)).isZero();
+			assertThat(sumShardReserved(productId)).isEqualTo(10);
+		}
+
+		@Test
+		@DisplayName("현재 예약 수량보다 작은 총 재고로 변경하면 예외가 발생하고 샤드는 유지된다")
+		void rejectTotalBelowReserved() {
+			// given
+			final ProductId productId = insertReservationProduct(100);
+			productRepository.configureInventoryShards(productId, 4);
+			assertThat(productRepository.reserveQuantity(productId, 30)).isTrue();
+			final Product product = productRepository.findById(productId).orElseThrow();
+
+			// when & then
+			product.updateTotalQuantity(20);
+			assertThatThrownBy(() -> productRepository.save(product))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThat(sumShardTotal(productId)).isEqualTo(100);
+			assertThat(sumShardReserved(productId)).isEqualTo(30);
+		}
+	}
+
+	@Nested
+	@DisplayName("동시성 및 벤치마크 테스트")
+	class BenchmarkTests {
+
+		@Test
+		@DisplayName("동시 예약 시 샤드 합계는 총 재고를 초과하지 않는다")
+		void concurrentReservationNeverOverbooks() throws InterruptedException {
+			// given - 총 재고 40개, 샤드 8개
+			final ProductId productId = insertReservationProduct(40);
+			productRepository.configureInventoryShards(productId, SHARD_COUNT);
+
+			// when - 100건 동시 예약
+			final BenchmarkResult result = runReservations(productId, 20, 100);
+
+			// then
+			assertThat(result.successCount()).isEqualTo(40);
+			assertThat(sumShardReserved(productId)).isEqualTo(40);
+		}
+
+		@Test
+		@Tag("performance")
+		@DisplayName("단일 행 UPDATE와 샤드 카운터의 처리량/지연 시간을 비교한다")
+		void compareSingleRowAndShardedCounter() throws InterruptedException {
+			// given - 재고가 소진되지 않도록 충분한 총 재고
+			final int threadCount = 32;
+			final int requestCount = 2_000;
+			final ProductId singleRowProductId = insertReservationProduct(1_000_000);
+			final ProductId shardedProductId = insertReservationProduct(1_000_000);
+			productRepository.configureInventoryShards(shardedProductId, SHARD_COUNT);
+
+			// warm-up
+			runReservations(singleRowProductId, threadCount, 200);
+			runReservations(shardedProductId, threadCount, 200);
+
+			// when
+			final BenchmarkResult singleRow = runReservations(singleRowProductId, threadCount, requestCount);
+			final BenchmarkResult sharded = runReservations(shardedProductId, threadCount, requestCount);
+
+			// then
+			logResult("Single-row UPDATE", singleRow);
+			logResult("Sharded counter (" + SHARD_COUNT + " shards)", sharded);
+
+			assertThat(singleRow.successCount()).isEqualTo(requestCount);
+			assertThat(sharded.successCount()).isEqualTo(requestCount);
+			assertThat(getProductReservedQuantity(singleRowProductId)).isEqualTo(requestCount + 200);
+			assertThat(sumShardReserved(shardedProductId)).isEqualTo(requestCount + 200);
+		}
+	}
+
+	/**
+	 * 여러 룸의 장바구니 예약을 동시에 실행합니다. 룸 ID에 따라 선호 샤드가 달라집니다.
+	 */
+	private BenchmarkResult runReservations(
+			final ProductId productId,
+			final int threadCount,
+			final int requestCount) throws InterruptedException {
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		final CountDownLatch doneLatch = new CountDownLatch(requestCount);
+		final AtomicInteger successCount = new AtomicInteger(0);
+		final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		for (int i = 0; i < requestCount; i++) {
+			final RoomId roomId = RoomId.of(1_000L + i);
+			executorService.submit(() -> {
+				try {
+					startLatch.await();
+					final long startedAt = System.nanoTime();
+					final Map<ProductId, Boolean> results = productRepository.reserveCartQuantities(
+							roomId, List.of(testTimeSlot), Map.of(productId, 1));
+					latencies.add(System.nanoTime() - startedAt);
+					if (results.getOrDefault(productId, false)) {
+						successCount.incrementAndGet();
+					}
+				} catch (Exception e) {
+					logger.warn("Reservation failed: {}", e.getMessage());
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		final long startedAt = System.nanoTime();
+		startLatch.countDown();
+		doneLatch.await(120, TimeUnit.SECONDS);
+		final long elapsedNanos = System.nanoTime() - startedAt;
+		executorService.shutdown();
+
+		final List<Long> sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		return new BenchmarkResult(
+				requestCount,
+				successCount.get(),
+				elapsedNanos,
+				percentile(sorted, 50),
+				percentile(sorted, 99)
+		);
+	}
+
+	private static long percentile(final List<Long> sorted, final int percentile) {
+		if (sorted.isEmpty()) {
+			return 0L;
+		}
+		final int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+	}
+
+	private void logResult(final String label, final BenchmarkResult result) {
+		logger.info("=".repeat(80));
+		logger.info("{}", label);
+		logger.info("  Requests   : {} (success {})", result.requestCount(), result.successCount());
+		logger.info("  Throughput : {} ops/s",
+				String.format("%.1f", result.requestCount() / (result.elapsedNanos() / 1_000_000_000.0)));
+		logger.info("  Latency p50: {} ms", String.format("%.2f", result.p50Nanos() / 1_000_000.0));
+		logger.info("  Latency p99: {} ms", String.format("%.2f", result.p99Nanos() / 1_000_000.0));
+		logger.info("=".repeat(80));
+	}
+
+	private ProductId insertReservationProduct(final int totalQuantity) {
+		final long productIdValue = productIdSeed++;
+		jdbcTemplate.update("""
+				INSERT INTO products
+				(product_id, place_id, room_id, name, scope, pricing_type, initial_price, total_quantity, reserved_quantity)
+				VALUES (?, NULL, NULL, ?, 'RESERVATION', 'ONE_TIME', 5000, ?, 0)
+				""",
+				productIdValue,
+				"앰프 대여",
+				totalQuantity
+		);
+		return ProductId.of(productIdValue);
+	}
+
+	private Integer getProductReservedQuantity(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT reserved_quantity FROM products WHERE product_id = ?",
+				Integer.class,
+				productId.getValue()
+		);
+	}
+
+	private Integer countShards(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM product_inventory_shards WHERE product_id = ?",
+				Integer.class,
+				productId.getValue()
+		);
+	}
+
+	private Integer sumShardTotal(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COALESCE(SUM(total_quantity), 0) FROM product_inventory_shards WHERE product_id = ?",
+				Integer.class,
+				productId.getValue()
+		);
+	}
+
+	private Integer sumShardReserved(final ProductId productId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COALESCE(SUM(reserved_quantity), 0) FROM product_inventory_shards WHERE product_id = ?",
+				Integer.class,
+				productId.getValue()
+		);
+	}
+
+	private record BenchmarkResult(
+			int requestCount,
+			int successCount,
+			long elapsedNanos,
+			long p50Nanos,
+			long p99Nanos
+	) {}
+}
@@ -77,10 +77,15 @@ public abstract class BaseE2ETest {
 		jdbcTemplate.execute("DELETE FROM reservation_pricing_products");
 		jdbcTemplate.execute("DELETE FROM reservation_pricing_slots");
 		jdbcTemplate.execute("DELETE FROM reservation_pricings");
+		jdbcTemplate.execute("DELETE FROM reservation_pricing_keys");
 		jdbcTemplate.execute("DELETE FROM time_range_prices");
 		jdbcTemplate.execute("DELETE FROM pricing_policies");
 		jdbcTemplate.execute("DELETE FROM room_allowed_products");
 		jdbcTemplate.execute("DELETE FROM product_time_slot_inventory");
+		jdbcTemplate.execute("DELETE FROM place_time_slot_inventory");
+		jdbcTemplate.execute("DELETE FROM product_inventory_shards");
+		jdbcTemplate.execute("DELETE FROM inventory_movements");
+		jdbcTemplate.execute("DELETE FROM inventory_ledger_balances");
 		jdbcTemplate.execute("DELETE FROM products");
 
 		// NOTE: No sequence reset needed - using Snowflake ID (V5 migration)
@@ -0,0 +1,286 @@
+package com.teambind.springproject.performance;
+
+import com.teambind.springproject.adapter.out.persistence.reservationpricing.ProductPriceBreakdownEmbeddable;
+import com.teambind.springproject.adapter.out.persistence.reservationpricing.ReservationPricingEntity;
+import com.teambind.springproject.adapter.out.persistence.reservationpricing.ReservationPricingJpaRepository;
+import com.teambind.springproject.domain.product.vo.PricingType;
+import com.teambind.springproject.domain.shared.ReservationStatus;
+import com.teambind.springproject.domain.shared.TimeSlot;
+import com.teambind.springproject.performance.support.AggregatedPerformanceReport;
+import com.teambind.springproject.performance.support.LargeScaleTestBase;
+import com.teambind.springproject.performance.support.PerformanceReportAggregator;
+import com.teambind.springproject.performance.support.RandomDataSelector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 시간 범위 조회 성능 테스트 (Large Scale).
+ *
+ * 슬롯 기간 B-tree 인덱스(slot_start_at) 조회와 slot_range GiST 인덱스 겹침(&&) 조회를 비교합니다.
+ *
+ * 대규모 데이터 시뮬레이션 (QueryOptimizationLargeScalePerformanceTest와 동일 규모):
+ * - Place: 200개
+ * - Room: 400개
+ * - ReservationPricing: 4,000개 (예약당 24개 슬롯)
+ *
+ * 측정 방식: 50번 랜덤 룸/플레이스의 4시간 구간 조회 후 평균 계산
+ */
+@Transactional
+@Tag("integration")
+@Tag("performance")
+@DisplayName("예약 시간 범위 조회 성능 테스트 (Large Scale)")
+public class ReservationTimeRangeQueryPerformanceTest extends LargeScaleTestBase {
+	
+	private static final Logger logger = LoggerFactory.getLogger(
+			ReservationTimeRangeQueryPerformanceTest.class);
+	
+	private static final int PLACE_COUNT = 200;
+	private static final int ROOMS_PER_PLACE = 2;
+	private static final int RESERVATIONS_PER_ROOM = 10;
+	private static final int RANDOM_QUERY_COUNT = 50;
+	private static final long MAX_SPAN_DAYS = 7;
+	private static final List<ReservationStatus> ACTIVE_STATUSES =
+			List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	
+	@Autowired
+	private ReservationPricingJpaRepository reservationPricingRepository;
+	
+	private Statistics statistics;
+	private RandomDataSelector randomSelector;
+	private LocalDate baseDate;
+	
+	@BeforeEach
+	void setUp() {
+		// LargeScaleTestBase는 Flyway 대신 ddl-auto로 스키마를 만들므로 V21/V23의 인덱스와 생성 컬럼을 직접 추가
+		jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+		jdbcTemplate.execute("ALTER TABLE reservation_pricings ADD COLUMN IF NOT EXISTS slot_range TSRANGE "
+				+ "GENERATED ALWAYS AS (CASE WHEN slot_start_at IS NULL THEN NULL "
+				+ "ELSE TSRANGE(slot_start_at, slot_end_at, '[]') END) STORED");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_reservation_pricings_room_slot_start "
+				+ "ON reservation_pricings (room_id, slot_start_at)");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_reservation_pricings_place_slot_start "
+				+ "ON reservation_pricings (place_id, slot_start_at)");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_reservation_pricings_room_slot_range "
+				+ "ON reservation_pricings USING GIST (room_id, slot_range)");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_reservation_pricings_place_slot_range "
+				+ "ON reservation_pricings USING GIST (place_id, slot_range)");
+		
+		final SessionFactory sessionFactory = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class);
+		statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		
+		// Random Selector 초기화 (재현 가능하도록 seed 고정)
+		randomSelector = new RandomDataSelector(42L);
+		baseDate = LocalDate.now().plusDays(1);
+		
+		logger.info("Creating {} ReservationPricing entities...",
+				PLACE_COUNT * ROOMS_PER_PLACE * RESERVATIONS_PER_ROOM);
+		IntStream.rangeClosed(1, PLACE_COUNT).forEach(placeId ->
+				createReservationsForPlace((long) placeId)
+		);
+		entityManager.flush();
+		entityManager.clear();
+		jdbcTemplate.execute("ANALYZE reservation_pricings");
+		logger.info("Data creation completed.");
+	}
+	
+	@Test
+	@DisplayName("Scenario 1: 룸 시간 범위 조회 - 슬롯 기간 B-tree vs slot_range GiST")
+	void compareRoomTimeRangeQuery() {
+		final AggregatedPerformanceReport btree = measureRandomRange("room",
+				(start, end) -> reservationPricingRepository.findByRoomIdAndTimeRange(
+						nextRoomId(), start.minusDays(MAX_SPAN_DAYS), start, end, ACTIVE_STATUSES).size());
+		
+		randomSelector = new RandomDataSelector(42L);
+		final AggregatedPerformanceReport gist = measureRandomRange("room",
+				(start, end) -> reservationPricingRepository.findByRoomIdAndSlotRangeOverlap(
+						nextRoomId(), start.minusDays(MAX_SPAN_DAYS), start, end, statusNames()).size());
+		
+		logAggregatedReport("Scenario 1-A: 룸 시간 범위 조회 (slot_start_at B-tree)", btree);
+		logAggregatedReport("Scenario 1-B: 룸 시간 범위 조회 (slot_range GiST)", gist);
+	}
+	
+	@Test
+	@DisplayName("Scenario 2: 플레이스 시간 범위 조회 - 슬롯 기간 B-tree vs slot_range GiST")
+	void comparePlaceTimeRangeQuery() {
+		final AggregatedPerformanceReport btree = measureRandomRange("place",
+				(start, end) -> reservationPricingRepository.findByPlaceIdAndTimeRange(
+						nextPlaceId(), start.minusDays(MAX_SPAN_DAYS), start, end, ACTIVE_STATUSES).size());
+		
+		randomSelector = new RandomDataSelector(42L);
+		final AggregatedPerformanceReport gist = measureRandomRange("place",
+				(start, end) -> reservationPricingRepository.findByPlaceIdAndSlotRangeOverlap(
+						nextPlaceId(), start.minusDays(MAX_SPAN_DAYS), start, end, statusNames()).size());
+		
+		logAggregatedReport("Scenario 2-A: 플레이스 시간 범위 조회 (slot_start_at B-tree)", btree);
+		logAggregatedReport("Scenario 2-B: 플레이스 시간 범위 조회 (slot_range GiST)", gist);
+	}
+	
+	@Test
+	@DisplayName("Scenario 3: 두 조회 방식의 결과가 같다")
+	void sameResultsForBothQueries() {
+		IntStream.range(0, RANDOM_QUERY_COUNT).forEach(i -> {
+			final Long roomId = nextRoomId();
+			final LocalDateTime start = randomWindowStart();
+			final LocalDateTime end = start.plusHours(4);
+			
+			final List<Long> btreeIds = reservationPricingRepository.findByRoomIdAndTimeRange(
+							roomId, start.minusDays(MAX_SPAN_DAYS), start, end, ACTIVE_STATUSES).stream()
+					.map(ReservationPricingEntity::getId)
+					.sorted()
+					.toList();
+			final List<Long> gistIds = reservationPricingRepository.findByRoomIdAndSlotRangeOverlap(
+							roomId, start.minusDays(MAX_SPAN_DAYS), start, end, statusNames()).stream()
+					.map(ReservationPricingEntity::getId)
+					.sorted()
+					.toList();
+			
+			assertThat(gistIds).isEqualTo(btreeIds);
+		});
+	}
+	
+	/**
+	 * 랜덤 구간 조회 성능 측정.
+	 *
+	 * @param label     측정 대상 설명
+	 * @param operation (시작, 종료) 구간 조회 작업
+	 * @return 집계된 성능 리포트
+	 */
+	private AggregatedPerformanceReport measureRandomRange(
+			final String label,
+			final BiFunction<LocalDateTime, LocalDateTime, Integer> operation) {
+		final PerformanceReportAggregator aggregator = new PerformanceReportAggregator();
+		
+		logger.info("Starting {} random {} range queries...", RANDOM_QUERY_COUNT, label);
+		
+		for (int i = 0; i < RANDOM_QUERY_COUNT; i++) {
+			statistics.clear();
+			entityManager.clear();
+			
+			final LocalDateTime start = randomWindowStart();
+			final long startTime = System.currentTimeMillis();
+			operation.apply(start, start.plusHours(4));
+			final long duration = System.currentTimeMillis() - startTime;
+			
+			aggregator.addMeasurement(statistics.getQueryExecutionCount(), duration);
+		}
+		
+		logger.info("All {} queries completed.", RANDOM_QUERY_COUNT);
+		return aggregator.aggregate();
+	}
+	
+	private Long nextRoomId() {
+		return randomSelector.randomLong(1, PLACE_COUNT + 1) * 100
+				+ randomSelector.randomLong(1, ROOMS_PER_PLACE + 1);
+	}
+	
+	private Long nextPlaceId() {
+		return randomSelector.randomLong(1, PLACE_COUNT + 1);
+	}
+	
+	private LocalDateTime randomWindowStart() {
+		return baseDate.plusDays(randomSelector.randomLong(0, RESERVATIONS_PER_ROOM))
+				.atTime((int) randomSelector.randomLong(0, 20), 0);
+	}
+	
+	private static List<String> statusNames() {
+		return ACTIVE_STATUSES.stream().map(ReservationStatus::name).toList();
+	}
+	
+	/**
+	 * Place에 대한 ReservationPricing 생성 (룸마다 하루 한 건, 서로 다른 날짜).
+	 */
+	private void createReservationsForPlace(final Long placeId) {
+		IntStream.range(1, ROOMS_PER_PLACE + 1).forEach(roomIdx -> {
+			final Long roomId = placeId * 100 + roomIdx;
+			
+			IntStream.range(0, RESERVATIONS_PER_ROOM).forEach(dayOffset ->
+					reservationPricingRepository.save(createReservationPricing(placeId, roomId, dayOffset))
+			);
+		});
+	}
+	
+	/**
+	 * ReservationPricing Entity 생성 (하루 24개 슬롯, 상품 5개).
+	 */
+	private ReservationPricingEntity createReservationPricing(
+			final Long placeId,
+			final Long roomId,
+			final int dayOffset) {
+		
+		final Map<LocalDateTime, BigDecimal> slotPrices = new HashMap<>();
+		final LocalDateTime day = baseDate.plusDays(dayOffset).atStartOfDay();
+		IntStream.range(0, 24).forEach(hour ->
+				slotPrices.put(day.plusHours(hour), new BigDecimal("10000"))
+		);
+		
+		final List<ProductPriceBreakdownEmbeddable> productBreakdowns = new ArrayList<>();
+		IntStream.range(1, 6).forEach(productIdx ->
+				productBreakdowns.add(new ProductPriceBreakdownEmbeddable(
+						(long) productIdx,
+						"Product " + productIdx,
+						1,
+						new BigDecimal("5000"),
+						new BigDecimal("5000"),
+						PricingType.SIMPLE_STOCK
+				))
+		);
+		
+		return new ReservationPricingEntity(
+				null,
+				roomId,
+				placeId,
+				dayOffset % 2 == 0 ? ReservationStatus.CONFIRMED : ReservationStatus.PENDING,
+				TimeSlot.HOUR,
+				slotPrices,
+				productBreakdowns,
+				new BigDecimal("265000"),
+				LocalDateTime.now(),
+				LocalDateTime.now().plusMinutes(15)
+		);
+	}
+	
+	/**
+	 * 집계된 성능 측정 결과 로깅.
+	 */
+	private void logAggregatedReport(
+			final String scenarioName,
+			final AggregatedPerformanceReport report) {
+		logger.info("=".repeat(80));
+		logger.info("[{}]", scenarioName);
+		logger.info("");
+		logger.info(report.toFormattedString());
+		logger.info("=".repeat(80));
+	}
+}
@@ -266,8 +266,8 @@ public class UseCaseQueryPerformanceTest extends LargeScaleTestBase {
 		// Expected:
 		// - findAccessibleProducts: 1 query
 		// - findAllowedProductIdsByRoomId: 1 query
-		// - 각 Product별 재고 계산: 20 queries
-		// - Total: 22 queries per access
+		// - 시간 기반 Scope 재고 집계: 1 query
+		// - Total: 3 queries per access
 	}
 	
 	@Test
@@ -19,6 +19,17 @@ CREATE INDEX IF NOT EXISTS idx_product_time_slot_inventory_product_time
 CREATE INDEX IF NOT EXISTS idx_product_time_slot_inventory_time_slot
     ON product_time_slot_inventory(time_slot);
 
+-- PLACE Scope place-level aggregate inventory (H2 compatible - no partitioning)
+CREATE TABLE IF NOT EXISTS place_time_slot_inventory (
+    product_id BIGINT NOT NULL,
+    time_slot TIMESTAMP NOT NULL,
+    total_quantity INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (product_id, time_slot)
+);
+
 -- ShedLock table for distributed task locking
 CREATE TABLE IF NOT EXISTS shedlock (
     name VARCHAR(64) NOT NULL,
@@ -26,4 +37,32 @@ CREATE TABLE IF NOT EXISTS shedlock (
     locked_at TIMESTAMP NOT NULL,
     locked_by VARCHAR(255) NOT NULL,
     PRIMARY KEY (name)
-);
\ No newline at end of file
+);
+-- RESERVATION Scope sharded inventory counters (H2 compatible)
+CREATE TABLE IF NOT EXISTS product_inventory_shards (
+    product_id BIGINT NOT NULL,
+    shard_no INTEGER NOT NULL,
+    total_quantity INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (product_id, shard_no)
+);
+
+-- RESERVATION Scope inventory movement ledger (H2 compatible)
+CREATE TABLE IF NOT EXISTS inventory_movements (
+    movement_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    quantity_delta INTEGER NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE IF NOT EXISTS inventory_ledger_balances (
+    product_id BIGINT PRIMARY KEY,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    last_movement_id BIGINT NOT NULL DEFAULT 0,
+    escrow_slots INTEGER NOT NULL DEFAULT 8,
+    escrow_unit INTEGER NOT NULL DEFAULT 5,
+    compacted_at TIMESTAMP NOT NULL DEFAULT NOW()
+);